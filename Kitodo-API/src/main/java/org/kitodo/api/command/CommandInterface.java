@@ -11,6 +11,9 @@
 
 package org.kitodo.api.command;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 public interface CommandInterface {
 
     /**
@@ -23,4 +26,36 @@ public interface CommandInterface {
      * @return A commandResult, which contains id and result messages.
      */
     CommandResult runCommand(Integer id, String command);
+
+    /**
+     * Runs a given command in the background. The number of commands running
+     * at the same time is limited, further commands wait until a command has
+     * finished. The configured timeout applies.
+     *
+     * @param id
+     *            The id, to identify the command and it's results.
+     * @param command
+     *            The command as a String.
+     * @return a future which completes with the commandResult, which contains
+     *         id and result messages
+     */
+    CompletableFuture<CommandResult> runCommandAsync(Integer id, String command);
+
+    /**
+     * Runs a given command in the background with its own timeout. If the
+     * command does not finish in time, it is terminated and the result is not
+     * successful.
+     *
+     * @param id
+     *            The id, to identify the command and it's results.
+     * @param command
+     *            The command as a String.
+     * @param timeout
+     *            maximum time the command may run, 0 for no limit
+     * @param unit
+     *            unit of the timeout
+     * @return a future which completes with the commandResult, which contains
+     *         id and result messages
+     */
+    CompletableFuture<CommandResult> runCommandAsync(Integer id, String command, long timeout, TimeUnit unit);
 }
@@ -51,6 +51,12 @@ public class Workpiece {
      */
     private IncludedStructuralElement rootElement = new IncludedStructuralElement();
 
+    /**
+     * The number of modifications made to the workpiece since it was created
+     * or loaded. It is not saved and not considered by {@code equals()}.
+     */
+    private int modificationCount;
+
     /**
      * Returns the creation date of the workpiece.
      *
@@ -98,6 +104,25 @@ public class Workpiece {
         this.id = id;
     }
 
+    /**
+     * Returns the number of modifications made to the workpiece since it was
+     * created or loaded. Comparing it with the number at the time of saving
+     * tells whether there are unsaved changes, without comparing the whole
+     * workpiece.
+     *
+     * @return the number of modifications
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Records a modification of the workpiece.
+     */
+    public void markAsModified() {
+        modificationCount++;
+    }
+
     /**
      * Returns the media unit of this workpiece.
      *
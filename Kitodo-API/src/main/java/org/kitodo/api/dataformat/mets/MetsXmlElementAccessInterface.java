@@ -52,6 +52,27 @@ public interface MetsXmlElementAccessInterface {
      */
     Workpiece read(InputStream in) throws IOException;
 
+    /**
+     * Reads the header and the upper levels of the logical structure of a METS
+     * file. The media units and the views are not read, and the logical
+     * structure is only read down to the given depth. Reading stops as soon as
+     * this part of the file has been read. This is considerably cheaper than
+     * reading the whole file, if only the root element or the first levels of
+     * the logical structure are of interest. Since the workpiece is
+     * incomplete, it must not be saved.
+     *
+     * @param in
+     *            open input channel for reading the file
+     * @param depth
+     *            number of levels of the logical structure to read, 1 reads
+     *            only the root element
+     * @return a workpiece with the header and the upper levels of the logical
+     *         structure
+     * @throws IOException
+     *             if the reading fails
+     */
+    Workpiece readLogicalStructure(InputStream in, int depth) throws IOException;
+
     /**
      * Writes the workpiece to a METS file.
      *
@@ -13,6 +13,7 @@ package org.kitodo.api.imagemanagement;
 
 import java.awt.Image;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
 
 public interface ImageManagementInterface {
@@ -78,4 +79,60 @@ public interface ImageManagementInterface {
      */
     Image getSizedWebImage(URI imageFileUri, int pixelWidth) throws IOException;
 
+    /**
+     * Changes the DPI of an image at a given URI and writes it to an output
+     * stream in the given format, without loading it into memory.
+     *
+     * @param imageFileUri
+     *            the URI of the image
+     * @param dpi
+     *            the new DPI
+     * @param resultFileFormat
+     *            the format to write the image in
+     * @param outputStream
+     *            the stream to write the image to
+     * @throws IOException
+     *             if the plug-in is configured incorrectly, the image is
+     *             missing or corrupted, etc.
+     */
+    void writeDpiChangedImage(URI imageFileUri, int dpi, ImageFileFormat resultFileFormat,
+            OutputStream outputStream) throws IOException;
+
+    /**
+     * Scales an image at a given path and writes it to an output stream in the
+     * given format, without loading it into memory.
+     *
+     * @param imageFileUri
+     *            the URI to the image which should be scaled
+     * @param percent
+     *            the percentage for scaling
+     * @param resultFileFormat
+     *            the format to write the image in
+     * @param outputStream
+     *            the stream to write the image to
+     * @throws IOException
+     *             if the plug-in is configured incorrectly, the image is
+     *             missing or corrupted, etc.
+     */
+    void writeScaledWebImage(URI imageFileUri, double percent, ImageFileFormat resultFileFormat,
+            OutputStream outputStream) throws IOException;
+
+    /**
+     * Changes the size (in pixel) of the image and writes it to an output
+     * stream in the given format, without loading it into memory.
+     *
+     * @param imageFileUri
+     *            the URI of the image to size
+     * @param pixelWidth
+     *            the new width in pixels
+     * @param resultFileFormat
+     *            the format to write the image in
+     * @param outputStream
+     *            the stream to write the image to
+     * @throws IOException
+     *             if the plug-in is configured incorrectly, the image is
+     *             missing or corrupted, etc.
+     */
+    void writeSizedWebImage(URI imageFileUri, int pixelWidth, ImageFileFormat resultFileFormat,
+            OutputStream outputStream) throws IOException;
 }
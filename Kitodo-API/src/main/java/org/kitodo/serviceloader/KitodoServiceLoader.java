@@ -33,7 +33,9 @@ import java.util.Enumeration;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Properties;
+import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
@@ -82,12 +84,47 @@ public class KitodoServiceLoader<T> {
 
     @SuppressWarnings("unchecked")
     private ServiceLoader<T> getClassLoader() {
-        loadModulesIntoClasspath();
-        loadBeans();
-        loadFrontendFilesIntoCore();
         return ServiceLoader.load(clazz);
     }
 
+    /**
+     * Gets the classes implementing the constructed clazz. The jar files of
+     * the modules directory are only scanned if they have changed since the
+     * last scan, and the directory is checked for changes only from time to
+     * time. Beans and frontend files are loaded as soon as there is a faces
+     * context. If loading fails, it is tried again on the next call. Known
+     * implementations are returned without locking.
+     *
+     * @return the implementing classes
+     */
+    private List<Class<?>> getImplementations() {
+        ModuleRegistry registry = ModuleRegistry.getInstance();
+        boolean withFrontend = Objects.nonNull(FacesContext.getCurrentInstance());
+        if (registry.isLoadingDue(withFrontend)) {
+            synchronized (registry) {
+                String directoryState = registry.checkDirectoryState(modulePath);
+                if (registry.isClasspathOutdated(directoryState) && loadModulesIntoClasspath()) {
+                    registry.setClasspathLoaded(directoryState);
+                }
+                if (withFrontend && registry.isFrontendOutdated(directoryState) && loadBeans()
+                        && loadFrontendFilesIntoCore()) {
+                    registry.setFrontendLoaded(directoryState);
+                }
+            }
+        }
+        return registry.getImplementations(clazz, this::getClassLoader);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T createModule(Class<?> moduleClass) {
+        try {
+            return (T) moduleClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new ServiceConfigurationError(clazz.getName() + ": Provider " + moduleClass.getName()
+                    + " could not be instantiated", e);
+        }
+    }
+
     /**
      * Loads a module from the classpath which implements the constructed clazz.
      * Frontend files of all modules will be loaded into the core module.
@@ -95,12 +132,11 @@ public class KitodoServiceLoader<T> {
      * @return A module with type T.
      */
     public T loadModule() {
-        ServiceLoader<T> loader = getClassLoader();
-        Iterator<T> loaderIterator = loader.iterator();
-        if (!loaderIterator.hasNext()) {
+        Iterator<Class<?>> implementations = getImplementations().iterator();
+        if (!implementations.hasNext()) {
             logger.error("Couldn't find a module for {}!", clazz);
         }
-        return loaderIterator.next();
+        return createModule(implementations.next());
     }
 
     /**
@@ -108,17 +144,20 @@ public class KitodoServiceLoader<T> {
      * @return List of modules with type T
      */
     public List<T> loadModules() {
-        ServiceLoader<T> loader = getClassLoader();
         LinkedList<T> modules = new LinkedList<>();
-        loader.iterator().forEachRemaining(modules::add);
+        for (Class<?> moduleClass : getImplementations()) {
+            modules.add(createModule(moduleClass));
+        }
         return modules;
     }
 
     /**
      * Loads bean classes and registers them to the FacesContext. Afterwards
      * they can be used in all frontend files
+     *
+     * @return whether the beans were loaded
      */
-    private void loadBeans() {
+    private boolean loadBeans() {
         Path moduleFolder = FileSystems.getDefault().getPath(modulePath);
         try (DirectoryStream<Path> stream = Files.newDirectoryStream(moduleFolder, JAR)) {
 
@@ -169,7 +208,9 @@ public class KitodoServiceLoader<T> {
             }
         } catch (Exception e) {
             logger.error(ERROR, e.getMessage());
+            return false;
         }
+        return true;
     }
 
     /**
@@ -177,8 +218,10 @@ public class KitodoServiceLoader<T> {
      * copied into the frontend folder of the core module. Before copying,
      * existing frontend files of the same module will be deleted from the core
      * module. Afterwards the created temporary folder will be deleted as well.
+     *
+     * @return whether the frontend files were loaded
      */
-    private void loadFrontendFilesIntoCore() {
+    private boolean loadFrontendFilesIntoCore() {
 
         Path moduleFolder = FileSystems.getDefault().getPath(modulePath);
 
@@ -218,7 +261,9 @@ public class KitodoServiceLoader<T> {
             }
         } catch (Exception e) {
             logger.error(ERROR, e.getMessage());
+            return false;
         }
+        return true;
     }
 
     /**
@@ -350,8 +395,10 @@ public class KitodoServiceLoader<T> {
     /**
      * Loads jars from the pluginsFolder to the classpath, so the ServiceLoader
      * can find them.
+     *
+     * @return whether the jars were loaded
      */
-    private void loadModulesIntoClasspath() {
+    private boolean loadModulesIntoClasspath() {
         Path moduleFolder = FileSystems.getDefault().getPath(modulePath);
 
         URLClassLoader sysLoader;
@@ -371,7 +418,9 @@ public class KitodoServiceLoader<T> {
             }
         } catch (IOException | NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
             logger.error(ERROR, e.getMessage());
+            return false;
         }
+        return true;
     }
 
 }
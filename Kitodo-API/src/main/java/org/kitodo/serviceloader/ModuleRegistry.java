@@ -0,0 +1,217 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.serviceloader;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Remembers which state of the modules directory has been loaded and which
+ * classes implement the module interfaces. The jar files of the modules
+ * directory are only scanned again if a jar file was added, removed or
+ * changed. The modules directory is checked for changes at most once in the
+ * check interval, so looking up the implementations of a module interface
+ * usually neither locks nor accesses the disk. Jar files which were added to
+ * the classpath once cannot be removed from it again, so a changed module
+ * still requires a restart of the application to take effect completely.
+ */
+final class ModuleRegistry {
+
+    private static final Logger logger = LogManager.getLogger(ModuleRegistry.class);
+    private static final String JAR = "*.jar";
+    private static final long CHECK_INTERVAL = TimeUnit.SECONDS.toNanos(10);
+
+    private static final ModuleRegistry instance = new ModuleRegistry(CHECK_INTERVAL);
+
+    private final long checkInterval;
+    private volatile long lastCheck;
+    private volatile String directoryState;
+    private volatile String classpathState;
+    private volatile String frontendState;
+    private final Map<Class<?>, List<Class<?>>> implementations = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a module registry.
+     *
+     * @param checkInterval
+     *            minimum time between two checks of the modules directory,
+     *            in nanoseconds
+     */
+    ModuleRegistry(long checkInterval) {
+        this.checkInterval = checkInterval;
+    }
+
+    /**
+     * Get the registry of the application.
+     *
+     * @return the module registry
+     */
+    static ModuleRegistry getInstance() {
+        return instance;
+    }
+
+    /**
+     * Get a description of the jar files in the modules directory. The
+     * description changes if a jar file is added, removed or changed. The jar
+     * files are not opened for this.
+     *
+     * @param modulePath
+     *            path of the modules directory
+     * @return the state of the modules directory
+     */
+    static String getDirectoryState(String modulePath) {
+        if (modulePath.isEmpty()) {
+            return "";
+        }
+        Map<String, String> jars = new TreeMap<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(Paths.get(modulePath), JAR)) {
+            for (Path jar : stream) {
+                jars.put(jar.getFileName().toString(),
+                    Files.size(jar) + ":" + Files.getLastModifiedTime(jar).toMillis());
+            }
+        } catch (IOException e) {
+            logger.error(e.getMessage(), e);
+        }
+        return jars.toString();
+    }
+
+    /**
+     * Get the state of the modules directory. The directory is only checked
+     * again if the check interval has passed since the last check.
+     *
+     * @param modulePath
+     *            path of the modules directory
+     * @return the state of the modules directory
+     */
+    synchronized String checkDirectoryState(String modulePath) {
+        if (isCheckDue()) {
+            directoryState = getDirectoryState(modulePath);
+            lastCheck = System.nanoTime();
+        }
+        return directoryState;
+    }
+
+    /**
+     * Check whether the modules directory must be checked for changes, or
+     * whether loading the last checked state is still pending, for example
+     * because it failed. This does not lock the registry.
+     *
+     * @param withFrontend
+     *            whether the beans and frontend files can be loaded, too
+     * @return whether loading may be necessary
+     */
+    boolean isLoadingDue(boolean withFrontend) {
+        String checkedState = directoryState;
+        if (Objects.isNull(checkedState)) {
+            return true;
+        }
+        return isCheckDue() || !checkedState.equals(classpathState)
+                || withFrontend && !checkedState.equals(frontendState);
+    }
+
+    private boolean isCheckDue() {
+        return Objects.isNull(directoryState) || System.nanoTime() - lastCheck >= checkInterval;
+    }
+
+    /**
+     * Check whether the jar files in the given state of the modules directory
+     * must be added to the classpath.
+     *
+     * @param directoryState
+     *            current state of the modules directory
+     * @return whether the classpath must be loaded
+     */
+    synchronized boolean isClasspathOutdated(String directoryState) {
+        return !directoryState.equals(classpathState);
+    }
+
+    /**
+     * Remember that the jar files in the given state of the modules directory
+     * were added to the classpath. Known implementations of the module
+     * interfaces are forgotten, as there may be new ones.
+     *
+     * @param directoryState
+     *            loaded state of the modules directory
+     */
+    synchronized void setClasspathLoaded(String directoryState) {
+        classpathState = directoryState;
+        implementations.clear();
+    }
+
+    /**
+     * Check whether the beans and frontend files of the given state of the
+     * modules directory must be loaded into the core.
+     *
+     * @param directoryState
+     *            current state of the modules directory
+     * @return whether the frontend must be loaded
+     */
+    synchronized boolean isFrontendOutdated(String directoryState) {
+        return !directoryState.equals(frontendState);
+    }
+
+    /**
+     * Remember that the beans and frontend files of the given state of the
+     * modules directory were loaded into the core.
+     *
+     * @param directoryState
+     *            loaded state of the modules directory
+     */
+    synchronized void setFrontendLoaded(String directoryState) {
+        frontendState = directoryState;
+    }
+
+    /**
+     * Get the classes implementing a module interface. They are determined
+     * once and then remembered until the classpath is loaded again. Known
+     * implementations are returned without locking the registry.
+     *
+     * @param moduleInterface
+     *            interface of the module
+     * @param serviceLoader
+     *            finds the implementations, if they are not known yet
+     * @return the implementing classes
+     */
+    List<Class<?>> getImplementations(Class<?> moduleInterface, Supplier<Iterable<?>> serviceLoader) {
+        List<Class<?>> moduleClasses = implementations.get(moduleInterface);
+        if (Objects.nonNull(moduleClasses)) {
+            return moduleClasses;
+        }
+        synchronized (this) {
+            moduleClasses = implementations.get(moduleInterface);
+            if (Objects.isNull(moduleClasses)) {
+                moduleClasses = new ArrayList<>();
+                for (Object module : serviceLoader.get()) {
+                    moduleClasses.add(module.getClass());
+                }
+                moduleClasses = Collections.unmodifiableList(moduleClasses);
+                implementations.put(moduleInterface, moduleClasses);
+            }
+            return moduleClasses;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.utils;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+
+/**
+ * Holds one JAXB context per bound class. Creating a JAXB context is
+ * expensive, because it analyzes all classes reachable from the bound class,
+ * but a context is thread-safe and can be shared. Marshallers and
+ * unmarshallers created from it are not thread-safe and must still be created
+ * for every use.
+ */
+public final class JAXBContextCache {
+
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private JAXBContextCache() {
+
+    }
+
+    /**
+     * Get the JAXB context for the given class. The context is created on the
+     * first request and reused afterwards.
+     *
+     * @param boundClass
+     *            class to be bound by the context
+     * @return the JAXB context
+     * @throws JAXBException
+     *             if the context cannot be created
+     */
+    public static JAXBContext getJAXBContext(Class<?> boundClass) throws JAXBException {
+        JAXBContext context = contexts.get(boundClass);
+        if (Objects.isNull(context)) {
+            context = JAXBContext.newInstance(boundClass);
+            JAXBContext concurrentlyCreated = contexts.putIfAbsent(boundClass, context);
+            if (Objects.nonNull(concurrentlyCreated)) {
+                context = concurrentlyCreated;
+            }
+        }
+        return context;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.api.dataformat;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.GregorianCalendar;
+
+import org.junit.Test;
+
+public class WorkpieceTest {
+
+    /**
+     * Tests the methods {@code Workpiece.markAsModified()} and
+     * {@code Workpiece.getModificationCount()}.
+     */
+    @Test
+    public void modificationCountTest() {
+        GregorianCalendar creationDate = new GregorianCalendar();
+        Workpiece workpiece = new Workpiece();
+        workpiece.setCreationDate(creationDate);
+        Workpiece unmodified = new Workpiece();
+        unmodified.setCreationDate(creationDate);
+        assertEquals(0, workpiece.getModificationCount());
+
+        workpiece.markAsModified();
+        workpiece.markAsModified();
+
+        assertEquals(2, workpiece.getModificationCount());
+        assertEquals("Modification count changed the content of the workpiece!", unmodified, workpiece);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.serviceloader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ModuleRegistryTest {
+
+    @Rule
+    public TemporaryFolder modulesFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldChangeDirectoryStateIfJarIsAdded() throws IOException {
+        String modulePath = modulesFolder.getRoot().getAbsolutePath();
+        modulesFolder.newFile("first-module.jar");
+        String state = ModuleRegistry.getDirectoryState(modulePath);
+
+        modulesFolder.newFile("readme.txt");
+        assertEquals("State changed by a file which is not a jar!", state,
+            ModuleRegistry.getDirectoryState(modulePath));
+
+        modulesFolder.newFile("second-module.jar");
+        assertNotEquals("State did not change by an added jar!", state,
+            ModuleRegistry.getDirectoryState(modulePath));
+    }
+
+    @Test
+    public void shouldChangeDirectoryStateIfJarIsChanged() throws IOException {
+        String modulePath = modulesFolder.getRoot().getAbsolutePath();
+        File jar = modulesFolder.newFile("module.jar");
+        String state = ModuleRegistry.getDirectoryState(modulePath);
+
+        Files.write(jar.toPath(), new byte[] {1, 2, 3 });
+        assertNotEquals("State did not change by a changed jar!", state,
+            ModuleRegistry.getDirectoryState(modulePath));
+    }
+
+    @Test
+    public void shouldCheckDirectoryOnlyAfterCheckInterval() throws IOException {
+        String modulePath = modulesFolder.getRoot().getAbsolutePath();
+        modulesFolder.newFile("first-module.jar");
+        ModuleRegistry registry = new ModuleRegistry(TimeUnit.HOURS.toNanos(1));
+        String state = registry.checkDirectoryState(modulePath);
+        registry.setClasspathLoaded(state);
+        registry.setFrontendLoaded(state);
+        assertFalse("Loading was considered due right after the check!", registry.isLoadingDue(true));
+
+        modulesFolder.newFile("second-module.jar");
+        assertEquals("Directory was checked again within the check interval!", state,
+            registry.checkDirectoryState(modulePath));
+
+        ModuleRegistry alwaysChecking = new ModuleRegistry(0);
+        alwaysChecking.checkDirectoryState(modulePath);
+        assertTrue("Loading was not considered due after the check interval!", alwaysChecking.isLoadingDue(false));
+    }
+
+    @Test
+    public void shouldLoadClasspathOnlyIfDirectoryChanged() {
+        ModuleRegistry registry = new ModuleRegistry(0);
+        assertTrue("Classpath was considered loaded!", registry.isClasspathOutdated("a"));
+
+        registry.setClasspathLoaded("a");
+        assertFalse("Classpath was considered outdated!", registry.isClasspathOutdated("a"));
+        assertTrue("Changed directory was not detected!", registry.isClasspathOutdated("b"));
+        assertTrue("Frontend was considered loaded!", registry.isFrontendOutdated("a"));
+    }
+
+    @Test
+    public void shouldFindImplementationsOnlyOnce() {
+        ModuleRegistry registry = new ModuleRegistry(0);
+        AtomicInteger scans = new AtomicInteger();
+        List<String> modules = Collections.singletonList("module");
+
+        registry.getImplementations(CharSequence.class, () -> {
+            scans.incrementAndGet();
+            return modules;
+        });
+        List<Class<?>> implementations = registry.getImplementations(CharSequence.class, () -> {
+            scans.incrementAndGet();
+            return modules;
+        });
+        assertEquals("Implementations were searched again!", 1, scans.get());
+        assertEquals("Incorrect implementations!", Collections.singletonList(String.class), implementations);
+
+        registry.setClasspathLoaded("changed");
+        registry.getImplementations(CharSequence.class, () -> {
+            scans.incrementAndGet();
+            return Arrays.asList("module", new StringBuilder());
+        });
+        assertEquals("Implementations were not searched again after loading the classpath!", 2, scans.get());
+    }
+}
@@ -17,11 +17,25 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.api.command.CommandInterface;
 import org.kitodo.api.command.CommandResult;
+import org.kitodo.config.KitodoConfig;
+import org.kitodo.config.enums.ParameterCommand;
 
 public class Command implements CommandInterface {
 
@@ -29,6 +43,40 @@ public class Command implements CommandInterface {
     private static final String CHARSET = "UTF-8";
     private static final String MESSAGE = "Execution of Command ";
 
+    /**
+     * Default number of commands running in the background at the same time.
+     */
+    private static final int DEFAULT_THREADS = 4;
+
+    /**
+     * Default number of lines kept per output stream of a command.
+     */
+    private static final int DEFAULT_MAX_OUTPUT_LINES = 10000;
+
+    /**
+     * Number of background commands which may wait for a free thread.
+     */
+    private static final int QUEUE_SIZE = 1000;
+
+    /**
+     * Time to wait for the output of a command after it has ended.
+     */
+    private static final long OUTPUT_TIMEOUT_MILLIS = 1000;
+
+    /**
+     * Runs the commands started in the background, with a limited number of
+     * threads and waiting commands.
+     */
+    private static final ExecutorService commandExecutor = new ThreadPoolExecutor(getThreads(), getThreads(), 0L,
+            TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(QUEUE_SIZE), daemonThreads("Command"));
+
+    /**
+     * Reads the output and error streams of the running commands, so that a
+     * command cannot block because one of its streams is full.
+     */
+    private static final ExecutorService streamReader = Executors
+            .newCachedThreadPool(daemonThreads("CommandStreamReader"));
+
     /**
      * Method executes a script.
      *
@@ -40,34 +88,30 @@ public class Command implements CommandInterface {
      */
     @Override
     public CommandResult runCommand(Integer id, String command) {
+        return runCommand(id, command, KitodoConfig.getIntParameter(ParameterCommand.TIMEOUT_SEC), TimeUnit.SECONDS);
+    }
+
+    /**
+     * Method executes a script. Output and error stream are read at the same
+     * time. If the script does not end in time, it is terminated.
+     *
+     * @param id
+     *            The id, to identify the command and it's results.
+     * @param command
+     *            The command as a String.
+     * @param timeout
+     *            maximum time the command may run, 0 for no limit
+     * @param unit
+     *            unit of the timeout
+     * @return The command result.
+     */
+    private CommandResult runCommand(Integer id, String command, long timeout, TimeUnit unit) {
         CommandResult commandResult;
         Process process;
         String[] callSequence = command.split("[\\r\\n\\s]+");
 
         try {
             process = new ProcessBuilder(callSequence).start();
-            try (InputStream inputStream = process.getInputStream();
-                    InputStream errorInputStream = process.getErrorStream()) {
-                List<String> outputMessage = inputStreamArrayToList(inputStream);
-                List<String> errorMessage = inputStreamArrayToList(errorInputStream);
-                int errCode = process.waitFor();
-
-                outputMessage.addAll(errorMessage);
-
-                commandResult = new CommandResult(id, command, errCode == 0, outputMessage);
-                if (commandResult.isSuccessful()) {
-                    logger.info(MESSAGE + commandResult.getId() + " " + commandResult.getCommand()
-                            + " was successful!: " + commandResult.getMessages());
-                } else {
-                    logger.error(MESSAGE + commandResult.getId() + " " + commandResult.getCommand()
-                            + " failed!: " + commandResult.getMessages());
-                }
-            }
-        } catch (InterruptedException e) {
-            commandResult = new CommandResult(id, command, false, Collections.singletonList(e.getMessage()));
-            logger.error(MESSAGE + "Thread was interrupted!");
-            Thread.currentThread().interrupt();
-            return commandResult;
         } catch (IOException e) {
             List<String> errorMessages = new ArrayList<>();
             errorMessages.add(e.getCause().toString());
@@ -77,25 +121,132 @@ public class Command implements CommandInterface {
                     + " failed!: " + commandResult.getMessages());
             return commandResult;
         }
+
+        int maxOutputLines = KitodoConfig.getIntParameter(ParameterCommand.MAX_OUTPUT_LINES, DEFAULT_MAX_OUTPUT_LINES);
+        List<String> outputMessage = Collections.synchronizedList(new ArrayList<>());
+        List<String> errorMessage = Collections.synchronizedList(new ArrayList<>());
+        Future<?> outputReader = streamReader
+                .submit(() -> readLines(process.getInputStream(), outputMessage, maxOutputLines));
+        Future<?> errorReader = streamReader
+                .submit(() -> readLines(process.getErrorStream(), errorMessage, maxOutputLines));
+        try {
+            boolean finished = true;
+            if (timeout > 0) {
+                finished = process.waitFor(timeout, unit);
+            } else {
+                process.waitFor();
+            }
+            if (!finished) {
+                process.destroyForcibly();
+            }
+            List<String> messages = new ArrayList<>(awaitLines(outputReader, outputMessage));
+            messages.addAll(awaitLines(errorReader, errorMessage));
+            if (!finished) {
+                messages.add("Command timed out after " + timeout + " " + unit.toString().toLowerCase());
+            }
+
+            commandResult = new CommandResult(id, command, finished && process.exitValue() == 0, messages);
+            if (commandResult.isSuccessful()) {
+                logger.info(MESSAGE + commandResult.getId() + " " + commandResult.getCommand()
+                        + " was successful!: " + commandResult.getMessages());
+            } else {
+                logger.error(MESSAGE + commandResult.getId() + " " + commandResult.getCommand()
+                        + " failed!: " + commandResult.getMessages());
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            commandResult = new CommandResult(id, command, false, Collections.singletonList(e.getMessage()));
+            logger.error(MESSAGE + "Thread was interrupted!");
+            Thread.currentThread().interrupt();
+            return commandResult;
+        }
         return commandResult;
     }
 
+    @Override
+    public CompletableFuture<CommandResult> runCommandAsync(Integer id, String command) {
+        return runCommandAsync(id, command, KitodoConfig.getIntParameter(ParameterCommand.TIMEOUT_SEC),
+            TimeUnit.SECONDS);
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> runCommandAsync(Integer id, String command, long timeout, TimeUnit unit) {
+        try {
+            return CompletableFuture.supplyAsync(() -> runCommand(id, command, timeout, unit), commandExecutor);
+        } catch (RejectedExecutionException e) {
+            logger.error(MESSAGE + id + " " + command + " rejected, too many commands are waiting");
+            CompletableFuture<CommandResult> rejected = new CompletableFuture<>();
+            rejected.completeExceptionally(e);
+            return rejected;
+        }
+    }
+
     /**
-     * The method reads an InputStream and returns it as a ArrayList.
+     * Waits for a stream reader to read the rest of the output of an ended
+     * command and returns the lines read. If the stream is kept open, for
+     * example by a process started by the command, the lines read so far are
+     * returned.
      *
-     * @param inputStream
-     *            The Stream to convert.
-     * @return A ArrayList holding the single lines.
+     * @param reader
+     *            stream reader of the command
+     * @param lines
+     *            lines read by the stream reader
+     * @return the lines read
+     * @throws InterruptedException
+     *             if the thread is interrupted while waiting
      */
-    private static ArrayList<String> inputStreamArrayToList(InputStream inputStream) {
-        ArrayList<String> list = new ArrayList<>();
+    private static List<String> awaitLines(Future<?> reader, List<String> lines) throws InterruptedException {
+        try {
+            reader.get(OUTPUT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            logger.warn("Reading command output failed: " + e.getMessage(), e);
+        } catch (TimeoutException e) {
+            logger.warn("Command output is still open after the command ended, it is not read any further");
+        }
+        synchronized (lines) {
+            return new ArrayList<>(lines);
+        }
+    }
 
+    /**
+     * The method reads an InputStream line by line into a list. If the
+     * maximum number of lines is reached, the stream is read to the end
+     * nevertheless, but further lines are only counted.
+     *
+     * @param inputStream
+     *            The Stream to read.
+     * @param lines
+     *            list to add the single lines to
+     * @param maxLines
+     *            maximum number of lines to add, 0 for no limit
+     */
+    private static void readLines(InputStream inputStream, List<String> lines, int maxLines) {
+        int omitted = 0;
         try (Scanner inputLines = new Scanner(inputStream, CHARSET)) {
             while (inputLines.hasNextLine()) {
                 String myLine = inputLines.nextLine();
-                list.add(myLine);
+                if (maxLines <= 0 || lines.size() < maxLines) {
+                    lines.add(myLine);
+                } else {
+                    omitted++;
+                }
             }
         }
-        return list;
+        if (omitted > 0) {
+            lines.add(omitted + " more lines omitted");
+        }
+    }
+
+    private static int getThreads() {
+        return Math.max(1, KitodoConfig.getIntParameter(ParameterCommand.THREADS, DEFAULT_THREADS));
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + '-' + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
     }
 }
@@ -12,6 +12,8 @@
 package org.kitodo.command;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
@@ -22,6 +24,9 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -39,6 +44,10 @@ public class CommandTest {
             System.getProperty("user.dir") + "/src/test/resources/working_script_with_parameters.sh");
     private static File notWorkingScript = new File(
             System.getProperty("user.dir") + "/src/test/resources/not_working_script.sh");
+    private static File sleepingScript = new File(
+            System.getProperty("user.dir") + "/src/test/resources/sleeping_script.sh");
+    private static File noisyScript = new File(
+            System.getProperty("user.dir") + "/src/test/resources/noisy_script.sh");
 
     @BeforeClass
     public static void setUp() throws IOException {
@@ -52,6 +61,8 @@ public class CommandTest {
             setFileExecuteable(workingScript);
             setFileExecuteable(workingScriptWithParameters);
             setFileExecuteable(notWorkingScript);
+            setFileExecuteable(sleepingScript);
+            setFileExecuteable(noisyScript);
         }
 
     }
@@ -62,6 +73,8 @@ public class CommandTest {
             setFileNotExecuteable(workingScript);
             setFileNotExecuteable(workingScriptWithParameters);
             setFileNotExecuteable(notWorkingScript);
+            setFileNotExecuteable(sleepingScript);
+            setFileNotExecuteable(noisyScript);
         }
     }
 
@@ -142,6 +155,48 @@ public class CommandTest {
                 commandResult.getMessages());
     }
 
+    @Test
+    public void shouldRunCommandAsync() throws InterruptedException, ExecutionException {
+        Command command = new Command();
+
+        String commandString = "src/test/resources/working_script_with_parameters" + scriptExtension + " testParameter";
+        CompletableFuture<CommandResult> firstResult = command.runCommandAsync(processId, commandString);
+        CompletableFuture<CommandResult> secondResult = command.runCommandAsync(processId + 1, commandString);
+
+        assertTrue("First command was not successful", firstResult.get().isSuccessful());
+        assertEquals("First command has wrong id", Integer.valueOf(processId), firstResult.get().getId());
+        assertTrue("Second command was not successful", secondResult.get().isSuccessful());
+        assertEquals("Second command has wrong id", Integer.valueOf(processId + 1), secondResult.get().getId());
+    }
+
+    @Test
+    public void shouldStopCommandAfterTimeout() throws InterruptedException, ExecutionException {
+        Command command = new Command();
+
+        String commandString = "src/test/resources/sleeping_script" + scriptExtension;
+        long start = System.nanoTime();
+        CommandResult commandResult = command.runCommandAsync(processId, commandString, 1, TimeUnit.SECONDS).get();
+        long seconds = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start);
+
+        assertFalse("Command which timed out was successful", commandResult.isSuccessful());
+        assertTrue("Command was not stopped after timeout", seconds < 10);
+        assertEquals("Timeout was not reported", "Command timed out after 1 seconds",
+            commandResult.getMessages().get(commandResult.getMessages().size() - 1));
+    }
+
+    @Test
+    public void shouldReadLargeErrorOutputWhileCommandIsRunning() throws InterruptedException, ExecutionException {
+        Command command = new Command();
+
+        String commandString = "src/test/resources/noisy_script" + scriptExtension;
+        CommandResult commandResult = command.runCommandAsync(processId, commandString, 60, TimeUnit.SECONDS).get();
+
+        List<String> messages = commandResult.getMessages();
+        assertTrue("Command with large error output was not successful", commandResult.isSuccessful());
+        assertTrue("Output was not limited", messages.size() < 20000);
+        assertTrue("Omitted lines were not reported", messages.get(messages.size() - 1).endsWith("more lines omitted"));
+    }
+
     private static void setFileExecuteable(File file) throws IOException {
         Set<PosixFilePermission> perms = new HashSet<>();
 
@@ -0,0 +1,15 @@
+::
+:: (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+::
+:: This file is part of the Kitodo project.
+::
+:: It is licensed under GNU General Public License version 3 or later.
+::
+:: For the full copyright and license information, please read the
+:: GPL3-License.txt file that was distributed with this source code.
+::
+
+
+
+for /L %%i in (1,1,20000) do echo error line %%i with some text to fill the error stream 1>&2
+echo done
@@ -75,6 +75,18 @@ public class DivXmlElementAccess extends IncludedStructuralElement {
         metsReferrerId = KitodoUUID.randomUUID();
     }
 
+    /**
+     * Creates a new DivXmlElementAccess for a structure that is read from METS
+     * with StAX.
+     *
+     * @param metsReferrerId
+     *            the ID of the structure in METS
+     */
+    DivXmlElementAccess(String metsReferrerId) {
+        super();
+        this.metsReferrerId = metsReferrerId;
+    }
+
     /**
      * Creates a new DivXmlElementAccess for an existing structure.
      */
@@ -139,6 +151,16 @@ public class DivXmlElementAccess extends IncludedStructuralElement {
         super.setLink(MptrXmlElementAccess.getLinkFromDiv(div));
     }
 
+    /**
+     * Returns the identifier under which this structure is referred to in
+     * METS.
+     *
+     * @return the METS referrer ID
+     */
+    String getMetsReferrerId() {
+        return metsReferrerId;
+    }
+
     private boolean fileXmlElementAccessIsLinkedToChildren(FileXmlElementAccess fileXmlElementAccess,
                                                            List<DivType> divs,
                                                            Map<String, List<FileXmlElementAccess>> mediaUnitsMap) {
@@ -15,6 +15,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -28,13 +29,17 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
 import javax.xml.datatype.DatatypeConfigurationException;
 import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.kitodo.api.dataformat.MediaUnit;
@@ -54,6 +59,7 @@ import org.kitodo.dataformat.metskitodo.MetsType.MetsHdr.MetsDocumentID;
 import org.kitodo.dataformat.metskitodo.MetsType.StructLink;
 import org.kitodo.dataformat.metskitodo.StructLinkType.SmLink;
 import org.kitodo.dataformat.metskitodo.StructMapType;
+import org.kitodo.utils.JAXBContextCache;
 
 /**
  * The administrative structure of the product of an element that passes through
@@ -81,6 +87,21 @@ import org.kitodo.dataformat.metskitodo.StructMapType;
  * @see "https://www.zvdd.de/fileadmin/AGSDD-Redaktion/METS_Anwendungsprofil_2.0.pdf"
  */
 public class MetsXmlElementAccess implements MetsXmlElementAccessInterface {
+    /**
+     * Factory for the StAX writers used to save METS files.
+     */
+    private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
+    /**
+     * Factory for the StAX readers used to read parts of METS files.
+     */
+    private static final XMLInputFactory XML_INPUT_FACTORY = XMLInputFactory.newInstance();
+
+    static {
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
     /**
      * The data object of this mets XML element access.
      */
@@ -188,8 +209,7 @@ public class MetsXmlElementAccess implements MetsXmlElementAccessInterface {
     @Override
     public Workpiece read(InputStream in) throws IOException {
         try {
-            JAXBContext jc = JAXBContext.newInstance(Mets.class);
-            Unmarshaller unmarshaller = jc.createUnmarshaller();
+            Unmarshaller unmarshaller = JAXBContextCache.getJAXBContext(Mets.class).createUnmarshaller();
             Mets mets = (Mets) unmarshaller.unmarshal(in);
             return new MetsXmlElementAccess(mets).workpiece;
         } catch (JAXBException e) {
@@ -201,9 +221,38 @@ public class MetsXmlElementAccess implements MetsXmlElementAccessInterface {
         }
     }
 
+    /**
+     * Reads the header and the upper levels of the logical structure from a
+     * METS file. StAX is used to parse the XML, and everything that is not
+     * needed is skipped.
+     *
+     * @param in
+     *            InputStream to read from
+     * @param depth
+     *            number of levels of the logical structure to read
+     */
+    @Override
+    public Workpiece readLogicalStructure(InputStream in, int depth) throws IOException {
+        try {
+            XMLStreamReader xmlStreamReader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+            try {
+                return new MetsXmlStreamReader(xmlStreamReader, depth).read();
+            } finally {
+                xmlStreamReader.close();
+            }
+        } catch (XMLStreamException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else {
+                throw new IOException(e.getMessage(), e);
+            }
+        }
+    }
+
     /**
      * Writes the contents of this workpiece as a METS file into an output
-     * stream.
+     * stream. StAX is used to stream the XML, so that no METS object tree
+     * needs to be built in memory.
      *
      * @param out
      *            writable output stream
@@ -213,8 +262,36 @@ public class MetsXmlElementAccess implements MetsXmlElementAccessInterface {
     @Override
     public void save(Workpiece workpiece, OutputStream out) throws IOException {
         try {
-            JAXBContext context = JAXBContext.newInstance(Mets.class);
-            Marshaller marshal = context.createMarshaller();
+            XMLStreamWriter xmlStreamWriter = XML_OUTPUT_FACTORY.createXMLStreamWriter(out,
+                StandardCharsets.UTF_8.name());
+            try {
+                new MetsXmlStreamWriter(workpiece, xmlStreamWriter).write();
+            } finally {
+                xmlStreamWriter.close();
+            }
+        } catch (XMLStreamException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else {
+                throw new IOException(e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Writes the contents of this workpiece as a METS file into an output
+     * stream by marshalling a METS object tree with JAXB. This is the former
+     * implementation of {@link #save(Workpiece, OutputStream)}. It is kept as
+     * a reference for the streaming writer.
+     *
+     * @param out
+     *            writable output stream
+     * @throws IOException
+     *             if the output device has an error
+     */
+    void saveWithJaxb(Workpiece workpiece, OutputStream out) throws IOException {
+        try {
+            Marshaller marshal = JAXBContextCache.getJAXBContext(Mets.class).createMarshaller();
             marshal.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
             marshal.marshal(new MetsXmlElementAccess(workpiece).toMets(), out);
         } catch (JAXBException e) {
@@ -282,16 +359,23 @@ public class MetsXmlElementAccess implements MetsXmlElementAccessInterface {
      *            value of the calendar
      * @return an object of class XMLGregorianCalendar
      */
-    private static XMLGregorianCalendar convertDate(GregorianCalendar gregorianCalendar) {
-        DatatypeFactory datatypeFactory;
+    static XMLGregorianCalendar convertDate(GregorianCalendar gregorianCalendar) {
+        return getDatatypeFactory().newXMLGregorianCalendar(gregorianCalendar);
+    }
+
+    /**
+     * Returns a new factory for XML data types.
+     *
+     * @return a factory for XML data types
+     */
+    static DatatypeFactory getDatatypeFactory() {
         try {
-            datatypeFactory = DatatypeFactory.newInstance();
+            return DatatypeFactory.newInstance();
         } catch (DatatypeConfigurationException e) {
             String message = e.getMessage();
             throw new NoClassDefFoundError(message != null ? message
                     : "Implementation of DatatypeFactory not available or cannot be instantiated.");
         }
-        return datatypeFactory.newXMLGregorianCalendar(gregorianCalendar);
     }
 
     /**
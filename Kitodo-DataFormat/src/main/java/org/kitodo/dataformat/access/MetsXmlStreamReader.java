@@ -0,0 +1,345 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.dataformat.access;
+
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.commons.lang3.StringUtils;
+import org.kitodo.api.MdSec;
+import org.kitodo.api.Metadata;
+import org.kitodo.api.MetadataEntry;
+import org.kitodo.api.MetadataGroup;
+import org.kitodo.api.dataformat.IncludedStructuralElement;
+import org.kitodo.api.dataformat.Workpiece;
+import org.kitodo.dataformat.metskitodo.DivType.Mptr;
+import org.kitodo.dataformat.metskitodo.MetsType.MetsHdr.Agent;
+
+/**
+ * Reads the header and the upper levels of the logical structure from a METS
+ * file with StAX. The file sections, the physical structure and the struct
+ * links are skipped without building any objects for them, and reading stops
+ * after the logical struct map. This avoids unmarshalling the whole file with
+ * JAXB, if only the root element is of interest.
+ */
+class MetsXmlStreamReader {
+    private static final String METS_NAMESPACE = "http://www.loc.gov/METS/";
+    private static final String KITODO_NAMESPACE = "http://meta.kitodo.org/v1/";
+    private static final String XLINK_NAMESPACE = "http://www.w3.org/1999/xlink";
+
+    /**
+     * The stream to read from.
+     */
+    private final XMLStreamReader reader;
+
+    /**
+     * Number of levels of the logical structure to read.
+     */
+    private final int depth;
+
+    /**
+     * The metadata of the metadata sections read so far, by their IDs. As the
+     * metadata sections precede the struct maps, they must be kept until the
+     * divisions referencing them are read.
+     */
+    private final Map<String, Collection<Metadata>> mdSecs = new HashMap<>();
+
+    /**
+     * Creates a new METS XML stream reader.
+     *
+     * @param reader
+     *            stream to read from
+     * @param depth
+     *            number of levels of the logical structure to read, 1 reads
+     *            only the root element
+     */
+    MetsXmlStreamReader(XMLStreamReader reader, int depth) {
+        this.reader = reader;
+        this.depth = depth;
+    }
+
+    /**
+     * Reads the header and the upper levels of the logical structure.
+     *
+     * @return a workpiece without media units and views
+     * @throws XMLStreamException
+     *             if the stream cannot be read
+     */
+    Workpiece read() throws XMLStreamException {
+        Workpiece workpiece = new Workpiece();
+        while (reader.hasNext()) {
+            if (reader.next() != XMLStreamConstants.START_ELEMENT || !METS_NAMESPACE.equals(reader.getNamespaceURI())) {
+                continue;
+            }
+            switch (reader.getLocalName()) {
+                case "metsHdr":
+                    readMetsHdr(workpiece);
+                    break;
+                case "dmdSec":
+                    readMdSec(MdSec.DMD_SEC);
+                    break;
+                case "techMD":
+                    readMdSec(MdSec.TECH_MD);
+                    break;
+                case "rightsMD":
+                    readMdSec(MdSec.RIGHTS_MD);
+                    break;
+                case "sourceMD":
+                    readMdSec(MdSec.SOURCE_MD);
+                    break;
+                case "digiprovMD":
+                    readMdSec(MdSec.DIGIPROV_MD);
+                    break;
+                case "structMap":
+                    if ("LOGICAL".equals(reader.getAttributeValue(null, "TYPE"))) {
+                        if (nextChildElement() && "div".equals(reader.getLocalName())) {
+                            workpiece.setRootElement(readDiv(1, 1));
+                        }
+                        return workpiece;
+                    }
+                    skipElement();
+                    break;
+                case "fileSec":
+                case "structLink":
+                    skipElement();
+                    break;
+                default:
+                    break;
+            }
+        }
+        return workpiece;
+    }
+
+    /**
+     * Reads the header of the METS file. The header area stores the time
+     * stamp, the ID and the processing notes.
+     */
+    private void readMetsHdr(Workpiece workpiece) throws XMLStreamException {
+        String createDate = reader.getAttributeValue(null, "CREATEDATE");
+        if (Objects.nonNull(createDate)) {
+            workpiece.setCreationDate(MetsXmlElementAccess.getDatatypeFactory().newXMLGregorianCalendar(createDate)
+                    .toGregorianCalendar());
+        }
+        while (nextChildElement()) {
+            switch (reader.getLocalName()) {
+                case "agent":
+                    workpiece.getEditHistory().add(new AgentXmlElementAccess(readAgent()).getProcessingNote());
+                    break;
+                case "metsDocumentID":
+                    workpiece.setId(reader.getElementText());
+                    break;
+                default:
+                    skipElement();
+            }
+        }
+    }
+
+    private Agent readAgent() throws XMLStreamException {
+        Agent agent = new Agent();
+        agent.setROLE(reader.getAttributeValue(null, "ROLE"));
+        agent.setOTHERROLE(reader.getAttributeValue(null, "OTHERROLE"));
+        agent.setTYPE(reader.getAttributeValue(null, "TYPE"));
+        agent.setOTHERTYPE(reader.getAttributeValue(null, "OTHERTYPE"));
+        while (nextChildElement()) {
+            switch (reader.getLocalName()) {
+                case "name":
+                    agent.setName(reader.getElementText());
+                    break;
+                case "note":
+                    agent.getNote().add(reader.getElementText());
+                    break;
+                default:
+                    skipElement();
+            }
+        }
+        return agent;
+    }
+
+    /**
+     * Reads a metadata section. Only metadata in the Kitodo format is read,
+     * other content of the section is skipped.
+     *
+     * @param domain
+     *            domain of the metadata section
+     */
+    private void readMdSec(MdSec domain) throws XMLStreamException {
+        String id = reader.getAttributeValue(null, "ID");
+        Collection<Metadata> metadata = new HashSet<>();
+        int level = 1;
+        while (level > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                if (KITODO_NAMESPACE.equals(reader.getNamespaceURI()) && "kitodo".equals(reader.getLocalName())) {
+                    metadata.addAll(readMetadata(domain, true));
+                } else {
+                    level++;
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                level--;
+            }
+        }
+        if (Objects.nonNull(id)) {
+            mdSecs.put(id, metadata);
+        }
+    }
+
+    /**
+     * Reads the metadata entries and groups contained in the current element.
+     *
+     * @param domain
+     *            domain of the metadata
+     * @param topLevel
+     *            whether the metadata is not inside a group. Empty metadata
+     *            entries are only discarded on the top level.
+     * @return the metadata read
+     */
+    private Collection<Metadata> readMetadata(MdSec domain, boolean topLevel) throws XMLStreamException {
+        Collection<Metadata> metadata = new HashSet<>();
+        while (nextChildElement()) {
+            if (!KITODO_NAMESPACE.equals(reader.getNamespaceURI())) {
+                skipElement();
+                continue;
+            }
+            String name = reader.getAttributeValue(null, "name");
+            switch (reader.getLocalName()) {
+                case "metadata":
+                    String value = reader.getElementText();
+                    if (!topLevel || !value.isEmpty()) {
+                        MetadataEntry metadataEntry = new MetadataEntry();
+                        metadataEntry.setDomain(domain);
+                        metadataEntry.setKey(name);
+                        metadataEntry.setValue(value);
+                        metadata.add(metadataEntry);
+                    }
+                    break;
+                case "metadataGroup":
+                    MetadataGroup metadataGroup = new MetadataGroup();
+                    metadataGroup.setDomain(domain);
+                    metadataGroup.setKey(name);
+                    metadataGroup.getGroup().addAll(readMetadata(null, false));
+                    metadata.add(metadataGroup);
+                    break;
+                default:
+                    skipElement();
+            }
+        }
+        return metadata;
+    }
+
+    /**
+     * Reads a division of the logical structure. Children are read as long as
+     * the depth to read is not exceeded.
+     *
+     * @param level
+     *            level of the division in the logical structure, 1 being the
+     *            root element
+     * @param parentOrder
+     *            the order of the parent division, which is used if the
+     *            division has no order of its own
+     * @return the division read
+     */
+    private IncludedStructuralElement readDiv(int level, int parentOrder) throws XMLStreamException {
+        DivXmlElementAccess div = new DivXmlElementAccess(reader.getAttributeValue(null, "ID"));
+        String contentIds = reader.getAttributeValue(null, "CONTENTIDS");
+        if (Objects.nonNull(contentIds)) {
+            for (String contentId : StringUtils.split(contentIds)) {
+                div.getContentIds().add(URI.create(contentId));
+            }
+        }
+        div.setLabel(reader.getAttributeValue(null, "LABEL"));
+        for (String mdSecId : getIdrefs("DMDID")) {
+            div.getMetadata().addAll(mdSecs.getOrDefault(mdSecId, Collections.emptyList()));
+        }
+        for (String mdSecId : getIdrefs("ADMID")) {
+            div.getMetadata().addAll(mdSecs.getOrDefault(mdSecId, Collections.emptyList()));
+        }
+        String order = reader.getAttributeValue(null, "ORDER");
+        int orderValue = Objects.nonNull(order) ? new BigInteger(order.trim()).intValue() : 0;
+        if (orderValue > 0) {
+            div.setOrder(orderValue);
+        } else if (parentOrder > 0) {
+            div.setOrder(parentOrder);
+        } else {
+            div.setOrder(1);
+        }
+        div.setOrderlabel(reader.getAttributeValue(null, "ORDERLABEL"));
+        div.setType(reader.getAttributeValue(null, "TYPE"));
+        while (nextChildElement()) {
+            if ("mptr".equals(reader.getLocalName()) && Objects.isNull(div.getLink())) {
+                div.setLink(MptrXmlElementAccess.getLinkFromMptr(readMptr()));
+            } else if ("div".equals(reader.getLocalName()) && level < depth) {
+                div.getChildren().add(readDiv(level + 1, div.getOrder()));
+            } else {
+                skipElement();
+            }
+        }
+        return div;
+    }
+
+    private Mptr readMptr() throws XMLStreamException {
+        Mptr mptr = new Mptr();
+        mptr.setLOCTYPE(reader.getAttributeValue(null, "LOCTYPE"));
+        mptr.setOTHERLOCTYPE(reader.getAttributeValue(null, "OTHERLOCTYPE"));
+        mptr.setHref(reader.getAttributeValue(XLINK_NAMESPACE, "href"));
+        skipElement();
+        return mptr;
+    }
+
+    private String[] getIdrefs(String attributeName) {
+        String idrefs = reader.getAttributeValue(null, attributeName);
+        return Objects.nonNull(idrefs) ? StringUtils.split(idrefs) : new String[0];
+    }
+
+    /**
+     * Moves to the next child element of the current element.
+     *
+     * @return true, if the reader is now at the start of a child element,
+     *         false if the end of the current element was reached
+     */
+    private boolean nextChildElement() throws XMLStreamException {
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Skips the current element and all its content. Afterwards, the reader
+     * is at the end of the element.
+     */
+    private void skipElement() throws XMLStreamException {
+        int level = 1;
+        while (level > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                level++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                level--;
+            }
+        }
+    }
+}
@@ -0,0 +1,487 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.dataformat.access;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.GregorianCalendar;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.kitodo.api.MdSec;
+import org.kitodo.api.Metadata;
+import org.kitodo.api.MetadataEntry;
+import org.kitodo.api.MetadataGroup;
+import org.kitodo.api.dataformat.Division;
+import org.kitodo.api.dataformat.IncludedStructuralElement;
+import org.kitodo.api.dataformat.MediaUnit;
+import org.kitodo.api.dataformat.MediaVariant;
+import org.kitodo.api.dataformat.ProcessingNote;
+import org.kitodo.api.dataformat.View;
+import org.kitodo.api.dataformat.Workpiece;
+import org.kitodo.api.dataformat.mets.KitodoUUID;
+import org.kitodo.dataformat.metskitodo.DivType.Mptr;
+import org.kitodo.dataformat.metskitodo.MetsType.MetsHdr.Agent;
+
+/**
+ * Writes a workpiece as METS XML directly into a stream. Unlike marshalling
+ * with JAXB, no METS object tree is built in memory first. Instead, the
+ * workpiece is walked once per section of the METS file, and the elements are
+ * written in document order. The output has the same structure and uses the
+ * same identifiers as the one produced by JAXB.
+ */
+class MetsXmlStreamWriter {
+    private static final String METS_NAMESPACE = "http://www.loc.gov/METS/";
+    private static final String METS_PREFIX = "mets";
+    private static final String KITODO_NAMESPACE = "http://meta.kitodo.org/v1/";
+    private static final String KITODO_PREFIX = "kitodo";
+    private static final String XLINK_NAMESPACE = "http://www.w3.org/1999/xlink";
+    private static final String XLINK_PREFIX = "xlink";
+    private static final String INDENTATION = "    ";
+
+    /**
+     * The administrative metadata sections in the order in which the METS
+     * schema expects them inside of an {@code <amdSec>}.
+     */
+    private static final List<MdSec> AMD_SEC_ORDER = Arrays.asList(MdSec.TECH_MD, MdSec.RIGHTS_MD, MdSec.SOURCE_MD,
+        MdSec.DIGIPROV_MD);
+
+    /**
+     * The workpiece to write.
+     */
+    private final Workpiece workpiece;
+
+    /**
+     * The stream to write to.
+     */
+    private final XMLStreamWriter writer;
+
+    /**
+     * IDs for included structural elements which have not been read from METS
+     * and therefore do not have an ID yet. The IDs are kept so that all
+     * sections of the file refer to the element with the same ID.
+     */
+    private final Map<IncludedStructuralElement, String> metsReferrerIds = new IdentityHashMap<>();
+
+    /**
+     * The IDs of the files, per media variant and file URI.
+     */
+    private final Map<MediaVariant, Map<URI, String>> fileIds = new LinkedHashMap<>();
+
+    /**
+     * Current nesting depth, used to indent the output.
+     */
+    private int depth;
+
+    /**
+     * Whether the element currently open has child elements. If so, its end
+     * tag is placed in a line of its own.
+     */
+    private boolean hasChildElements;
+
+    /**
+     * Whether the {@code <mets:structLink>} element has already been opened.
+     */
+    private boolean structLinkStarted;
+
+    /**
+     * Creates a new METS XML stream writer.
+     *
+     * @param workpiece
+     *            workpiece to write
+     * @param writer
+     *            stream to write to
+     */
+    MetsXmlStreamWriter(Workpiece workpiece, XMLStreamWriter writer) {
+        this.workpiece = workpiece;
+        this.writer = writer;
+    }
+
+    /**
+     * Writes the workpiece as METS XML document.
+     *
+     * @throws XMLStreamException
+     *             if the stream cannot be written
+     */
+    void write() throws XMLStreamException {
+        writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+        writeStartElement(METS_PREFIX, "mets", METS_NAMESPACE);
+        writer.writeNamespace(METS_PREFIX, METS_NAMESPACE);
+        writer.writeNamespace(KITODO_PREFIX, KITODO_NAMESPACE);
+        writer.writeNamespace(XLINK_PREFIX, XLINK_NAMESPACE);
+        writeMetsHdr();
+        writeDmdSecsRecursive(workpiece.getMediaUnit());
+        writeDmdSecsRecursive(workpiece.getRootElement());
+        writeAmdSecsRecursive(workpiece.getMediaUnit());
+        writeAmdSecsRecursive(workpiece.getRootElement());
+        writeFileSec();
+        writeStructMap("PHYSICAL");
+        writePhysicalDivRecursive(workpiece.getMediaUnit());
+        writeEndElement();
+        writeStructMap("LOGICAL");
+        writeLogicalDivRecursive(workpiece.getRootElement());
+        writeEndElement();
+        writeSmLinksRecursive(workpiece.getRootElement());
+        if (structLinkStarted) {
+            writeEndElement();
+        }
+        writeEndElement();
+        writer.writeEndDocument();
+        writer.flush();
+    }
+
+    /**
+     * Writes the header of the METS file. The header area stores the time
+     * stamp, the ID and the processing notes.
+     */
+    private void writeMetsHdr() throws XMLStreamException {
+        writeStartElement(METS_PREFIX, "metsHdr", METS_NAMESPACE);
+        writer.writeAttribute("CREATEDATE",
+            MetsXmlElementAccess.convertDate(workpiece.getCreationDate()).toXMLFormat());
+        writer.writeAttribute("LASTMODDATE", MetsXmlElementAccess.convertDate(new GregorianCalendar()).toXMLFormat());
+        for (ProcessingNote processingNote : workpiece.getEditHistory()) {
+            Agent agent = new AgentXmlElementAccess(processingNote).toAgent();
+            writeStartElement(METS_PREFIX, "agent", METS_NAMESPACE);
+            writeAttributeIfNotNull("ROLE", agent.getROLE());
+            writeAttributeIfNotNull("OTHERROLE", agent.getOTHERROLE());
+            writeAttributeIfNotNull("TYPE", agent.getTYPE());
+            writeAttributeIfNotNull("OTHERTYPE", agent.getOTHERTYPE());
+            writeTextElement(METS_PREFIX, "name", METS_NAMESPACE, agent.getName());
+            for (String note : agent.getNote()) {
+                writeTextElement(METS_PREFIX, "note", METS_NAMESPACE, note);
+            }
+            writeEndElement();
+        }
+        if (Objects.nonNull(workpiece.getId())) {
+            writeTextElement(METS_PREFIX, "metsDocumentID", METS_NAMESPACE, workpiece.getId());
+        }
+        writeEndElement();
+    }
+
+    private void writeDmdSecsRecursive(Division<?> division) throws XMLStreamException {
+        if (hasMetadata(division.getMetadata(), MdSec.DMD_SEC)) {
+            writeMdSec("dmdSec", getMdSecId(division, MdSec.DMD_SEC), division.getMetadata(), MdSec.DMD_SEC);
+        }
+        for (Division<?> child : division.getChildren()) {
+            writeDmdSecsRecursive(child);
+        }
+    }
+
+    private void writeAmdSecsRecursive(Division<?> division) throws XMLStreamException {
+        List<MdSec> domains = getAmdSecDomains(division.getMetadata());
+        if (!domains.isEmpty()) {
+            writeStartElement(METS_PREFIX, "amdSec", METS_NAMESPACE);
+            for (MdSec domain : domains) {
+                writeMdSec(getMdSecElementName(domain), getMdSecId(division, domain), division.getMetadata(), domain);
+            }
+            writeEndElement();
+        }
+        for (Division<?> child : division.getChildren()) {
+            writeAmdSecsRecursive(child);
+        }
+    }
+
+    /**
+     * Writes a metadata section with the metadata of the given domain in the
+     * Kitodo format.
+     *
+     * @param elementName
+     *            name of the METS element of the metadata section
+     * @param id
+     *            ID of the metadata section
+     * @param metadata
+     *            metadata of the division
+     * @param domain
+     *            domain of the metadata to write
+     */
+    private void writeMdSec(String elementName, String id, Collection<Metadata> metadata, MdSec domain)
+            throws XMLStreamException {
+        writeStartElement(METS_PREFIX, elementName, METS_NAMESPACE);
+        writer.writeAttribute("ID", id);
+        writeStartElement(METS_PREFIX, "mdWrap", METS_NAMESPACE);
+        writeStartElement(METS_PREFIX, "xmlData", METS_NAMESPACE);
+        writeStartElement(KITODO_PREFIX, "kitodo", KITODO_NAMESPACE);
+        List<Metadata> metadataOfDomain = metadata.stream().filter(entry -> domain.equals(entry.getDomain()))
+                .collect(Collectors.toList());
+        writeMetadata(metadataOfDomain);
+        writeEndElement();
+        writeEndElement();
+        writeEndElement();
+        writeEndElement();
+    }
+
+    /**
+     * Writes metadata in the Kitodo format. The schema requires the metadata
+     * entries to precede the metadata groups.
+     *
+     * @param metadata
+     *            metadata to write
+     */
+    private void writeMetadata(Collection<Metadata> metadata) throws XMLStreamException {
+        for (Metadata entry : metadata) {
+            if (entry instanceof MetadataEntry) {
+                writeStartElement(KITODO_PREFIX, "metadata", KITODO_NAMESPACE);
+                writeAttributeIfNotNull("name", entry.getKey());
+                String value = ((MetadataEntry) entry).getValue();
+                if (Objects.nonNull(value)) {
+                    writer.writeCharacters(value);
+                }
+                writeEndElement();
+            }
+        }
+        for (Metadata entry : metadata) {
+            if (entry instanceof MetadataGroup) {
+                writeStartElement(KITODO_PREFIX, "metadataGroup", KITODO_NAMESPACE);
+                writeAttributeIfNotNull("name", entry.getKey());
+                writeMetadata(((MetadataGroup) entry).getGroup());
+                writeEndElement();
+            }
+        }
+    }
+
+    /**
+     * Writes the file section. Each media variant becomes a file group. The
+     * IDs of the files are remembered for the links from the physical struct
+     * map.
+     */
+    private void writeFileSec() throws XMLStreamException {
+        collectFileIdsRecursive(workpiece.getMediaUnit());
+        if (fileIds.isEmpty()) {
+            return;
+        }
+        writeStartElement(METS_PREFIX, "fileSec", METS_NAMESPACE);
+        for (Entry<MediaVariant, Map<URI, String>> fileGrp : fileIds.entrySet()) {
+            writeStartElement(METS_PREFIX, "fileGrp", METS_NAMESPACE);
+            writeAttributeIfNotNull("USE", fileGrp.getKey().getUse());
+            for (Entry<URI, String> file : fileGrp.getValue().entrySet()) {
+                writeStartElement(METS_PREFIX, "file", METS_NAMESPACE);
+                writer.writeAttribute("ID", file.getValue());
+                writeAttributeIfNotNull("MIMETYPE", fileGrp.getKey().getMimeType());
+                writeStartElement(METS_PREFIX, "FLocat", METS_NAMESPACE);
+                writer.writeAttribute("LOCTYPE", "URL");
+                writer.writeAttribute(XLINK_PREFIX, XLINK_NAMESPACE, "href", file.getKey().toString());
+                writeEndElement();
+                writeEndElement();
+            }
+            writeEndElement();
+        }
+        writeEndElement();
+    }
+
+    private void collectFileIdsRecursive(MediaUnit mediaUnit) {
+        for (Entry<MediaVariant, URI> mediaFile : mediaUnit.getMediaFiles().entrySet()) {
+            URI uri = mediaFile.getValue();
+            fileIds.computeIfAbsent(mediaFile.getKey(), any -> new LinkedHashMap<>()).computeIfAbsent(uri, any -> {
+                String fileId = mediaUnit instanceof MediaUnitMetsReferrerStorage
+                        ? ((MediaUnitMetsReferrerStorage) mediaUnit).getFileId(uri)
+                        : null;
+                return Objects.nonNull(fileId) ? fileId : KitodoUUID.randomUUID();
+            });
+        }
+        for (MediaUnit child : mediaUnit.getChildren()) {
+            collectFileIdsRecursive(child);
+        }
+    }
+
+    private void writeStructMap(String type) throws XMLStreamException {
+        writeStartElement(METS_PREFIX, "structMap", METS_NAMESPACE);
+        writer.writeAttribute("TYPE", type);
+    }
+
+    private void writePhysicalDivRecursive(MediaUnit mediaUnit) throws XMLStreamException {
+        writeStartElement(METS_PREFIX, "div", METS_NAMESPACE);
+        writer.writeAttribute("ID", mediaUnit.getDivId());
+        writeDivAttributes(mediaUnit);
+        for (Entry<MediaVariant, URI> mediaFile : mediaUnit.getMediaFiles().entrySet()) {
+            writeStartElement(METS_PREFIX, "fptr", METS_NAMESPACE);
+            writer.writeAttribute("FILEID", fileIds.get(mediaFile.getKey()).get(mediaFile.getValue()));
+            writeEndElement();
+        }
+        for (MediaUnit child : mediaUnit.getChildren()) {
+            writePhysicalDivRecursive(child);
+        }
+        writeEndElement();
+    }
+
+    private void writeLogicalDivRecursive(IncludedStructuralElement includedStructuralElement)
+            throws XMLStreamException {
+        writeStartElement(METS_PREFIX, "div", METS_NAMESPACE);
+        writer.writeAttribute("ID", getMetsReferrerId(includedStructuralElement));
+        writeDivAttributes(includedStructuralElement);
+        if (!includedStructuralElement.getContentIds().isEmpty()) {
+            writer.writeAttribute("CONTENTIDS", includedStructuralElement.getContentIds().stream()
+                    .map(URI::toString).collect(Collectors.joining(" ")));
+        }
+        if (Objects.nonNull(includedStructuralElement.getLink())) {
+            Mptr mptr = MptrXmlElementAccess.toMptr(includedStructuralElement.getLink());
+            writeStartElement(METS_PREFIX, "mptr", METS_NAMESPACE);
+            writeAttributeIfNotNull("LOCTYPE", mptr.getLOCTYPE());
+            writeAttributeIfNotNull("OTHERLOCTYPE", mptr.getOTHERLOCTYPE());
+            writer.writeAttribute(XLINK_PREFIX, XLINK_NAMESPACE, "href", mptr.getHref());
+            writeEndElement();
+        }
+        for (IncludedStructuralElement child : includedStructuralElement.getChildren()) {
+            writeLogicalDivRecursive(child);
+        }
+        writeEndElement();
+    }
+
+    /**
+     * Writes the attributes common to physical and logical divisions, in the
+     * order given by the METS schema, and the references to their metadata
+     * sections.
+     *
+     * @param division
+     *            division whose attributes are written
+     */
+    private void writeDivAttributes(Division<?> division) throws XMLStreamException {
+        if (division.getOrder() > 0) {
+            writer.writeAttribute("ORDER", Integer.toString(division.getOrder()));
+        }
+        writeAttributeIfNotNull("ORDERLABEL", division.getOrderlabel());
+        writeAttributeIfNotNull("LABEL", division.getLabel());
+        if (hasMetadata(division.getMetadata(), MdSec.DMD_SEC)) {
+            writer.writeAttribute("DMDID", getMdSecId(division, MdSec.DMD_SEC));
+        }
+        List<MdSec> amdSecDomains = getAmdSecDomains(division.getMetadata());
+        if (!amdSecDomains.isEmpty()) {
+            List<String> amdSecIds = new ArrayList<>(amdSecDomains.size());
+            for (MdSec domain : amdSecDomains) {
+                amdSecIds.add(getMdSecId(division, domain));
+            }
+            writer.writeAttribute("ADMID", String.join(" ", amdSecIds));
+        }
+        writeAttributeIfNotNull("TYPE", division.getType());
+    }
+
+    /**
+     * Writes the struct link section. The struct link section stores which
+     * media units are attached to which nodes and leaves of the logical
+     * structure. It is only opened when there is at least one link.
+     *
+     * @param includedStructuralElement
+     *            included structural element whose links are written
+     */
+    private void writeSmLinksRecursive(IncludedStructuralElement includedStructuralElement)
+            throws XMLStreamException {
+        for (View view : includedStructuralElement.getViews()) {
+            if (!structLinkStarted) {
+                writeStartElement(METS_PREFIX, "structLink", METS_NAMESPACE);
+                structLinkStarted = true;
+            }
+            writeStartElement(METS_PREFIX, "smLink", METS_NAMESPACE);
+            writer.writeAttribute(XLINK_PREFIX, XLINK_NAMESPACE, "from", getMetsReferrerId(includedStructuralElement));
+            writer.writeAttribute(XLINK_PREFIX, XLINK_NAMESPACE, "to", view.getMediaUnit().getDivId());
+            writeEndElement();
+        }
+        for (IncludedStructuralElement child : includedStructuralElement.getChildren()) {
+            writeSmLinksRecursive(child);
+        }
+    }
+
+    /**
+     * Returns the ID of a division. Media units carry their ID themselves.
+     * Included structural elements that have been read from METS keep their
+     * previous ID, others get a new one.
+     *
+     * @param division
+     *            division whose ID is returned
+     * @return the ID of the division
+     */
+    private String getMetsReferrerId(Division<?> division) {
+        if (division instanceof MediaUnit) {
+            return ((MediaUnit) division).getDivId();
+        } else if (division instanceof DivXmlElementAccess) {
+            return ((DivXmlElementAccess) division).getMetsReferrerId();
+        } else {
+            return metsReferrerIds.computeIfAbsent((IncludedStructuralElement) division,
+                any -> KitodoUUID.randomUUID());
+        }
+    }
+
+    private String getMdSecId(Division<?> division, MdSec domain) {
+        String name = getMetsReferrerId(division) + ':' + domain.toString();
+        return KitodoUUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static boolean hasMetadata(Collection<Metadata> metadata, MdSec domain) {
+        return metadata.stream().anyMatch(entry -> domain.equals(entry.getDomain()));
+    }
+
+    private static List<MdSec> getAmdSecDomains(Collection<Metadata> metadata) {
+        return AMD_SEC_ORDER.stream().filter(domain -> hasMetadata(metadata, domain)).collect(Collectors.toList());
+    }
+
+    private static String getMdSecElementName(MdSec domain) {
+        switch (domain) {
+            case TECH_MD:
+                return "techMD";
+            case RIGHTS_MD:
+                return "rightsMD";
+            case SOURCE_MD:
+                return "sourceMD";
+            case DIGIPROV_MD:
+                return "digiprovMD";
+            default:
+                throw new IllegalArgumentException("Not an administrative metadata section: " + domain);
+        }
+    }
+
+    private void writeAttributeIfNotNull(String localName, String value) throws XMLStreamException {
+        if (Objects.nonNull(value)) {
+            writer.writeAttribute(localName, value);
+        }
+    }
+
+    private void writeTextElement(String prefix, String localName, String namespaceURI, String text)
+            throws XMLStreamException {
+        writeStartElement(prefix, localName, namespaceURI);
+        if (Objects.nonNull(text)) {
+            writer.writeCharacters(text);
+        }
+        writeEndElement();
+    }
+
+    private void writeStartElement(String prefix, String localName, String namespaceURI) throws XMLStreamException {
+        writeIndentation();
+        writer.writeStartElement(prefix, localName, namespaceURI);
+        depth++;
+        hasChildElements = false;
+    }
+
+    private void writeEndElement() throws XMLStreamException {
+        depth--;
+        if (hasChildElements) {
+            writeIndentation();
+        }
+        writer.writeEndElement();
+        hasChildElements = true;
+    }
+
+    private void writeIndentation() throws XMLStreamException {
+        writer.writeCharacters("\n");
+        for (int i = 0; i < depth; i++) {
+            writer.writeCharacters(INDENTATION);
+        }
+    }
+}
@@ -57,6 +57,17 @@ class MptrXmlElementAccess {
      *            {@code <mets:div>} to which the information is added
      */
     static void addMptrToDiv(LinkedMetsResource link, DivType div) {
+        div.getMptr().add(toMptr(link));
+    }
+
+    /**
+     * Creates a {@code <mets:mptr>} element for a linked METS resource.
+     *
+     * @param link
+     *            Details of a linked METS resource
+     * @return a {@code <mets:mptr>} element pointing to the resource
+     */
+    static Mptr toMptr(LinkedMetsResource link) {
         Mptr mptr = new Mptr();
         if (AllowedLoctypeValues.contains(link.getLoctype())) {
             mptr.setLOCTYPE(link.getLoctype());
@@ -65,7 +76,7 @@ class MptrXmlElementAccess {
             mptr.setOTHERLOCTYPE(Objects.toString(link.getLoctype()));
         }
         mptr.setHref(link.getUri().toASCIIString());
-        div.getMptr().add(mptr);
+        return mptr;
     }
 
     /**
@@ -79,8 +90,18 @@ class MptrXmlElementAccess {
         if (div.getMptr().isEmpty()) {
             return null;
         }
+        return getLinkFromMptr(div.getMptr().get(0));
+    }
+
+    /**
+     * Reads the information about a link from a {@code <mets:mptr>}.
+     *
+     * @param mptr
+     *            {@code <mets:mptr>} to read
+     * @return information to the link
+     */
+    static LinkedMetsResource getLinkFromMptr(Mptr mptr) {
         LinkedMetsResource linkFromDiv = new LinkedMetsResource();
-        Mptr mptr = div.getMptr().get(0);
         linkFromDiv.setLoctype(AllowedLoctypeValues.OTHER.toString().equals(mptr.getLOCTYPE()) ? mptr.getOTHERLOCTYPE()
                 : mptr.getLOCTYPE());
         linkFromDiv.setUri(URI.create(mptr.getHref()));
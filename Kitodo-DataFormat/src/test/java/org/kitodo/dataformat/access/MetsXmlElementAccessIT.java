@@ -12,7 +12,10 @@
 package org.kitodo.dataformat.access;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -24,8 +27,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.Ignore;
 import org.junit.Test;
 import org.kitodo.api.MdSec;
 import org.kitodo.api.MetadataEntry;
@@ -39,7 +46,12 @@ import org.kitodo.api.dataformat.Workpiece;
 
 public class MetsXmlElementAccessIT {
 
+    private static final Logger logger = LogManager.getLogger(MetsXmlElementAccessIT.class);
+
     private static final File OUT_FILE = new File("src/test/resources/out.xml");
+    private static final File META_FILE = new File("src/test/resources/meta.xml");
+    private static final int LARGE_WORKPIECE_PAGES = 5000;
+    private static final int BENCHMARK_RUNS = 5;
 
     public static void clean() throws Exception {
         Files.deleteIfExists(OUT_FILE.toPath());
@@ -246,4 +258,200 @@ public class MetsXmlElementAccessIT {
 
         clean();
     }
+
+    /**
+     * Tests that a workpiece read from a METS file is unchanged after it has
+     * been saved and read again.
+     */
+    @Test
+    public void testSaveRoundTrip() throws Exception {
+        MetsXmlElementAccess metsXmlElementAccess = new MetsXmlElementAccess();
+        Workpiece workpiece = metsXmlElementAccess.read(new FileInputStream(META_FILE));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        metsXmlElementAccess.save(workpiece, out);
+        Workpiece reread = metsXmlElementAccess.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(workpiece.getCreationDate().getTimeInMillis(), reread.getCreationDate().getTimeInMillis());
+        assertEquals(workpiece.getId(), reread.getId());
+        assertEquals(workpiece.getEditHistory(), reread.getEditHistory());
+        assertEquals(workpiece.getMediaUnit(), reread.getMediaUnit());
+        assertEquals(workpiece.getRootElement(), reread.getRootElement());
+    }
+
+    /**
+     * Tests that the streaming writer and JAXB write files from which the
+     * same workpiece is read.
+     */
+    @Test
+    public void testSaveEqualsJaxbOutput() throws Exception {
+        MetsXmlElementAccess metsXmlElementAccess = new MetsXmlElementAccess();
+        Workpiece workpiece = metsXmlElementAccess.read(new FileInputStream(META_FILE));
+        assertEquals(rereadWithJaxb(workpiece), rereadStreamed(workpiece));
+
+        Workpiece largeWorkpiece = createLargeWorkpiece();
+        assertEquals(rereadWithJaxb(largeWorkpiece), rereadStreamed(largeWorkpiece));
+    }
+
+    /**
+     * Tests saving a workpiece with 5000 pages with the streaming writer.
+     */
+    @Test
+    public void testSaveLargeWorkpiece() throws Exception {
+        Workpiece reread = rereadStreamed(createLargeWorkpiece());
+        assertEquals(LARGE_WORKPIECE_PAGES, reread.getMediaUnit().getChildren().size());
+        assertEquals(LARGE_WORKPIECE_PAGES / 100, reread.getRootElement().getChildren().size());
+        assertEquals(100, reread.getRootElement().getChildren().get(0).getViews().size());
+    }
+
+    /**
+     * Compares the time needed to save a workpiece with 5000 pages with the
+     * streaming writer and with JAXB. This is a benchmark to be run manually,
+     * it makes no assertions.
+     */
+    @Ignore("benchmark, run manually")
+    @Test
+    public void benchmarkSaveLargeWorkpiece() throws Exception {
+        MetsXmlElementAccess metsXmlElementAccess = new MetsXmlElementAccess();
+        Workpiece workpiece = createLargeWorkpiece();
+
+        long jaxbNanos = 0;
+        long streamedNanos = 0;
+        int streamedSize = 0;
+        for (int run = 0; run <= BENCHMARK_RUNS; run++) {
+            ByteArrayOutputStream jaxbOut = new ByteArrayOutputStream();
+            long start = System.nanoTime();
+            metsXmlElementAccess.saveWithJaxb(workpiece, jaxbOut);
+            long jaxbEnd = System.nanoTime();
+            ByteArrayOutputStream streamedOut = new ByteArrayOutputStream();
+            metsXmlElementAccess.save(workpiece, streamedOut);
+            long streamedEnd = System.nanoTime();
+            // the first run only warms up
+            if (run > 0) {
+                jaxbNanos += jaxbEnd - start;
+                streamedNanos += streamedEnd - jaxbEnd;
+            }
+            streamedSize = streamedOut.size();
+        }
+        logger.info("Saving {} pages took {} ms with JAXB and {} ms streamed ({} bytes)", LARGE_WORKPIECE_PAGES,
+            TimeUnit.NANOSECONDS.toMillis(jaxbNanos / BENCHMARK_RUNS),
+            TimeUnit.NANOSECONDS.toMillis(streamedNanos / BENCHMARK_RUNS), streamedSize);
+    }
+
+    /**
+     * Tests reading the header and the upper levels of the logical structure
+     * of a METS file.
+     */
+    @Test
+    public void testReadLogicalStructure() throws Exception {
+        MetsXmlElementAccess metsXmlElementAccess = new MetsXmlElementAccess();
+        Workpiece workpiece = metsXmlElementAccess.read(new FileInputStream(META_FILE));
+
+        Workpiece rootOnly = metsXmlElementAccess.readLogicalStructure(new FileInputStream(META_FILE), 1);
+        assertEquals(workpiece.getCreationDate(), rootOnly.getCreationDate());
+        assertEquals(workpiece.getEditHistory(), rootOnly.getEditHistory());
+        assertTrue(rootOnly.getMediaUnit().getChildren().isEmpty());
+        assertTrue(rootOnly.getRootElement().getChildren().isEmpty());
+        assertTrue(rootOnly.getRootElement().getViews().isEmpty());
+        assertEquals(11, rootOnly.getRootElement().getMetadata().size());
+        assertLogicalStructureEquals(workpiece.getRootElement(), rootOnly.getRootElement(), 1);
+
+        Workpiece twoLevels = metsXmlElementAccess.readLogicalStructure(new FileInputStream(META_FILE), 2);
+        assertEquals(16, twoLevels.getRootElement().getChildren().size());
+        assertLogicalStructureEquals(workpiece.getRootElement(), twoLevels.getRootElement(), 2);
+
+        Workpiece allLevels = metsXmlElementAccess.readLogicalStructure(new FileInputStream(META_FILE),
+            Integer.MAX_VALUE);
+        assertLogicalStructureEquals(workpiece.getRootElement(), allLevels.getRootElement(), Integer.MAX_VALUE);
+
+        Workpiece largeWorkpiece = createLargeWorkpiece();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        metsXmlElementAccess.save(largeWorkpiece, out);
+        Workpiece reread = metsXmlElementAccess.read(new ByteArrayInputStream(out.toByteArray()));
+        Workpiece chapters = metsXmlElementAccess.readLogicalStructure(new ByteArrayInputStream(out.toByteArray()), 2);
+        assertEquals("large", chapters.getId());
+        assertLogicalStructureEquals(reread.getRootElement(), chapters.getRootElement(), 2);
+    }
+
+    private static void assertLogicalStructureEquals(IncludedStructuralElement expected,
+            IncludedStructuralElement actual, int depth) {
+        assertEquals(expected.getType(), actual.getType());
+        assertEquals(expected.getLabel(), actual.getLabel());
+        assertEquals(expected.getOrder(), actual.getOrder());
+        assertEquals(expected.getOrderlabel(), actual.getOrderlabel());
+        assertEquals(expected.getContentIds(), actual.getContentIds());
+        assertEquals(expected.getLink(), actual.getLink());
+        assertEquals(expected.getMetadata(), actual.getMetadata());
+        if (depth > 1) {
+            assertEquals(expected.getChildren().size(), actual.getChildren().size());
+            for (int i = 0; i < expected.getChildren().size(); i++) {
+                assertLogicalStructureEquals(expected.getChildren().get(i), actual.getChildren().get(i), depth - 1);
+            }
+        } else {
+            assertTrue(actual.getChildren().isEmpty());
+        }
+    }
+
+    private static Workpiece rereadWithJaxb(Workpiece workpiece) throws Exception {
+        MetsXmlElementAccess metsXmlElementAccess = new MetsXmlElementAccess();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        metsXmlElementAccess.saveWithJaxb(workpiece, out);
+        return metsXmlElementAccess.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    private static Workpiece rereadStreamed(Workpiece workpiece) throws Exception {
+        MetsXmlElementAccess metsXmlElementAccess = new MetsXmlElementAccess();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        metsXmlElementAccess.save(workpiece, out);
+        return metsXmlElementAccess.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    /**
+     * Creates a workpiece with 5000 pages in two media variants, which are
+     * divided into chapters of 100 pages each.
+     */
+    private static Workpiece createLargeWorkpiece() throws Exception {
+        Workpiece workpiece = new Workpiece();
+        workpiece.setId("large");
+        workpiece.getRootElement().setType("monograph");
+        MetadataEntry title = new MetadataEntry();
+        title.setKey("TitleDocMain");
+        title.setDomain(MdSec.DMD_SEC);
+        title.setValue("A large workpiece");
+        workpiece.getRootElement().getMetadata().add(title);
+
+        MediaVariant local = new MediaVariant();
+        local.setUse("LOCAL");
+        local.setMimeType("image/tiff");
+        MediaVariant max = new MediaVariant();
+        max.setUse("MAX");
+        max.setMimeType("image/jpeg");
+        IncludedStructuralElement chapter = null;
+        for (int i = 1; i <= LARGE_WORKPIECE_PAGES; i++) {
+            MediaUnit page = new MediaUnit();
+            page.setType("page");
+            page.setOrder(i);
+            page.setOrderlabel(Integer.toString(i));
+            page.getMediaFiles().put(local, new URI(String.format("images/large_media/%08d.tif", i)));
+            page.getMediaFiles().put(max, new URI(String.format("images/max/%08d.jpg", i)));
+            workpiece.getMediaUnit().getChildren().add(page);
+
+            if (i % 100 == 1) {
+                chapter = new IncludedStructuralElement();
+                chapter.setType("chapter");
+                chapter.setOrder(i);
+                MetadataEntry chapterTitle = new MetadataEntry();
+                chapterTitle.setKey("TitleDocMain");
+                chapterTitle.setDomain(MdSec.DMD_SEC);
+                chapterTitle.setValue("Chapter " + (i / 100 + 1));
+                chapter.getMetadata().add(chapterTitle);
+                workpiece.getRootElement().getChildren().add(chapter);
+            }
+            View view = new View();
+            view.setMediaUnit(page);
+            chapter.getViews().add(view);
+            page.getIncludedStructuralElements().add(chapter);
+        }
+        return workpiece;
+    }
 }
@@ -14,12 +14,14 @@ package org.kitodo.data.database.beans;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.ForeignKey;
 import javax.persistence.JoinColumn;
@@ -30,6 +32,7 @@ import javax.persistence.OneToMany;
 import javax.persistence.Table;
 import javax.persistence.Transient;
 
+import org.kitodo.data.database.converter.MediaFileGroupsConverter;
 import org.kitodo.data.database.persistence.ProcessDAO;
 
 @Entity
@@ -48,6 +51,13 @@ public class Process extends BaseTemplateBean {
     @Column(name = "sortHelperDocstructs")
     private Integer sortHelperDocstructs;
 
+    @Column(name = "mediaSize")
+    private Long mediaSize;
+
+    @Column(name = "mediaFileGroups")
+    @Convert(converter = MediaFileGroupsConverter.class)
+    private Map<String, Integer> mediaFileGroups;
+
     @Column(name = "wikiField", columnDefinition = "longtext")
     private String wikiField = "";
 
@@ -198,6 +208,38 @@ public class Process extends BaseTemplateBean {
         this.sortHelperMetadata = sortHelperMetadata;
     }
 
+    /**
+     * Get the total size of the media files of the workpiece.
+     *
+     * @return size in bytes, in case of null it returns 0
+     */
+    public Long getMediaSize() {
+        if (this.mediaSize == null) {
+            this.mediaSize = 0L;
+        }
+        return this.mediaSize;
+    }
+
+    public void setMediaSize(Long mediaSize) {
+        this.mediaSize = mediaSize;
+    }
+
+    /**
+     * Get the numbers of media files of the workpiece by file group.
+     *
+     * @return numbers of media files by the USE of the file group
+     */
+    public Map<String, Integer> getMediaFileGroups() {
+        if (this.mediaFileGroups == null) {
+            this.mediaFileGroups = new LinkedHashMap<>();
+        }
+        return this.mediaFileGroups;
+    }
+
+    public void setMediaFileGroups(Map<String, Integer> mediaFileGroups) {
+        this.mediaFileGroups = mediaFileGroups;
+    }
+
     /**
      * Get wikiField.
      *
@@ -0,0 +1,62 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.database.converter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Stores the numbers of media files by file group in one column, for example
+ * "LOCAL=12;MAX=12".
+ */
+@Converter
+public class MediaFileGroupsConverter implements AttributeConverter<Map<String, Integer>, String> {
+
+    private static final String SEPARATOR = ";";
+    private static final String ASSIGNMENT = "=";
+
+    @Override
+    public String convertToDatabaseColumn(Map<String, Integer> mediaFileGroups) {
+        if (Objects.isNull(mediaFileGroups) || mediaFileGroups.isEmpty()) {
+            return null;
+        }
+        return mediaFileGroups.entrySet().stream().map(entry -> entry.getKey() + ASSIGNMENT + entry.getValue())
+                .collect(Collectors.joining(SEPARATOR));
+    }
+
+    @Override
+    public Map<String, Integer> convertToEntityAttribute(String mediaFileGroupsValue) {
+        Map<String, Integer> mediaFileGroups = new LinkedHashMap<>();
+        if (StringUtils.isBlank(mediaFileGroupsValue)) {
+            return mediaFileGroups;
+        }
+        for (String mediaFileGroup : mediaFileGroupsValue.split(SEPARATOR)) {
+            int assignment = mediaFileGroup.lastIndexOf(ASSIGNMENT);
+            if (assignment > 0) {
+                try {
+                    mediaFileGroups.put(mediaFileGroup.substring(0, assignment),
+                        Integer.valueOf(mediaFileGroup.substring(assignment + 1)));
+                } catch (NumberFormatException e) {
+                    // skip the damaged entry, it is written again with the next save
+                }
+            }
+        }
+        return mediaFileGroups;
+    }
+}
@@ -43,6 +43,16 @@ public class AuthorityDAO extends BaseDAO<Authority> {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public List<Authority> getAfterId(Integer lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId("FROM Authority WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Authority> getAllNotIndexedAfterId(Integer lastId, int size) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public void remove(Integer id) throws DAOException {
         removeObject(Authority.class, id);
@@ -35,6 +35,12 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
 
     private static final Object lockObject = new Object();
 
+    /**
+     * Maximum number of statements sent to the database together when a list
+     * of objects is stored.
+     */
+    private static final int JDBC_BATCH_SIZE = 50;
+
     /**
      * Retrieves a BaseBean identified by the given id from the database.
      *
@@ -75,6 +81,35 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
      */
     public abstract List<T> getAllNotIndexed(int offset, int size) throws DAOException;
 
+    /**
+     * Retrieves BaseBean objects with an id greater than the given one, ordered
+     * by id. Unlike {@link #getAll(int, int)}, the database does not have to
+     * skip the preceding rows, so reading the next batch costs the same no
+     * matter how far the caller has got, and rows inserted or deleted in the
+     * meantime do not shift the following batches.
+     *
+     * @param lastId
+     *            id of the last object of the previous batch, 0 to start from
+     *            the beginning
+     * @param size
+     *            amount of results
+     * @return list of persisted beans ordered by id
+     */
+    public abstract List<T> getAfterId(Integer lastId, int size) throws DAOException;
+
+    /**
+     * Retrieves not indexed BaseBean objects with an id greater than the given
+     * one, ordered by id.
+     *
+     * @param lastId
+     *            id of the last object of the previous batch, 0 to start from
+     *            the beginning
+     * @param size
+     *            amount of results
+     * @return list of persisted beans ordered by id
+     */
+    public abstract List<T> getAllNotIndexedAfterId(Integer lastId, int size) throws DAOException;
+
     /**
      * Saves a BaseBean object to the database.
      *
@@ -240,6 +275,31 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
         }
     }
 
+    /**
+     * Executes an update query, e.g. to change one column of several rows
+     * without loading and saving the objects.
+     *
+     * @param query
+     *            update query
+     * @param parameters
+     *            for query
+     * @return amount of updated rows
+     */
+    public int executeUpdate(String query, Map<String, Object> parameters) throws DAOException {
+        try (Session session = HibernateUtil.getSession()) {
+            Transaction transaction = session.beginTransaction();
+            synchronized (lockObject) {
+                Query<?> q = session.createQuery(query);
+                addParameters(q, parameters);
+                int updatedRows = q.executeUpdate();
+                transaction.commit();
+                return updatedRows;
+            }
+        } catch (PersistenceException e) {
+            throw new DAOException(e);
+        }
+    }
+
     /**
      * Removes the object from the database with with specified class type and
      * {@code id}.
@@ -321,6 +381,30 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
         }
     }
 
+    /**
+     * Retrieve objects by given query, which has to contain the parameter
+     * {@code lastId}, for maximum number of objects.
+     *
+     * @param query
+     *            string
+     * @param lastId
+     *            value for the parameter lastId
+     * @param max
+     *            amount of results
+     * @return constrained list of results
+     */
+    @SuppressWarnings("unchecked")
+    List<T> retrieveObjectsAfterId(String query, Integer lastId, int max) throws DAOException {
+        try (Session session = HibernateUtil.getSession()) {
+            Query<T> sessionQuery = session.createQuery(query);
+            sessionQuery.setParameter("lastId", lastId);
+            sessionQuery.setMaxResults(max);
+            return sessionQuery.list();
+        } catch (PersistenceException e) {
+            throw new DAOException(e);
+        }
+    }
+
     /**
      * Retrieve all objects fro given class.
      *
@@ -360,13 +444,16 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
     }
 
     /**
-     * Store given list of objects.
+     * Store given list of objects in one transaction. Updates are sent to the
+     * database in JDBC batches. Inserts are not, because the ids are generated
+     * by the database.
      *
      * @param list
      *            of objects
      */
     void storeList(List<T> list) throws DAOException {
         try (Session session = HibernateUtil.getSession()) {
+            session.setJdbcBatchSize(JDBC_BATCH_SIZE);
             Transaction transaction = session.beginTransaction();
             for (Object obj : list) {
                 session.saveOrUpdate(obj);
@@ -42,6 +42,16 @@ public class ClientDAO extends BaseDAO<Client> {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public List<Client> getAfterId(Integer lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId("FROM Client WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Client> getAllNotIndexedAfterId(Integer lastId, int size) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public void remove(Integer clientId) throws DAOException {
         removeObject(Client.class, clientId);
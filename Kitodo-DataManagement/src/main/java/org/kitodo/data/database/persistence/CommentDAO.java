@@ -44,6 +44,16 @@ public class CommentDAO extends BaseDAO<Comment> {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public List<Comment> getAfterId(Integer lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId("FROM Comment WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Comment> getAllNotIndexedAfterId(Integer lastId, int size) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public void remove(Integer commentId) throws DAOException {
         removeObject(Comment.class, commentId);
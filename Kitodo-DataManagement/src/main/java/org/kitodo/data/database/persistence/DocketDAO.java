@@ -43,6 +43,18 @@ public class DocketDAO extends BaseDAO<Docket> {
                 size);
     }
 
+    @Override
+    public List<Docket> getAfterId(Integer lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId("FROM Docket WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Docket> getAllNotIndexedAfterId(Integer lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId(
+            "FROM Docket WHERE (indexAction = 'INDEX' OR indexAction IS NULL) AND id > :lastId ORDER BY id ASC", lastId,
+            size);
+    }
+
     @Override
     public void remove(Integer docketId) throws DAOException {
         removeObject(Docket.class, docketId);
@@ -46,6 +46,18 @@ public class FilterDAO extends BaseDAO<Filter> {
                 size);
     }
 
+    @Override
+    public List<Filter> getAfterId(Integer lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId("FROM Filter WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Filter> getAllNotIndexedAfterId(Integer lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId(
+            "FROM Filter WHERE (indexAction = 'INDEX' OR indexAction IS NULL) AND id > :lastId ORDER BY id ASC", lastId,
+            size);
+    }
+
     @Override
     public void remove(Integer filterId) throws DAOException {
         removeObject(Filter.class, filterId);
@@ -42,6 +42,16 @@ public class FolderDAO extends BaseDAO<Folder> {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public List<Folder> getAfterId(Integer lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId("FROM Folder WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Folder> getAllNotIndexedAfterId(Integer lastId, int size) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public void remove(Integer id) throws DAOException {
         removeObject(Folder.class, id);
@@ -46,4 +46,14 @@ public class LdapGroupDAO extends BaseDAO<LdapGroup> {
     public List<LdapGroup> getAllNotIndexed(int offset, int size) {
         throw new UnsupportedOperationException();
     }
+
+    @Override
+    public List<LdapGroup> getAfterId(Integer lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId("FROM LdapGroup WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<LdapGroup> getAllNotIndexedAfterId(Integer lastId, int size) {
+        throw new UnsupportedOperationException();
+    }
 }
@@ -46,4 +46,14 @@ public class LdapServerDAO extends BaseDAO<LdapServer> {
     public List<LdapServer> getAllNotIndexed(int offset, int size) {
         throw new UnsupportedOperationException();
     }
+
+    @Override
+    public List<LdapServer> getAfterId(Integer lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId("FROM LdapServer WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<LdapServer> getAllNotIndexedAfterId(Integer lastId, int size) {
+        throw new UnsupportedOperationException();
+    }
 }
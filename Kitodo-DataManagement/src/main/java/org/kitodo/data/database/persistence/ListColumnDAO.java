@@ -60,6 +60,16 @@ public class ListColumnDAO extends BaseDAO<ListColumn> {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public List<ListColumn> getAfterId(Integer lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId("FROM ListColumn WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<ListColumn> getAllNotIndexedAfterId(Integer lastId, int size) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public void remove(Integer listColumnId) throws DAOException {
         removeObject(ListColumn.class, listColumnId);
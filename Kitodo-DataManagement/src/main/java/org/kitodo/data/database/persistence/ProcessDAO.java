@@ -13,6 +13,10 @@ package org.kitodo.data.database.persistence;
 
 import java.util.List;
 
+import javax.persistence.PersistenceException;
+
+import org.hibernate.Session;
+import org.hibernate.query.Query;
 import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.exceptions.DAOException;
 
@@ -43,6 +47,18 @@ public class ProcessDAO extends BaseDAO<Process> {
             offset, size);
     }
 
+    @Override
+    public List<Process> getAfterId(Integer lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId("FROM Process WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Process> getAllNotIndexedAfterId(Integer lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId(
+            "FROM Process WHERE (indexAction = 'INDEX' OR indexAction IS NULL) AND id > :lastId ORDER BY id ASC", lastId,
+            size);
+    }
+
     /**
      * Save process with regard to its progress.
      *
@@ -72,6 +88,27 @@ public class ProcessDAO extends BaseDAO<Process> {
         storeList(list);
     }
 
+    /**
+     * Get the ids of the processes of a project, without loading the
+     * processes.
+     *
+     * @param projectId
+     *            id of the project
+     * @return ids of the processes of the project
+     * @throws DAOException
+     *             if the query fails
+     */
+    public List<Integer> getIdsOfProject(Integer projectId) throws DAOException {
+        try (Session session = HibernateUtil.getSession()) {
+            Query<Integer> query = session.createQuery(
+                "SELECT id FROM Process WHERE project.id = :projectId ORDER BY id ASC", Integer.class);
+            query.setParameter("projectId", projectId);
+            return query.list();
+        } catch (PersistenceException e) {
+            throw new DAOException(e);
+        }
+    }
+
     @Override
     public void remove(Integer id) throws DAOException {
         removeObject(Process.class, id);
@@ -43,6 +43,18 @@ public class ProjectDAO extends BaseDAO<Project> {
             offset, size);
     }
 
+    @Override
+    public List<Project> getAfterId(Integer lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId("FROM Project WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Project> getAllNotIndexedAfterId(Integer lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId(
+            "FROM Project WHERE (indexAction = 'INDEX' OR indexAction IS NULL) AND id > :lastId ORDER BY id ASC", lastId,
+            size);
+    }
+
     @Override
     public void remove(Integer id) throws DAOException {
         removeObject(Project.class, id);
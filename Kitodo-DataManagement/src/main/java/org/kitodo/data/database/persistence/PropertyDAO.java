@@ -48,6 +48,18 @@ public class PropertyDAO extends BaseDAO<Property> {
             offset, size);
     }
 
+    @Override
+    public List<Property> getAfterId(Integer lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId("FROM Property WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Property> getAllNotIndexedAfterId(Integer lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId(
+            "FROM Property WHERE (indexAction = 'INDEX' OR indexAction IS NULL) AND id > :lastId ORDER BY id ASC", lastId,
+            size);
+    }
+
     @Override
     public void remove(Integer propertyId) throws DAOException {
         removeObject(Property.class, propertyId);
@@ -43,6 +43,18 @@ public class RulesetDAO extends BaseDAO<Ruleset> {
             offset, size);
     }
 
+    @Override
+    public List<Ruleset> getAfterId(Integer lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId("FROM Ruleset WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Ruleset> getAllNotIndexedAfterId(Integer lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId(
+            "FROM Ruleset WHERE (indexAction = 'INDEX' OR indexAction IS NULL) AND id > :lastId ORDER BY id ASC", lastId,
+            size);
+    }
+
     @Override
     public void remove(Integer rulesetId) throws DAOException {
         removeObject(Ruleset.class, rulesetId);
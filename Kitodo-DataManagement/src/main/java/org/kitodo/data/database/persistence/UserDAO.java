@@ -45,6 +45,16 @@ public class UserDAO extends BaseDAO<User> {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public List<User> getAfterId(Integer lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId("FROM User WHERE deleted = 0 AND id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<User> getAllNotIndexedAfterId(Integer lastId, int size) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public void remove(User user) throws DAOException {
         user.selfDestruct();
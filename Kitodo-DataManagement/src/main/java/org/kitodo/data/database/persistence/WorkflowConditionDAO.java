@@ -42,6 +42,16 @@ public class WorkflowConditionDAO extends BaseDAO<WorkflowCondition> {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public List<WorkflowCondition> getAfterId(Integer lastId, int size) throws DAOException {
+        return retrieveObjectsAfterId("FROM WorkflowCondition WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<WorkflowCondition> getAllNotIndexedAfterId(Integer lastId, int size) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public void remove(Integer id) throws DAOException {
         removeObject(WorkflowCondition.class, id);
@@ -20,8 +20,8 @@ import org.kitodo.config.ConfigMain;
  */
 public abstract class Index {
 
-    protected String index;
-    protected String type;
+    protected final String index;
+    protected final String type;
 
     /**
      * Constructor with type names equal to table names.
@@ -32,7 +32,7 @@ public abstract class Index {
     public Index(Class<?> beanClass) {
         Table table = beanClass.getAnnotation(Table.class);
         this.index = ConfigMain.getParameter("elasticsearch.index", "kitodo");
-        this.setType(table.name());
+        this.type = table.name();
     }
 
     /**
@@ -43,7 +43,7 @@ public abstract class Index {
      */
     public Index(String type) {
         this.index = ConfigMain.getParameter("elasticsearch.index", "kitodo");
-        this.setType(type);
+        this.type = type;
     }
 
     /**
@@ -54,14 +54,4 @@ public abstract class Index {
     public String getType() {
         return type;
     }
-
-    /**
-     * Setter for type.
-     *
-     * @param type
-     *            - equal to the name of table in database, but not necessary
-     */
-    public void setType(String type) {
-        this.type = type;
-    }
 }
@@ -12,8 +12,15 @@
 package org.kitodo.data.elasticsearch;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
 
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonReader;
 import javax.ws.rs.HttpMethod;
 
 import org.apache.http.HttpEntity;
@@ -45,60 +52,71 @@ public abstract class KitodoRestClient implements RestClientInterface {
 
     private static final Logger logger = LogManager.getLogger(KitodoRestClient.class);
 
-    protected String index;
-    protected RestClient client;
-    protected RestHighLevelClient highLevelClient;
+    protected static final String SETTINGS = "settings";
+    protected static final String NUMBER_OF_SHARDS = "number_of_shards";
+    protected static final String NUMBER_OF_REPLICAS = "number_of_replicas";
+    protected static final String REFRESH_INTERVAL = "refresh_interval";
+
+    protected final String index;
+    protected final RestClient client;
+    protected final RestHighLevelClient highLevelClient;
 
     /**
-     * Create REST client.
-     *
+     * Connection pool shared by all REST clients. It is created on first use.
      */
-    protected void initiateClient() {
-        String host = ConfigMain.getParameter("elasticsearch.host", "localhost");
-        int port = ConfigMain.getIntParameter("elasticsearch.port", 9200);
-        String protocol = ConfigMain.getParameter("elasticsearch.protocol", "http");
-        initiateClient(host, port, protocol);
+    private static final class SharedClient {
+        private static final RestClient CLIENT = createClient();
+        private static final RestHighLevelClient HIGH_LEVEL_CLIENT = new RestHighLevelClient(CLIENT);
+
+        private SharedClient() {
+        }
     }
 
     /**
-     * Create REST client with other without basic authentication.
+     * Constructor for a REST client of the given index. The clients don't
+     * change after they are created and use one shared connection pool, so
+     * they can be used by several threads at once.
      *
-     * @param host
-     *            default host is localhost
-     * @param port
-     *            default port ist 9200
-     * @param protocol
-     *            default protocol is http
+     * @param index
+     *            name of the index, equal to the name of database, default
+     *            kitodo
      */
-    private void initiateClient(String host, Integer port, String protocol) {
-        if (ConfigMain.getBooleanParameter("elasticsearch.useAuthentication")) {
-            initiateClientWithAuth(host, port, protocol);
-        } else {
-            client = RestClient.builder(new HttpHost(host, port, protocol)).build();
-            highLevelClient = new RestHighLevelClient(client);
-        }
+    protected KitodoRestClient(String index) {
+        this.index = index;
+        this.client = SharedClient.CLIENT;
+        this.highLevelClient = SharedClient.HIGH_LEVEL_CLIENT;
     }
 
     /**
-     * Create REST client with basic authentication.
+     * Create REST client with or without basic authentication. The number of
+     * connections in the pool can be configured with
+     * "elasticsearch.maxConnections", as all requests go to one host.
      *
-     * @param host
-     *            default host is localhost
-     * @param port
-     *            default port ist 9200
-     * @param protocol
-     *            default protocol is http
+     * @return REST client
      */
-    private void initiateClientWithAuth(String host, Integer port, String protocol) {
-        String user = ConfigMain.getParameter("elasticsearch.user", "elastic");
-        String password = ConfigMain.getParameter("elasticsearch.password", "changeme");
+    private static RestClient createClient() {
+        String host = ConfigMain.getParameter("elasticsearch.host", "localhost");
+        int port = ConfigMain.getIntParameter("elasticsearch.port", 9200);
+        String protocol = ConfigMain.getParameter("elasticsearch.protocol", "http");
+        int maxConnections = ConfigMain.getIntParameter("elasticsearch.maxConnections", 30);
 
-        final CredentialsProvider credentialsProvider = new BasicCredentialsProvider();
-        credentialsProvider.setCredentials(AuthScope.ANY, new UsernamePasswordCredentials(user, password));
+        final CredentialsProvider credentialsProvider;
+        if (ConfigMain.getBooleanParameter("elasticsearch.useAuthentication")) {
+            String user = ConfigMain.getParameter("elasticsearch.user", "elastic");
+            String password = ConfigMain.getParameter("elasticsearch.password", "changeme");
+            credentialsProvider = new BasicCredentialsProvider();
+            credentialsProvider.setCredentials(AuthScope.ANY, new UsernamePasswordCredentials(user, password));
+        } else {
+            credentialsProvider = null;
+        }
 
-        client = RestClient.builder(new HttpHost(host, port, protocol)).setHttpClientConfigCallback(
-            httpClientBuilder -> httpClientBuilder.setDefaultCredentialsProvider(credentialsProvider)).build();
-        highLevelClient = new RestHighLevelClient(client);
+        return RestClient.builder(new HttpHost(host, port, protocol)).setHttpClientConfigCallback(httpClientBuilder -> {
+            httpClientBuilder.setMaxConnTotal(maxConnections).setMaxConnPerRoute(maxConnections);
+            if (Objects.nonNull(credentialsProvider)) {
+                httpClientBuilder.setDefaultCredentialsProvider(credentialsProvider);
+            }
+            return httpClientBuilder;
+        }).build();
     }
 
     /**
@@ -140,7 +158,8 @@ public abstract class KitodoRestClient implements RestClientInterface {
     }
 
     /**
-     * Create new index with mapping.
+     * Create new index with mapping. If the mapping contains no settings, the
+     * numbers of shards and replicas configured are used.
      *
      * @param query
      *            contains mapping
@@ -148,15 +167,48 @@ public abstract class KitodoRestClient implements RestClientInterface {
      *         success
      */
     public boolean createIndex(String query) throws IOException, CustomResponseException {
-        if (query == null) {
-            query = "{\"settings\" : {\"index\" : {\"number_of_shards\" : 1,\"number_of_replicas\" : 0}}}";
+        return createIndex(index, query, getIndexSettings());
+    }
+
+    /**
+     * Create new index with the given name, mapping and settings. Settings
+     * contained in the mapping take precedence.
+     *
+     * @param name
+     *            name of the index
+     * @param query
+     *            contains mapping, may be null
+     * @param settings
+     *            settings of the index
+     * @return true or false - can be used for displaying information to user if
+     *         success
+     */
+    protected boolean createIndex(String name, String query, JsonObject settings)
+            throws IOException, CustomResponseException {
+        JsonObjectBuilder indexQuery = Json.createObjectBuilder().add(SETTINGS, settings);
+        if (Objects.nonNull(query)) {
+            try (JsonReader jsonReader = Json.createReader(new StringReader(query))) {
+                jsonReader.readObject().forEach(indexQuery::add);
+            }
         }
-        HttpEntity entity = new NStringEntity(query, ContentType.APPLICATION_JSON);
-        Response indexResponse = client.performRequest(HttpMethod.PUT, "/" + index, Collections.emptyMap(), entity);
+        HttpEntity entity = new NStringEntity(indexQuery.build().toString(), ContentType.APPLICATION_JSON);
+        Response indexResponse = client.performRequest(HttpMethod.PUT, "/" + name, Collections.emptyMap(), entity);
         int statusCode = processStatusCode(indexResponse.getStatusLine());
         return statusCode == 200 || statusCode == 201;
     }
 
+    /**
+     * Get the settings of new indexes. The numbers of shards and replicas can
+     * be configured with "elasticsearch.shards" and "elasticsearch.replicas".
+     *
+     * @return settings of new indexes
+     */
+    protected JsonObject getIndexSettings() {
+        return Json.createObjectBuilder().add("index", Json.createObjectBuilder()
+                .add(NUMBER_OF_SHARDS, ConfigMain.getIntParameter("elasticsearch.shards", 1))
+                .add(NUMBER_OF_REPLICAS, ConfigMain.getIntParameter("elasticsearch.replicas", 0))).build();
+    }
+
     /**
      * Check if index already exists. Needed for frontend.
      *
@@ -169,29 +221,45 @@ public abstract class KitodoRestClient implements RestClientInterface {
     }
 
     /**
-     * Delete the whole index. Used for cleaning after tests!
+     * Delete the whole index. Used for cleaning after tests! If the index name
+     * is an alias, the indexes it points to are deleted.
      */
     public void deleteIndex() throws IOException {
-        client.performRequest(HttpMethod.DELETE, "/" + index);
+        Set<String> aliasedIndexes = getIndexesOfAlias();
+        if (aliasedIndexes.isEmpty()) {
+            client.performRequest(HttpMethod.DELETE, "/" + index);
+        } else {
+            client.performRequest(HttpMethod.DELETE, "/" + String.join(",", aliasedIndexes));
+        }
     }
 
     /**
-     * Getter for index.
+     * Get the names of the indexes the index name points to, if it is an
+     * alias. An index rebuilt without interruption is addressed by an alias.
      *
-     * @return index name
+     * @return names of the indexes, empty if the index name is not an alias
      */
-    public String getIndex() {
-        return index;
+    public Set<String> getIndexesOfAlias() throws IOException {
+        try {
+            Response response = client.performRequest(HttpMethod.GET, "/_alias/" + index);
+            try (JsonReader jsonReader = Json.createReader(new StringReader(EntityUtils.toString(response.getEntity())))) {
+                return jsonReader.readObject().keySet();
+            }
+        } catch (ResponseException e) {
+            if (e.getResponse().getStatusLine().getStatusCode() == 404) {
+                return Collections.emptySet();
+            }
+            throw e;
+        }
     }
 
     /**
-     * Setter for index.
+     * Getter for index.
      *
-     * @param index
-     *            - equal to the name of database, default kitodo
+     * @return index name
      */
-    public void setIndex(String index) {
-        this.index = index;
+    public String getIndex() {
+        return index;
     }
 
     protected void handleResponseException(ResponseException e) throws CustomResponseException {
@@ -12,23 +12,36 @@
 package org.kitodo.data.elasticsearch.index;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
 import javax.ws.rs.HttpMethod;
 
 import org.apache.http.HttpEntity;
 import org.apache.http.entity.ContentType;
 import org.apache.http.nio.entity.NStringEntity;
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.bulk.BulkItemResponse;
 import org.elasticsearch.action.bulk.BulkRequest;
 import org.elasticsearch.action.bulk.BulkResponse;
 import org.elasticsearch.action.delete.DeleteRequest;
 import org.elasticsearch.action.index.IndexRequest;
 import org.elasticsearch.action.index.IndexResponse;
 import org.elasticsearch.action.support.WriteRequest;
+import org.elasticsearch.action.update.UpdateRequest;
 import org.elasticsearch.client.Response;
 import org.elasticsearch.client.ResponseException;
+import org.elasticsearch.rest.RestStatus;
+import org.kitodo.config.ConfigMain;
 import org.kitodo.data.elasticsearch.KitodoRestClient;
 import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
 import org.kitodo.data.exceptions.DataException;
@@ -39,32 +52,45 @@ import org.kitodo.data.exceptions.DataException;
 public class IndexRestClient extends KitodoRestClient {
 
     /**
-     * IndexRestClient singleton.
+     * IndexRestClient instances by the names of their indexes.
      */
-    private static volatile IndexRestClient instance = null;
-    private final Object lock = new Object();
+    private static final Map<String, IndexRestClient> instances = new ConcurrentHashMap<>();
 
-    private IndexRestClient() {
+    /**
+     * Name of the new version of the index while it is built, otherwise null.
+     */
+    private volatile String newIndex = null;
+
+    /**
+     * IDs of the documents deleted while the new version of the index is
+     * built, by type. They are deleted from the new version again before it
+     * is used, as loading may have written them after they were deleted.
+     */
+    private final Map<String, Set<Integer>> deletedWhileBuilding = new ConcurrentHashMap<>();
+
+    private IndexRestClient(String index) {
+        super(index);
     }
 
     /**
-     * Return singleton variable of type IndexRestClient.
+     * Return the IndexRestClient of the index configured by
+     * "elasticsearch.index".
      *
-     * @return unique instance of IndexRestClient
+     * @return unique instance of IndexRestClient for the configured index
      */
     public static IndexRestClient getInstance() {
-        IndexRestClient localReference = instance;
-        if (Objects.isNull(localReference)) {
-            synchronized (IndexRestClient.class) {
-                localReference = instance;
-                if (Objects.isNull(localReference)) {
-                    localReference = new IndexRestClient();
-                    localReference.initiateClient();
-                    instance = localReference;
-                }
-            }
-        }
-        return localReference;
+        return getInstance(ConfigMain.getParameter("elasticsearch.index", "kitodo"));
+    }
+
+    /**
+     * Return the IndexRestClient of the given index.
+     *
+     * @param index
+     *            name of the index
+     * @return unique instance of IndexRestClient for the index
+     */
+    public static IndexRestClient getInstance(String index) {
+        return instances.computeIfAbsent(index, IndexRestClient::new);
     }
 
     /**
@@ -90,6 +116,12 @@ public class IndexRestClient extends KitodoRestClient {
 
         IndexResponse indexResponse = highLevelClient.index(indexRequest);
         processStatusCode(indexResponse.status());
+
+        String newVersion = this.newIndex;
+        if (Objects.nonNull(newVersion)) {
+            processStatusCode(highLevelClient.index(new IndexRequest(newVersion, type, String.valueOf(id))
+                    .source(entity)).status());
+        }
     }
 
     /**
@@ -102,12 +134,28 @@ public class IndexRestClient extends KitodoRestClient {
      *            list of json documents to the index
      */
     void addTypeSync(String type, Map<Integer, Map<String, Object>> documentsToIndex) throws CustomResponseException {
-        BulkRequest bulkRequest = prepareBulkRequest(type, documentsToIndex);
+        performBulkRequest(prepareBulkRequest(getTargetIndexes(), type, documentsToIndex));
+    }
+
+    /**
+     * Add list of documents to the index while the whole index is built. If a
+     * new version of the index is built, they are only added to the new
+     * version. It performs synchronous request.
+     *
+     * @param type
+     *            for which request is performed
+     * @param documentsToIndex
+     *            list of json documents to the index
+     */
+    void loadTypeSync(String type, Map<Integer, Map<String, Object>> documentsToIndex) throws CustomResponseException {
+        performBulkRequest(prepareLoadRequest(type, documentsToIndex));
+    }
 
+    private void performBulkRequest(BulkRequest bulkRequest) throws CustomResponseException {
         try {
-            BulkResponse bulkResponse = highLevelClient.bulk(bulkRequest);
-            if (bulkResponse.hasFailures()) {
-                throw new CustomResponseException(bulkResponse.buildFailureMessage());
+            String failureMessage = ResponseListener.getFailureMessage(highLevelClient.bulk(bulkRequest));
+            if (Objects.nonNull(failureMessage)) {
+                throw new CustomResponseException(failureMessage);
             }
         } catch (IOException e) {
             throw new CustomResponseException(e);
@@ -116,7 +164,8 @@ public class IndexRestClient extends KitodoRestClient {
 
     /**
      * Add list of documents to the index. This method will be used for add whole
-     * table to the index. It performs asynchronous request.
+     * table to the index. If a new version of the index is built, they are only
+     * added to the new version. It performs asynchronous request.
      *
      * @param type
      *            for which request is performed
@@ -124,20 +173,53 @@ public class IndexRestClient extends KitodoRestClient {
      *            list of json documents to the index
      */
     void addTypeAsync(String type, Map<Integer, Map<String, Object>> documentsToIndex) {
-        BulkRequest bulkRequest = prepareBulkRequest(type, documentsToIndex);
+        BulkRequest bulkRequest = prepareLoadRequest(type, documentsToIndex);
 
         ResponseListener responseListener = new ResponseListener(type, documentsToIndex.size());
         highLevelClient.bulkAsync(bulkRequest, responseListener);
 
-        synchronized (lock) {
-            while (Objects.isNull(responseListener.getBulkResponse())) {
-                try {
-                    lock.wait(1000);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    break;
+        try {
+            responseListener.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Update some fields of the documents with the given ids in one bulk
+     * request. The other fields of the documents are kept, so the documents
+     * don't need to be created again. Documents which don't exist in the index
+     * are skipped.
+     *
+     * @param type
+     *            for which request is performed
+     * @param ids
+     *            of the documents to update
+     * @param fields
+     *            new values of the fields, mapped by their keys
+     */
+    void updateDocuments(String type, Collection<Integer> ids, Map<String, Object> fields)
+            throws CustomResponseException {
+        BulkRequest bulkRequest = new BulkRequest();
+        for (String targetIndex : getTargetIndexes()) {
+            for (Integer id : ids) {
+                bulkRequest.add(new UpdateRequest(targetIndex, type, String.valueOf(id)).doc(fields).retryOnConflict(3));
+            }
+        }
+
+        try {
+            BulkResponse bulkResponse = highLevelClient.bulk(bulkRequest);
+            StringBuilder failureMessage = new StringBuilder();
+            for (BulkItemResponse item : bulkResponse.getItems()) {
+                if (item.isFailed() && item.getFailure().getStatus() != RestStatus.NOT_FOUND) {
+                    failureMessage.append("\n[").append(item.getId()).append("]: ").append(item.getFailureMessage());
                 }
             }
+            if (failureMessage.length() > 0) {
+                throw new CustomResponseException("failure in bulk update:" + failureMessage);
+            }
+        } catch (IOException e) {
+            throw new CustomResponseException(e);
         }
     }
 
@@ -153,17 +235,22 @@ public class IndexRestClient extends KitodoRestClient {
      *            object is right after that available for display
      */
     void deleteDocument(String type, Integer id, boolean forceRefresh) throws CustomResponseException, DataException {
-        DeleteRequest deleteRequest = new DeleteRequest(this.index, type, String.valueOf(id));
-        if (forceRefresh) {
-            deleteRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+        if (Objects.nonNull(this.newIndex)) {
+            deletedWhileBuilding.computeIfAbsent(type, key -> ConcurrentHashMap.newKeySet()).add(id);
         }
+        for (String targetIndex : getTargetIndexes()) {
+            DeleteRequest deleteRequest = new DeleteRequest(targetIndex, type, String.valueOf(id));
+            if (forceRefresh && targetIndex.equals(this.index)) {
+                deleteRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+            }
 
-        try {
-            highLevelClient.delete(deleteRequest);
-        } catch (ResponseException e) {
-            handleResponseException(e);
-        }  catch (IOException e) {
-            throw new DataException(e);
+            try {
+                highLevelClient.delete(deleteRequest);
+            } catch (ResponseException e) {
+                handleResponseException(e);
+            }  catch (IOException e) {
+                throw new DataException(e);
+            }
         }
     }
 
@@ -185,12 +272,151 @@ public class IndexRestClient extends KitodoRestClient {
         processStatusCode(indexResponse.getStatusLine());
     }
 
-    private BulkRequest prepareBulkRequest(String type, Map<Integer, Map<String, Object>> documentsToIndex) {
-        BulkRequest bulkRequest = new BulkRequest();
+    /**
+     * Start to build a new version of the index with the given mapping. While
+     * it is built, searches use the current version, changed objects are
+     * written to both versions, and the documents of the objects added by
+     * loadTypeSync() and addTypeAsync() only to the new version. Loading
+     * doesn't overwrite documents which were written by a change in the
+     * meantime, as they are newer. It has no replicas and is not refreshed
+     * until it is finished, which speeds up loading.
+     *
+     * @param mapping
+     *            mapping of the new version
+     * @return name of the new version of the index
+     */
+    public String startNewIndexVersion(String mapping) throws IOException, CustomResponseException {
+        String name = this.index + "_" + System.currentTimeMillis();
+        JsonObject settings = Json.createObjectBuilder().add("index", Json.createObjectBuilder()
+                .add(NUMBER_OF_SHARDS, ConfigMain.getIntParameter("elasticsearch.shards", 1))
+                .add(NUMBER_OF_REPLICAS, 0)
+                .add(REFRESH_INTERVAL, "-1")).build();
+        if (!createIndex(name, mapping, settings)) {
+            throw new CustomResponseException("New version " + name + " of index could not be created");
+        }
+        deletedWhileBuilding.clear();
+        this.newIndex = name;
+        return name;
+    }
+
+    /**
+     * Finish the new version of the index. The documents deleted while it was
+     * built are deleted from it again, its settings are restored and it is
+     * refreshed, then the index name is switched to it in one step and the
+     * previous version is deleted. If the index name was no alias before,
+     * the index of this name is deleted in the same step.
+     */
+    public void finishNewIndexVersion() throws IOException, CustomResponseException {
+        String name = this.newIndex;
+        if (Objects.isNull(name)) {
+            throw new IllegalStateException("No new version of the index is built");
+        }
+        BulkRequest deleteRequest = new BulkRequest();
+        for (Map.Entry<String, Set<Integer>> deleted : deletedWhileBuilding.entrySet()) {
+            for (Integer id : deleted.getValue()) {
+                deleteRequest.add(new DeleteRequest(name, deleted.getKey(), String.valueOf(id)));
+            }
+        }
+        if (deleteRequest.numberOfActions() > 0) {
+            performBulkRequest(deleteRequest);
+        }
+        JsonObject settings = Json.createObjectBuilder().add("index", Json.createObjectBuilder()
+                .add(NUMBER_OF_REPLICAS, ConfigMain.getIntParameter("elasticsearch.replicas", 0))
+                .add(REFRESH_INTERVAL, "1s")).build();
+        processStatusCode(client.performRequest(HttpMethod.PUT, "/" + name + "/_settings", Collections.emptyMap(),
+            new NStringEntity(settings.toString(), ContentType.APPLICATION_JSON)).getStatusLine());
+        processStatusCode(client.performRequest(HttpMethod.POST, "/" + name + "/_refresh").getStatusLine());
+
+        Set<String> previousVersions = getIndexesOfAlias();
+        JsonArrayBuilder actions = Json.createArrayBuilder();
+        if (previousVersions.isEmpty() && isExistingIndex()) {
+            actions.add(Json.createObjectBuilder().add("remove_index",
+                Json.createObjectBuilder().add("index", this.index)));
+        }
+        for (String previousVersion : previousVersions) {
+            actions.add(Json.createObjectBuilder().add("remove", Json.createObjectBuilder()
+                    .add("index", previousVersion).add("alias", this.index)));
+        }
+        actions.add(Json.createObjectBuilder().add("add", Json.createObjectBuilder()
+                .add("index", name).add("alias", this.index)));
+        String query = Json.createObjectBuilder().add("actions", actions).build().toString();
+        processStatusCode(client.performRequest(HttpMethod.POST, "/_aliases", Collections.emptyMap(),
+            new NStringEntity(query, ContentType.APPLICATION_JSON)).getStatusLine());
+        this.newIndex = null;
+        deletedWhileBuilding.clear();
+
+        if (!previousVersions.isEmpty()) {
+            client.performRequest(HttpMethod.DELETE, "/" + String.join(",", previousVersions));
+        }
+    }
+
+    /**
+     * Cancel the new version of the index and delete it. The current version
+     * stays in use.
+     */
+    public void cancelNewIndexVersion() throws IOException {
+        String name = this.newIndex;
+        this.newIndex = null;
+        deletedWhileBuilding.clear();
+        if (Objects.nonNull(name)) {
+            client.performRequest(HttpMethod.DELETE, "/" + name);
+        }
+    }
 
+    /**
+     * Get the name of the new version of the index while it is built.
+     *
+     * @return name of the new version, null if none is built
+     */
+    public String getNewIndexVersion() {
+        return newIndex;
+    }
+
+    private boolean isExistingIndex() throws IOException, CustomResponseException {
+        try {
+            return indexExists();
+        } catch (ResponseException e) {
+            if (e.getResponse().getStatusLine().getStatusCode() == 404) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private List<String> getTargetIndexes() {
+        String newVersion = this.newIndex;
+        return Objects.isNull(newVersion) ? Collections.singletonList(this.index)
+                : Arrays.asList(this.index, newVersion);
+    }
+
+    /**
+     * Prepare the request to load documents while the whole index is built.
+     * If a new version of the index is built, the documents are only created
+     * in it, documents which were written by a change in the meantime are
+     * kept.
+     */
+    private BulkRequest prepareLoadRequest(String type, Map<Integer, Map<String, Object>> documentsToIndex) {
+        String newVersion = this.newIndex;
+        if (Objects.isNull(newVersion)) {
+            return prepareBulkRequest(Collections.singletonList(this.index), type, documentsToIndex);
+        }
+        BulkRequest bulkRequest = new BulkRequest();
         for (Map.Entry<Integer, Map<String, Object>> entry : documentsToIndex.entrySet()) {
-            IndexRequest indexRequest = new IndexRequest(this.index, type, String.valueOf(entry.getKey()));
-            bulkRequest.add(indexRequest.source(entry.getValue()));
+            bulkRequest.add(new IndexRequest(newVersion, type, String.valueOf(entry.getKey()))
+                    .opType(DocWriteRequest.OpType.CREATE).source(entry.getValue()));
+        }
+        return bulkRequest;
+    }
+
+    private BulkRequest prepareBulkRequest(List<String> targetIndexes, String type,
+            Map<Integer, Map<String, Object>> documentsToIndex) {
+        BulkRequest bulkRequest = new BulkRequest();
+
+        for (String targetIndex : targetIndexes) {
+            for (Map.Entry<Integer, Map<String, Object>> entry : documentsToIndex.entrySet()) {
+                IndexRequest indexRequest = new IndexRequest(targetIndex, type, String.valueOf(entry.getKey()));
+                bulkRequest.add(indexRequest.source(entry.getValue()));
+            }
         }
 
         return bulkRequest;
@@ -12,11 +12,10 @@
 package org.kitodo.data.elasticsearch.index;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
-import javax.ws.rs.HttpMethod;
-
 import org.kitodo.data.database.beans.BaseIndexedBean;
 import org.kitodo.data.elasticsearch.Index;
 import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
@@ -28,9 +27,6 @@ import org.kitodo.data.exceptions.DataException;
  */
 public class Indexer<T extends BaseIndexedBean, S extends BaseType> extends Index {
 
-    private String method;
-    private static final String INCORRECT_HTTP = "Incorrect HTTP method!";
-
     /**
      * Constructor for indexer with type names equal to table names.
      *
@@ -52,10 +48,10 @@ public class Indexer<T extends BaseIndexedBean, S extends BaseType> extends Inde
     }
 
     /**
-     * Perform request depending on given parameters of HTTP Method.
+     * Add or update the document of the given bean.
      *
      * @param baseIndexedBean
-     *            bean object which will be added or deleted from index
+     *            bean object which will be added to index
      * @param baseType
      *            type on which will be called method createDocument()
      * @param forceRefresh
@@ -64,37 +60,33 @@ public class Indexer<T extends BaseIndexedBean, S extends BaseType> extends Inde
      */
     @SuppressWarnings("unchecked")
     public void performSingleRequest(T baseIndexedBean, S baseType, boolean forceRefresh)
-            throws CustomResponseException, DataException, IOException {
-        IndexRestClient restClient = initiateRestClient();
-
-        if (method.equals(HttpMethod.PUT)) {
-            Map<String, Object> document = baseType.createDocument(baseIndexedBean);
-            restClient.addDocument(this.type, document, baseIndexedBean.getId(), forceRefresh);
-        } else if (method.equals(HttpMethod.DELETE)) {
-            restClient.deleteDocument(this.type, baseIndexedBean.getId(), forceRefresh);
-        } else {
-            throw new CustomResponseException(INCORRECT_HTTP);
-        }
-
+            throws CustomResponseException, IOException {
+        Map<String, Object> document = baseType.createDocument(baseIndexedBean);
+        getRestClient().addDocument(this.type, document, baseIndexedBean.getId(), forceRefresh);
     }
 
     /**
-     * Perform delete request depending on given id of the bean.
+     * Delete the document of the bean with the given id.
      *
      * @param beanId
-     *            response from the server
+     *            id of the bean whose document is deleted
      * @param forceRefresh
      *            force index refresh - if true, time of execution is longer but
      *            object is right after that available for display
      */
-    public void performSingleRequest(Integer beanId, boolean forceRefresh) throws CustomResponseException, DataException {
-        IndexRestClient restClient = initiateRestClient();
+    public void performDeleteRequest(Integer beanId, boolean forceRefresh)
+            throws CustomResponseException, DataException {
+        getRestClient().deleteDocument(this.type, beanId, forceRefresh);
+    }
 
-        if (method.equals(HttpMethod.DELETE)) {
-            restClient.deleteDocument(this.type, beanId, forceRefresh);
-        } else {
-            throw new CustomResponseException(INCORRECT_HTTP);
-        }
+    /**
+     * Delete the document of the bean with the given id.
+     *
+     * @param beanId
+     *            id of the bean whose document is deleted
+     */
+    public void performDeleteRequest(Integer beanId) throws CustomResponseException, DataException {
+        performDeleteRequest(beanId, false);
     }
 
     /**
@@ -106,44 +98,55 @@ public class Indexer<T extends BaseIndexedBean, S extends BaseType> extends Inde
      *            type on which will be called method createDocument()
      */
     @SuppressWarnings("unchecked")
-    public void performMultipleRequests(List<T> baseIndexedBeans, S baseType, boolean async) throws CustomResponseException {
-        IndexRestClient restClient = initiateRestClient();
-
-        if (method.equals(HttpMethod.PUT)) {
-            Map<Integer, Map<String, Object>> documents = baseType.createDocuments(baseIndexedBeans);
-            if (async) {
-                restClient.addTypeAsync(this.type, documents);
-            } else {
-                restClient.addTypeSync(this.type, documents);
-            }
+    public void performMultipleRequests(List<T> baseIndexedBeans, S baseType, boolean async)
+            throws CustomResponseException {
+        Map<Integer, Map<String, Object>> documents = baseType.createDocuments(baseIndexedBeans);
+        if (async) {
+            getRestClient().addTypeAsync(this.type, documents);
         } else {
-            throw new CustomResponseException(INCORRECT_HTTP);
+            getRestClient().addTypeSync(this.type, documents);
         }
     }
 
-    private IndexRestClient initiateRestClient() {
-        IndexRestClient restClient = IndexRestClient.getInstance();
-        restClient.setIndex(index);
-        return restClient;
+    /**
+     * Add already created documents to the index in one synchronous bulk
+     * request.
+     *
+     * @param documents
+     *            documents to add, mapped by the ids of their beans
+     */
+    public void performBulkRequest(Map<Integer, Map<String, Object>> documents) throws CustomResponseException {
+        getRestClient().addTypeSync(this.type, documents);
     }
 
     /**
-     * Get type of method which will be used during performing request.
+     * Add already created documents to the index in one synchronous bulk
+     * request while the whole index is built. If a new version of the index
+     * is built, the documents are only added to the new version.
      *
-     * @return method for request
+     * @param documents
+     *            documents to add, mapped by the ids of their beans
      */
-    public String getMethod() {
-        return method;
+    public void performBulkLoadRequest(Map<Integer, Map<String, Object>> documents) throws CustomResponseException {
+        getRestClient().loadTypeSync(this.type, documents);
     }
 
     /**
-     * Set up type of method which will be used during performing request.
+     * Update some fields of already indexed documents in one bulk request,
+     * without creating the documents again. Documents which don't exist are
+     * skipped.
      *
-     * @param method
-     *            Determines if we want to add (update) or delete document - true
-     *            add, false delete
+     * @param beanIds
+     *            ids of the beans whose documents are updated
+     * @param fields
+     *            new values of the fields, mapped by their keys
      */
-    public void setMethod(String method) {
-        this.method = method;
+    public void performPartialUpdate(Collection<Integer> beanIds, Map<String, Object> fields)
+            throws CustomResponseException {
+        getRestClient().updateDocuments(this.type, beanIds, fields);
+    }
+
+    private IndexRestClient getRestClient() {
+        return IndexRestClient.getInstance(index);
     }
 }
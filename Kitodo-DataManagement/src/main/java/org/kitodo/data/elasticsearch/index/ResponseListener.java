@@ -11,18 +11,24 @@
 
 package org.kitodo.data.elasticsearch.index;
 
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.action.bulk.BulkItemResponse;
 import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.rest.RestStatus;
 
 public class ResponseListener implements ActionListener<BulkResponse> {
 
     private static final Logger logger = LogManager.getLogger(ResponseListener.class);
 
-    private String type;
-    private int batchSize;
-    private BulkResponse bulkResponse = null;
+    private final String type;
+    private final int batchSize;
+    private final CountDownLatch done = new CountDownLatch(1);
+    private volatile BulkResponse bulkResponse = null;
 
     /**
      * Constructor with information about type and size of batch.
@@ -40,9 +46,11 @@ public class ResponseListener implements ActionListener<BulkResponse> {
     @Override
     public void onResponse(BulkResponse bulkResponse) {
         this.bulkResponse = bulkResponse;
-        if (bulkResponse.hasFailures()) {
-            logger.error(bulkResponse.buildFailureMessage());
+        String failureMessage = getFailureMessage(bulkResponse);
+        if (Objects.nonNull(failureMessage)) {
+            logger.error(failureMessage);
         }
+        done.countDown();
     }
 
     @Override
@@ -50,6 +58,40 @@ public class ResponseListener implements ActionListener<BulkResponse> {
         // TODO: add error handling
         logger.error("I got failure for type '{}' with size {}!", this.type, this.batchSize);
         logger.error(e.getMessage(), e);
+        done.countDown();
+    }
+
+    /**
+     * Wait until the response or the failure is received.
+     *
+     * @throws InterruptedException
+     *             if the current thread is interrupted while waiting
+     */
+    void await() throws InterruptedException {
+        done.await();
+    }
+
+    /**
+     * Get the failure message of a bulk response. Documents which were not
+     * created because they exist already are no failure, as they are only
+     * created while a new version of the index is built, and the existing
+     * documents are newer.
+     *
+     * @param bulkResponse
+     *            response of the bulk request
+     * @return the failure message, null if there are no failures
+     */
+    static String getFailureMessage(BulkResponse bulkResponse) {
+        if (!bulkResponse.hasFailures()) {
+            return null;
+        }
+        StringBuilder failureMessage = new StringBuilder();
+        for (BulkItemResponse item : bulkResponse.getItems()) {
+            if (item.isFailed() && item.getFailure().getStatus() != RestStatus.CONFLICT) {
+                failureMessage.append("\n[").append(item.getId()).append("]: ").append(item.getFailureMessage());
+            }
+        }
+        return failureMessage.length() > 0 ? "failure in bulk execution:" + failureMessage : null;
     }
 
     /**
@@ -47,6 +47,8 @@ public class ProcessType extends BaseType<Process> {
         jsonObject.put(ProcessTypeField.SORT_HELPER_STATUS.getKey(), preventNull(process.getSortHelperStatus()));
         jsonObject.put(ProcessTypeField.SORT_HELPER_IMAGES.getKey(), process.getSortHelperImages());
         jsonObject.put(ProcessTypeField.SORT_HELPER_METADATA.getKey(), process.getSortHelperMetadata());
+        jsonObject.put(ProcessTypeField.MEDIA_SIZE.getKey(), process.getMediaSize());
+        jsonObject.put(ProcessTypeField.MEDIA_FILE_GROUPS.getKey(), new HashMap<>(process.getMediaFileGroups()));
         jsonObject.put(ProcessTypeField.PROCESS_BASE_URI.getKey(), processBaseUri);
         jsonObject.put(ProcessTypeField.TEMPLATE_ID.getKey(), getId(process.getTemplate()));
         jsonObject.put(ProcessTypeField.TEMPLATE_TITLE.getKey(), getTitle(process.getTemplate()));
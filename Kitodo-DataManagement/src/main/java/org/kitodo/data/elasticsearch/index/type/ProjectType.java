@@ -21,7 +21,10 @@ import org.kitodo.data.database.beans.Project;
 import org.kitodo.data.elasticsearch.index.type.enums.ProjectTypeField;
 
 /**
- * Implementation of Project Type.
+ * Implementation of Project Type. The processes of a project are not part of
+ * its document, as the document would have to be written again whenever a
+ * process is saved. They are found by the project id of the process
+ * documents.
  */
 public class ProjectType extends BaseType<Project> {
 
@@ -46,7 +49,6 @@ public class ProjectType extends BaseType<Project> {
         jsonObject.put(ProjectTypeField.NUMBER_OF_VOLUMES.getKey(), preventNull(project.getNumberOfVolumes()));
         jsonObject.put(ProjectTypeField.METS_RIGTS_OWNER.getKey(), project.getMetsRightsOwner());
         jsonObject.put(ProjectTypeField.ACTIVE.getKey(), project.isActive());
-        jsonObject.put(ProjectTypeField.PROCESSES.getKey(), addObjectRelation(project.getProcesses(), true));
         jsonObject.put(ProjectTypeField.TEMPLATES.getKey(), addObjectRelation(project.getTemplates(), true));
         jsonObject.put(ProjectTypeField.USERS.getKey(), addObjectRelation(project.getUsers(), true));
         jsonObject.put(ProjectTypeField.CLIENT_ID.getKey(), getId(project.getClient()));
@@ -22,6 +22,8 @@ public enum ProcessTypeField implements TypeInterface {
     SORT_HELPER_IMAGES("sortHelperImages"),
     SORT_HELPER_METADATA("sortHelperMetadata"),
     SORT_HELPER_STATUS("sortHelperStatus"),
+    MEDIA_SIZE("mediaSize"),
+    MEDIA_FILE_GROUPS("mediaFileGroups"),
     PROCESS_BASE_URI("processBaseUri"),
     TEMPLATE_ID("template.id"),
     TEMPLATE_TITLE("template.title"),
@@ -21,6 +21,10 @@ public enum ProjectTypeField implements TypeInterface {
     NUMBER_OF_VOLUMES("numberOfVolumes"),
     METS_RIGTS_OWNER("metsRightsOwner"),
     ACTIVE("active"),
+    /**
+     * No longer part of the documents, only used to remove it from documents
+     * indexed before.
+     */
     PROCESSES("processes"),
     TEMPLATES("templates"),
     USERS("users"),
@@ -60,6 +60,23 @@ interface TypeInterface {
         }
     }
 
+    /**
+     * Get long value from given json object. The index returns numbers as
+     * Integer or Long, depending on their size.
+     *
+     * @param jsonObject
+     *            returned from ElasticSearch index
+     * @return long value for given json
+     */
+    default long getLongValue(Map<String, Object> jsonObject) throws DataException {
+        try {
+            return ((Number) jsonObject.get(this.toString())).longValue();
+        } catch (ClassCastException | NullPointerException e) {
+            throw new DataException("Not possible to retrieve long value for key " + this.toString()
+                    + ". Exception: " + e.getMessage());
+        }
+    }
+
     /**
      * Get String value from given json object.
      * 
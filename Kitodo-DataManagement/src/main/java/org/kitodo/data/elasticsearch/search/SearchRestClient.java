@@ -12,10 +12,20 @@
 package org.kitodo.data.elasticsearch.search;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.ws.rs.HttpMethod;
 
@@ -23,18 +33,27 @@ import org.apache.http.HttpEntity;
 import org.apache.http.entity.ContentType;
 import org.apache.http.nio.entity.NStringEntity;
 import org.apache.http.util.EntityUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.elasticsearch.action.get.GetRequest;
 import org.elasticsearch.action.get.GetResponse;
+import org.elasticsearch.action.search.ClearScrollRequest;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.action.search.SearchScrollRequest;
 import org.elasticsearch.client.Response;
 import org.elasticsearch.client.ResponseException;
+import org.elasticsearch.common.unit.TimeValue;
 import org.elasticsearch.index.query.QueryBuilder;
+import org.elasticsearch.search.SearchHit;
 import org.elasticsearch.search.SearchHits;
 import org.elasticsearch.search.aggregations.AggregationBuilder;
 import org.elasticsearch.search.aggregations.Aggregations;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.elasticsearch.search.fetch.subphase.FetchSourceContext;
 import org.elasticsearch.search.sort.SortBuilder;
+import org.elasticsearch.search.sort.SortBuilders;
+import org.kitodo.config.ConfigMain;
 import org.kitodo.data.elasticsearch.KitodoRestClient;
 import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
 import org.kitodo.data.exceptions.DataException;
@@ -44,32 +63,38 @@ import org.kitodo.data.exceptions.DataException;
  */
 public class SearchRestClient extends KitodoRestClient {
 
+    private static final Logger logger = LogManager.getLogger(SearchRestClient.class);
+    private static final int SCROLL_PAGE_SIZE = 1000;
+    private static final TimeValue SCROLL_KEEP_ALIVE = TimeValue.timeValueMinutes(5);
+
     /**
-     * SearchRestClient singleton.
+     * SearchRestClient instances by the names of their indexes.
      */
-    private static volatile SearchRestClient instance = null;
+    private static final Map<String, SearchRestClient> instances = new ConcurrentHashMap<>();
 
-    private SearchRestClient() {
+    private SearchRestClient(String index) {
+        super(index);
     }
 
     /**
-     * Return singleton variable of type SearchRestClient.
+     * Return the SearchRestClient of the index configured by
+     * "elasticsearch.index".
      *
-     * @return unique instance of SearchRestClient
+     * @return unique instance of SearchRestClient for the configured index
      */
     public static SearchRestClient getInstance() {
-        SearchRestClient localReference = instance;
-        if (Objects.isNull(localReference)) {
-            synchronized (SearchRestClient.class) {
-                localReference = instance;
-                if (Objects.isNull(localReference)) {
-                    localReference = new SearchRestClient();
-                    localReference.initiateClient();
-                    instance = localReference;
-                }
-            }
-        }
-        return localReference;
+        return getInstance(ConfigMain.getParameter("elasticsearch.index", "kitodo"));
+    }
+
+    /**
+     * Return the SearchRestClient of the given index.
+     *
+     * @param index
+     *            name of the index
+     * @return unique instance of SearchRestClient for the index
+     */
+    public static SearchRestClient getInstance(String index) {
+        return instances.computeIfAbsent(index, SearchRestClient::new);
     }
 
     /**
@@ -130,8 +155,27 @@ public class SearchRestClient extends KitodoRestClient {
      * @return http entity as String
      */
     Map<String, Object> getDocument(String type, Integer id) throws CustomResponseException, DataException {
+        return getDocument(type, id, null);
+    }
+
+    /**
+     * Get only the given fields of a document by id.
+     *
+     * @param type
+     *            for which request is performed
+     * @param id
+     *            of searched document
+     * @param fields
+     *            fields of the document source to return, null for all
+     * @return http entity as String
+     */
+    Map<String, Object> getDocument(String type, Integer id, String[] fields)
+            throws CustomResponseException, DataException {
         try {
             GetRequest getRequest = new GetRequest(this.index, type, String.valueOf(id));
+            if (Objects.nonNull(fields)) {
+                getRequest.fetchSourceContext(new FetchSourceContext(true, fields, null));
+            }
             GetResponse getResponse = highLevelClient.get(getRequest);
             if (getResponse.isExists()) {
                 Map<String, Object> response = getResponse.getSourceAsMap();
@@ -192,6 +236,128 @@ public class SearchRestClient extends KitodoRestClient {
         }
     }
 
+    /**
+     * Get the ids of all documents matching the query. The sources of the
+     * documents are not fetched and the documents are read page by page with
+     * a scroll, so the result is not limited in size.
+     *
+     * @param type
+     *            for which request is performed
+     * @param query
+     *            to find the documents
+     * @param sort
+     *            sort condition, null to get the ids in index order
+     * @return ids of the found documents
+     */
+    List<Integer> getDocumentIds(String type, QueryBuilder query, SortBuilder sort)
+            throws CustomResponseException, DataException {
+        try (Stream<SearchHit> hits = streamDocuments(type, query, sort, false)) {
+            return hits.map(hit -> Integer.valueOf(hit.getId())).collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw new DataException(e.getCause());
+        }
+    }
+
+    /**
+     * Stream all documents matching the query. The documents are read page by
+     * page with a scroll while the stream is consumed, so only one page is
+     * held in memory and the result is not limited in size. The stream must be
+     * closed to release the scroll. If reading a following page fails, the
+     * stream throws an UncheckedIOException.
+     *
+     * @param type
+     *            for which request is performed
+     * @param query
+     *            to find the documents
+     * @param sort
+     *            sort condition, null to get the documents in index order
+     * @param fetchSource
+     *            whether the sources of the documents are read
+     * @return stream of search hits
+     */
+    Stream<SearchHit> streamDocuments(String type, QueryBuilder query, SortBuilder sort, boolean fetchSource)
+            throws CustomResponseException, DataException {
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+        sourceBuilder.query(query);
+        sourceBuilder.fetchSource(fetchSource);
+        sourceBuilder.sort(Objects.nonNull(sort) ? sort : SortBuilders.fieldSort("_doc"));
+        sourceBuilder.size(SCROLL_PAGE_SIZE);
+
+        SearchRequest searchRequest = new SearchRequest(this.index);
+        searchRequest.types(type);
+        searchRequest.source(sourceBuilder);
+        searchRequest.scroll(SCROLL_KEEP_ALIVE);
+
+        try {
+            ScrollIterator scrollIterator = new ScrollIterator(highLevelClient.search(searchRequest));
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(scrollIterator, Spliterator.ORDERED), false)
+                    .onClose(scrollIterator::close);
+        } catch (ResponseException e) {
+            handleResponseException(e);
+            return Stream.empty();
+        } catch (IOException e) {
+            throw new DataException(e);
+        }
+    }
+
+    /**
+     * Iterates over the hits of a scroll and fetches the next page when the
+     * hits of the current page are used up.
+     */
+    private class ScrollIterator implements Iterator<SearchHit> {
+        private String scrollId;
+        private SearchHit[] hits;
+        private int position = 0;
+
+        ScrollIterator(SearchResponse response) {
+            this.scrollId = response.getScrollId();
+            this.hits = response.getHits().getHits();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (position < hits.length) {
+                return true;
+            }
+            if (hits.length == 0) {
+                return false;
+            }
+            try {
+                SearchScrollRequest scrollRequest = new SearchScrollRequest(scrollId);
+                scrollRequest.scroll(SCROLL_KEEP_ALIVE);
+                SearchResponse response = highLevelClient.searchScroll(scrollRequest);
+                scrollId = response.getScrollId();
+                hits = response.getHits().getHits();
+                position = 0;
+            } catch (IOException e) {
+                hits = new SearchHit[0];
+                throw new UncheckedIOException(e);
+            }
+            return hits.length > 0;
+        }
+
+        @Override
+        public SearchHit next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return hits[position++];
+        }
+
+        void close() {
+            if (Objects.nonNull(scrollId)) {
+                ClearScrollRequest clearScrollRequest = new ClearScrollRequest();
+                clearScrollRequest.addScrollId(scrollId);
+                try {
+                    highLevelClient.clearScroll(clearScrollRequest);
+                } catch (IOException e) {
+                    logger.warn("Scroll could not be cleared: " + e.getMessage());
+                }
+                scrollId = null;
+            }
+        }
+    }
+
     private String performRequest(String type, HttpEntity entity, String httpMethod, String urlRequest)
             throws CustomResponseException, DataException {
         String output = "";
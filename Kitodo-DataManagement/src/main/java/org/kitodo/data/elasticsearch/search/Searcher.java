@@ -14,9 +14,12 @@ package org.kitodo.data.elasticsearch.search;
 import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import javax.json.Json;
 import javax.json.JsonObject;
@@ -116,6 +119,22 @@ public class Searcher extends Index {
         return restClient.getDocument(this.type, id);
     }
 
+    /**
+     * Find document by id and return only the given fields. Used to read
+     * single values of large documents.
+     *
+     * @param id
+     *            of searched document
+     * @param fields
+     *            fields of the document to return
+     * @return JSONObject
+     */
+    public Map<String, Object> findDocument(Integer id, String... fields)
+            throws CustomResponseException, DataException {
+        SearchRestClient restClient = initiateRestClient();
+        return restClient.getDocument(this.type, id, fields);
+    }
+
     /**
      * Find document by query. It returns only first found document (last
      * inserted!).
@@ -210,9 +229,59 @@ public class Searcher extends Index {
         return searchResults;
     }
 
+    /**
+     * Find the ids of all documents matching the query. Only the ids are
+     * read, and in contrast to findDocuments() the number of results is not
+     * limited.
+     *
+     * @param query
+     *            as QueryBuilder
+     * @return set of ids
+     */
+    public Set<Integer> findDocumentIds(QueryBuilder query) throws CustomResponseException, DataException {
+        return new LinkedHashSet<>(findDocumentIds(query, null));
+    }
+
+    /**
+     * Find the ids of all documents matching the query in the order of the
+     * sort condition. The number of results is not limited.
+     *
+     * @param query
+     *            as QueryBuilder
+     * @param sort
+     *            as SortBuilder
+     * @return list of ids
+     */
+    public List<Integer> findDocumentIds(QueryBuilder query, SortBuilder sort)
+            throws CustomResponseException, DataException {
+        SearchRestClient restClient = initiateRestClient();
+        return restClient.getDocumentIds(this.type, query, sort);
+    }
+
+    /**
+     * Stream all documents matching the query in the order of the sort
+     * condition. The documents are read page by page while the stream is
+     * consumed, so the number of results is not limited and memory use does
+     * not grow with it. The stream must be closed after use, e.g. with
+     * try-with-resources.
+     *
+     * @param query
+     *            as QueryBuilder
+     * @param sort
+     *            as SortBuilder
+     * @return stream of JSON objects
+     */
+    public Stream<Map<String, Object>> streamDocuments(QueryBuilder query, SortBuilder sort)
+            throws CustomResponseException, DataException {
+        SearchRestClient restClient = initiateRestClient();
+        return restClient.streamDocuments(this.type, query, sort, true).map(hit -> {
+            Map<String, Object> result = hit.getSourceAsMap();
+            result.put("id", hit.getId());
+            return result;
+        });
+    }
+
     private SearchRestClient initiateRestClient() {
-        SearchRestClient restClient = SearchRestClient.getInstance();
-        restClient.setIndex(index);
-        return restClient;
+        return SearchRestClient.getInstance(index);
     }
 }
@@ -0,0 +1,19 @@
+--
+-- (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+--
+-- This file is part of the Kitodo project.
+--
+-- It is licensed under GNU General Public License version 3 or later.
+--
+-- For the full copyright and license information, please read the
+-- GPL3-License.txt file that was distributed with this source code.
+--
+
+--
+-- Migration: Add media statistics to process. They are filled when the
+-- metadata file of a process is saved the next time.
+--
+
+ALTER TABLE process
+    ADD COLUMN mediaSize BIGINT DEFAULT NULL,
+    ADD COLUMN mediaFileGroups VARCHAR(255) DEFAULT NULL;
@@ -0,0 +1,90 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.database.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.kitodo.data.database.beans.Batch;
+import org.kitodo.data.database.enums.IndexAction;
+import org.kitodo.data.database.exceptions.DAOException;
+
+public class BatchDaoIT {
+
+    private static final int AMOUNT = 3000;
+    private static final int BATCH_SIZE = 100;
+
+    private static final BatchDAO batchDAO = new BatchDAO();
+
+    @BeforeClass
+    public static void prepareDatabase() throws DAOException {
+        for (int i = 1; i <= AMOUNT; i++) {
+            Batch batch = new Batch();
+            batch.setTitle("batch_" + i);
+            batch.setIndexAction(i % 3 == 0 ? IndexAction.DONE : IndexAction.INDEX);
+            batchDAO.save(batch);
+        }
+    }
+
+    @AfterClass
+    public static void cleanDatabase() throws DAOException {
+        batchDAO.executeUpdate("DELETE FROM Batch", Collections.emptyMap());
+    }
+
+    @Test
+    public void shouldReadAllObjectsAfterId() throws DAOException {
+        Set<Integer> ids = new HashSet<>();
+        int reads = 1;
+        int lastId = 0;
+        List<Batch> batches = batchDAO.getAfterId(lastId, BATCH_SIZE);
+        while (!batches.isEmpty()) {
+            if (ids.size() + BATCH_SIZE <= AMOUNT) {
+                assertEquals("Incorrect amount of objects in batch!", BATCH_SIZE, batches.size());
+            }
+            for (Batch batch : batches) {
+                assertTrue("Objects are not ordered by id!", batch.getId() > lastId);
+                assertTrue("Object was read twice!", ids.add(batch.getId()));
+                lastId = batch.getId();
+            }
+            batches = batchDAO.getAfterId(lastId, BATCH_SIZE);
+            reads++;
+        }
+
+        assertEquals("Not all objects were read!", AMOUNT, ids.size());
+        assertEquals("Incorrect amount of reads!", AMOUNT / BATCH_SIZE + 1, reads);
+    }
+
+    @Test
+    public void shouldReadNotIndexedObjectsAfterId() throws DAOException {
+        int count = 0;
+        int lastId = 0;
+        List<Batch> batches = batchDAO.getAllNotIndexedAfterId(lastId, BATCH_SIZE);
+        while (!batches.isEmpty()) {
+            for (Batch batch : batches) {
+                assertEquals("Indexed object was read!", IndexAction.INDEX, batch.getIndexAction());
+                count++;
+            }
+            lastId = batches.get(batches.size() - 1).getId();
+            batches = batchDAO.getAllNotIndexedAfterId(lastId, BATCH_SIZE);
+        }
+
+        assertEquals("Not all not indexed objects were read!", AMOUNT - AMOUNT / 3, count);
+    }
+}
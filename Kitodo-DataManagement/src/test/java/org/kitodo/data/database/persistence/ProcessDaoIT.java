@@ -0,0 +1,111 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.database.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.stat.Statistics;
+import org.junit.Test;
+import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.exceptions.DAOException;
+
+public class ProcessDaoIT {
+
+    private final ProcessDAO processDAO = new ProcessDAO();
+
+    @Test
+    public void shouldPersistStatistics() throws DAOException {
+        Map<String, Integer> mediaFileGroups = new LinkedHashMap<>();
+        mediaFileGroups.put("LOCAL", 12);
+        mediaFileGroups.put("MAX", 11);
+
+        Process process = new Process();
+        process.setTitle("statistics");
+        process.setSortHelperImages(12);
+        process.setSortHelperDocstructs(4);
+        process.setSortHelperMetadata(23);
+        process.setMediaSize(5_000_000_000L);
+        process.setMediaFileGroups(mediaFileGroups);
+        processDAO.save(process);
+        processDAO.evict(process);
+
+        Process savedProcess = processDAO.getById(process.getId());
+        assertEquals("Number of images was not saved!", Integer.valueOf(12), savedProcess.getSortHelperImages());
+        assertEquals("Number of structural elements was not saved!", Integer.valueOf(4),
+            savedProcess.getSortHelperDocstructs());
+        assertEquals("Number of metadata was not saved!", Integer.valueOf(23), savedProcess.getSortHelperMetadata());
+        assertEquals("Media size was not saved!", Long.valueOf(5_000_000_000L), savedProcess.getMediaSize());
+        assertEquals("Media file groups were not saved!", mediaFileGroups, savedProcess.getMediaFileGroups());
+    }
+
+    @Test
+    public void shouldReturnEmptyStatisticsForNewProcess() throws DAOException {
+        Process process = new Process();
+        process.setTitle("without statistics");
+        processDAO.save(process);
+        processDAO.evict(process);
+
+        Process savedProcess = processDAO.getById(process.getId());
+        assertEquals("Media size is not zero!", Long.valueOf(0), savedProcess.getMediaSize());
+        assertTrue("Media file groups are not empty!", savedProcess.getMediaFileGroups().isEmpty());
+    }
+
+    @Test
+    public void shouldSaveList() throws DAOException {
+        Long numberOfProcesses = processDAO.count("SELECT COUNT(*) FROM Process");
+        Process parent = new Process();
+        parent.setTitle("parent");
+        processDAO.save(parent);
+
+        List<Process> processes = new ArrayList<>();
+        for (int i = 1; i <= 120; i++) {
+            Process process = new Process();
+            process.setTitle("child " + i);
+            process.setParent(parent);
+            processes.add(process);
+        }
+        processDAO.saveList(processes);
+        for (Process process : processes) {
+            process.setSortHelperImages(process.getId());
+        }
+
+        Statistics statistics = HibernateUtil.getSession().getSessionFactory().getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        processDAO.saveList(processes);
+        statistics.setStatisticsEnabled(false);
+        assertEquals("Processes were not updated in one transaction!", 1, statistics.getTransactionCount());
+        assertEquals("Not all processes were updated!", processes.size(), statistics.getEntityUpdateCount());
+        assertTrue("Updates were not sent in batches!",
+            statistics.getPrepareStatementCount() < processes.size());
+
+        for (Process process : processes) {
+            processDAO.evict(process);
+            Process savedProcess = processDAO.getById(process.getId());
+            assertEquals("Parent was not saved!", parent.getId(), savedProcess.getParent().getId());
+            assertEquals("Update was not saved!", process.getId(), savedProcess.getSortHelperImages());
+        }
+
+        for (Process process : processes) {
+            processDAO.remove(process.getId());
+        }
+        processDAO.remove(parent.getId());
+        assertEquals("Processes were not removed!", numberOfProcesses,
+            processDAO.count("SELECT COUNT(*) FROM Process"));
+    }
+}
@@ -11,9 +11,14 @@
 
 package org.kitodo.data.elasticsearch.index;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.elasticsearch.node.Node;
@@ -122,6 +127,87 @@ public class IndexRestClientIT {
         assertFalse("Delete of document has failed!", isFound(response));
     }
 
+    @Test
+    public void shouldUpdateDocuments() throws Exception {
+        restClient.addTypeSync(testTypeName, MockEntity.createEntities());
+
+        restClient.updateDocuments(testTypeName, Arrays.asList(1, 2, 100), Collections.singletonMap("title", "Updated"));
+
+        Map<String, Object> response = searcher.findDocument(1);
+        assertEquals("Title of document was not updated!", "Updated", response.get("title"));
+        assertEquals("Other field of document was changed!", 2, response.get("amount"));
+        response = searcher.findDocument(2);
+        assertEquals("Title of document was not updated!", "Updated", response.get("title"));
+        response = searcher.findDocument(3);
+        assertEquals("Title of other document was updated!", "Batch2", response.get("title"));
+        response = searcher.findDocument(100);
+        assertFalse("Update of missing document has added it!", isFound(response));
+    }
+
+    @Test
+    public void shouldBuildNewIndexVersion() throws Exception {
+        Map<Integer, Map<String, Object>> entities = MockEntity.createEntities();
+        restClient.addTypeSync(testTypeName, Collections.singletonMap(1, entities.get(1)));
+
+        String newVersion = restClient.startNewIndexVersion(null);
+        restClient.loadTypeSync(testTypeName, Collections.singletonMap(2, entities.get(2)));
+        restClient.addDocument(testTypeName, entities.get(3), 3, false);
+        assertTrue("Document disappeared from current version!", isFound(searcher.findDocument(1)));
+        assertFalse("Loaded document was added to current version!", isFound(searcher.findDocument(2)));
+        assertTrue("Changed document was not added to current version!", isFound(searcher.findDocument(3)));
+
+        restClient.finishNewIndexVersion();
+        assertNull("New version is still built!", restClient.getNewIndexVersion());
+        assertEquals("Index name does not point to new version!", Collections.singleton(newVersion),
+            restClient.getIndexesOfAlias());
+        assertFalse("Document of previous version was kept!", isFound(searcher.findDocument(1)));
+        assertTrue("Loaded document is missing!", isFound(searcher.findDocument(2)));
+        assertTrue("Changed document is missing!", isFound(searcher.findDocument(3)));
+
+        String nextVersion = restClient.startNewIndexVersion(null);
+        restClient.loadTypeSync(testTypeName, Collections.singletonMap(4, entities.get(4)));
+        restClient.finishNewIndexVersion();
+        assertEquals("Index name does not point to next version!", Collections.singleton(nextVersion),
+            restClient.getIndexesOfAlias());
+        assertTrue("Loaded document is missing!", isFound(searcher.findDocument(4)));
+        assertFalse("Document of previous version was kept!", isFound(searcher.findDocument(2)));
+    }
+
+    @Test
+    public void shouldKeepChangesWhileBuildingNewIndexVersion() throws Exception {
+        Map<Integer, Map<String, Object>> entities = MockEntity.createEntities();
+        restClient.addTypeSync(testTypeName, entities);
+
+        restClient.startNewIndexVersion(null);
+        Map<String, Object> changed = new HashMap<>(entities.get(1));
+        changed.put("title", "Changed");
+        restClient.addDocument(testTypeName, changed, 1, false);
+        restClient.deleteDocument(testTypeName, 2, false);
+        // documents read from the database before the change and the deletion
+        restClient.loadTypeSync(testTypeName, entities);
+        restClient.addTypeAsync(testTypeName, Collections.singletonMap(1, entities.get(1)));
+        restClient.finishNewIndexVersion();
+
+        assertEquals("Changed document was overwritten by loading!", "Changed",
+            searcher.findDocument(1).get("title"));
+        assertFalse("Deleted document was restored by loading!", isFound(searcher.findDocument(2)));
+        assertTrue("Loaded document is missing!", isFound(searcher.findDocument(3)));
+    }
+
+    @Test
+    public void shouldCancelNewIndexVersion() throws Exception {
+        Map<Integer, Map<String, Object>> entities = MockEntity.createEntities();
+        restClient.addTypeSync(testTypeName, Collections.singletonMap(1, entities.get(1)));
+
+        restClient.startNewIndexVersion(null);
+        restClient.loadTypeSync(testTypeName, Collections.singletonMap(2, entities.get(2)));
+        restClient.cancelNewIndexVersion();
+        assertNull("New version is still built!", restClient.getNewIndexVersion());
+        assertTrue("Index name became an alias!", restClient.getIndexesOfAlias().isEmpty());
+        assertTrue("Document disappeared from current version!", isFound(searcher.findDocument(1)));
+        assertFalse("Loaded document was added to current version!", isFound(searcher.findDocument(2)));
+    }
+
     @Test
     public void shouldGetServerInfo() throws Exception {
         System.out.println(restClient.getServerInformation());
@@ -129,9 +215,7 @@ public class IndexRestClientIT {
     }
 
     private static IndexRestClient initializeRestClient() {
-        IndexRestClient restClient = IndexRestClient.getInstance();
-        restClient.setIndex(testIndexName);
-        return restClient;
+        return IndexRestClient.getInstance(testIndexName);
     }
 
     private static boolean isFound(Map<String, Object> response) {
@@ -0,0 +1,103 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.elasticsearch.index;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.elasticsearch.node.Node;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.kitodo.config.ConfigMain;
+import org.kitodo.data.elasticsearch.MockEntity;
+import org.kitodo.data.elasticsearch.search.Searcher;
+
+/**
+ * Test class for indexing from many threads at once.
+ */
+public class IndexerIT {
+
+    private static final int THREADS = 16;
+    private static final int DOCUMENTS_PER_THREAD = 50;
+    private static final String TITLE = "title";
+    private static Node node;
+    private static String testIndexName;
+    private static String otherIndexName;
+    private static String testTypeName = "concurrent";
+
+    @BeforeClass
+    public static void startElasticSearch() throws Exception {
+        testIndexName = ConfigMain.getParameter("elasticsearch.index", "testindex");
+        otherIndexName = testIndexName + "_other";
+
+        node = MockEntity.prepareNode();
+        node.start();
+
+        IndexRestClient.getInstance(testIndexName).createIndex();
+        IndexRestClient.getInstance(otherIndexName).createIndex();
+    }
+
+    @AfterClass
+    public static void stopElasticSearch() throws Exception {
+        IndexRestClient.getInstance(testIndexName).deleteIndex();
+        IndexRestClient.getInstance(otherIndexName).deleteIndex();
+        node.close();
+    }
+
+    @Test
+    public void shouldIndexFromManyThreads() throws Exception {
+        Indexer<?, ?> indexer = new Indexer<>(testTypeName);
+        Searcher searcher = new Searcher(testTypeName);
+        IndexRestClient testIndexClient = IndexRestClient.getInstance(testIndexName);
+        IndexRestClient otherIndexClient = IndexRestClient.getInstance(otherIndexName);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> results = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            int firstId = thread * DOCUMENTS_PER_THREAD + 1;
+            results.add(executor.submit(() -> {
+                for (int id = firstId; id < firstId + DOCUMENTS_PER_THREAD; id++) {
+                    Map<String, Object> document = Collections.singletonMap(TITLE, "Document " + id);
+                    if (id % 4 == 0) {
+                        testIndexClient.addTypeAsync(testTypeName, Collections.singletonMap(id, document));
+                    } else if (id % 2 == 0) {
+                        indexer.performBulkRequest(Collections.singletonMap(id, document));
+                    } else {
+                        otherIndexClient.addDocument(testTypeName, document, id, false);
+                    }
+                    if (id % 2 == 0) {
+                        assertEquals("Document was not found right after indexing!", "Document " + id,
+                            searcher.findDocument(id).get(TITLE));
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> result : results) {
+            result.get();
+        }
+        executor.shutdown();
+
+        for (int id = 1; id <= THREADS * DOCUMENTS_PER_THREAD; id++) {
+            boolean inTestIndex = !searcher.findDocument(id).isEmpty();
+            assertEquals("Document " + id + " was written to the wrong index!", id % 2 == 0, inTestIndex);
+        }
+    }
+}
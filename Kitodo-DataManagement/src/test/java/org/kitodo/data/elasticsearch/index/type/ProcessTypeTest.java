@@ -20,6 +20,7 @@ import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -92,6 +93,8 @@ public class ProcessTypeTest {
         LocalDate localDate = LocalDate.of(2017, 1, 1);
         firstProcess.setCreationDate(Date.from(localDate.atStartOfDay().atZone(ZoneId.systemDefault()).toInstant()));
         firstProcess.setSortHelperImages(20);
+        firstProcess.setMediaSize(204800L);
+        firstProcess.setMediaFileGroups(Collections.singletonMap("LOCAL", 20));
         firstProcess.setBatches(batches);
         firstProcess.setTasks(tasks);
         firstProcess.setWikiField("Wiki");
@@ -146,6 +149,10 @@ public class ProcessTypeTest {
             ProcessTypeField.SORT_HELPER_DOCSTRUCTS.getIntValue(actual));
         assertEquals("Key sortHelperMetadata doesn't match to given value!", 0,
             ProcessTypeField.SORT_HELPER_METADATA.getIntValue(actual));
+        assertEquals("Key mediaSize doesn't match to given value!", 204800L,
+            ProcessTypeField.MEDIA_SIZE.getLongValue(actual));
+        assertEquals("Key mediaFileGroups doesn't match to given value!", Collections.singletonMap("LOCAL", 20),
+            actual.get(ProcessTypeField.MEDIA_FILE_GROUPS.getKey()));
         assertEquals("Key project.id doesn't match to given value!", 1,
             ProcessTypeField.PROJECT_ID.getIntValue(actual));
         assertEquals("Key project.title doesn't match to given value!", "Project",
@@ -284,7 +291,7 @@ public class ProcessTypeTest {
         Process process = prepareData().get(0);
         Map<String, Object> actual = processType.createDocument(process);
 
-        assertEquals("Amount of keys is incorrect!", 27, actual.keySet().size());
+        assertEquals("Amount of keys is incorrect!", 29, actual.keySet().size());
 
         List<Map<String, Object>> batches = ProcessTypeField.BATCHES.getJsonArray(actual);
         Map<String, Object> batch = batches.get(0);
@@ -96,14 +96,10 @@ public class SearchRestClientIT {
     }
 
     private static SearchRestClient initializeSearchRestClient() {
-        SearchRestClient restClient = SearchRestClient.getInstance();
-        restClient.setIndex(testIndexName);
-        return restClient;
+        return SearchRestClient.getInstance(testIndexName);
     }
 
     private static IndexRestClient initializeIndexRestClient() {
-        IndexRestClient restClient = IndexRestClient.getInstance();
-        restClient.setIndex(testIndexName);
-        return restClient;
+        return IndexRestClient.getInstance(testIndexName);
     }
 }
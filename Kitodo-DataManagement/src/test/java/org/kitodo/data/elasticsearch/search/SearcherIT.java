@@ -13,9 +13,17 @@ package org.kitodo.data.elasticsearch.search;
 
 import static org.awaitility.Awaitility.await;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
@@ -33,6 +41,7 @@ import org.junit.Test;
 import org.kitodo.config.ConfigMain;
 import org.kitodo.data.elasticsearch.MockEntity;
 import org.kitodo.data.elasticsearch.index.IndexRestClient;
+import org.kitodo.data.elasticsearch.index.Indexer;
 
 /**
  * Test class for Searcher.
@@ -45,6 +54,7 @@ public class SearcherIT {
     private static QueryBuilder query = QueryBuilders.matchAllQuery();
     private static Searcher searcher = new Searcher("testsearch");
     private static final String TITLE = "title";
+    private static final String AMOUNT = "amount";
     private static final String BATCH_ONE = "Batch1";
     private static final String WRONG_AMOUNT = "Incorrect result - amount doesn't match to given number!";
     private static final String WRONG_ID = "Incorrect result - id doesn't match to given int values!";
@@ -190,10 +200,51 @@ public class SearcherIT {
             getIdFromJSONObject(searcher.findDocuments(query, sort, 1, 2).get(1)).intValue()));
     }
 
+    @Test
+    public void shouldFindDocumentIdsBeyondResultSizeOfFindDocuments() throws Exception {
+        Searcher idSearcher = new Searcher("testids");
+        Map<Integer, Map<String, Object>> documents = new HashMap<>();
+        for (int id = 1; id <= 2500; id++) {
+            documents.put(id, Collections.singletonMap(AMOUNT, id % 2));
+        }
+        new Indexer<>("testids").performBulkRequest(documents);
+
+        await().untilAsserted(() -> assertEquals(WRONG_SIZE, 2500,
+            idSearcher.findDocumentIds(query).size()));
+        assertEquals(WRONG_SIZE, 1000, idSearcher.findDocuments(query).size());
+
+        Set<Integer> evenIds = idSearcher.findDocumentIds(QueryBuilders.termQuery(AMOUNT, 0));
+        assertEquals(WRONG_SIZE, 1250, evenIds.size());
+        assertTrue(WRONG_ID, evenIds.stream().allMatch(id -> id % 2 == 0));
+    }
+
+    @Test
+    public void shouldStreamDocumentsBeyondResultSizeOfFindDocuments() throws Exception {
+        Searcher streamSearcher = new Searcher("teststream");
+        Map<Integer, Map<String, Object>> documents = new HashMap<>();
+        for (int id = 1; id <= 2500; id++) {
+            documents.put(id, Collections.singletonMap(AMOUNT, id));
+        }
+        new Indexer<>("teststream").performBulkRequest(documents);
+        await().untilAsserted(() -> assertEquals(WRONG_SIZE, 2500,
+            streamSearcher.countDocuments(query).intValue()));
+
+        SortBuilder sort = new FieldSortBuilder(AMOUNT).order(SortOrder.DESC);
+        try (Stream<Map<String, Object>> stream = streamSearcher.streamDocuments(query, sort)) {
+            List<Map<String, Object>> streamed = stream.collect(Collectors.toList());
+            assertEquals(WRONG_SIZE, 2500, streamed.size());
+            for (int i = 0; i < streamed.size(); i++) {
+                assertEquals(WRONG_AMOUNT, 2500 - i, streamed.get(i).get(AMOUNT));
+                assertEquals(WRONG_ID, 2500 - i, getIdFromJSONObject(streamed.get(i)).intValue());
+            }
+        }
+
+        assertEquals(WRONG_ID, Arrays.asList(2500, 2499, 2498),
+            streamSearcher.findDocumentIds(query, sort).subList(0, 3));
+    }
+
     private static IndexRestClient initializeIndexRestClient() {
-        IndexRestClient restClient = IndexRestClient.getInstance();
-        restClient.setIndex(testIndexName);
-        return restClient;
+        return IndexRestClient.getInstance(testIndexName);
     }
 
     /**
@@ -23,6 +23,8 @@ import org.kitodo.serviceloader.KitodoServiceLoader;
 class CommandService {
 
     private Random random = new Random(1000000);
+    private final KitodoServiceLoader<CommandInterface> commandLoader = new KitodoServiceLoader<>(
+            CommandInterface.class);
 
     /**
      * Method executes a script string.
@@ -36,8 +38,7 @@ class CommandService {
         if (script == null) {
             return null;
         }
-        KitodoServiceLoader<CommandInterface> serviceLoader = new KitodoServiceLoader<>(CommandInterface.class);
-        CommandInterface command = serviceLoader.loadModule();
+        CommandInterface command = commandLoader.loadModule();
 
         CommandResult commandResult = command.runCommand(random.nextInt(), script);
         List<String> commandResultMessages = commandResult.getMessages();
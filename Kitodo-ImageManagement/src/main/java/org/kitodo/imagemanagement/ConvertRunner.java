@@ -16,6 +16,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
@@ -67,10 +68,28 @@ class ConvertRunner {
      *             if I/O fails
      */
     void run(IMOperation commandLine) throws IOException {
+        run(commandLine, null);
+    }
+
+    /**
+     * Executes the ImageMagick command using Apache Commons Exec. The standard
+     * output of the command is written to the given stream, so that an image
+     * written to the standard output does not need a temporary file.
+     *
+     * @param commandLine
+     *            command line to execute
+     * @param standardOutput
+     *            stream to write the standard output of the command to, may be
+     *            null to log it together with the error output
+     * @throws IOException
+     *             if I/O fails
+     */
+    void run(IMOperation commandLine, OutputStream standardOutput) throws IOException {
         Executor executor = new DefaultExecutor();
 
         OutputStream outAndErr = new ByteArrayOutputStream();
-        executor.setStreamHandler(new PumpStreamHandler(outAndErr));
+        executor.setStreamHandler(Objects.isNull(standardOutput) ? new PumpStreamHandler(outAndErr)
+                : new PumpStreamHandler(standardOutput, outAndErr));
 
         long timeoutMillis = 1000 * KitodoConfig.getIntParameter(ParameterImageManagement.TIMEOUT_SEC, DEFAULT_TIMEOUT_MINS);
         executor.setWatchdog(new ExecuteWatchdog(timeoutMillis));
@@ -13,11 +13,13 @@ package org.kitodo.imagemanagement;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -39,6 +41,11 @@ class ImageConverter {
      */
     private static final String FORMAT_OFF = "NULL:";
 
+    /**
+     * ImageMagick file name to write an image to the standard output.
+     */
+    private static final String STANDARD_OUTPUT = "-";
+
     /**
      * ImageMagick option {@code -units}. Note that {@code -units} must be set
      * <i>before</i> the operation whose value shall be interpreted in this
@@ -65,6 +72,11 @@ class ImageConverter {
      */
     private final Collection<FutureDerivative> results = new LinkedList<>();
 
+    /**
+     * Stream to which the result written to the standard output is passed.
+     */
+    private OutputStream outputStream;
+
     /**
      * Creates a new image conversion task.
      *
@@ -103,6 +115,28 @@ class ImageConverter {
         return futureDerivative;
     }
 
+    /**
+     * Defines a result of the conversion process which is written to an
+     * output stream. ImageMagick writes it to its standard output, from where
+     * it is passed to the stream. Only one result of a conversion can be
+     * written to a stream.
+     *
+     * @param outputStream
+     *            stream to write the result to
+     * @param resultFileFormat
+     *            image format to generate
+     * @return the conversion result object to define conversion properties
+     */
+    FutureDerivative addResult(OutputStream outputStream, ImageFileFormat resultFileFormat) {
+        if (Objects.nonNull(this.outputStream)) {
+            throw new IllegalStateException("Only one result can be written to an output stream");
+        }
+        this.outputStream = outputStream;
+        FutureDerivative futureDerivative = new FutureDerivative(STANDARD_OUTPUT, resultFileFormat);
+        results.add(futureDerivative);
+        return futureDerivative;
+    }
+
     /**
      * Reads further arguments from the configuration and passes them to
      * ImageMagick. Arguments can be added to the configuration with the prefix
@@ -171,7 +205,7 @@ class ImageConverter {
         } catch (NoSuchElementException e) {
             logger.trace("No deviant search path configured.", e);
         }
-        convertRunner.run(commandLine);
+        convertRunner.run(commandLine, outputStream);
     }
 
     /**
@@ -15,6 +15,7 @@ import java.awt.Image;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
 import java.nio.file.Files;
 import java.util.function.Function;
@@ -180,6 +181,96 @@ public class ImageManagement implements ImageManagementInterface {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.kitodo.api.imagemanagement.ImageManagementInterface#writeDpiChangedImage(java.net.URI,
+     *      int, org.kitodo.api.imagemanagement.ImageFileFormat,
+     *      java.io.OutputStream)
+     */
+    @Override
+    public void writeDpiChangedImage(URI sourceUri, int dpi, ImageFileFormat format, OutputStream outputStream)
+            throws IOException {
+        if (!new File(sourceUri).exists()) {
+            throw new FileNotFoundException("sourceUri must exist: " + sourceUri.getRawPath());
+        }
+        if (dpi <= 0) {
+            throw new IllegalArgumentException("dpi must be > 0, but was " + dpi);
+        }
+
+        stream(sourceUri, format, outputStream, lambda -> lambda.resizeToDpi(dpi),
+            "Resizing {} as stream in format {} to {} DPI", dpi);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.kitodo.api.imagemanagement.ImageManagementInterface#writeScaledWebImage(java.net.URI,
+     *      double, org.kitodo.api.imagemanagement.ImageFileFormat,
+     *      java.io.OutputStream)
+     */
+    @Override
+    public void writeScaledWebImage(URI sourceUri, double factor, ImageFileFormat format,
+            OutputStream outputStream) throws IOException {
+        validateParameters(sourceUri, factor);
+        stream(sourceUri, format, outputStream, lambda -> lambda.resize(factor),
+            "Generating scaled web image from {} as stream in format {}, factor {}%", 100 * factor);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @see org.kitodo.api.imagemanagement.ImageManagementInterface#writeSizedWebImage(java.net.URI,
+     *      int, org.kitodo.api.imagemanagement.ImageFileFormat,
+     *      java.io.OutputStream)
+     */
+    @Override
+    public void writeSizedWebImage(URI sourceUri, int width, ImageFileFormat format, OutputStream outputStream)
+            throws IOException {
+        if (!new File(sourceUri).exists()) {
+            throw new FileNotFoundException("sourceUri must exist: " + sourceUri.getRawPath());
+        }
+        if (width <= 0) {
+            throw new IllegalArgumentException("width must be > 0, but was " + width);
+        }
+
+        stream(sourceUri, format, outputStream, lambda -> lambda.resizeToWidth(width),
+            "Generating sized web image from {} as stream in format {}, width {} px", width);
+    }
+
+    /**
+     * Converts an image and passes the result, which ImageMagick writes to its
+     * standard output, to the output stream. Other than
+     * {@link #summarize(String, String, URI, Function, String, Object)}, this
+     * neither needs a temporary file nor decodes and encodes the image once
+     * more in Java.
+     *
+     * @param sourceUri
+     *            source image to convert
+     * @param format
+     *            image format to write
+     * @param outputStream
+     *            stream to write the image to
+     * @param lambda
+     *            lambda expression to apply to the result of the conversion
+     *            process
+     * @param message
+     *            the message to log; the format depends on the message factory.
+     * @param pTwo
+     *            parameter to the message.
+     * @throws IOException
+     *             if the plug-in is configured incorrectly, the image is
+     *             missing or corrupted, etc.
+     */
+    private static void stream(URI sourceUri, ImageFileFormat format, OutputStream outputStream,
+            Function<FutureDerivative, ?> lambda, String message, Object pTwo) throws IOException {
+
+        ImageConverter imageConverter = new ImageConverter(sourceUri);
+        lambda.apply(imageConverter.addResult(outputStream, format));
+        logger.info(message, sourceUri, format, pTwo);
+        imageConverter.run();
+    }
+
     private void validateParameters(URI sourceUri, double factor) throws FileNotFoundException {
         if (!new File(sourceUri).exists()) {
             throw new FileNotFoundException("sourceUri must exist: " + sourceUri.getRawPath());
@@ -15,10 +15,15 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
 
+import javax.imageio.ImageIO;
+
 import org.apache.commons.lang3.SystemUtils;
 import org.im4java.core.ConvertCmd;
 import org.im4java.core.IM4JavaException;
@@ -123,6 +128,37 @@ public class ImageManagementIT {
         assertEquals(150, scaledWebImage.getWidth(null));
     }
 
+    @Test
+    public void testWriteScaledWebImage() throws IOException, InfoException {
+        assert new File(_00000001_TIF).exists();
+        ImageManagementInterface module = new ImageManagement();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        module.writeScaledWebImage(new File(_00000001_TIF).toURI(), 0.3, ImageFileFormat.JPEG, outputStream);
+        BufferedImage scaledWebImage = ImageIO.read(new ByteArrayInputStream(outputStream.toByteArray()));
+        assertEquals((int) Math.round(0.3 * new Info(_00000001_TIF, true).getImageWidth()),
+            scaledWebImage.getWidth());
+    }
+
+    @Test
+    public void testWriteDpiChangedImage() throws IOException, InfoException {
+        assert new File(_00000001_TIF).exists();
+        ImageManagementInterface module = new ImageManagement();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        module.writeDpiChangedImage(new File(_00000001_TIF).toURI(), 300, ImageFileFormat.PNG, outputStream);
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(outputStream.toByteArray()));
+        assertEquals(300, 72 * image.getWidth() / new Info(_00000001_TIF, true).getImageWidth());
+    }
+
+    @Test
+    public void testWriteSizedWebImage() throws IOException {
+        assert new File(_00000001_TIF).exists();
+        ImageManagementInterface module = new ImageManagement();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        module.writeSizedWebImage(new File(_00000001_TIF).toURI(), 150, ImageFileFormat.JPEG, outputStream);
+        BufferedImage sizedWebImage = ImageIO.read(new ByteArrayInputStream(outputStream.toByteArray()));
+        assertEquals(150, sizedWebImage.getWidth());
+    }
+
     /**
      * Clean up after tests.
      */
@@ -207,6 +207,12 @@ public enum ParameterCore implements ParameterInterface {
      */
     DONE_DIRECTORY_NAME(new Parameter<>("image.doneDirectoryName", "fertig/")),
 
+    /**
+     * Integer, number of threads generating the derivatives of one process
+     * concurrently. The default of 1 generates the images one after the other.
+     */
+    IMAGE_GENERATOR_THREADS(new Parameter<>("image.generatorThreads", 1)),
+
     /*
      * VISUAL APPEARANCE
      *
@@ -394,6 +400,25 @@ public enum ParameterCore implements ParameterInterface {
      */
     MINIMAL_NUMBER_OF_PAGES(new Parameter<UndefinedParameter>("numberOfPages.minimum")),
 
+    /**
+     * Boolean, whether newspaper processes are generated in bulk. The issue
+     * processes are then saved to the database in batches, their metadata
+     * files are written concurrently, and all generated processes are indexed
+     * together at the end. Defaults to {@code false}.
+     */
+    NEWSPAPER_BULK_GENERATION(new Parameter<>("newspaper.bulkGeneration", false)),
+
+    /**
+     * Integer, number of issue processes saved together in bulk generation.
+     */
+    NEWSPAPER_BULK_GENERATION_BATCH_SIZE(new Parameter<>("newspaper.bulkGeneration.batchSize", 100)),
+
+    /**
+     * Integer, number of threads writing the metadata files of the issue
+     * processes in bulk generation.
+     */
+    NEWSPAPER_BULK_GENERATION_THREADS(new Parameter<>("newspaper.bulkGeneration.threads", 4)),
+
     /*
      * Batch processing
      */
@@ -612,7 +637,51 @@ public enum ParameterCore implements ParameterInterface {
      */
 
     ELASTICSEARCH_BATCH(new Parameter<>("elasticsearch.batch", 500)),
-    ELASTICSEARCH_INDEXLIMIT(new Parameter<>("elasticsearch.indexLimit", 5000));
+    ELASTICSEARCH_INDEXLIMIT(new Parameter<>("elasticsearch.indexLimit", 5000)),
+
+    /**
+     * Integer, number of threads creating index documents during indexing.
+     */
+    ELASTICSEARCH_INDEX_BUILDER_THREADS(new Parameter<>("elasticsearch.indexBuilderThreads", 4)),
+
+    /**
+     * Integer, number of threads sending bulk requests during indexing.
+     */
+    ELASTICSEARCH_INDEX_WRITER_THREADS(new Parameter<>("elasticsearch.indexWriterThreads", 2)),
+
+    /**
+     * Integer, number of batches waiting between the stages of indexing.
+     */
+    ELASTICSEARCH_INDEX_QUEUE_SIZE(new Parameter<>("elasticsearch.indexQueueSize", 4)),
+
+    /**
+     * Integer, maximum number of objects found by id which are cached per type,
+     * 0 disables the cache.
+     */
+    ELASTICSEARCH_DTO_CACHE_SIZE(new Parameter<>("elasticsearch.dtoCacheSize", 0)),
+
+    /**
+     * Integer, maximum number of ids of related objects, e.g. the project ids
+     * of processes, which are cached per type, 0 disables the cache.
+     */
+    ELASTICSEARCH_ID_CACHE_SIZE(new Parameter<>("elasticsearch.idCacheSize", 10000)),
+
+    /**
+     * Integer, time in seconds after which cached objects and ids expire.
+     */
+    ELASTICSEARCH_CACHE_TIME_TO_LIVE(new Parameter<>("elasticsearch.cacheTimeToLive", 10)),
+
+    /**
+     * Boolean, whether saved objects are indexed in the background instead of
+     * during the request. Defaults to {@code false}.
+     */
+    ELASTICSEARCH_ASYNC_INDEXING(new Parameter<>("elasticsearch.asyncIndexing", false)),
+
+    /**
+     * Integer, time in milliseconds in which objects saved in the background
+     * are collected before they are indexed.
+     */
+    ELASTICSEARCH_INDEX_DELAY(new Parameter<>("elasticsearch.indexDelay", 500));
 
     private Parameter parameter;
 
@@ -47,6 +47,7 @@ import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.exceptions.DataException;
+import org.kitodo.exceptions.RulesetNotFoundException;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.helper.XMLUtils;
 import org.kitodo.production.helper.tasks.GeneratesNewspaperProcessesThread;
@@ -823,7 +824,7 @@ public class CalendarForm implements Serializable {
             try {
                 Process process = ServiceManager.getProcessService().getById(parentId);
                 metadataTypes = CalendarService.getAddableMetadata(process);
-            } catch (DAOException | DataException | IOException e) {
+            } catch (DAOException | DataException | IOException | RulesetNotFoundException e) {
                 Helper.setErrorMessage("Unable to load metadata types: " + e.getMessage());
             }
         }
@@ -168,6 +168,20 @@ public class IndexingForm {
         ServiceManager.getIndexingService().startAllIndexing(pollingChannel);
     }
 
+    /**
+     * Starts to build a new version of the ElasticSearch index with all
+     * objects, while the current version stays in use.
+     */
+    public void startIndexRebuild() {
+        indexingStartedTime = LocalDateTime.now();
+        indexingStartedUser = ServiceManager.getUserService().getAuthenticatedUser().getFullName();
+        try {
+            ServiceManager.getIndexingService().startIndexRebuild(pollingChannel);
+        } catch (IOException | CustomResponseException e) {
+            Helper.setErrorMessage(e.getLocalizedMessage(), logger, e);
+        }
+    }
+
     /**
      * Starts the process of indexing all objects to the ElasticSearch index.
      */
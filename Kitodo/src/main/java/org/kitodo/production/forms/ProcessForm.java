@@ -17,6 +17,7 @@ import java.io.InputStream;
 import java.net.URI;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -54,7 +55,6 @@ import org.kitodo.production.services.command.KitodoScriptService;
 import org.kitodo.production.services.data.ProcessService;
 import org.kitodo.production.services.file.FileService;
 import org.kitodo.production.services.workflow.WorkflowControllerService;
-import org.primefaces.model.SortOrder;
 
 @Named("ProcessForm")
 @SessionScoped
@@ -662,7 +662,7 @@ public class ProcessForm extends TemplateBaseForm {
         executeKitodoScriptForProcesses(this.selectedProcesses, this.kitodoScriptSelection);
     }
 
-    private void executeKitodoScriptForProcesses(List<Process> processes, String kitodoScript) {
+    private void executeKitodoScriptForProcesses(Iterable<Process> processes, String kitodoScript) {
         KitodoScriptService service = new KitodoScriptService();
         try {
             service.execute(processes, kitodoScript);
@@ -671,25 +671,14 @@ public class ProcessForm extends TemplateBaseForm {
         }
     }
 
-    private List<Process> getProcessesForActions() {
-        // TODO: find a way to pass filters
-        List<ProcessDTO> filteredProcesses = new ArrayList<>();
-        for (Object object : lazyDTOModel.load(0, 100000, "",
-                SortOrder.ASCENDING, null)) {
-            if (object instanceof ProcessDTO) {
-                filteredProcesses.add((ProcessDTO) object);
-            }
-        }
-        List<Process> processesForActions = new ArrayList<>();
-
+    private Iterable<Process> getProcessesForActions() {
         try {
-            processesForActions = ServiceManager.getProcessService().convertDtosToBeans(filteredProcesses);
-        } catch (DAOException e) {
+            return ServiceManager.getProcessService().getProcessesForFilter(this.filter);
+        } catch (DataException e) {
             Helper.setErrorMessage(ERROR_LOADING_MANY, new Object[] {ObjectType.PROCESS.getTranslationPlural() },
                 logger, e);
+            return Collections.emptyList();
         }
-
-        return processesForActions;
     }
 
     /**
@@ -18,12 +18,10 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.kitodo.api.dataformat.MediaUnit;
-import org.kitodo.api.dataformat.Workpiece;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.Process;
@@ -39,7 +37,6 @@ import org.kitodo.production.helper.WebDav;
 import org.kitodo.production.process.ProcessMetadataStatistic;
 import org.kitodo.production.services.ServiceManager;
 import org.kitodo.production.services.data.ProcessService;
-import org.kitodo.production.services.dataformat.MetsService;
 import org.primefaces.PrimeFaces;
 import org.primefaces.model.charts.hbar.HorizontalBarChartModel;
 import org.primefaces.model.charts.pie.PieChartModel;
@@ -79,26 +76,52 @@ public class ProcessListBaseView extends BaseForm {
     }
 
     /**
-     * Shows the state of volumes from the selected processes.
+     * Shows the average duration of the tasks of the selected processes, or
+     * of all processes matching the filter if no process is selected.
      */
     public void showDurationOfTasks() {
         chartMode = ChartMode.BAR;
-        stackedBarModel = ServiceManager.getProcessService().getBarChartModel(selectedProcesses);
+        try {
+            if (selectedProcesses.isEmpty()) {
+                stackedBarModel = ServiceManager.getProcessService().getBarChartModel(this.filter);
+            } else {
+                stackedBarModel = ServiceManager.getProcessService().getBarChartModel(getSelectedProcessIds());
+            }
+        } catch (DataException e) {
+            Helper.setErrorMessage(ERROR_LOADING_MANY, new Object[] {ObjectType.PROCESS.getTranslationPlural() },
+                logger, e);
+            return;
+        }
         PrimeFaces.current().executeScript("PF('statisticsDialog').show();");
         PrimeFaces.current().ajax().update("statisticsDialog");
     }
 
     /**
-     * Shows the state of volumes from the selected processes.
+     * Shows the state of volumes from the selected processes, or of all
+     * processes matching the filter if no process is selected.
      */
     public void showStateOfVolume() {
         chartMode = ChartMode.PIE;
-        statisticResult = ServiceManager.getProcessService().getProcessTaskStates(selectedProcesses);
+        try {
+            if (selectedProcesses.isEmpty()) {
+                statisticResult = ServiceManager.getProcessService().getProcessTaskStates(this.filter);
+            } else {
+                statisticResult = ServiceManager.getProcessService().getProcessTaskStates(getSelectedProcessIds());
+            }
+        } catch (DataException e) {
+            Helper.setErrorMessage(ERROR_LOADING_MANY, new Object[] {ObjectType.PROCESS.getTranslationPlural() },
+                logger, e);
+            return;
+        }
         pieModel = ServiceManager.getProcessService().getPieChardModel(statisticResult);
         PrimeFaces.current().executeScript("PF('statisticsDialog').show();");
         PrimeFaces.current().ajax().update("statisticsDialog");
     }
 
+    private List<Integer> getSelectedProcessIds() {
+        return selectedProcesses.stream().map(Process::getId).collect(Collectors.toList());
+    }
+
     /**
      * Shows the number of images, metadata and structuralElements.
      */
@@ -106,23 +129,12 @@ public class ProcessListBaseView extends BaseForm {
         chartMode = ChartMode.METADATA_STATISTIC;
         processMetadataStatistics = new ArrayList<>();
         resetGlobalStatisticValues();
-        Workpiece workpiece;
         for (Process selectedProcess : selectedProcesses) {
-            try {
-                URI metadataFilePath = ServiceManager.getFileService().getMetadataFilePath(selectedProcess);
-                workpiece = ServiceManager.getMetsService().loadWorkpiece(metadataFilePath);
-            } catch (IOException e) {
-                Helper.setErrorMessage(ERROR_LOADING_ONE,
-                        new Object[] {ObjectType.PROCESS.getTranslationSingular(), selectedProcess.getId() }, logger, e);
-                return;
-            }
-            int numberOfProcessImages = (int) Workpiece.treeStream(workpiece.getMediaUnit())
-                    .filter(mediaUnit -> Objects.equals(mediaUnit.getType(), MediaUnit.TYPE_PAGE)).count();
+            int numberOfProcessImages = selectedProcess.getSortHelperImages();
             this.numberOfGlobalImages += numberOfProcessImages;
-            int numberOfProcessStructuralElements = (int) Workpiece.treeStream(workpiece.getRootElement()).count();
+            int numberOfProcessStructuralElements = selectedProcess.getSortHelperDocstructs();
             this.numberOfGlobalStructuralElements += numberOfProcessStructuralElements;
-            int numberOfProcessMetadata = Math
-                    .toIntExact(MetsService.countLogicalMetadata(workpiece));
+            int numberOfProcessMetadata = selectedProcess.getSortHelperMetadata();
             this.numberOfGlobalMetadata += numberOfProcessMetadata;
 
             processMetadataStatistics.add(new ProcessMetadataStatistic(selectedProcess.getTitle(),
@@ -12,7 +12,6 @@
 package org.kitodo.production.forms.createprocess;
 
 import java.io.IOException;
-import java.io.OutputStream;
 import java.net.URI;
 import java.text.MessageFormat;
 import java.util.Collections;
@@ -517,10 +516,9 @@ public class CreateProcessForm extends BaseForm implements RulesetSetupInterface
     }
 
     private void saveTempProcessMetadata(TempProcess tempProcess) {
-        try (OutputStream out = ServiceManager.getFileService()
-                .write(ServiceManager.getProcessService().getMetadataFileUri(tempProcess.getProcess()))) {
+        try {
             tempProcess.getWorkpiece().setId(tempProcess.getProcess().getId().toString());
-            ServiceManager.getMetsService().save(tempProcess.getWorkpiece(), out);
+            ServiceManager.getMetsService().saveWorkpiece(tempProcess.getWorkpiece(), tempProcess.getProcess());
         } catch (IOException e) {
             Helper.setErrorMessage(e.getLocalizedMessage(), logger, e);
         }
@@ -422,6 +422,15 @@ public class ProcessFieldedMetadata extends ProcessDetail implements Serializabl
         return false;
     }
 
+    /**
+     * Returns the division this panel is related to.
+     *
+     * @return the division, or {@code null} if this is a sub-panel
+     */
+    public Division<?> getDivision() {
+        return division;
+    }
+
     @Override
     public String getMetadataID() {
         return metadataKey;
@@ -755,6 +755,7 @@ public class AddDocStrucTypeDialog {
         dataEditor.getCurrentChildren().add(selectedProcess);
         MetadataEditor.addLink(dataEditor.getSelectedStructure().orElseThrow(IllegalStateException::new),
             selectedProcess.getId());
+        dataEditor.getWorkpiece().markAsModified();
         dataEditor.getStructurePanel().show(true);
         if (processNumber.trim().equals(Integer.toString(selectedProcess.getId()))) {
             alert(Helper.getTranslation("dialogAddDocStrucType.searchButtonClick.hint"));
@@ -12,7 +12,6 @@
 package org.kitodo.production.forms.dataeditor;
 
 import java.io.IOException;
-import java.io.OutputStream;
 import java.io.Serializable;
 import java.net.URI;
 import java.util.ArrayList;
@@ -154,9 +153,10 @@ public class DataEditorForm implements RulesetSetupInterface, Serializable {
     private Workpiece workpiece;
 
     /**
-     * Original state of workpiece. Used to check whether any unsaved changes exist when leaving the editor.
+     * Modification count of the workpiece when it was loaded or saved. Used to check whether any unsaved changes exist
+     * when leaving the editor.
      */
-    private Workpiece workpieceOriginalState;
+    private int savedModificationCount;
 
     /**
      * This List of Pairs stores all selected physical elements and the logical elements in which the physical element was selected.
@@ -244,12 +244,16 @@ public class DataEditorForm implements RulesetSetupInterface, Serializable {
     private void openMetsFile() throws IOException, InvalidImagesException {
         mainFileUri = ServiceManager.getProcessService().getMetadataFileUri(process);
         workpiece = ServiceManager.getMetsService().loadWorkpiece(mainFileUri);
-        workpieceOriginalState = ServiceManager.getMetsService().loadWorkpiece(mainFileUri);
+        savedModificationCount = workpiece.getModificationCount();
         if (Objects.isNull(workpiece.getId())) {
             logger.warn("Workpiece has no ID. Cannot verify workpiece ID. Setting workpiece ID.");
             workpiece.setId(process.getId().toString());
         }
+        int numberOfMediaUnits = workpiece.getAllMediaUnits().size();
         ServiceManager.getFileService().searchForMedia(process, workpiece);
+        if (workpiece.getAllMediaUnits().size() != numberOfMediaUnits) {
+            workpiece.markAsModified();
+        }
     }
 
     private RulesetManagementInterface openRuleset(Ruleset ruleset) throws IOException, RulesetNotFoundException {
@@ -295,7 +299,6 @@ public class DataEditorForm implements RulesetSetupInterface, Serializable {
         metadataPanel.clear();
         structurePanel.clear();
         workpiece = null;
-        workpieceOriginalState = null;
         mainFileUri = null;
         ruleset = null;
         currentChildren.clear();
@@ -358,14 +361,17 @@ public class DataEditorForm implements RulesetSetupInterface, Serializable {
         try {
             structurePanel.preserve();
             ServiceManager.getFileService().createBackupFile(process);
-            try (OutputStream out = ServiceManager.getFileService().write(mainFileUri)) {
-                ServiceManager.getMetsService().save(workpiece, out);
+            try {
+                ServiceManager.getMetsService().saveWorkpiece(workpiece, process);
+                ServiceManager.getProcessService().saveToDatabase(process);
                 ServiceManager.getProcessService().saveToIndex(process,false);
+                savedModificationCount = workpiece.getModificationCount();
                 if (close) {
                     return close();
                 } else {
                     PrimeFaces.current().executeScript("PF('notifications').renderMessage({'summary':'"
                             + Helper.getTranslation("metadataSaved") + "','severity':'info'})");
+                    checkForChanges();
                 }
             } catch (IOException e) {
                 Helper.setErrorMessage(e.getLocalizedMessage(), logger, e);
@@ -556,7 +562,12 @@ public class DataEditorForm implements RulesetSetupInterface, Serializable {
         return workpiece;
     }
 
+    /**
+     * Records a modification of the workpiece by an editing action and shows
+     * the changed structure.
+     */
     void refreshStructurePanel() {
+        workpiece.markAsModified();
         structurePanel.show(true);
         galleryPanel.updateStripes();
     }
@@ -743,11 +754,13 @@ public class DataEditorForm implements RulesetSetupInterface, Serializable {
     }
 
     /**
-     * Check for changes in workpiece.
+     * Check for changes in workpiece. Editing actions record their changes in
+     * the modification count of the workpiece, so the workpiece has unsaved
+     * changes if the count differs from the count when it was last saved.
      */
     public void checkForChanges() {
         if (Objects.nonNull(PrimeFaces.current())) {
-            boolean unsavedChanges = !this.workpiece.equals(workpieceOriginalState);
+            boolean unsavedChanges = workpiece.getModificationCount() != savedModificationCount;
             PrimeFaces.current().executeScript("setConfirmUnload(" + unsavedChanges + ");");
         }
     }
@@ -228,6 +228,7 @@ public class GalleryPanel {
 
         int toMediaIndex = getMediaIndex(event);
         try {
+            dataEditor.getWorkpiece().markAsModified();
             updateData(toStripe, viewsToBeMoved, toMediaIndex);
         } catch (Exception e) {
             PrimeFaces.current().executeScript("$('#loadingScreen').hide();");
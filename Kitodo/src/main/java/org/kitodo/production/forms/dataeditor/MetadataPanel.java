@@ -13,7 +13,11 @@ package org.kitodo.production.forms.dataeditor;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -21,6 +25,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.api.Metadata;
 import org.kitodo.api.dataeditor.rulesetmanagement.StructuralElementViewInterface;
+import org.kitodo.api.dataformat.Division;
 import org.kitodo.api.dataformat.IncludedStructuralElement;
 import org.kitodo.api.dataformat.MediaUnit;
 import org.kitodo.exceptions.InvalidMetadataValueException;
@@ -175,12 +180,38 @@ public class MetadataPanel implements Serializable {
     }
 
     void preserveLogical() throws InvalidMetadataValueException, NoSuchMetadataFieldException {
-        logicalMetadataTable.preserve();
-        this.dataEditorForm.checkForChanges();
+        preserveMetadataTable(logicalMetadataTable);
     }
 
     void preservePhysical() throws InvalidMetadataValueException, NoSuchMetadataFieldException {
-        physicalMetadataTable.preserve();
-        this.dataEditorForm.checkForChanges();
+        preserveMetadataTable(physicalMetadataTable);
+    }
+
+    /**
+     * Writes the metadata table back to its division. As the table replaces
+     * all metadata of the division, the metadata of the division is compared
+     * before and after, so that only actual changes are recorded as a
+     * modification of the workpiece.
+     */
+    private void preserveMetadataTable(ProcessFieldedMetadata metadataTable)
+            throws InvalidMetadataValueException, NoSuchMetadataFieldException {
+        Division<?> division = metadataTable.getDivision();
+        List<Object> previousState = getMetadataState(division);
+        try {
+            metadataTable.preserve();
+        } finally {
+            if (!previousState.equals(getMetadataState(division))) {
+                dataEditorForm.getWorkpiece().markAsModified();
+            }
+            this.dataEditorForm.checkForChanges();
+        }
+    }
+
+    private static List<Object> getMetadataState(Division<?> division) {
+        if (Objects.isNull(division)) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(new HashSet<>(division.getMetadata()), new ArrayList<>(division.getContentIds()),
+            division.getLabel(), division.getOrderlabel(), division.getType());
     }
 }
@@ -77,6 +77,7 @@ public class PaginationPanel {
             mediaUnit.setOrder(i);
             mediaUnit.setOrderlabel(paginator.next());
         }
+        dataEditor.getWorkpiece().markAsModified();
     }
 
     /**
@@ -20,7 +20,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -84,14 +84,16 @@ public class StructurePanel implements Serializable {
     private DefaultTreeNode physicalTree = null;
 
     /**
-     * HashMap containing the current expansion states of all TreeNodes in the logical structure tree.
+     * Map containing the current expansion states of all TreeNodes in the logical structure tree. The map compares
+     * the structural elements by identity, because their equals() and hashCode() methods traverse all children.
      */
-    private HashMap<IncludedStructuralElement, Boolean> previousExpansionStatesLogicalTree;
+    private Map<IncludedStructuralElement, Boolean> previousExpansionStatesLogicalTree;
 
     /**
-     * HashMap containing the current expansion states of all TreeNodes in the physical structure tree.
+     * Map containing the current expansion states of all TreeNodes in the physical structure tree. The map compares
+     * the media units by identity, because their equals() and hashCode() methods traverse all children.
      */
-    private HashMap<MediaUnit, Boolean> previousExpansionStatesPhysicalTree;
+    private Map<MediaUnit, Boolean> previousExpansionStatesPhysicalTree;
 
     /**
      * List of all mediaUnits assigned to multiple IncludedStructuralElements.
@@ -154,6 +156,7 @@ public class StructurePanel implements Serializable {
         parent.getViews().sort(Comparator.comparingInt(v -> v.getMediaUnit().getOrder()));
 
         parent.getChildren().remove(selectedStructure.get());
+        dataEditor.getWorkpiece().markAsModified();
         show();
         dataEditor.getGalleryPanel().updateStripes();
     }
@@ -181,6 +184,7 @@ public class StructurePanel implements Serializable {
         }
         MediaUnit parent = ancestors.getLast();
         parent.getChildren().remove(selectedMediaUnit.get());
+        dataEditor.getWorkpiece().markAsModified();
         show();
     }
 
@@ -482,7 +486,7 @@ public class StructurePanel implements Serializable {
             parent.setExpanded(true);
         }
 
-        Set<View> viewsShowingOnAChild = new HashSet<>();
+        Set<View> viewsShowingOnAChild = Collections.newSetFromMap(new IdentityHashMap<>());
         if (this.isSeparateMedia()) {
             for (IncludedStructuralElement child : structure.getChildren()) {
                 viewsShowingOnAChild.addAll(buildStructureTreeRecursively(child, parent));
@@ -1007,7 +1011,7 @@ public class StructurePanel implements Serializable {
                 // FIXME waiting for PrimeFaces' tree drop index bug to be fixed.
                 // Until fixed dropping nodes onto other nodes will produce random drop indices.
                 preserveLogicalAndPhysical();
-                show();
+                updateTreesAfterMove();
                 expandNode(event.getDropNode());
                 this.dataEditor.getGalleryPanel().updateStripes();
                 return;
@@ -1205,13 +1209,15 @@ public class StructurePanel implements Serializable {
                     dataEditor.getWorkpiece().getRootElement());
             if (!dragParents.isEmpty()) {
                 IncludedStructuralElement parentStructure = dragParents.get(dragParents.size() - 1);
-                if (parentStructure.getChildren().contains(dragStructure)) {
+                if (parentStructure.getChildren().stream().anyMatch(child -> child == dragStructure)) {
                     if (isSeparateMedia()) {
                         preserveLogical();
                     } else {
                         preserveLogicalAndPhysical();
                     }
+                    updateTreesAfterMove();
                     this.dataEditor.getGalleryPanel().updateStripes();
+                    return;
                 } else {
                     Helper.setErrorMessage(Helper.getTranslation("dataEditor.childNotContainedError",
                             Collections.singletonList(dragNode.getLabel())));
@@ -1243,8 +1249,10 @@ public class StructurePanel implements Serializable {
                         Collections.singletonList(dragNode.getLabel())));
             } else {
                 MediaUnit parentUnit = dragParents.get(dragParents.size() - 1);
-                if (parentUnit.getChildren().contains(dragUnit)) {
+                if (parentUnit.getChildren().stream().anyMatch(child -> child == dragUnit)) {
                     preservePhysical();
+                    updateTreesAfterMove();
+                    return;
                 } else {
                     Helper.setErrorMessage(Helper.getTranslation("dataEditor.childNotContainedError",
                             Collections.singletonList(dragUnit.getType())));
@@ -1264,11 +1272,13 @@ public class StructurePanel implements Serializable {
                 mediaUnit.getIncludedStructuralElements().clear();
             }
             dataEditor.getWorkpiece().getMediaUnit().getChildren().clear();
-            preserveLogicalAndPhysicalRecursive(this.logicalTree.getChildren().get(logicalTree.getChildCount() - 1));
+            preserveLogicalAndPhysicalRecursive(this.logicalTree.getChildren().get(logicalTree.getChildCount() - 1),
+                Collections.newSetFromMap(new IdentityHashMap<>()));
         }
     }
 
-    private IncludedStructuralElement preserveLogicalAndPhysicalRecursive(TreeNode treeNode) throws UnknownTreeNodeDataException {
+    private IncludedStructuralElement preserveLogicalAndPhysicalRecursive(TreeNode treeNode, Set<MediaUnit> preservedMediaUnits)
+            throws UnknownTreeNodeDataException {
         StructureTreeNode structureTreeNode = (StructureTreeNode) treeNode.getData();
         if (Objects.isNull(structureTreeNode) || !(structureTreeNode.getDataObject() instanceof IncludedStructuralElement)) {
             return null;
@@ -1282,19 +1292,19 @@ public class StructurePanel implements Serializable {
                 throw new UnknownTreeNodeDataException(child.getData().getClass().getCanonicalName());
             }
             if (((StructureTreeNode) child.getData()).getDataObject() instanceof IncludedStructuralElement) {
-                IncludedStructuralElement possibleChildStructure = preserveLogicalAndPhysicalRecursive(child);
+                IncludedStructuralElement possibleChildStructure = preserveLogicalAndPhysicalRecursive(child, preservedMediaUnits);
                 if (Objects.nonNull(possibleChildStructure)) {
                     structure.getChildren().add(possibleChildStructure);
                 }
             } else if (((StructureTreeNode) child.getData()).getDataObject() instanceof View) {
                 View view = (View) ((StructureTreeNode) child.getData()).getDataObject();
                 structure.getViews().add(view);
-                if (!dataEditor.getWorkpiece().getAllMediaUnits().contains(view.getMediaUnit())) {
+                if (preservedMediaUnits.add(view.getMediaUnit())) {
                     view.getMediaUnit().setOrder(order);
                     dataEditor.getWorkpiece().getMediaUnit().getChildren().add(view.getMediaUnit());
                     order++;
                 }
-                if (!view.getMediaUnit().getIncludedStructuralElements().contains(structure)) {
+                if (view.getMediaUnit().getIncludedStructuralElements().stream().noneMatch(element -> element == structure)) {
                     view.getMediaUnit().getIncludedStructuralElements().add(structure);
                 }
             }
@@ -1302,6 +1312,71 @@ public class StructurePanel implements Serializable {
         return structure;
     }
 
+    /**
+     * Updates the trees after a drag and drop action which PrimeFaces has
+     * already performed on the tree nodes, instead of building both trees
+     * anew. Only the labels of the pages, which contain their order, and the
+     * order of the top-level media units in the physical tree are patched.
+     * This keeps the expansion states and the selection of all nodes.
+     */
+    private void updateTreesAfterMove() {
+        updateViewLabelsRecursively(logicalTree);
+        if (Objects.nonNull(physicalTree) && !physicalTree.getChildren().isEmpty()) {
+            updateMediaTreeChildren(physicalTree.getChildren().get(0));
+        }
+        this.dataEditor.getWorkpiece().markAsModified();
+        this.dataEditor.checkForChanges();
+    }
+
+    private void updateViewLabelsRecursively(TreeNode treeNode) {
+        for (TreeNode childNode : treeNode.getChildren()) {
+            if (childNode.getData() instanceof StructureTreeNode
+                    && ((StructureTreeNode) childNode.getData()).getDataObject() instanceof View) {
+                StructureTreeNode structureTreeNode = (StructureTreeNode) childNode.getData();
+                String label = buildViewLabel((View) structureTreeNode.getDataObject());
+                if (!label.equals(structureTreeNode.getLabel())) {
+                    ((DefaultTreeNode) childNode).setData(new StructureTreeNode(label, structureTreeNode.isUndefined(),
+                            structureTreeNode.isLinked(), structureTreeNode.getDataObject()));
+                }
+            } else {
+                updateViewLabelsRecursively(childNode);
+            }
+        }
+    }
+
+    /**
+     * Puts the child nodes of a node of the physical tree into the order of
+     * the children of its media unit. Nodes of media units which are no
+     * longer children are dropped, and nodes for new children are built.
+     */
+    private void updateMediaTreeChildren(TreeNode treeNode) {
+        MediaUnit mediaUnit = getTreeNodeMediaUnit(treeNode);
+        if (Objects.isNull(mediaUnit)) {
+            return;
+        }
+        Map<MediaUnit, TreeNode> childNodes = new IdentityHashMap<>();
+        for (TreeNode childNode : treeNode.getChildren()) {
+            MediaUnit childMediaUnit = getTreeNodeMediaUnit(childNode);
+            if (Objects.nonNull(childMediaUnit)) {
+                childNodes.put(childMediaUnit, childNode);
+            }
+        }
+        List<TreeNode> orderedChildNodes = new ArrayList<>(mediaUnit.getChildren().size());
+        for (MediaUnit child : mediaUnit.getChildren()) {
+            TreeNode childNode = childNodes.get(child);
+            if (Objects.isNull(childNode)) {
+                DefaultTreeNode newNodeParent = new DefaultTreeNode();
+                buildMediaTreeRecursively(child, newNodeParent);
+                childNode = newNodeParent.getChildren().get(0);
+            }
+            // detach the node, so that adding it does not remove it from its old parent one by one
+            childNode.setParent(null);
+            orderedChildNodes.add(childNode);
+        }
+        treeNode.getChildren().clear();
+        treeNode.getChildren().addAll(orderedChildNodes);
+    }
+
     /**
      * Check and return whether the metadata of a process should be displayed in separate logical and physical
      * structure trees or in one unified structure tree.
@@ -1325,63 +1400,63 @@ public class StructurePanel implements Serializable {
         }
     }
 
-    private HashMap<IncludedStructuralElement, Boolean> getLogicalTreeNodeExpansionStates(DefaultTreeNode tree) {
+    private Map<IncludedStructuralElement, Boolean> getLogicalTreeNodeExpansionStates(DefaultTreeNode tree) {
         if (Objects.nonNull(tree) && tree.getChildCount() == 1) {
             TreeNode treeRoot = tree.getChildren().get(0);
             IncludedStructuralElement structuralElement = getTreeNodeStructuralElement(treeRoot);
             if (Objects.nonNull(structuralElement)) {
-                return getLogicalTreeNodeExpansionStatesRecursively(treeRoot, new HashMap<>());
+                return getLogicalTreeNodeExpansionStatesRecursively(treeRoot, new IdentityHashMap<>());
             }
         }
-        return new HashMap<>();
+        return new IdentityHashMap<>();
     }
 
-    private HashMap<IncludedStructuralElement, Boolean> getLogicalTreeNodeExpansionStatesRecursively(TreeNode treeNode,
-            HashMap<IncludedStructuralElement, Boolean> expansionStates) {
+    private Map<IncludedStructuralElement, Boolean> getLogicalTreeNodeExpansionStatesRecursively(TreeNode treeNode,
+            Map<IncludedStructuralElement, Boolean> expansionStates) {
         if (Objects.nonNull(treeNode)) {
             IncludedStructuralElement structureData = getTreeNodeStructuralElement(treeNode);
             if (Objects.nonNull(structureData)) {
                 expansionStates.put(structureData, treeNode.isExpanded());
                 for (TreeNode childNode : treeNode.getChildren()) {
-                    expansionStates.putAll(getLogicalTreeNodeExpansionStatesRecursively(childNode, expansionStates));
+                    getLogicalTreeNodeExpansionStatesRecursively(childNode, expansionStates);
                 }
             }
         }
         return expansionStates;
     }
 
-    private HashMap<MediaUnit, Boolean> getPhysicalTreeNodeExpansionStates(DefaultTreeNode tree) {
+    private Map<MediaUnit, Boolean> getPhysicalTreeNodeExpansionStates(DefaultTreeNode tree) {
         if (Objects.nonNull(tree) && tree.getChildCount() == 1) {
             TreeNode treeRoot = tree.getChildren().get(0);
             MediaUnit mediaUnit = getTreeNodeMediaUnit(treeRoot);
             if (Objects.nonNull(mediaUnit)) {
-                return getPhysicalTreeNodeExpansionStatesRecursively(treeRoot, new HashMap<>());
+                return getPhysicalTreeNodeExpansionStatesRecursively(treeRoot, new IdentityHashMap<>());
             }
         }
-        return new HashMap<>();
+        return new IdentityHashMap<>();
     }
 
-    private HashMap<MediaUnit, Boolean> getPhysicalTreeNodeExpansionStatesRecursively(TreeNode treeNode,
-            HashMap<MediaUnit, Boolean> expansionStates) {
+    private Map<MediaUnit, Boolean> getPhysicalTreeNodeExpansionStatesRecursively(TreeNode treeNode,
+            Map<MediaUnit, Boolean> expansionStates) {
         if (Objects.nonNull(treeNode)) {
             MediaUnit mediaUnit = getTreeNodeMediaUnit(treeNode);
             if (Objects.nonNull(mediaUnit)) {
                 expansionStates.put(mediaUnit, treeNode.isExpanded());
                 for (TreeNode childNode : treeNode.getChildren()) {
-                    expansionStates.putAll(getPhysicalTreeNodeExpansionStatesRecursively(childNode, expansionStates));
+                    getPhysicalTreeNodeExpansionStatesRecursively(childNode, expansionStates);
                 }
             }
         }
         return expansionStates;
     }
 
-    private void updateLogicalNodeExpansionStates(DefaultTreeNode tree, HashMap<IncludedStructuralElement, Boolean> expansionStates) {
+    private void updateLogicalNodeExpansionStates(DefaultTreeNode tree, Map<IncludedStructuralElement, Boolean> expansionStates) {
         if (Objects.nonNull(tree) && Objects.nonNull(expansionStates) && !expansionStates.isEmpty()) {
             updateNodeExpansionStatesRecursively(tree, expansionStates);
         }
     }
 
-    private void updateNodeExpansionStatesRecursively(TreeNode treeNode, HashMap<IncludedStructuralElement, Boolean> expansionStates) {
+    private void updateNodeExpansionStatesRecursively(TreeNode treeNode, Map<IncludedStructuralElement, Boolean> expansionStates) {
         IncludedStructuralElement element = getTreeNodeStructuralElement(treeNode);
         if (Objects.nonNull(element) && expansionStates.containsKey(element)) {
             treeNode.setExpanded(expansionStates.get(element));
@@ -1391,13 +1466,13 @@ public class StructurePanel implements Serializable {
         }
     }
 
-    private void updatePhysicalNodeExpansionStates(DefaultTreeNode tree, HashMap<MediaUnit, Boolean> expansionStates) {
+    private void updatePhysicalNodeExpansionStates(DefaultTreeNode tree, Map<MediaUnit, Boolean> expansionStates) {
         if (Objects.nonNull(tree) && Objects.nonNull(expansionStates) && !expansionStates.isEmpty()) {
             updatePhysicalNodeExpansionStatesRecursively(tree, expansionStates);
         }
     }
 
-    private void updatePhysicalNodeExpansionStatesRecursively(TreeNode treeNode, HashMap<MediaUnit, Boolean> expansionStates) {
+    private void updatePhysicalNodeExpansionStatesRecursively(TreeNode treeNode, Map<MediaUnit, Boolean> expansionStates) {
         MediaUnit mediaUnit = getTreeNodeMediaUnit(treeNode);
         if (Objects.nonNull(mediaUnit) && expansionStates.containsKey(mediaUnit)) {
             treeNode.setExpanded(expansionStates.get(mediaUnit));
@@ -1407,12 +1482,12 @@ public class StructurePanel implements Serializable {
         }
     }
 
-    private boolean logicalNodeStateUnknown(HashMap<IncludedStructuralElement, Boolean> expansionStates, TreeNode treeNode) {
+    private boolean logicalNodeStateUnknown(Map<IncludedStructuralElement, Boolean> expansionStates, TreeNode treeNode) {
         IncludedStructuralElement element = getTreeNodeStructuralElement(treeNode);
         return !Objects.nonNull(expansionStates) || (Objects.nonNull(element) && !expansionStates.containsKey(element));
     }
 
-    private boolean physicalNodeStateUnknown(HashMap<MediaUnit, Boolean> expanionStates, TreeNode treeNode) {
+    private boolean physicalNodeStateUnknown(Map<MediaUnit, Boolean> expanionStates, TreeNode treeNode) {
         MediaUnit mediaUnit = getTreeNodeMediaUnit(treeNode);
         return Objects.isNull(expanionStates) || (Objects.nonNull(mediaUnit) && !expanionStates.containsKey(mediaUnit));
     }
@@ -1536,6 +1611,7 @@ public class StructurePanel implements Serializable {
             IncludedStructuralElement includedStructuralElement = (IncludedStructuralElement) structureTreeNodeSibling.getDataObject();
             dataEditor.assignView(includedStructuralElement, viewToAssign, 0);
             severalAssignments.add(viewToAssign.getMediaUnit());
+            dataEditor.getWorkpiece().markAsModified();
             show();
             dataEditor.getGalleryPanel().updateStripes();
         }
@@ -1558,6 +1634,7 @@ public class StructurePanel implements Serializable {
                     if (view.getMediaUnit().getIncludedStructuralElements().size() <= 1) {
                         severalAssignments.remove(view.getMediaUnit());
                     }
+                    dataEditor.getWorkpiece().markAsModified();
                     show();
                     dataEditor.getGalleryPanel().updateStripes();
                 }
@@ -0,0 +1,206 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.database.beans.BaseIndexedBean;
+import org.kitodo.data.database.exceptions.DAOException;
+import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
+import org.kitodo.data.exceptions.DataException;
+import org.kitodo.production.services.data.base.SearchService;
+
+/**
+ * Indexes objects in three stages connected by bounded queues: one thread
+ * reads batches of objects from the database, several threads create the
+ * index documents (for processes this includes parsing the metadata file) and
+ * several threads send the documents to the index in bulk requests. If a stage
+ * is slower than the one before, the full queue blocks the faster stage.
+ *
+ * @param <T>
+ *            type of the indexed objects
+ */
+public class IndexPipeline<T extends BaseIndexedBean> {
+
+    private static final AtomicInteger threadNumber = new AtomicInteger();
+
+    private final SearchService<T, ?, ?> searchService;
+    private final int builderThreads;
+    private final int writerThreads;
+    private final int queueSize;
+
+    /*
+     * Markers telling the stages that no more work will come. They are
+     * compared by identity.
+     */
+    private final List<T> endOfBeans = new ArrayList<>();
+    private final Map<Integer, Map<String, Object>> endOfDocuments = new HashMap<>();
+
+    /**
+     * Supplies the objects to index batch by batch.
+     *
+     * @param <T>
+     *            type of the indexed objects
+     */
+    @FunctionalInterface
+    public interface BatchReader<T> {
+        /**
+         * Read the next batch of objects.
+         *
+         * @return the next batch, an empty list if all objects have been read
+         */
+        List<T> readNextBatch() throws DAOException;
+    }
+
+    /**
+     * Constructor initializing an IndexPipeline with the number of threads and
+     * the queue size from the configuration.
+     *
+     * @param searchService
+     *            SearchService instance used for indexing
+     */
+    public IndexPipeline(SearchService<T, ?, ?> searchService) {
+        this(searchService,
+                ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_INDEX_BUILDER_THREADS),
+                ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_INDEX_WRITER_THREADS),
+                ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_INDEX_QUEUE_SIZE));
+    }
+
+    /**
+     * Constructor initializing an IndexPipeline.
+     *
+     * @param searchService
+     *            SearchService instance used for indexing
+     * @param builderThreads
+     *            number of threads creating index documents
+     * @param writerThreads
+     *            number of threads sending bulk requests
+     * @param queueSize
+     *            number of batches which may wait between two stages
+     */
+    public IndexPipeline(SearchService<T, ?, ?> searchService, int builderThreads, int writerThreads,
+            int queueSize) {
+        this.searchService = searchService;
+        this.builderThreads = Math.max(1, builderThreads);
+        this.writerThreads = Math.max(1, writerThreads);
+        this.queueSize = Math.max(1, queueSize);
+    }
+
+    /**
+     * Index all objects supplied by the given reader. The method returns when
+     * all objects have been indexed or the first stage failed; in the latter
+     * case all other stages are stopped.
+     *
+     * @param reader
+     *            supplies the objects to index, it is only called from one
+     *            thread
+     * @param progress
+     *            called with the number of objects after each successful bulk
+     *            request, may be called from several threads
+     * @throws DataException
+     *             if reading, creating documents or indexing fails
+     */
+    public void run(BatchReader<T> reader, IntConsumer progress) throws DataException {
+        BlockingQueue<List<T>> beans = new ArrayBlockingQueue<>(queueSize);
+        BlockingQueue<Map<Integer, Map<String, Object>>> documents = new ArrayBlockingQueue<>(queueSize);
+        AtomicInteger runningBuilders = new AtomicInteger(builderThreads);
+
+        ExecutorService executor = Executors.newFixedThreadPool(1 + builderThreads + writerThreads,
+            createThreadFactory());
+        CompletionService<Void> stages = new ExecutorCompletionService<>(executor);
+        try {
+            stages.submit(() -> read(reader, beans));
+            for (int i = 0; i < builderThreads; i++) {
+                stages.submit(() -> build(beans, documents, runningBuilders));
+            }
+            for (int i = 0; i < writerThreads; i++) {
+                stages.submit(() -> write(documents, progress));
+            }
+            for (int i = 0; i < 1 + builderThreads + writerThreads; i++) {
+                stages.take().get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new DataException((Exception) e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Void read(BatchReader<T> reader, BlockingQueue<List<T>> beans) throws DAOException,
+            InterruptedException {
+        List<T> batch = reader.readNextBatch();
+        while (!batch.isEmpty()) {
+            beans.put(batch);
+            batch = reader.readNextBatch();
+        }
+        for (int i = 0; i < builderThreads; i++) {
+            beans.put(endOfBeans);
+        }
+        return null;
+    }
+
+    private Void build(BlockingQueue<List<T>> beans, BlockingQueue<Map<Integer, Map<String, Object>>> documents,
+            AtomicInteger runningBuilders) throws InterruptedException {
+        List<T> batch = beans.take();
+        while (batch != endOfBeans) {
+            documents.put(searchService.createDocuments(batch));
+            batch = beans.take();
+        }
+        if (runningBuilders.decrementAndGet() == 0) {
+            for (int i = 0; i < writerThreads; i++) {
+                documents.put(endOfDocuments);
+            }
+        }
+        return null;
+    }
+
+    private Void write(BlockingQueue<Map<Integer, Map<String, Object>>> documents, IntConsumer progress)
+            throws CustomResponseException, InterruptedException {
+        Map<Integer, Map<String, Object>> batch = documents.take();
+        while (batch != endOfDocuments) {
+            searchService.addDocumentsToIndex(batch);
+            progress.accept(batch.size());
+            batch = documents.take();
+        }
+        return null;
+    }
+
+    private static ThreadFactory createThreadFactory() {
+        return runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("IndexPipeline-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
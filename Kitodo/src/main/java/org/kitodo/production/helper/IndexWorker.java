@@ -11,13 +11,17 @@
 
 package org.kitodo.production.helper;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hibernate.HibernateException;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.database.beans.BaseBean;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
 import org.kitodo.data.exceptions.DataException;
@@ -25,8 +29,11 @@ import org.kitodo.production.services.data.base.SearchService;
 
 public class IndexWorker implements Runnable {
 
-    private int indexedObjects = 0;
+    private final AtomicInteger indexedObjects = new AtomicInteger();
+    private int readObjects = 0;
     private int startIndexing;
+    private Integer startAfterId;
+    private Integer lastId;
     private boolean indexAllObjects = true;
     private SearchService searchService;
     private static final Logger logger = LogManager.getLogger(IndexWorker.class);
@@ -58,7 +65,9 @@ public class IndexWorker implements Runnable {
     @Override
     @SuppressWarnings("unchecked")
     public void run() {
-        this.indexedObjects = 0;
+        this.indexedObjects.set(0);
+        this.readObjects = 0;
+        this.lastId = this.startAfterId;
         int batchSize = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_BATCH);
         int indexLimit = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_INDEXLIMIT);
         try {
@@ -74,9 +83,7 @@ public class IndexWorker implements Runnable {
                 if (amountToIndex > indexLimit) {
                     amountToIndex = indexLimit;
                 }
-                while (this.indexedObjects < amountToIndex) {
-                    indexChunks(batchSize);
-                }
+                indexChunks(batchSize, amountToIndex);
             }
         } catch (CustomResponseException | DAOException | DataException | HibernateException e) {
             logger.error(e.getMessage(), e);
@@ -92,29 +99,56 @@ public class IndexWorker implements Runnable {
     }
 
     @SuppressWarnings("unchecked")
-    private void indexChunks(int batchSize) throws CustomResponseException, DAOException, DataException {
-        List<Object> objectsToIndex;
-        int indexLimit = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_INDEXLIMIT);
-        while (this.indexedObjects < indexLimit) {
-            int offset = this.indexedObjects + this.startIndexing;
+    private void indexChunks(int batchSize, int amountToIndex) throws DataException {
+        IndexPipeline indexPipeline = new IndexPipeline(searchService);
+        indexPipeline.run(() -> readChunk(batchSize, amountToIndex), this.indexedObjects::addAndGet);
+    }
 
-            if (indexAllObjects) {
-                objectsToIndex = searchService.getAll(offset, batchSize);
-            } else {
-                objectsToIndex = searchService.getAllNotIndexed(offset, batchSize);
-            }
-            if (objectsToIndex.isEmpty()) {
-                break;
-            }
+    @SuppressWarnings("unchecked")
+    private List<Object> readChunk(int batchSize, int amountToIndex) throws DAOException {
+        int size = Math.min(batchSize, amountToIndex - this.readObjects);
+        if (size <= 0) {
+            return Collections.emptyList();
+        }
+        if (Objects.isNull(this.lastId)) {
+            this.lastId = getIdBeforeStart();
+        }
 
-            indexObjects(objectsToIndex);
+        List<Object> objectsToIndex;
+        if (indexAllObjects) {
+            objectsToIndex = searchService.getAfterId(this.lastId, size);
+        } else {
+            objectsToIndex = searchService.getAllNotIndexedAfterId(this.lastId, size);
         }
+        if (!objectsToIndex.isEmpty()) {
+            this.lastId = ((BaseBean) objectsToIndex.get(objectsToIndex.size() - 1)).getId();
+        }
+        this.readObjects = this.readObjects + objectsToIndex.size();
+        return objectsToIndex;
+    }
+
+    /**
+     * Determine the id after which this worker starts, if it was not handed
+     * over by the preceding worker. This is the only query using an offset.
+     */
+    @SuppressWarnings("unchecked")
+    private Integer getIdBeforeStart() throws DAOException {
+        if (this.startIndexing == 0) {
+            return 0;
+        }
+        List<Object> objects;
+        if (indexAllObjects) {
+            objects = searchService.getAll(this.startIndexing - 1, 1);
+        } else {
+            objects = searchService.getAllNotIndexed(this.startIndexing - 1, 1);
+        }
+        return objects.isEmpty() ? Integer.MAX_VALUE : ((BaseBean) objects.get(0)).getId();
     }
 
     @SuppressWarnings("unchecked")
     private void indexObjects(List<Object> objectsToIndex) throws CustomResponseException, DAOException {
         this.searchService.addAllObjectsToIndex(objectsToIndex);
-        this.indexedObjects = this.indexedObjects + objectsToIndex.size();
+        this.indexedObjects.addAndGet(objectsToIndex.size());
     }
 
     /**
@@ -124,7 +158,7 @@ public class IndexWorker implements Runnable {
      * @return int the number of objects indexed during the current indexing run
      */
     public int getIndexedObjects() {
-        return indexedObjects + startIndexing;
+        return indexedObjects.get() + startIndexing;
     }
 
     /**
@@ -137,4 +171,28 @@ public class IndexWorker implements Runnable {
     public void setIndexAllObjects(boolean indexAllObjects) {
         this.indexAllObjects = indexAllObjects;
     }
+
+    /**
+     * Set the id after which this worker starts reading. Handing over the last
+     * id of the preceding worker avoids an offset query and makes sure no
+     * object is skipped or indexed twice if objects are added or removed in
+     * the meantime.
+     *
+     * @param startAfterId
+     *            id of the last object indexed by the preceding worker, null
+     *            to determine it from the start index
+     */
+    public void setStartAfterId(Integer startAfterId) {
+        this.startAfterId = startAfterId;
+    }
+
+    /**
+     * Return the id of the last object read by this worker.
+     *
+     * @return id of the last object read, null if the worker did not read in
+     *         batches
+     */
+    public Integer getLastId() {
+        return lastId;
+    }
 }
@@ -11,38 +11,83 @@
 
 package org.kitodo.production.helper;
 
+import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.PageSize;
+import com.itextpdf.text.Paragraph;
+import com.itextpdf.text.Rectangle;
+import com.itextpdf.text.pdf.PdfPTable;
+import com.itextpdf.text.pdf.PdfWriter;
+
 import java.io.IOException;
-import java.net.URI;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.text.DateFormat;
+import java.text.ParseException;
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Objects;
 import java.util.TimeZone;
+import java.util.stream.Stream;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.apache.poi.hssf.usermodel.HSSFRow;
-import org.apache.poi.hssf.usermodel.HSSFSheet;
-import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.search.sort.SortOrder;
-import org.kitodo.api.dataformat.MediaUnit;
-import org.kitodo.api.dataformat.Workpiece;
-import org.kitodo.data.database.beans.Process;
-import org.kitodo.data.database.exceptions.DAOException;
+import org.kitodo.data.elasticsearch.index.type.enums.ProcessTypeField;
 import org.kitodo.data.exceptions.DataException;
-import org.kitodo.production.dto.ProcessDTO;
 import org.kitodo.production.enums.ObjectType;
 import org.kitodo.production.services.ServiceManager;
-import org.kitodo.production.services.dataformat.MetsService;
 
+/**
+ * Generates the search result of the process list as spreadsheet or PDF. The
+ * process documents are streamed from the index and written row by row, the
+ * numbers of images, structural elements and metadata are taken from the sort
+ * helpers of the index, so no metadata file is read.
+ */
 public class SearchResultGeneration {
 
+    private static final Logger logger = LogManager.getLogger(SearchResultGeneration.class);
+
+    /**
+     * Number of rows kept in memory while writing the spreadsheet, older rows
+     * are flushed to a temporary file.
+     */
+    private static final int ROW_ACCESS_WINDOW_SIZE = 100;
+
+    /**
+     * Number of rows after which the rows of the PDF table are written to the
+     * document.
+     */
+    private static final int PDF_ROWS_PER_CHUNK = 500;
+
+    private static final String[] HEADER = {"title", "ID", "Datum", "CountImages", "CountStructuralElements",
+                                            "CountMetadata", "Project", "Status" };
+
     private String filter;
     private boolean showClosedProcesses;
     private boolean showInactiveProjects;
-    private static final Logger logger = LogManager.getLogger(SearchResultGeneration.class);
+
+    /**
+     * Receives the rows of the search result one after another.
+     *
+     * @param <E>
+     *            exception thrown if a row cannot be written
+     */
+    @FunctionalInterface
+    private interface RowWriter<E extends Exception> {
+        /**
+         * Write a row.
+         *
+         * @param cells
+         *            values of the cells, numbers or strings
+         */
+        void writeRow(Object[] cells) throws E;
+    }
 
     /**
      * Constructor.
@@ -61,34 +106,94 @@ public class SearchResultGeneration {
     }
 
     /**
-     * Get result.
+     * Write the result as spreadsheet in the format of Office Open XML. Only a
+     * small window of rows is kept in memory, so the number of processes is
+     * not limited.
      *
-     * @return HSSFWorkbook
+     * @param outputStream
+     *            stream to write the spreadsheet to
+     * @throws IOException
+     *             if the result cannot be read from the index or written
      */
-    public HSSFWorkbook getResult() {
-        List<ProcessDTO> resultsWithFilter = getResultsWithFilter();
-
-        List<Process> processes = new ArrayList<>();
+    public void writeResult(OutputStream outputStream) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
         try {
-            processes = ServiceManager.getProcessService().convertDtosToBeans(resultsWithFilter);
-        } catch (DAOException e) {
-            logger.error(e.getMessage(), e);
+            Sheet sheet = workbook.createSheet("Search results");
+            Row title = sheet.createRow(0);
+            title.createCell(0).setCellValue(this.filter);
+            for (int i = 1; i < HEADER.length; i++) {
+                title.createCell(i).setCellValue("");
+            }
+            this.<RuntimeException>writeRows(cells -> {
+                Row row = sheet.createRow(sheet.getLastRowNum() + 1);
+                for (int i = 0; i < cells.length; i++) {
+                    if (cells[i] instanceof Number) {
+                        row.createCell(i).setCellValue(((Number) cells[i]).doubleValue());
+                    } else {
+                        row.createCell(i).setCellValue(Objects.toString(cells[i], ""));
+                    }
+                }
+            });
+            workbook.write(outputStream);
+        } finally {
+            workbook.dispose();
+            workbook.close();
         }
-
-        return getWorkbook(processes);
     }
 
-    private List<ProcessDTO> getResultsWithFilter() {
-        List<ProcessDTO> processDTOS = new ArrayList<>();
+    /**
+     * Write the result as PDF. The rows of the table are added to the document
+     * in chunks, so the number of processes is not limited.
+     *
+     * @param outputStream
+     *            stream to write the PDF to
+     * @throws DocumentException
+     *             if the PDF cannot be created
+     * @throws IOException
+     *             if the result cannot be read from the index
+     */
+    public void writeResultAsPdf(OutputStream outputStream) throws DocumentException, IOException {
+        Document document = new Document();
+        Rectangle rectangle = new Rectangle(PageSize.A3.getHeight(), PageSize.A3.getWidth());
+        PdfWriter.getInstance(document, outputStream);
+        document.setPageSize(rectangle);
+        document.open();
+        document.add(new Paragraph(Objects.toString(this.filter, "")));
 
-        try {
-            processDTOS = ServiceManager.getProcessService().findByQuery(getQueryForFilter(ObjectType.PROCESS),
-                    ServiceManager.getProcessService().sortByTitle(SortOrder.ASC), false);
-        } catch (DataException e) {
-            logger.error(e.getMessage(), e);
+        PdfPTable table = new PdfPTable(HEADER.length);
+        table.setSpacingBefore(20);
+        table.setWidths(new int[] {4, 1, 2, 1, 1, 1, 2, 2 });
+        table.setComplete(false);
+        int[] rowsInTable = {0 };
+        this.<DocumentException>writeRows(cells -> {
+            for (Object cell : cells) {
+                table.addCell(Objects.toString(cell, ""));
+            }
+            if (++rowsInTable[0] % PDF_ROWS_PER_CHUNK == 0) {
+                document.add(table);
+            }
+        });
+        table.setComplete(true);
+        document.add(table);
+        document.close();
+    }
+
+    private <E extends Exception> void writeRows(RowWriter<E> rowWriter) throws E, IOException {
+        Object[] header = new Object[HEADER.length];
+        for (int i = 0; i < HEADER.length; i++) {
+            header[i] = Helper.getTranslation(HEADER[i]);
         }
+        rowWriter.writeRow(header);
 
-        return processDTOS;
+        try (Stream<Map<String, Object>> documents = ServiceManager.getProcessService().streamDocuments(
+            getQueryForFilter(ObjectType.PROCESS), ServiceManager.getProcessService().sortByTitle(SortOrder.ASC))) {
+            Iterator<Map<String, Object>> iterator = documents.iterator();
+            while (iterator.hasNext()) {
+                rowWriter.writeRow(prepareRow(iterator.next()));
+            }
+        } catch (DataException | UncheckedIOException e) {
+            throw new IOException(e.getMessage(), e);
+        }
     }
 
     /**
@@ -115,69 +220,41 @@ public class SearchResultGeneration {
         return query;
     }
 
-    private HSSFWorkbook getWorkbook(List<Process> processes) {
-        HSSFWorkbook workbook = new HSSFWorkbook();
-        HSSFSheet sheet = workbook.createSheet("Search results");
-
-        HSSFRow title = sheet.createRow(0);
-        title.createCell(0).setCellValue(this.filter);
-        for (int i = 1; i < 8; i++) {
-            title.createCell(i).setCellValue("");
+    private Object[] prepareRow(Map<String, Object> document) {
+        Object[] cells = new Object[HEADER.length];
+        cells[0] = document.get(ProcessTypeField.TITLE.getKey());
+        cells[1] = document.get(ProcessTypeField.ID.getKey());
+        cells[2] = getGmtCreationDate((String) document.get(ProcessTypeField.CREATION_DATE.getKey()));
+        cells[3] = getCount(document, ProcessTypeField.SORT_HELPER_IMAGES);
+        cells[4] = getCount(document, ProcessTypeField.SORT_HELPER_DOCSTRUCTS);
+        cells[5] = getCount(document, ProcessTypeField.SORT_HELPER_METADATA);
+        cells[6] = document.get(ProcessTypeField.PROJECT_TITLE.getKey());
+        String sortHelperStatus = (String) document.get(ProcessTypeField.SORT_HELPER_STATUS.getKey());
+        if (Objects.nonNull(sortHelperStatus) && sortHelperStatus.length() > 6) {
+            cells[7] = sortHelperStatus.substring(0, 3) + " / " + sortHelperStatus.substring(3, 6) + " / "
+                    + sortHelperStatus.substring(6);
+        } else {
+            cells[7] = "";
         }
+        return cells;
+    }
 
-        HSSFRow rowHeader = sheet.createRow(1);
-        rowHeader.createCell(0).setCellValue(Helper.getTranslation("title"));
-        rowHeader.createCell(1).setCellValue(Helper.getTranslation("ID"));
-        rowHeader.createCell(2).setCellValue(Helper.getTranslation("Datum"));
-        rowHeader.createCell(3).setCellValue(Helper.getTranslation("CountImages"));
-        rowHeader.createCell(4).setCellValue(Helper.getTranslation("CountStructuralElements"));
-        rowHeader.createCell(5).setCellValue(Helper.getTranslation("CountMetadata"));
-        rowHeader.createCell(6).setCellValue(Helper.getTranslation("Project"));
-        rowHeader.createCell(7).setCellValue(Helper.getTranslation("Status"));
-
-        int rowCounter = 2;
-        for (Process process : processes) {
-            prepareRow(rowCounter, sheet, process);
-            rowCounter++;
-        }
-        return workbook;
+    private static int getCount(Map<String, Object> document, ProcessTypeField field) {
+        Object count = document.get(field.getKey());
+        return count instanceof Number ? ((Number) count).intValue() : 0;
     }
 
-    private void prepareRow(int rowCounter, HSSFSheet sheet, Process process) {
-        HSSFRow row = sheet.createRow(rowCounter);
-        row.createCell(0).setCellValue(process.getTitle());
-        row.createCell(1).setCellValue(process.getId());
-        DateFormat df = new SimpleDateFormat("dd MMM yyyy kk:mm:ss z");
-        df.setTimeZone(TimeZone.getTimeZone("GMT"));
-        String gmtCreationDate = df.format(process.getCreationDate());
-        row.createCell(2).setCellValue(gmtCreationDate);
-
-        URI metadataFilePath;
-        int numberOfProcessImages = 0;
-        int numberOfProcessStructuralElements = 0;
-        int numberOfProcessMetadata = 0;
-        try {
-            metadataFilePath = ServiceManager.getFileService().getMetadataFilePath(process);
-            Workpiece workpiece = ServiceManager.getMetsService().loadWorkpiece(metadataFilePath);
-            numberOfProcessImages = (int) Workpiece.treeStream(workpiece.getMediaUnit())
-                    .filter(mediaUnit -> Objects.equals(mediaUnit.getType(), MediaUnit.TYPE_PAGE)).count();
-            numberOfProcessStructuralElements = (int) Workpiece.treeStream(workpiece.getRootElement()).count();
-            numberOfProcessMetadata = Math.toIntExact(MetsService.countLogicalMetadata(workpiece));
-
-        } catch (IOException e) {
-            logger.debug("Metadata file not found for process with id: " + process.getId());
+    private static String getGmtCreationDate(String creationDate) {
+        if (Objects.isNull(creationDate) || creationDate.isEmpty()) {
+            return "";
         }
-
-        row.createCell(3).setCellValue(numberOfProcessImages);
-        row.createCell(4).setCellValue(numberOfProcessStructuralElements);
-        row.createCell(5).setCellValue(numberOfProcessMetadata);
-        row.createCell(6).setCellValue(process.getProject().getTitle());
-        String sortHelperStatus = "";
-        if (Objects.nonNull(process.getSortHelperStatus())) {
-            sortHelperStatus = process.getSortHelperStatus().substring(0, 3) + " / "
-                    + process.getSortHelperStatus().substring(3, 6) + " / "
-                    + process.getSortHelperStatus().substring(6);
+        try {
+            DateFormat df = new SimpleDateFormat("dd MMM yyyy kk:mm:ss z");
+            df.setTimeZone(TimeZone.getTimeZone("GMT"));
+            return df.format(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").parse(creationDate));
+        } catch (ParseException e) {
+            logger.debug("Unparsable creation date: " + creationDate);
+            return creationDate;
         }
-        row.createCell(7).setCellValue(sortHelperStatus);
     }
 }
@@ -0,0 +1,261 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.metadata;
+
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.json.XML;
+
+/**
+ * Extracts the descriptive metadata sections ({@code mets:dmdSec}) of a METS
+ * file for the search index. The file is read with a StAX stream reader, so
+ * only the dmdSec subtrees are held in memory; the file section and the
+ * structure maps, which make up the bulk of large METS files, are skipped
+ * without being materialized.
+ *
+ * <p>
+ * The produced maps have the same shape as the ones formerly built by
+ * converting the whole file with {@link XML#toJSONObject(String)}: namespace
+ * prefixes are removed from the keys, text content is stored under
+ * {@code content}, repeated elements become lists, and only string and
+ * integer values are kept.
+ */
+public class MetsDmdSecExtractor {
+
+    private static final String CONTENT = "content";
+    private static final String DMD_SEC = "dmdSec";
+    private static final String METS = "mets";
+    private static final String XMLNS = "xmlns";
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private MetsDmdSecExtractor() {
+
+    }
+
+    /**
+     * Reads the dmdSec elements from the METS file in the given stream. The
+     * stream is not closed.
+     *
+     * @param inputStream
+     *            stream to read the METS file from
+     * @return list of dmdSec elements as maps, empty if the document root is
+     *         not a METS element
+     * @throws XMLStreamException
+     *             if the file is not well-formed
+     */
+    public static List<Map<String, Object>> extract(InputStream inputStream) throws XMLStreamException {
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+        try {
+            return extract(reader);
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static List<Map<String, Object>> extract(XMLStreamReader reader) throws XMLStreamException {
+        reader.nextTag();
+        if (!METS.equals(reader.getLocalName())) {
+            return Collections.emptyList();
+        }
+        List<Map<String, Object>> dmdSecs = new ArrayList<>();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if (DMD_SEC.equals(reader.getLocalName())) {
+                Object dmdSec = readElement(reader);
+                if (dmdSec instanceof Map) {
+                    dmdSecs.add(convertObject(castToMap(dmdSec)));
+                }
+            } else {
+                skipElement(reader);
+            }
+        }
+        return dmdSecs;
+    }
+
+    /**
+     * Reads the element at the current position of the reader, including all
+     * its children. When this method returns, the reader is positioned on the
+     * end tag of the element.
+     */
+    private static Object readElement(XMLStreamReader reader) throws XMLStreamException {
+        Deque<Map<String, Object>> objects = new ArrayDeque<>();
+        Deque<String> names = new ArrayDeque<>();
+        StringBuilder text = new StringBuilder();
+        objects.push(readAttributes(reader));
+        names.push(getQualifiedName(reader));
+        while (true) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    flushText(text, objects.peek());
+                    objects.push(readAttributes(reader));
+                    names.push(getQualifiedName(reader));
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.SPACE:
+                case XMLStreamConstants.ENTITY_REFERENCE:
+                    text.append(reader.getText());
+                    break;
+                case XMLStreamConstants.CDATA:
+                    flushText(text, objects.peek());
+                    if (reader.getTextLength() > 0) {
+                        accumulate(objects.peek(), CONTENT, reader.getText());
+                    }
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    flushText(text, objects.peek());
+                    Map<String, Object> object = objects.pop();
+                    String name = names.pop();
+                    Object value = toValue(object);
+                    if (objects.isEmpty()) {
+                        return value;
+                    }
+                    accumulate(objects.peek(), name, value);
+                    break;
+                default:
+                    flushText(text, objects.peek());
+                    break;
+            }
+        }
+    }
+
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static Map<String, Object> readAttributes(XMLStreamReader reader) {
+        Map<String, Object> object = new LinkedHashMap<>();
+        for (int i = 0; i < reader.getNamespaceCount(); i++) {
+            String prefix = reader.getNamespacePrefix(i);
+            String key = prefix == null || prefix.isEmpty() ? XMLNS : XMLNS + ':' + prefix;
+            accumulate(object, key, XML.stringToValue(reader.getNamespaceURI(i)));
+        }
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String prefix = reader.getAttributePrefix(i);
+            String localName = reader.getAttributeLocalName(i);
+            String key = prefix == null || prefix.isEmpty() ? localName : prefix + ':' + localName;
+            accumulate(object, key, XML.stringToValue(reader.getAttributeValue(i)));
+        }
+        return object;
+    }
+
+    private static String getQualifiedName(XMLStreamReader reader) {
+        String prefix = reader.getPrefix();
+        return prefix == null || prefix.isEmpty() ? reader.getLocalName() : prefix + ':' + reader.getLocalName();
+    }
+
+    private static void flushText(StringBuilder text, Map<String, Object> object) {
+        if (text.length() > 0) {
+            String content = text.toString().trim();
+            text.setLength(0);
+            if (!content.isEmpty()) {
+                accumulate(object, CONTENT, XML.stringToValue(content));
+            }
+        }
+    }
+
+    private static Object toValue(Map<String, Object> object) {
+        if (object.isEmpty()) {
+            return "";
+        } else if (object.size() == 1 && object.containsKey(CONTENT)) {
+            return object.get(CONTENT);
+        }
+        return object;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void accumulate(Map<String, Object> object, String key, Object value) {
+        Object present = object.get(key);
+        if (present == null) {
+            object.put(key, value);
+        } else if (present instanceof List) {
+            ((List<Object>) present).add(value);
+        } else {
+            List<Object> values = new ArrayList<>();
+            values.add(present);
+            values.add(value);
+            object.put(key, values);
+        }
+    }
+
+    private static Map<String, Object> convertObject(Map<String, Object> object) {
+        Map<String, Object> converted = new HashMap<>();
+        for (Entry<String, Object> entry : object.entrySet()) {
+            Object value = entry.getValue();
+            if (value instanceof String || value instanceof Integer) {
+                converted.put(prepareKey(entry.getKey()), value);
+            } else if (value instanceof Map) {
+                converted.put(prepareKey(entry.getKey()), convertObject(castToMap(value)));
+            } else if (value instanceof List) {
+                converted.put(prepareKey(entry.getKey()), convertArray((List<?>) value));
+            }
+        }
+        return converted;
+    }
+
+    private static List<Object> convertArray(List<?> array) {
+        List<Object> converted = new ArrayList<>(array.size());
+        for (Object value : array) {
+            if (value instanceof Map) {
+                converted.add(convertObject(castToMap(value)));
+            } else if (value instanceof String) {
+                converted.add(value);
+            } else if (value instanceof List) {
+                converted.add(convertArray((List<?>) value));
+            }
+        }
+        return converted;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> castToMap(Object value) {
+        return (Map<String, Object>) value;
+    }
+
+    private static String prepareKey(String key) {
+        if (key.contains(":")) {
+            return key.substring(key.indexOf(':') + 1);
+        }
+        return key;
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return xmlInputFactory;
+    }
+}
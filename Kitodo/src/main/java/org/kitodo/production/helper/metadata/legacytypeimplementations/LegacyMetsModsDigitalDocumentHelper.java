@@ -78,7 +78,18 @@ public class LegacyMetsModsDigitalDocumentHelper {
      */
     @Deprecated
     public LegacyMetsModsDigitalDocumentHelper() {
-        this.ruleset = rulesetManagementService.getRulesetManagement();
+        this(rulesetManagementService.getRulesetManagement());
+    }
+
+    /**
+     * Creates a new legacy METS MODS digital document helper with a ruleset.
+     *
+     * @param ruleset
+     *            ruleset to set
+     */
+    @Deprecated
+    public LegacyMetsModsDigitalDocumentHelper(RulesetManagementInterface ruleset) {
+        this.ruleset = ruleset;
         this.workpiece = new Workpiece();
 
         try {
@@ -96,18 +107,6 @@ public class LegacyMetsModsDigitalDocumentHelper {
         }
     }
 
-    /**
-     * Creates a new legacy METS MODS digital document helper with a ruleset.
-     *
-     * @param ruleset
-     *            ruleset to set
-     */
-    @Deprecated
-    public LegacyMetsModsDigitalDocumentHelper(RulesetManagementInterface ruleset) {
-        this();
-        this.ruleset = ruleset;
-    }
-
     /**
      * Creates a new legacy METS MODS digital document helper with a workpiece.
      *
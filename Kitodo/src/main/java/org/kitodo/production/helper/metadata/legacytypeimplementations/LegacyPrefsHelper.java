@@ -11,8 +11,6 @@
 
 package org.kitodo.production.helper.metadata.legacytypeimplementations;
 
-import java.io.File;
-import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -29,7 +27,6 @@ import org.kitodo.api.dataeditor.rulesetmanagement.StructuralElementViewInterfac
 import org.kitodo.data.database.beans.User;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.services.ServiceManager;
-import org.kitodo.production.services.dataeditor.RulesetManagementService;
 
 /**
  * Connects a legacy prefs to a ruleset. This is a soldering class to keep
@@ -38,14 +35,29 @@ import org.kitodo.production.services.dataeditor.RulesetManagementService;
 public class LegacyPrefsHelper {
     private static final Logger logger = LogManager.getLogger(LegacyPrefsHelper.class);
 
-    private static final RulesetManagementService rulesetManagementService = ServiceManager
-            .getRulesetManagementService();
-
     /**
      * The ruleset accessed via this soldering class.
      */
     private RulesetManagementInterface ruleset;
 
+    /**
+     * Creates a legacy prefs helper without a ruleset.
+     */
+    @Deprecated
+    public LegacyPrefsHelper() {
+    }
+
+    /**
+     * Creates a legacy prefs helper for a ruleset.
+     *
+     * @param ruleset
+     *            ruleset to access
+     */
+    @Deprecated
+    public LegacyPrefsHelper(RulesetManagementInterface ruleset) {
+        this.ruleset = ruleset;
+    }
+
     /**
      * MetadataType aus Preferences ermitteln.
      *
@@ -116,18 +128,4 @@ public class LegacyPrefsHelper {
     public RulesetManagementInterface getRuleset() {
         return ruleset;
     }
-
-    /**
-     * Loads all known DocStruct types from the prefs XML file.
-     *
-     * @param fileName
-     *            file to load
-     */
-    @Deprecated
-    public void loadPrefs(String fileName) throws IOException {
-        File rulesetFile = new File(fileName);
-        RulesetManagementInterface loadRuleset = rulesetManagementService.getRulesetManagement();
-        loadRuleset.load(rulesetFile);
-        this.ruleset = loadRuleset;
-    }
 }
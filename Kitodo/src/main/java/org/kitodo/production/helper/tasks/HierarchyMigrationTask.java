@@ -208,8 +208,8 @@ public class HierarchyMigrationTask extends EmptyTask {
     private static Optional<String> getParentRecordId(Process process) throws IOException {
         URI metadataFilePath = fileService.getMetadataFilePath(process);
         URI anchorFilePath = fileService.createAnchorFile(metadataFilePath);
-        Workpiece anchorWorkpiece = metsService.loadWorkpiece(anchorFilePath);
-        Optional<String> parentRecordId = anchorWorkpiece.getRootElement().getMetadata().parallelStream()
+        IncludedStructuralElement anchorRootElement = metsService.loadRootElement(anchorFilePath);
+        Optional<String> parentRecordId = anchorRootElement.getMetadata().parallelStream()
                 .filter(metadata -> metadata.getKey().equals("CatalogIDDigital"))
                 .filter(MetadataEntry.class::isInstance).map(MetadataEntry.class::cast).map(MetadataEntry::getValue)
                 .findFirst();
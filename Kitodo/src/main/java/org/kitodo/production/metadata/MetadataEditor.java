@@ -89,7 +89,7 @@ public class MetadataEditor {
             }
         }
         ServiceManager.getFileService().createBackupFile(process);
-        ServiceManager.getMetsService().saveWorkpiece(workpiece, metadataFileUri);
+        ServiceManager.getMetsService().saveWorkpiece(workpiece, process);
     }
 
     /**
@@ -138,7 +138,7 @@ public class MetadataEditor {
         Workpiece workpiece = ServiceManager.getMetsService().loadWorkpiece(metadataFileUri);
         if (removeLinkRecursive(workpiece.getRootElement(), childProcessId)) {
             ServiceManager.getFileService().createBackupFile(parentProcess);
-            ServiceManager.getMetsService().saveWorkpiece(workpiece, metadataFileUri);
+            ServiceManager.getMetsService().saveWorkpiece(workpiece, parentProcess);
         } else {
             Helper.setErrorMessage("errorDeleting", new Object[] {Helper.getTranslation("link") });
         }
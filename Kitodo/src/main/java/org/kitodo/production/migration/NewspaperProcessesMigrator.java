@@ -340,7 +340,7 @@ public class NewspaperProcessesMigrator {
         workpiece.setRootElement(cutOffTopLevel(yearIncludedStructuralElement));
         metsService.saveWorkpiece(workpiece, metadataFilePath);
 
-        for (Metadata metadata : metsService.loadWorkpiece(anchorFilePath).getRootElement().getMetadata()) {
+        for (Metadata metadata : metsService.loadRootElement(anchorFilePath).getMetadata()) {
             if (!overallMetadata.contains(metadata)) {
                 logger.debug("Adding metadata to newspaper {}: {}", title, metadata);
                 overallMetadata.add(metadata);
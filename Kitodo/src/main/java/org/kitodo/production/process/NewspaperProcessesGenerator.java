@@ -15,19 +15,31 @@ import de.unigoettingen.sub.search.opac.ConfigOpac;
 import de.unigoettingen.sub.search.opac.ConfigOpacDoctype;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.net.URI;
 import java.time.LocalDate;
 import java.time.MonthDay;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale.LanguageRange;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.naming.ConfigurationException;
@@ -48,8 +60,11 @@ import org.kitodo.api.dataeditor.rulesetmanagement.StructuralElementViewInterfac
 import org.kitodo.api.dataformat.IncludedStructuralElement;
 import org.kitodo.api.dataformat.Workpiece;
 import org.kitodo.api.dataformat.mets.LinkedMetsResource;
+import org.kitodo.config.ConfigCore;
 import org.kitodo.config.ConfigProject;
+import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.enums.IndexAction;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.exceptions.CommandException;
@@ -65,6 +80,7 @@ import org.kitodo.production.services.ServiceManager;
 import org.kitodo.production.services.data.ImportService;
 import org.kitodo.production.services.data.ProcessService;
 import org.kitodo.production.services.data.RulesetService;
+import org.kitodo.production.services.data.base.SearchService;
 import org.kitodo.production.services.dataformat.MetsService;
 import org.kitodo.production.services.file.FileService;
 
@@ -133,6 +149,37 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
      */
     private final Course course;
 
+    /**
+     * Whether the processes are generated in bulk. In bulk generation, the
+     * issue processes are saved to the database in batches, their metadata
+     * files are written concurrently, and all generated processes are indexed
+     * together when the generation is finished.
+     */
+    private final boolean bulkGeneration;
+
+    /**
+     * Number of issue processes saved together in bulk generation.
+     */
+    private final int bulkGenerationBatchSize = ConfigCore
+            .getIntParameterOrDefaultValue(ParameterCore.NEWSPAPER_BULK_GENERATION_BATCH_SIZE);
+
+    /**
+     * Number of threads writing metadata files in bulk generation.
+     */
+    private final int bulkGenerationThreads = ConfigCore
+            .getIntParameterOrDefaultValue(ParameterCore.NEWSPAPER_BULK_GENERATION_THREADS);
+
+    /**
+     * Issue processes generated in bulk, which have not been saved yet.
+     */
+    private final List<BulkGeneratedProcess> bulkGeneratedProcesses = new ArrayList<>();
+
+    /**
+     * IDs of the processes saved in bulk generation, which are indexed when
+     * the generation is finished.
+     */
+    private final Set<Integer> bulkSavedProcessIds = new LinkedHashSet<>();
+
     /**
      * The current step. This class operates step by step and the long running
      * task can always be paused between two steps in Task Manager.
@@ -175,15 +222,17 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
     private String monthType;
 
     /**
-     * Views of metadata to add process title to the overall newspaper process.
+     * The issue processes of the year process which is currently being
+     * processed, which already existed when the year process was opened, by
+     * their titles. In bulk generation, these processes are reused, so that
+     * an interrupted generation can be started again.
      */
-    private Collection<SimpleMetadataViewInterface> newspaperProcessTitleViews;
+    private Map<String, Process> existingIssueProcesses = Collections.emptyMap();
 
     /**
-     * Uniform resource identifier of the location of the serialization of the
-     * overall media presentation description.
+     * Views of metadata to add process title to the overall newspaper process.
      */
-    private URI overallMetadataFileUri;
+    private Collection<SimpleMetadataViewInterface> newspaperProcessTitleViews;
 
     /**
      * Object model of the overall media presentation description.
@@ -207,12 +256,6 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
      */
     private TitleGenerator titleGenerator;
 
-    /**
-     * Uniform resource identifier of the location of the serialization of the
-     * annual media presentation description.
-     */
-    private URI yearMetadataFileUri;
-
     /**
      * This is the annual process which is currently being processed.
      */
@@ -247,8 +290,24 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
      *            object model of the course of the issue
      */
     public NewspaperProcessesGenerator(Process overallProcess, Course course) {
+        this(overallProcess, course,
+                ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.NEWSPAPER_BULK_GENERATION));
+    }
+
+    /**
+     * Creates a new newspaper process generator.
+     *
+     * @param overallProcess
+     *            Process that represents the entirety of the newspaper
+     * @param course
+     *            object model of the course of the issue
+     * @param bulkGeneration
+     *            whether the processes are generated in bulk
+     */
+    public NewspaperProcessesGenerator(Process overallProcess, Course course, boolean bulkGeneration) {
         this.overallProcess = overallProcess;
         this.course = course;
+        this.bulkGeneration = bulkGeneration;
     }
 
     /**
@@ -313,8 +372,7 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
     private void initialize() throws ConfigurationException, IOException, DoctypeMissingException, RulesetNotFoundException {
         final long begin = System.nanoTime();
 
-        overallMetadataFileUri = processService.getMetadataFileUri(overallProcess);
-        overallWorkpiece = metsService.loadWorkpiece(overallMetadataFileUri);
+        overallWorkpiece = metsService.loadWorkpiece(processService.getMetadataFileUri(overallProcess));
 
         initializeRulesetFields(overallWorkpiece.getRootElement().getType());
 
@@ -505,22 +563,28 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
         if (individualIssuesForProcess.isEmpty()) {
             return;
         }
+        if (bulkGeneration && bulkGeneratedProcesses.size() >= bulkGenerationBatchSize) {
+            saveBulkGeneratedProcesses();
+        }
 
         IndividualIssue firstIssue = individualIssuesForProcess.get(0);
         Map<String, String> genericFields = firstIssue.getGenericFields();
         prepareTheAppropriateYearProcess(dateMark(yearSimpleMetadataView.getScheme(), firstIssue.getDate()),
             genericFields);
 
-        generateProcess(overallProcess.getTemplate().getId(), overallProcess.getProject().getId());
-
         String title = makeTitle(issueDivisionView.getProcessTitle().orElse("+'_'+#YEAR+#MONTH+#DAY+#ISSU"), genericFields);
-        getGeneratedProcess().setTitle(title);
-        processService.save(getGeneratedProcess());
-        processService.refresh(getGeneratedProcess());
-        getGeneratedProcess().setParent(yearProcess);
-        yearProcess.getChildren().add(getGeneratedProcess());
-        createMetadataFileForProcess(individualIssuesForProcess, title);
-        processService.save(getGeneratedProcess());
+        if (bulkGeneration) {
+            createProcessInBulk(individualIssuesForProcess, title);
+        } else {
+            generateProcess(overallProcess.getTemplate().getId(), overallProcess.getProject().getId());
+            getGeneratedProcess().setTitle(title);
+            processService.save(getGeneratedProcess());
+            processService.refresh(getGeneratedProcess());
+            getGeneratedProcess().setParent(yearProcess);
+            yearProcess.getChildren().add(getGeneratedProcess());
+            createMetadataFileForProcess(individualIssuesForProcess, title);
+            processService.save(getGeneratedProcess());
+        }
 
         if (logger.isTraceEnabled()) {
             logger.trace("Creating newspaper process {} took {} ms", title,
@@ -541,9 +605,85 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
         return title;
     }
 
+    /**
+     * Creates an issue process in bulk generation. The process is only saved
+     * with the next batch. If an issue process with the title already exists
+     * in the year process, e.g. because the generation was interrupted, it is
+     * reused. Its metadata file is only written if it does not exist yet.
+     *
+     * @param individualIssues
+     *            issues of the process
+     * @param title
+     *            title of the process
+     */
+    private void createProcessInBulk(List<IndividualIssue> individualIssues, String title)
+            throws ProcessGenerationException {
+
+        Process process = existingIssueProcesses.get(title);
+        boolean metadataFileExists = false;
+        if (Objects.isNull(process)) {
+            generateProcess(overallProcess.getTemplate().getId(), overallProcess.getProject().getId());
+            process = getGeneratedProcess();
+            process.setTitle(title);
+            process.setParent(yearProcess);
+            yearProcess.getChildren().add(process);
+        } else {
+            metadataFileExists = fileService.fileExist(processService.getMetadataFileUri(process));
+            removeLinksFromYear(process);
+        }
+        List<IncludedStructuralElement> unlinkedYearIssues = new ArrayList<>();
+        Workpiece workpiece = createWorkpiece(individualIssues, title, process, unlinkedYearIssues);
+        if (metadataFileExists) {
+            bulkSavedProcessIds.add(process.getId());
+        } else {
+            bulkGeneratedProcesses.add(new BulkGeneratedProcess(process, workpiece, unlinkedYearIssues));
+        }
+    }
+
+    /**
+     * Removes the links to a process from the year workpiece. They are added
+     * again when the issues of the process are added to the year.
+     *
+     * @param process
+     *            process whose links are removed
+     */
+    private void removeLinksFromYear(Process process) {
+        URI processUri = processService.getProcessURI(process);
+        List<IncludedStructuralElement> yearElements = Workpiece.treeStream(yearWorkpiece.getRootElement())
+                .collect(Collectors.toList());
+        for (IncludedStructuralElement yearElement : yearElements) {
+            yearElement.getChildren().removeIf(child -> Objects.nonNull(child.getLink())
+                    && processUri.equals(child.getLink().getUri()));
+        }
+    }
+
     private void createMetadataFileForProcess(List<IndividualIssue> individualIssues, String title)
             throws IOException, CommandException {
 
+        Workpiece workpiece = createWorkpiece(individualIssues, title, getGeneratedProcess(), new ArrayList<>());
+        fileService.createProcessLocation(getGeneratedProcess());
+        metsService.saveWorkpiece(workpiece, getGeneratedProcess());
+    }
+
+    /**
+     * Creates the workpiece of an issue process and adds the issues to the
+     * year workpiece.
+     *
+     * @param individualIssues
+     *            issues of the process
+     * @param title
+     *            title of the process
+     * @param process
+     *            the issue process
+     * @param unlinkedYearIssues
+     *            if the process has no ID yet, the issues added to the year
+     *            workpiece are added here, so that they can be linked to the
+     *            process after it was saved
+     * @return the workpiece of the issue process
+     */
+    private Workpiece createWorkpiece(List<IndividualIssue> individualIssues, String title, Process process,
+            List<IncludedStructuralElement> unlinkedYearIssues) {
+
         IncludedStructuralElement rootElement = new IncludedStructuralElement();
         MetadataEntry dateMetadataEntry = new MetadataEntry();
         dateMetadataEntry.setKey(monthSimpleMetadataView.getId());
@@ -570,18 +710,24 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
             processDay.getChildren().add(processIssue);
 
             IncludedStructuralElement yearIssue = new IncludedStructuralElement();
-            LinkedMetsResource linkToProcess = new LinkedMetsResource();
-            linkToProcess.setLoctype("Kitodo.Production");
-            linkToProcess.setUri(processService.getProcessURI(getGeneratedProcess()));
-            yearIssue.setLink(linkToProcess);
+            if (Objects.nonNull(process.getId())) {
+                yearIssue.setLink(createLinkToProcess(process));
+            } else {
+                unlinkedYearIssues.add(yearIssue);
+            }
             yearDay.getChildren().add(yearIssue);
         }
 
         Workpiece workpiece = new Workpiece();
         workpiece.setRootElement(rootElement);
-        fileService.createProcessLocation(getGeneratedProcess());
-        final URI metadataFileUri = processService.getMetadataFileUri(getGeneratedProcess());
-        metsService.saveWorkpiece(workpiece, metadataFileUri);
+        return workpiece;
+    }
+
+    private LinkedMetsResource createLinkToProcess(Process process) {
+        LinkedMetsResource linkToProcess = new LinkedMetsResource();
+        linkToProcess.setLoctype("Kitodo.Production");
+        linkToProcess.setUri(processService.getProcessURI(process));
+        return linkToProcess;
     }
 
     private void addCustomMetadata(IndividualIssue definition, IncludedStructuralElement issue) {
@@ -655,16 +801,22 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
         }
     }
 
-    private void saveAndCloseCurrentYearProcess() throws DataException, IOException, RulesetNotFoundException {
+    private void saveAndCloseCurrentYearProcess()
+            throws DAOException, DataException, IOException, RulesetNotFoundException {
         final long begin = System.nanoTime();
 
-        metsService.saveWorkpiece(yearWorkpiece, yearMetadataFileUri);
-        ImportService.checkTasks(yearProcess, yearWorkpiece.getRootElement().getType());
-        processService.save(yearProcess);
+        if (bulkGeneration) {
+            ImportService.checkTasks(yearProcess, yearWorkpiece.getRootElement().getType());
+            saveBulkGeneratedProcesses();
+        } else {
+            metsService.saveWorkpiece(yearWorkpiece, yearProcess);
+            ImportService.checkTasks(yearProcess, yearWorkpiece.getRootElement().getType());
+            processService.save(yearProcess);
+        }
 
         this.yearProcess = null;
         this.yearWorkpiece = null;
-        this.yearMetadataFileUri = null;
+        this.existingIssueProcesses = Collections.emptyMap();
         String year = currentYear;
         this.currentYear = null;
 
@@ -687,12 +839,12 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
             Process linkedProcess = processService
                     .getById(processService.processIdFromUri(firstLevelChildLink.getUri()));
             URI metadataFileUri = processService.getMetadataFileUri(linkedProcess);
-            Workpiece workpiece = metsService.loadWorkpiece(metadataFileUri);
+            IncludedStructuralElement yearRootElement = metsService.loadRootElement(metadataFileUri);
             String yearMetadataEntry = null;
             if (yearSimpleMetadataView.getId().equals("ORDERLABEL")) {
-                yearMetadataEntry = workpiece.getRootElement().getOrderlabel();
+                yearMetadataEntry = yearRootElement.getOrderlabel();
             }
-            for (Metadata metadata : workpiece.getRootElement().getMetadata()) {
+            for (Metadata metadata : yearRootElement.getMetadata()) {
                 if (metadata.getKey().equals(yearSimpleMetadataView.getId()) && metadata instanceof MetadataEntry) {
                     yearMetadataEntry = ((MetadataEntry) metadata).getValue();
                     break;
@@ -704,9 +856,12 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
             couldOpenExistingProcess = yearMetadataEntry.equals(yearMark);
             if (couldOpenExistingProcess) {
                 this.yearProcess = linkedProcess;
-                this.yearWorkpiece = workpiece;
-                this.yearMetadataFileUri = metadataFileUri;
+                this.yearWorkpiece = metsService.loadWorkpiece(metadataFileUri);
                 this.currentYear = yearMark;
+                if (bulkGeneration) {
+                    this.existingIssueProcesses = linkedProcess.getChildren().stream()
+                            .collect(Collectors.toMap(Process::getTitle, Function.identity(), (one, another) -> one));
+                }
                 break;
             }
         }
@@ -718,7 +873,8 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
     }
 
     private void createNewYearProcess(String yearMark, Map<String, String> genericFields)
-            throws ProcessGenerationException, DataException, IOException, CommandException, RulesetNotFoundException {
+            throws DAOException, ProcessGenerationException, DataException, IOException, CommandException,
+            RulesetNotFoundException {
         final long begin = System.nanoTime();
 
         generateProcess(overallProcess.getTemplate().getId(), overallProcess.getProject().getId());
@@ -726,15 +882,22 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
         String title = makeTitle(yearTitleDefinition.orElse("+'_'+#YEAR"), genericFields);
         getGeneratedProcess().setTitle(title);
         ImportService.checkTasks(getGeneratedProcess(), yearType);
-        processService.save(getGeneratedProcess());
-        processService.refresh(getGeneratedProcess());
+        if (bulkGeneration) {
+            getGeneratedProcess().setParent(overallProcess);
+            getGeneratedProcess().setIndexAction(IndexAction.INDEX);
+            processService.saveToDatabase(getGeneratedProcess());
+            overallProcess.getChildren().add(getGeneratedProcess());
+            bulkSavedProcessIds.add(getGeneratedProcess().getId());
+        } else {
+            processService.save(getGeneratedProcess());
+            processService.refresh(getGeneratedProcess());
 
-        getGeneratedProcess().setParent(overallProcess);
-        overallProcess.getChildren().add(getGeneratedProcess());
-        processService.save(getGeneratedProcess());
+            getGeneratedProcess().setParent(overallProcess);
+            overallProcess.getChildren().add(getGeneratedProcess());
+            processService.save(getGeneratedProcess());
+        }
 
         fileService.createProcessLocation(getGeneratedProcess());
-        final URI metadataFileUri = processService.getMetadataFileUri(getGeneratedProcess());
 
         IncludedStructuralElement newYearChild = new IncludedStructuralElement();
         LinkedMetsResource link = new LinkedMetsResource();
@@ -754,8 +917,14 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
 
         this.yearProcess = getGeneratedProcess();
         this.yearWorkpiece = workpiece;
-        this.yearMetadataFileUri = metadataFileUri;
         this.currentYear = yearMark;
+        this.existingIssueProcesses = Collections.emptyMap();
+
+        if (bulkGeneration) {
+            // the year process must be found again if the generation is started again
+            saveWorkpieceAtomically(yearWorkpiece, yearProcess);
+            saveWorkpieceAtomically(overallWorkpiece, overallProcess);
+        }
 
         if (logger.isTraceEnabled()) {
             logger.trace("Creating year process for {} took {} ms", yearMark,
@@ -781,7 +950,7 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
         return createdChild;
     }
 
-    private void finish() throws DataException, IOException, RulesetNotFoundException {
+    private void finish() throws DAOException, DataException, IOException, RulesetNotFoundException {
         final long begin = System.nanoTime();
 
         saveAndCloseCurrentYearProcess();
@@ -789,12 +958,200 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
             MetadataEditor.writeMetadataEntry(overallWorkpiece.getRootElement(), newspaperProcessTitleView,
                 overallProcess.getTitle());
         }
-        metsService.saveWorkpiece(overallWorkpiece, overallMetadataFileUri);
+        if (bulkGeneration) {
+            saveWorkpieceAtomically(overallWorkpiece, overallProcess);
+        } else {
+            metsService.saveWorkpiece(overallWorkpiece, overallProcess);
+        }
         ImportService.checkTasks(overallProcess, overallWorkpiece.getRootElement().getType());
-        processService.save(overallProcess);
+        if (bulkGeneration) {
+            overallProcess.setIndexAction(IndexAction.INDEX);
+            processService.saveToDatabase(overallProcess);
+            bulkSavedProcessIds.add(overallProcess.getId());
+            indexBulkSavedProcesses();
+        } else {
+            processService.save(overallProcess);
+        }
 
         if (logger.isTraceEnabled()) {
             logger.trace("Finish took {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
         }
     }
+
+    /**
+     * Saves the issue processes generated in bulk since the last batch, and
+     * the year process. The issue processes are saved to the database in one
+     * transaction first, so that they get their IDs. Then their metadata files
+     * are written concurrently, the issues in the year workpiece are linked to
+     * them, and the year workpiece is written. Finally, the statistics of the
+     * workpieces are saved with the processes in another transaction. So after
+     * each batch, the year workpiece links all issue processes saved so far,
+     * and the generation can be started again if it was interrupted. The
+     * processes are not indexed here.
+     */
+    private void saveBulkGeneratedProcesses() throws DAOException, IOException {
+        final long begin = System.nanoTime();
+
+        List<Process> processes = new ArrayList<>();
+        for (BulkGeneratedProcess bulkGeneratedProcess : bulkGeneratedProcesses) {
+            bulkGeneratedProcess.process.setIndexAction(IndexAction.INDEX);
+            processes.add(bulkGeneratedProcess.process);
+        }
+        if (!processes.isEmpty()) {
+            processService.saveList(processes);
+            writeMetadataFilesConcurrently();
+            for (BulkGeneratedProcess bulkGeneratedProcess : bulkGeneratedProcesses) {
+                for (IncludedStructuralElement yearIssue : bulkGeneratedProcess.unlinkedYearIssues) {
+                    yearIssue.setLink(createLinkToProcess(bulkGeneratedProcess.process));
+                }
+                bulkGeneratedProcess.unlinkedYearIssues.clear();
+            }
+        }
+        saveWorkpieceAtomically(yearWorkpiece, yearProcess);
+        yearProcess.setIndexAction(IndexAction.INDEX);
+        processes.add(yearProcess);
+        processService.saveList(processes);
+        for (Process process : processes) {
+            bulkSavedProcessIds.add(process.getId());
+        }
+        bulkGeneratedProcesses.clear();
+
+        if (logger.isTraceEnabled()) {
+            logger.trace("Saving {} newspaper processes took {} ms", processes.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
+        }
+    }
+
+    /**
+     * Writes the metadata file of a process to a temporary file first and then
+     * moves it over the metadata file. If the workpiece cannot be written, the
+     * previous metadata file is left untouched, so the generation can be
+     * started again. If writing or moving fails, the temporary file is
+     * removed.
+     *
+     * @param workpiece
+     *            workpiece to write
+     * @param process
+     *            process whose metadata file is written
+     * @throws IOException
+     *             if the file cannot be written or moved
+     */
+    private void saveWorkpieceAtomically(Workpiece workpiece, Process process) throws IOException {
+        URI metadataFileUri = processService.getMetadataFileUri(process);
+        URI temporaryFileUri = URI.create(metadataFileUri.toString() + ".tmp");
+        try {
+            metsService.saveWorkpiece(workpiece, temporaryFileUri);
+            fileService.moveFile(temporaryFileUri, metadataFileUri);
+        } catch (IOException | RuntimeException e) {
+            try {
+                fileService.delete(temporaryFileUri);
+            } catch (IOException | RuntimeException deletionFailure) {
+                e.addSuppressed(deletionFailure);
+            }
+            throw e;
+        }
+        processService.updateStatistics(process, workpiece);
+    }
+
+    /**
+     * Writes the metadata files of the issue processes generated in bulk by a
+     * pool of threads. If a file cannot be written, the other files are
+     * written nevertheless, and the failures are reported together at the
+     * end.
+     */
+    private void writeMetadataFilesConcurrently() throws IOException {
+        List<Callable<Void>> writers = new ArrayList<>();
+        for (BulkGeneratedProcess bulkGeneratedProcess : bulkGeneratedProcesses) {
+            // the folders are read from the database here, not on the pool
+            bulkGeneratedProcess.process.getProject().getFolders();
+            writers.add(() -> {
+                fileService.createProcessLocation(bulkGeneratedProcess.process);
+                saveWorkpieceAtomically(bulkGeneratedProcess.workpiece, bulkGeneratedProcess.process);
+                return null;
+            });
+        }
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(bulkGenerationThreads, writers.size()),
+            runnable -> {
+                Thread thread = new Thread(runnable,
+                        NewspaperProcessesGenerator.class.getSimpleName() + '-' + threadNumber.incrementAndGet());
+                // the modules are found by the context class loader
+                thread.setContextClassLoader(contextClassLoader);
+                return thread;
+            });
+        List<Future<Void>> results;
+        try {
+            results = executor.invokeAll(writers);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Writing metadata files was interrupted");
+        } finally {
+            executor.shutdownNow();
+        }
+        IOException failures = null;
+        for (Future<Void> result : results) {
+            try {
+                result.get();
+            } catch (ExecutionException | InterruptedException e) {
+                if (Objects.isNull(failures)) {
+                    failures = new IOException("Metadata files could not be written");
+                }
+                failures.addSuppressed(e instanceof ExecutionException ? e.getCause() : e);
+            }
+        }
+        if (Objects.nonNull(failures)) {
+            throw failures;
+        }
+    }
+
+    /**
+     * Indexes the processes saved in bulk generation. The processes are read
+     * from the database again and sent to the index in bulk requests, together
+     * with the objects depending on them, as the indexing queue does.
+     */
+    private void indexBulkSavedProcesses() throws DataException {
+        final long begin = System.nanoTime();
+
+        List<Integer> processIds = new ArrayList<>(bulkSavedProcessIds);
+        int batchSize = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_BATCH);
+        for (int from = 0; from < processIds.size(); from += batchSize) {
+            Set<Integer> batch = new HashSet<>(processIds.subList(from, Math.min(from + batchSize, processIds.size())));
+            SearchService.indexQueuedObjects(Collections.singletonMap(processService, batch));
+        }
+        bulkSavedProcessIds.clear();
+
+        if (logger.isTraceEnabled()) {
+            logger.trace("Indexing {} newspaper processes took {} ms", processIds.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
+        }
+    }
+
+    /**
+     * An issue process generated in bulk, which has not been saved yet.
+     */
+    private static class BulkGeneratedProcess {
+        /**
+         * The issue process.
+         */
+        private final Process process;
+
+        /**
+         * The workpiece of the issue process.
+         */
+        private final Workpiece workpiece;
+
+        /**
+         * Issues in the year workpiece, which must be linked to the process
+         * after it was saved.
+         */
+        private final List<IncludedStructuralElement> unlinkedYearIssues;
+
+        private BulkGeneratedProcess(Process process, Workpiece workpiece,
+                List<IncludedStructuralElement> unlinkedYearIssues) {
+            this.process = process;
+            this.workpiece = workpiece;
+            this.unlinkedYearIssues = unlinkedYearIssues;
+        }
+    }
 }
@@ -11,9 +11,7 @@
 
 package org.kitodo.production.services.calendar;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
@@ -33,10 +31,9 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.kitodo.api.dataeditor.rulesetmanagement.MetadataViewInterface;
 import org.kitodo.api.dataeditor.rulesetmanagement.RulesetManagementInterface;
 import org.kitodo.api.dataeditor.rulesetmanagement.StructuralElementViewInterface;
-import org.kitodo.config.ConfigCore;
-import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.exceptions.DataException;
+import org.kitodo.exceptions.RulesetNotFoundException;
 import org.kitodo.production.model.bibliography.course.Block;
 import org.kitodo.production.model.bibliography.course.IndividualIssue;
 import org.kitodo.production.model.bibliography.course.Issue;
@@ -72,17 +69,15 @@ public class CalendarService {
      * @param completeEdition parent process
      * @return list of allowed metadata as SelectItem objects
      * @throws IOException when ruleset file could not be read
+     * @throws RulesetNotFoundException when ruleset file could not be found
      */
-    public static List<SelectItem> getAddableMetadata(Process completeEdition) throws IOException, DataException {
+    public static List<SelectItem> getAddableMetadata(Process completeEdition)
+            throws IOException, DataException, RulesetNotFoundException {
         final String acquisitionStage = "create";
 
-        // get an instance of the ruleset module
-        RulesetManagementInterface ruleset = ServiceManager.getRulesetManagementService().getRulesetManagement();
-
-        // find and load the ruleset file
-        String rulesetDir = ConfigCore.getParameter(ParameterCore.DIR_RULESETS);
-        String rulesetFullPath = Paths.get(rulesetDir, completeEdition.getRuleset().getFile()).toString();
-        ruleset.load(new File(rulesetFullPath));
+        // open the ruleset
+        RulesetManagementInterface ruleset = ServiceManager.getRulesetService()
+                .openRuleset(completeEdition.getRuleset());
 
         // get the user’s metadata language
         SecurityUserDetails authenticatedUser = ServiceManager.getUserService().getAuthenticatedUser();
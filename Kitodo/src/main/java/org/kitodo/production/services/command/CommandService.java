@@ -11,24 +11,29 @@
 
 package org.kitodo.production.services.command;
 
-import io.reactivex.Flowable;
-import io.reactivex.schedulers.Schedulers;
-
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.kitodo.api.command.CommandInterface;
 import org.kitodo.api.command.CommandResult;
 import org.kitodo.serviceloader.KitodoServiceLoader;
 
 public class CommandService {
 
-    private final ArrayList<CommandResult> finishedCommandResults = new ArrayList<>();
+    private static final Logger logger = LogManager.getLogger(CommandService.class);
+
+    private final List<CommandResult> finishedCommandResults = Collections.synchronizedList(new ArrayList<>());
     private final Random random = new Random(1000000);
+    private final KitodoServiceLoader<CommandInterface> commandLoader = new KitodoServiceLoader<>(
+            CommandInterface.class);
 
     /**
      * Method executes a script string.
@@ -46,8 +51,7 @@ public class CommandService {
         if (Objects.isNull(script)) {
             return null;
         }
-        KitodoServiceLoader<CommandInterface> serviceLoader = new KitodoServiceLoader<>(CommandInterface.class);
-        CommandInterface command = serviceLoader.loadModule();
+        CommandInterface command = commandLoader.loadModule();
 
         CommandResult commandResult = command.runCommand(random.nextInt(), script);
         List<String> commandResultMessages = commandResult.getMessages();
@@ -97,24 +101,27 @@ public class CommandService {
     }
 
     /**
-     * Method runs a specified script file asynchronously.
+     * Method runs a specified script file asynchronously. The script is run
+     * by the command module in one of a limited number of background threads
+     * and is stopped after the configured timeout.
      *
      * @param script
      *            The script.
+     * @return a future which completes with the CommandResult
      */
-    public void runCommandAsync(String script) {
-        if (Objects.nonNull(script)) {
-            KitodoServiceLoader<CommandInterface> serviceLoader = new KitodoServiceLoader<>(CommandInterface.class);
-            CommandInterface commandInterface = serviceLoader.loadModule();
-
-            Flowable<CommandResult> source = Flowable.fromCallable(() ->
-                commandInterface.runCommand(random.nextInt(), script)
-            );
-
-            Flowable<CommandResult> commandBackgroundWorker = source.subscribeOn(Schedulers.io());
-            Flowable<CommandResult> commandResultListener = commandBackgroundWorker.observeOn(Schedulers.single());
-            commandResultListener.subscribe(this::handleCommandResult);
+    public CompletableFuture<CommandResult> runCommandAsync(String script) {
+        if (Objects.isNull(script)) {
+            return CompletableFuture.completedFuture(null);
         }
+        CommandInterface commandInterface = commandLoader.loadModule();
+        return commandInterface.runCommandAsync(random.nextInt(), script)
+                .whenComplete((commandResult, exception) -> {
+                    if (Objects.nonNull(exception)) {
+                        logger.error("Script " + script + " could not be run: " + exception.getMessage(), exception);
+                    } else {
+                        handleCommandResult(commandResult);
+                    }
+                });
     }
 
     /**
@@ -124,12 +131,14 @@ public class CommandService {
      *            The script file.
      * @param parameter
      *            The script parameters.
+     * @return a future which completes with the CommandResult
      */
-    public void runCommandAsync(File scriptFile, List<String> parameter) {
-        if (Objects.nonNull(scriptFile)) {
-            String script = generateScriptString(scriptFile, parameter);
-            runCommandAsync(script);
+    public CompletableFuture<CommandResult> runCommandAsync(File scriptFile, List<String> parameter) {
+        if (Objects.isNull(scriptFile)) {
+            return CompletableFuture.completedFuture(null);
         }
+        String script = generateScriptString(scriptFile, parameter);
+        return runCommandAsync(script);
     }
 
     /**
@@ -137,11 +146,13 @@ public class CommandService {
      *
      * @param scriptFile
      *            The script file.
+     * @return a future which completes with the CommandResult
      */
-    public void runCommandAsync(File scriptFile) {
-        if (Objects.nonNull(scriptFile)) {
-            runCommandAsync(scriptFile.getAbsolutePath());
+    public CompletableFuture<CommandResult> runCommandAsync(File scriptFile) {
+        if (Objects.isNull(scriptFile)) {
+            return CompletableFuture.completedFuture(null);
         }
+        return runCommandAsync(scriptFile.getAbsolutePath());
     }
 
     /**
@@ -28,6 +28,7 @@ import org.apache.commons.configuration.ConfigurationException;
 import org.apache.commons.lang.text.StrTokenizer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.kitodo.api.dataformat.Workpiece;
 import org.kitodo.data.database.beans.Folder;
 import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.beans.Role;
@@ -68,7 +69,7 @@ public class KitodoScriptService {
      * @param script
      *            from frontend passed as String
      */
-    public void execute(List<Process> processes, String script) throws DataException {
+    public void execute(Iterable<Process> processes, String script) throws DataException {
         this.parameters = new HashMap<>();
         // decompose and capture all script parameters
         StrTokenizer tokenizer = new StrTokenizer(script, ' ', '\"');
@@ -99,7 +100,7 @@ public class KitodoScriptService {
         }
     }
 
-    private boolean executeScript(List<Process> processes, String script) throws DataException {
+    private boolean executeScript(Iterable<Process> processes, String script) throws DataException {
         // call the correct method via the parameter
         switch (this.parameters.get("action")) {
             case "importFromFileSystem":
@@ -126,6 +127,9 @@ public class KitodoScriptService {
             case "deleteTiffHeaderFile":
                 deleteTiffHeaderFile(processes);
                 break;
+            case "updateStatistics":
+                updateStatistics(processes);
+                break;
             case "setRuleset":
                 setRuleset(processes);
                 break;
@@ -187,7 +191,7 @@ public class KitodoScriptService {
         return true;
     }
 
-    private void deleteData(List<Process> processes, String script) {
+    private void deleteData(Iterable<Process> processes, String script) {
         String currentProcessTitle = null;
         try {
             script = script.replaceFirst("\\s*action:deleteData\\s+(.*?)[\r\n\\s]*", "$1");
@@ -197,16 +201,16 @@ public class KitodoScriptService {
                 LegacyMetsModsDigitalDocumentHelper metadataFile = ServiceManager.getProcessService()
                         .readMetadataFile(process);
                 deleteDataScript.process(metadataFile, process, script);
-                ServiceManager.getMetsService().saveWorkpiece(metadataFile.getWorkpiece(),
-                        ServiceManager.getProcessService().getMetadataFileUri(process));
+                ServiceManager.getMetsService().saveWorkpiece(metadataFile.getWorkpiece(), process);
+                ServiceManager.getProcessService().save(process);
                 Helper.setMessage("deleteDataOk", currentProcessTitle);
             }
-        } catch (IOException e) {
+        } catch (IOException | DataException e) {
             Helper.setErrorMessage("addDataError", currentProcessTitle + ":" + e.getMessage(), logger, e);
         }
     }
 
-    private void overwriteData(List<Process> processes, String script) {
+    private void overwriteData(Iterable<Process> processes, String script) {
         String currentProcessTitle = null;
         try {
             script = script.replaceFirst("\\s*action:overwriteData\\s+(.*?)[\r\n\\s]*", "$1");
@@ -216,16 +220,16 @@ public class KitodoScriptService {
                 LegacyMetsModsDigitalDocumentHelper metadataFile = ServiceManager.getProcessService()
                         .readMetadataFile(process);
                 overwriteDataScript.process(metadataFile, process, script);
-                ServiceManager.getMetsService().saveWorkpiece(metadataFile.getWorkpiece(),
-                        ServiceManager.getProcessService().getMetadataFileUri(process));
+                ServiceManager.getMetsService().saveWorkpiece(metadataFile.getWorkpiece(), process);
+                ServiceManager.getProcessService().save(process);
                 Helper.setMessage("overwriteDataOk", currentProcessTitle);
             }
-        } catch (IOException e) {
+        } catch (IOException | DataException e) {
             Helper.setErrorMessage("overwriteDataError", currentProcessTitle + ":" + e.getMessage(), logger, e);
         }
     }
 
-    private void updateContentFiles(List<Process> processes) {
+    private void updateContentFiles(Iterable<Process> processes) {
         for (Process process : processes) {
             try {
                 LegacyMetsModsDigitalDocumentHelper rdf = ServiceManager.getProcessService().readMetadataFile(process);
@@ -238,7 +242,22 @@ public class KitodoScriptService {
         Helper.setMessage("updateContentFiles finished");
     }
 
-    private void createFolders(List<Process> processes) {
+    private void updateStatistics(Iterable<Process> processes) {
+        for (Process process : processes) {
+            try {
+                URI metadataFileUri = ServiceManager.getProcessService().getMetadataFileUri(process);
+                Workpiece workpiece = ServiceManager.getMetsService().loadWorkpiece(metadataFileUri);
+                ServiceManager.getProcessService().updateStatistics(process, workpiece, true);
+                saveProcess(process);
+            } catch (IOException | RuntimeException e) {
+                Helper.setErrorMessage("Error while updating statistics of process: " + process.getTitle(), logger,
+                    e);
+            }
+        }
+        Helper.setMessage("updateStatistics finished");
+    }
+
+    private void createFolders(Iterable<Process> processes) {
         for (Process process : processes) {
             try {
                 fileService.createProcessFolders(process);
@@ -248,7 +267,7 @@ public class KitodoScriptService {
         }
     }
 
-    private void deleteProcess(List<Process> processes, boolean contentOnly) {
+    private void deleteProcess(Iterable<Process> processes, boolean contentOnly) {
         for (Process process : processes) {
             String title = process.getTitle();
             if (contentOnly) {
@@ -278,7 +297,7 @@ public class KitodoScriptService {
         }
     }
 
-    private void addData(List<Process> processes, String script) {
+    private void addData(Iterable<Process> processes, String script) {
         String currentProcessTitle = null;
         try {
             script = script.replaceFirst("\\s*action:addData\\s+(.*?)[\r\n\\s]*", "$1");
@@ -288,11 +307,11 @@ public class KitodoScriptService {
                 LegacyMetsModsDigitalDocumentHelper metadataFile = ServiceManager.getProcessService()
                         .readMetadataFile(process);
                 addDataScript.process(metadataFile, process, script);
-                ServiceManager.getMetsService().saveWorkpiece(metadataFile.getWorkpiece(),
-                        ServiceManager.getProcessService().getMetadataFileUri(process));
+                ServiceManager.getMetsService().saveWorkpiece(metadataFile.getWorkpiece(), process);
+                ServiceManager.getProcessService().save(process);
                 Helper.setMessage("addDataOk", currentProcessTitle);
             }
-        } catch (IOException e) {
+        } catch (IOException | DataException e) {
             Helper.setErrorMessage("addDataError", currentProcessTitle + ":" + e.getMessage(), logger, e);
         }
     }
@@ -302,7 +321,7 @@ public class KitodoScriptService {
     }
 
 
-    private void generateImages(List<Process> processes, GenerationMode generationMode, List<String> folders) {
+    private void generateImages(Iterable<Process> processes, GenerationMode generationMode, List<String> folders) {
         for (Process process : processes) {
             Folder generatorSource = process.getProject().getGeneratorSource();
             if (Objects.isNull(generatorSource)) {
@@ -350,7 +369,7 @@ public class KitodoScriptService {
         }
     }
 
-    private void runScript(List<Process> processes, String taskName, String scriptName) throws DataException {
+    private void runScript(Iterable<Process> processes, String taskName, String scriptName) throws DataException {
         for (Process process : processes) {
             for (Task task : process.getTasks()) {
                 if (task.getTitle().equalsIgnoreCase(taskName)) {
@@ -373,7 +392,7 @@ public class KitodoScriptService {
      * @param processes
      *            list of Process objects
      */
-    private void importFromFileSystem(List<Process> processes) {
+    private void importFromFileSystem(Iterable<Process> processes) {
         if (isActionParameterInvalid(SOURCE_FOLDER)) {
             return;
         }
@@ -417,7 +436,7 @@ public class KitodoScriptService {
      * @param processes
      *            list of Process objects
      */
-    private void setRuleset(List<Process> processes) {
+    private void setRuleset(Iterable<Process> processes) {
         if (isActionParameterInvalid(RULESET)) {
             return;
         }
@@ -447,7 +466,7 @@ public class KitodoScriptService {
      * @param processes
      *            list of Process objects
      */
-    private void addShellScriptToStep(List<Process> processes) {
+    private void addShellScriptToStep(Iterable<Process> processes) {
         if (isActionParameterInvalid(TASK_TITLE) || isActionParameterInvalid("label")
                 || isActionParameterInvalid(SCRIPT)) {
             return;
@@ -457,7 +476,7 @@ public class KitodoScriptService {
         Helper.setMessage("addShellScriptToStep finished: ");
     }
 
-    private void executeActionForAddShellToScript(List<Process> processes) {
+    private void executeActionForAddShellToScript(Iterable<Process> processes) {
         for (Process process : processes) {
             for (Task task : process.getTasks()) {
                 if (task.getTitle().equals(this.parameters.get(TASK_TITLE))) {
@@ -477,7 +496,7 @@ public class KitodoScriptService {
      * @param processes
      *            list of Process objects
      */
-    private void setTaskProperty(List<Process> processes) {
+    private void setTaskProperty(Iterable<Process> processes) {
         if (isActionParameterInvalid(TASK_TITLE) || isActionParameterInvalid("property")
                 || isActionParameterInvalid("value")) {
             return;
@@ -504,7 +523,7 @@ public class KitodoScriptService {
         Helper.setMessage("setTaskProperty abgeschlossen: ");
     }
 
-    private void executeActionForSetTaskProperty(List<Process> processes, String property, String value) {
+    private void executeActionForSetTaskProperty(Iterable<Process> processes, String property, String value) {
         for (Process process : processes) {
             for (Task task : process.getTasks()) {
                 if (task.getTitle().equals(this.parameters.get(TASK_TITLE))) {
@@ -548,7 +567,7 @@ public class KitodoScriptService {
      * @param processes
      *            list of Process objects
      */
-    private void setTaskStatus(List<Process> processes) {
+    private void setTaskStatus(Iterable<Process> processes) {
         if (isActionParameterInvalid(TASK_TITLE) || isActionParameterInvalid(STATUS)) {
             return;
         }
@@ -564,7 +583,7 @@ public class KitodoScriptService {
         Helper.setMessage("setStepStatus finished: ");
     }
 
-    private void executeActionForSetTaskStatus(List<Process> processes) {
+    private void executeActionForSetTaskStatus(Iterable<Process> processes) {
         for (Process process : processes) {
             for (Task task : process.getTasks()) {
                 if (task.getTitle().equals(this.parameters.get(TASK_TITLE))) {
@@ -585,7 +604,7 @@ public class KitodoScriptService {
      * @param processes
      *            list of Process objects
      */
-    private void addRole(List<Process> processes) {
+    private void addRole(Iterable<Process> processes) {
         if (isActionParameterInvalid(TASK_TITLE) || isActionParameterInvalid(ROLE)) {
             return;
         }
@@ -605,7 +624,7 @@ public class KitodoScriptService {
         Helper.setMessage("addRole finished");
     }
 
-    private void executeActionForAddRole(List<Process> processes, Role role) {
+    private void executeActionForAddRole(Iterable<Process> processes, Role role) {
         for (Process process : processes) {
             for (Task task : process.getTasks()) {
                 if (task.getTitle().equals(this.parameters.get(TASK_TITLE))) {
@@ -626,7 +645,7 @@ public class KitodoScriptService {
      * @param processes
      *            list of Process objects
      */
-    public void deleteTiffHeaderFile(List<Process> processes) {
+    public void deleteTiffHeaderFile(Iterable<Process> processes) {
         for (Process process : processes) {
             try {
                 File tiffHeaderFile = new File(fileService.getImagesDirectory(process) + "tiffwriter.conf");
@@ -641,7 +660,7 @@ public class KitodoScriptService {
         Helper.setMessage("deleteTiffHeaderFile finished");
     }
 
-    private void exportDms(List<Process> processes, String exportImages) {
+    private void exportDms(Iterable<Process> processes, String exportImages) {
         boolean withoutImages = Objects.nonNull(exportImages) && exportImages.equalsIgnoreCase("false");
         for (Process process : processes) {
             try {
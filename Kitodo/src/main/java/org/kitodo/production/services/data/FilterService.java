@@ -47,8 +47,6 @@ import org.kitodo.data.elasticsearch.search.enums.SearchCondition;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.production.dto.BaseDTO;
 import org.kitodo.production.dto.FilterDTO;
-import org.kitodo.production.dto.ProcessDTO;
-import org.kitodo.production.dto.TaskDTO;
 import org.kitodo.production.enums.FilterString;
 import org.kitodo.production.enums.ObjectType;
 import org.kitodo.production.services.ServiceManager;
@@ -519,9 +517,9 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
         if (objectType == ObjectType.PROCESS) {
             return createSetQuery("batches.id", filterValuesAsIntegers(filter, FilterString.BATCH), negate);
         } else if (objectType == ObjectType.TASK) {
-            List<ProcessDTO> processDTOS = ServiceManager.getProcessService().findByQuery(
-                createSetQuery("batches.id", filterValuesAsIntegers(filter, FilterString.BATCH), negate), true);
-            return createSetQuery(TaskTypeField.PROCESS_ID.getKey(), collectIds(processDTOS), negate);
+            Set<Integer> processIds = ServiceManager.getProcessService().findIds(
+                createSetQuery("batches.id", filterValuesAsIntegers(filter, FilterString.BATCH), negate));
+            return createSetQuery(TaskTypeField.PROCESS_ID.getKey(), processIds, negate);
         }
         return new BoolQueryBuilder();
     }
@@ -931,8 +929,8 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
     private QueryBuilder getQueryAccordingToObjectTypeAndSearchInTask(ObjectType objectType, QueryBuilder query)
             throws DataException {
         if (objectType == ObjectType.PROCESS) {
-            List<TaskDTO> taskDTOS = ServiceManager.getTaskService().findByQuery(query, true);
-            return createSetQuery("tasks.id", collectIds(taskDTOS), true);
+            Set<Integer> taskIds = ServiceManager.getTaskService().findIds(query);
+            return createSetQuery("tasks.id", taskIds, true);
         } else if (objectType == ObjectType.TASK) {
             return query;
         }
@@ -944,8 +942,8 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
         if (objectType == ObjectType.PROCESS) {
             return query;
         } else if (objectType == ObjectType.TASK) {
-            List<ProcessDTO> processDTOS = ServiceManager.getProcessService().findByQuery(query, true);
-            return createSetQuery(TaskTypeField.PROCESS_ID.getKey(), collectIds(processDTOS), true);
+            Set<Integer> processIds = ServiceManager.getProcessService().findIds(query);
+            return createSetQuery(TaskTypeField.PROCESS_ID.getKey(), processIds, true);
         }
         return new BoolQueryBuilder();
     }
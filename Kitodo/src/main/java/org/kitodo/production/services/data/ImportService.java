@@ -911,8 +911,8 @@ public class ImportService {
                 //  if metadataFileUri is null or no meta.xml can be found, the tempProcess has not
                 //  yet been saved to disk and contains the workpiece directly, instead!
                 URI metadataFileUri = ServiceManager.getProcessService().getMetadataFileUri(process);
-                Workpiece workpiece = ServiceManager.getMetsService().loadWorkpiece(metadataFileUri);
-                Collection<Metadata> metadata = workpiece.getRootElement().getMetadata();
+                Collection<Metadata> metadata = ServiceManager.getMetsService().loadRootElement(metadataFileUri)
+                        .getMetadata();
                 String processTitle = "[" + Helper.getTranslation("process") + " " + process.getId() + "]";
                 for (Metadata metadatum : metadata) {
                     if (CATALOG_IDENTIFIER.equals(metadatum.getKey())) {
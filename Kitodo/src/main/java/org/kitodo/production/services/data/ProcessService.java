@@ -18,13 +18,7 @@ import static org.kitodo.data.database.enums.CorrectionComments.NO_CORRECTION_CO
 import static org.kitodo.data.database.enums.CorrectionComments.NO_OPEN_CORRECTION_COMMENTS;
 import static org.kitodo.data.database.enums.CorrectionComments.OPEN_CORRECTION_COMMENTS;
 
-import com.itextpdf.text.Document;
 import com.itextpdf.text.DocumentException;
-import com.itextpdf.text.PageSize;
-import com.itextpdf.text.Paragraph;
-import com.itextpdf.text.Rectangle;
-import com.itextpdf.text.pdf.PdfPTable;
-import com.itextpdf.text.pdf.PdfWriter;
 
 import java.io.File;
 import java.io.FileInputStream;
@@ -34,7 +28,6 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.text.DecimalFormat;
@@ -48,33 +41,26 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import javax.faces.context.ExternalContext;
 import javax.faces.context.FacesContext;
+import javax.xml.stream.XMLStreamException;
 
 import org.apache.commons.configuration.ConfigurationException;
 import org.apache.commons.io.IOUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.search.join.ScoreMode;
-import org.apache.poi.hssf.usermodel.HSSFCell;
-import org.apache.poi.hssf.usermodel.HSSFRow;
-import org.apache.poi.hssf.usermodel.HSSFSheet;
-import org.apache.poi.hssf.usermodel.HSSFWorkbook;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.DataFormatter;
-import org.apache.poi.ss.usermodel.Row;
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.query.MatchQueryBuilder;
 import org.elasticsearch.index.query.MultiMatchQueryBuilder;
@@ -84,11 +70,11 @@ import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.search.sort.SortBuilder;
 import org.elasticsearch.search.sort.SortBuilders;
 import org.elasticsearch.search.sort.SortOrder;
-import org.json.JSONArray;
-import org.json.JSONObject;
-import org.json.XML;
 import org.kitodo.api.dataeditor.rulesetmanagement.FunctionalDivision;
 import org.kitodo.api.dataformat.IncludedStructuralElement;
+import org.kitodo.api.dataformat.MediaUnit;
+import org.kitodo.api.dataformat.MediaVariant;
+import org.kitodo.api.dataformat.Workpiece;
 import org.kitodo.api.docket.DocketData;
 import org.kitodo.api.docket.DocketInterface;
 import org.kitodo.api.filemanagement.ProcessSubType;
@@ -126,6 +112,7 @@ import org.kitodo.production.dto.BatchDTO;
 import org.kitodo.production.dto.ProcessDTO;
 import org.kitodo.production.dto.ProjectDTO;
 import org.kitodo.production.dto.PropertyDTO;
+import org.kitodo.production.dto.RulesetDTO;
 import org.kitodo.production.dto.TaskDTO;
 import org.kitodo.production.enums.ObjectType;
 import org.kitodo.production.exporter.ExportXmlLog;
@@ -135,6 +122,7 @@ import org.kitodo.production.helper.SearchResultGeneration;
 import org.kitodo.production.helper.WebDav;
 import org.kitodo.production.helper.metadata.ImageHelper;
 import org.kitodo.production.helper.metadata.MetadataHelper;
+import org.kitodo.production.helper.metadata.MetsDmdSecExtractor;
 import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyDocStructHelperInterface;
 import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyMetadataHelper;
 import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyMetadataTypeHelper;
@@ -146,12 +134,13 @@ import org.kitodo.production.metadata.copier.DataCopier;
 import org.kitodo.production.process.TiffHeaderGenerator;
 import org.kitodo.production.process.TitleGenerator;
 import org.kitodo.production.services.ServiceManager;
+import org.kitodo.production.services.data.base.IndexCache;
 import org.kitodo.production.services.data.base.ProjectSearchService;
+import org.kitodo.production.services.dataformat.MetsService;
 import org.kitodo.production.services.file.FileService;
 import org.kitodo.production.services.workflow.WorkflowControllerService;
 import org.kitodo.serviceloader.KitodoServiceLoader;
 import org.primefaces.model.charts.ChartData;
-import org.primefaces.model.charts.axes.cartesian.linear.CartesianLinearAxes;
 import org.primefaces.model.charts.bar.BarChartOptions;
 import org.primefaces.model.charts.hbar.HorizontalBarChartDataSet;
 import org.primefaces.model.charts.hbar.HorizontalBarChartModel;
@@ -186,6 +175,10 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
     private static final List<String> BG_COLORS = Arrays
             .asList(ConfigCore.getParameterOrDefaultValue(ParameterCore.ISSUE_COLOURS).split(";"));
 
+    private final IndexCache<Integer, Integer> projectIds = new IndexCache<>(
+            ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_ID_CACHE_SIZE),
+            ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_CACHE_TIME_TO_LIVE));
+
     /**
      * Constructor with Searcher and Indexer assigning.
      */
@@ -213,6 +206,34 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         return localReference;
     }
 
+    /**
+     * Find the id of the project of the process with the given id. Only this
+     * field is read from the index and the result is cached, so the method is
+     * cheap enough for the authority checks while rendering a page.
+     *
+     * @param processId
+     *            id of process
+     * @return id of project, null if the process is not in the index
+     */
+    public Integer findProjectIdById(Integer processId) throws DataException {
+        return projectIds.get(processId, () -> {
+            Map<String, Object> jsonObject = findDocument(processId, ProcessTypeField.PROJECT_ID.getKey());
+            return jsonObject.isEmpty() ? null : ProcessTypeField.PROJECT_ID.getIntValue(jsonObject);
+        });
+    }
+
+    @Override
+    protected void removeFromCache(Integer id) {
+        super.removeFromCache(id);
+        projectIds.invalidate(id);
+    }
+
+    @Override
+    protected void clearCache() {
+        super.clearCache();
+        projectIds.invalidateAll();
+    }
+
     /**
      * Emptys the cache generated from ruleset, so changes in Ruleset are recognized in new session.
      */
@@ -247,32 +268,44 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
     }
 
     @Override
-    public void save(Process process) throws DataException {
+    public void save(Process process, boolean updateIndexImmediately) throws DataException {
         WorkflowControllerService.updateProcessSortHelperStatus(process);
         if (Objects.nonNull(process.getParent())) {
-            save(process.getParent());
+            save(process.getParent(), updateIndexImmediately);
         }
-        super.save(process);
+        super.save(process, updateIndexImmediately);
         if (Objects.nonNull(process.getParent())) {
-            save(process.getParent());
+            save(process.getParent(), updateIndexImmediately);
         }
     }
 
     @Override
     public void saveToIndex(Process process, boolean forceRefresh)
             throws CustomResponseException, DataException, IOException {
-        process.setMetadata(getMetadataForIndex(process));
-        process.setBaseType(getBaseType(process));
+        if (!isCollectingObjects()) {
+            process.setMetadata(getMetadataForIndex(process));
+            process.setBaseType(getBaseType(process));
+        }
         super.saveToIndex(process, forceRefresh);
     }
 
     @Override
     public void addAllObjectsToIndex(List<Process> processes) throws CustomResponseException, DAOException {
+        prepareForIndexingAll(processes);
+        super.addAllObjectsToIndex(processes);
+    }
+
+    @Override
+    public Map<Integer, Map<String, Object>> createDocuments(List<Process> processes) {
+        prepareForIndexingAll(processes);
+        return super.createDocuments(processes);
+    }
+
+    private void prepareForIndexingAll(List<Process> processes) {
         for (Process process : processes) {
             process.setMetadata(getMetadataForIndex(process, true));
             process.setBaseType(getBaseType(process));
         }
-        super.addAllObjectsToIndex(processes);
     }
 
     /**
@@ -300,6 +333,27 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
                 getSortBuilder(sortField, sortOrder), first, pageSize, false);
     }
 
+    /**
+     * Get all processes matching the filter of the process list, e.g. to
+     * execute an action for all of them. Only the ids of the processes are
+     * searched beforehand, the processes are loaded one after another while
+     * iterating, so the number of processes is not limited.
+     *
+     * @param filter
+     *            filter of the process list
+     * @return iterable over the processes, ordered by id
+     */
+    public Iterable<Process> getProcessesForFilter(String filter) throws DataException {
+        return getByIdsLazily(findIdsForFilter(filter));
+    }
+
+    private List<Integer> findIdsForFilter(String filter) throws DataException {
+        SearchResultGeneration searchResultGeneration = new SearchResultGeneration(filter, this.showClosedProcesses,
+                this.showInactiveProjects);
+        return findIds(searchResultGeneration.getQueryForFilter(ObjectType.PROCESS),
+            SortBuilders.fieldSort(ProcessTypeField.ID.getKey()).order(SortOrder.ASC));
+    }
+
     private BoolQueryBuilder readFilters(Map<String, String> filterMap) throws DataException {
         BoolQueryBuilder query = new BoolQueryBuilder();
 
@@ -329,8 +383,9 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
     }
 
     /**
-     * Method saves or removes batches, tasks and project related to modified
-     * process.
+     * Method saves or removes batches and tasks related to modified process.
+     * The project is not saved, as its document does not contain the
+     * processes.
      *
      * @param process
      *            object
@@ -339,7 +394,6 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
     protected void manageDependenciesForIndex(Process process)
             throws CustomResponseException, DAOException, DataException, IOException {
         manageBatchesDependenciesForIndex(process);
-        manageProjectDependenciesForIndex(process);
         manageTaskDependenciesForIndex(process);
     }
 
@@ -364,19 +418,6 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         }
     }
 
-    /**
-     * Add process to project, if project is assigned to process.
-     *
-     * @param process
-     *            object
-     */
-    private void manageProjectDependenciesForIndex(Process process)
-            throws CustomResponseException, DataException, IOException {
-        if (Objects.nonNull(process.getProject())) {
-            ServiceManager.getProjectService().saveToIndex(process.getProject(), false);
-        }
-    }
-
     /**
      * Check IndexAction flag in for process object. If DELETE remove all tasks
      * from index, if other call saveOrRemoveTaskInIndex() method.
@@ -581,6 +622,52 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         return createSimpleQuery(ProcessTypeField.PROJECT_ID.getKey(), projectId.toString(), true, Operator.AND);
     }
 
+    /**
+     * Find out which of the given projects have processes. The processes are
+     * counted in one request for all projects.
+     *
+     * @param projectIds
+     *            ids of the projects
+     * @return ids of the projects which have processes
+     */
+    public Set<Integer> findProjectIdsWithProcesses(Collection<Integer> projectIds) throws DataException {
+        if (projectIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return findDistinctIntegerValues(createSetQuery(ProcessTypeField.PROJECT_ID.getKey(),
+            new HashSet<>(projectIds), true), ProcessTypeField.PROJECT_ID.getKey(), projectIds.size());
+    }
+
+    /**
+     * Update the fields of a project in the documents of its processes, e.g.
+     * after the project was renamed or deactivated. Only these fields are sent
+     * to the index in bulk requests, so the documents of the processes don't
+     * have to be created again.
+     *
+     * @param project
+     *            project whose processes are updated
+     */
+    public void updateProjectOfProcessesInIndex(Project project) throws CustomResponseException, DataException {
+        List<Integer> processIds;
+        try {
+            processIds = dao.getIdsOfProject(project.getId());
+        } catch (DAOException e) {
+            throw new DataException(e);
+        }
+
+        Map<String, Object> projectFields = new HashMap<>();
+        projectFields.put(ProcessTypeField.PROJECT_TITLE.getKey(), Objects.toString(project.getTitle(), ""));
+        projectFields.put(ProcessTypeField.PROJECT_ACTIVE.getKey(), project.isActive());
+        projectFields.put(ProcessTypeField.PROJECT_CLIENT_ID.getKey(),
+            Objects.nonNull(project.getClient()) ? project.getClient().getId() : 0);
+
+        int batchSize = Math.max(1, ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_BATCH));
+        for (int start = 0; start < processIds.size(); start += batchSize) {
+            indexer.performPartialUpdate(processIds.subList(start, Math.min(start + batchSize, processIds.size())),
+                projectFields);
+        }
+    }
+
     /**
      * Find processes by docket id.
      *
@@ -786,6 +873,55 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
 
     @Override
     public ProcessDTO convertJSONObjectToDTO(Map<String, Object> jsonObject, boolean related) throws DataException {
+        ProcessDTO processDTO = createProcessDTO(jsonObject);
+        if (!jsonObject.isEmpty()) {
+            if (!related) {
+                convertRelatedJSONObjects(jsonObject, processDTO);
+            } else {
+                ProjectDTO projectDTO = new ProjectDTO();
+                projectDTO.setId(ProcessTypeField.PROJECT_ID.getIntValue(jsonObject));
+                projectDTO.setTitle(ProcessTypeField.PROJECT_TITLE.getStringValue(jsonObject));
+                projectDTO.setActive(ProcessTypeField.PROJECT_ACTIVE.getBooleanValue(jsonObject));
+                processDTO.setProject(projectDTO);
+            }
+        }
+        return processDTO;
+    }
+
+    /**
+     * Convert a page of processes. If the related objects are included, the
+     * projects, rulesets and tasks of all processes on the page are fetched
+     * with one query per type instead of three queries per process.
+     */
+    @Override
+    protected List<ProcessDTO> convertJSONObjectsToDTOs(List<Map<String, Object>> jsonObjects, boolean related)
+            throws DataException {
+        if (related || jsonObjects.size() < 2) {
+            return super.convertJSONObjectsToDTOs(jsonObjects, related);
+        }
+
+        Map<Integer, ProjectDTO> projects = ServiceManager.getProjectService()
+                .findByIds(getRelatedIds(jsonObjects, ProcessTypeField.PROJECT_ID), false);
+        Map<Integer, RulesetDTO> rulesets = ServiceManager.getRulesetService()
+                .findByIds(getRelatedIds(jsonObjects, ProcessTypeField.RULESET), false);
+        Map<Integer, TaskDTO> tasks = findRelatedDTOs(jsonObjects, ProcessTypeField.TASKS.getKey(),
+            ServiceManager.getTaskService());
+
+        List<ProcessDTO> processDTOs = new ArrayList<>();
+        for (Map<String, Object> jsonObject : jsonObjects) {
+            ProcessDTO processDTO = createProcessDTO(jsonObject);
+            if (!jsonObject.isEmpty()) {
+                setRelatedDTOs(jsonObject, processDTO,
+                    projects.get(ProcessTypeField.PROJECT_ID.getIntValue(jsonObject)),
+                    rulesets.get(ProcessTypeField.RULESET.getIntValue(jsonObject)),
+                    getRelatedDTOs(jsonObject, ProcessTypeField.TASKS.getKey(), tasks));
+            }
+            processDTOs.add(processDTO);
+        }
+        return processDTOs;
+    }
+
+    private ProcessDTO createProcessDTO(Map<String, Object> jsonObject) throws DataException {
         ProcessDTO processDTO = new ProcessDTO();
         if (!jsonObject.isEmpty()) {
             processDTO.setId(getIdFromJSONObject(jsonObject));
@@ -814,40 +950,52 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
                 }
             }
             processDTO.setProperties(properties);
+        }
+        return processDTO;
+    }
 
-            if (!related) {
-                convertRelatedJSONObjects(jsonObject, processDTO);
-            } else {
-                ProjectDTO projectDTO = new ProjectDTO();
-                projectDTO.setId(ProcessTypeField.PROJECT_ID.getIntValue(jsonObject));
-                projectDTO.setTitle(ProcessTypeField.PROJECT_TITLE.getStringValue(jsonObject));
-                projectDTO.setActive(ProcessTypeField.PROJECT_ACTIVE.getBooleanValue(jsonObject));
-                processDTO.setProject(projectDTO);
+    private Set<Integer> getRelatedIds(List<Map<String, Object>> jsonObjects, ProcessTypeField field)
+            throws DataException {
+        Set<Integer> ids = new HashSet<>();
+        for (Map<String, Object> jsonObject : jsonObjects) {
+            int id = field.getIntValue(jsonObject);
+            if (id > 0) {
+                ids.add(id);
             }
         }
-        return processDTO;
+        return ids;
     }
 
     private void convertRelatedJSONObjects(Map<String, Object> jsonObject, ProcessDTO processDTO) throws DataException {
+        ProjectDTO projectDTO = null;
         int project = ProcessTypeField.PROJECT_ID.getIntValue(jsonObject);
         if (project > 0) {
-            processDTO.setProject(ServiceManager.getProjectService().findById(project));
+            projectDTO = ServiceManager.getProjectService().findById(project);
         }
+        RulesetDTO rulesetDTO = null;
         int ruleset = ProcessTypeField.RULESET.getIntValue(jsonObject);
         if (ruleset > 0) {
-            processDTO.setRuleset(ServiceManager.getRulesetService().findById(ruleset));
+            rulesetDTO = ServiceManager.getRulesetService().findById(ruleset);
         }
+        // TODO: leave it for now - right now it displays only status
+        List<TaskDTO> tasks = convertRelatedJSONObjectToDTO(jsonObject, ProcessTypeField.TASKS.getKey(),
+            ServiceManager.getTaskService());
+        setRelatedDTOs(jsonObject, processDTO, projectDTO, rulesetDTO, tasks);
+    }
 
+    private void setRelatedDTOs(Map<String, Object> jsonObject, ProcessDTO processDTO, ProjectDTO projectDTO,
+            RulesetDTO rulesetDTO, List<TaskDTO> tasks) throws DataException {
+        processDTO.setProject(projectDTO);
+        processDTO.setRuleset(rulesetDTO);
         processDTO.setBatchID(getBatchID(processDTO));
         processDTO.setBatches(getBatchesForProcessDTO(jsonObject));
-        // TODO: leave it for now - right now it displays only status
-        processDTO.setTasks(convertRelatedJSONObjectToDTO(jsonObject, ProcessTypeField.TASKS.getKey(),
-            ServiceManager.getTaskService()));
+        processDTO.setTasks(tasks);
 
-        processDTO.setProgressClosed(getProgressClosed(null, processDTO.getTasks()));
-        processDTO.setProgressInProcessing(getProgressInProcessing(null, processDTO.getTasks()));
-        processDTO.setProgressOpen(getProgressOpen(null, processDTO.getTasks()));
-        processDTO.setProgressLocked(getProgressLocked(null, processDTO.getTasks()));
+        Map<String, Integer> progress = getCalculationForProgress(null, tasks);
+        processDTO.setProgressClosed(calculateProgressClosed(progress));
+        processDTO.setProgressInProcessing(calculateProgressInProcessing(progress));
+        processDTO.setProgressOpen(calculateProgressOpen(progress));
+        processDTO.setProgressLocked(calculateProgressLocked(progress));
     }
 
     private List<BatchDTO> getBatchesForProcessDTO(Map<String, Object> jsonObject) throws DataException {
@@ -1509,32 +1657,7 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
             try (OutputStream out = response.getResponseOutputStream()) {
                 SearchResultGeneration sr = new SearchResultGeneration(filter, this.showClosedProcesses,
                         this.showInactiveProjects);
-                HSSFWorkbook wb = sr.getResult();
-                List<List<HSSFCell>> rowList = new ArrayList<>();
-                HSSFSheet mySheet = wb.getSheetAt(0);
-                Iterator<Row> rowIter = mySheet.rowIterator();
-                while (rowIter.hasNext()) {
-                    HSSFRow myRow = (HSSFRow) rowIter.next();
-                    Iterator<Cell> cellIter = myRow.cellIterator();
-                    List<HSSFCell> row = new ArrayList<>();
-                    while (cellIter.hasNext()) {
-                        HSSFCell myCell = (HSSFCell) cellIter.next();
-                        row.add(myCell);
-                    }
-                    rowList.add(row);
-                }
-                Document document = new Document();
-                Rectangle rectangle = new Rectangle(PageSize.A3.getHeight(), PageSize.A3.getWidth());
-                PdfWriter.getInstance(document, out);
-                document.setPageSize(rectangle);
-                document.open();
-                if (!rowList.isEmpty()) {
-                    Paragraph paragraph = new Paragraph(rowList.get(0).get(0).toString());
-                    document.add(paragraph);
-                    document.add(getPdfTable(rowList));
-                }
-
-                document.close();
+                sr.writeResultAsPdf(out);
                 out.flush();
                 facesContext.responseComplete();
             }
@@ -1550,12 +1673,11 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
     public void generateResult(String filter) throws IOException {
         FacesContext facesContext = FacesContext.getCurrentInstance();
         if (!facesContext.getResponseComplete()) {
-            ExternalContext response = prepareHeaderInformation(facesContext, "search.xls");
+            ExternalContext response = prepareHeaderInformation(facesContext, "search.xlsx");
             try (OutputStream out = response.getResponseOutputStream()) {
                 SearchResultGeneration sr = new SearchResultGeneration(filter, this.showClosedProcesses,
                         this.showInactiveProjects);
-                HSSFWorkbook wb = sr.getResult();
-                wb.write(out);
+                sr.writeResult(out);
                 out.flush();
                 facesContext.responseComplete();
             }
@@ -1596,23 +1718,6 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         return externalContext;
     }
 
-    private PdfPTable getPdfTable(List<List<HSSFCell>> rowList) throws DocumentException {
-        // create formatter for cells with default locale
-        DataFormatter formatter = new DataFormatter();
-
-        PdfPTable table = new PdfPTable(8);
-        table.setSpacingBefore(20);
-        table.setWidths(new int[] {4, 1, 2, 1, 1, 1, 2, 2 });
-        for (List<HSSFCell> row : rowList) {
-            for (HSSFCell hssfCell : row) {
-                String stringCellValue = formatter.formatCellValue(hssfCell);
-                table.addCell(stringCellValue);
-            }
-        }
-
-        return table;
-    }
-
     private DocketInterface initialiseDocketModule() {
         KitodoServiceLoader<DocketInterface> loader = new KitodoServiceLoader<>(DocketInterface.class);
         return loader.loadModule();
@@ -1630,6 +1735,54 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         return readMetadataFile(process).getDigitalDocument();
     }
 
+    /**
+     * Updates the statistics of the workpiece on the process: the numbers of
+     * pages, structural elements and metadata in the sort helpers, the
+     * numbers of media files by file group and the total size of the media
+     * files. Called whenever the workpiece of the process is saved, so the
+     * statistics are available from the process and the index without reading
+     * the metadata file. They are persisted with the next save of the process.
+     * The size of the media files is only determined anew if media files were
+     * added or removed.
+     *
+     * @param process
+     *            process whose statistics are updated
+     * @param workpiece
+     *            workpiece of the process
+     */
+    public void updateStatistics(Process process, Workpiece workpiece) {
+        updateStatistics(process, workpiece, false);
+    }
+
+    /**
+     * Updates the statistics of the workpiece on the process.
+     *
+     * @param process
+     *            process whose statistics are updated
+     * @param workpiece
+     *            workpiece of the process
+     * @param determineMediaSize
+     *            whether the size of the media files is determined even if no
+     *            media files were added or removed
+     */
+    public void updateStatistics(Process process, Workpiece workpiece, boolean determineMediaSize) {
+        List<MediaUnit> mediaUnits = workpiece.getAllMediaUnits();
+        process.setSortHelperImages((int) mediaUnits.stream()
+                .filter(mediaUnit -> Objects.equals(mediaUnit.getType(), MediaUnit.TYPE_PAGE)).count());
+        process.setSortHelperDocstructs((int) Workpiece.treeStream(workpiece.getRootElement()).count());
+        process.setSortHelperMetadata(Math.toIntExact(MetsService.countLogicalMetadata(workpiece)));
+        Map<String, Integer> mediaFileGroups = new TreeMap<>();
+        for (MediaUnit mediaUnit : mediaUnits) {
+            for (MediaVariant mediaVariant : mediaUnit.getMediaFiles().keySet()) {
+                mediaFileGroups.merge(mediaVariant.getUse(), 1, Integer::sum);
+            }
+        }
+        if (determineMediaSize || !mediaFileGroups.equals(process.getMediaFileGroups())) {
+            process.setMediaSize(ServiceManager.getFileService().getSizeOfMediaFiles(process, workpiece));
+        }
+        process.setMediaFileGroups(mediaFileGroups);
+    }
+
     /**
      * Returns the type of the top element of the root element, and thus the
      * type of the workpiece of the process.
@@ -2049,7 +2202,6 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         return getMetadataForIndex(process, false);
     }
 
-    @SuppressWarnings("unchecked")
     private List<Map<String, Object>> getMetadataForIndex(Process process, boolean forIndexingAll) {
         try {
             URI metadataFileUri = ServiceManager.getFileService().getMetadataFilePath(process, false, true);
@@ -2057,71 +2209,15 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
                 logger.info("No metadata file for indexing: {}", metadataFileUri);
                 return Collections.emptyList();
             }
-            String metadataFile;
             try (InputStream inputStream = ServiceManager.getFileService().readMetadataFile(process, forIndexingAll)) {
-                metadataFile = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
+                return MetsDmdSecExtractor.extract(inputStream);
             }
-            JSONObject xmlJSONObject = XML.toJSONObject(metadataFile);
-            Map<String, Object> json = iterateOverJsonObject(xmlJSONObject);
-            if (json.containsKey("mets")) {
-                Map<String, Object> mets = (Map<String, Object>) json.get("mets");
-                Object dmdSec = mets.get("dmdSec");
-                List<Map<String, Object>> metadata = new ArrayList<>();
-                if (dmdSec instanceof List) {
-                    metadata = (List<Map<String, Object>>) dmdSec;
-                } else if (dmdSec instanceof Map) {
-                    metadata.add((Map<String, Object>) dmdSec);
-                }
-                return metadata;
-            }
-        } catch (NullPointerException | IOException e) {
+        } catch (NullPointerException | IOException | XMLStreamException e) {
             logger.warn(e.getMessage(), e);
         }
         return Collections.emptyList();
     }
 
-    private Map<String, Object> iterateOverJsonObject(JSONObject xmlJSONObject) {
-        Iterator<String> keys = xmlJSONObject.keys();
-        Map<String, Object> json = new HashMap<>();
-        while (keys.hasNext()) {
-            String key = keys.next();
-            Object value = xmlJSONObject.get(key);
-            if (value instanceof String || value instanceof Integer) {
-                json.put(prepareKey(key), value);
-            } else if (value instanceof JSONObject) {
-                JSONObject jsonObject = (JSONObject) value;
-                Map<String, Object> map = iterateOverJsonObject(jsonObject);
-                json.put(prepareKey(key), map);
-            } else if (value instanceof JSONArray) {
-                json.put(prepareKey(key), iterateOverJsonArray((JSONArray) value));
-            }
-        }
-        return json;
-    }
-
-    private Object iterateOverJsonArray(JSONArray jsonArray) {
-        int jsonArraySize = jsonArray.length();
-        List<Object> json = new ArrayList<>(jsonArraySize);
-        for (int i = 0; i < jsonArraySize; i++) {
-            Object value = jsonArray.get(i);
-            if (value instanceof JSONObject) {
-                json.add(iterateOverJsonObject((JSONObject) value));
-            } else if (value instanceof String) {
-                json.add(value);
-            } else if (value instanceof JSONArray) {
-                json.add(iterateOverJsonArray((JSONArray) value));
-            }
-        }
-        return json;
-    }
-
-    private String prepareKey(String key) {
-        if (key.contains(":")) {
-            return key.substring(key.indexOf(':') + 1);
-        }
-        return key;
-    }
-
     /**
      * Retrieve and return process property value of property with given name
      * 'propertyName' from given ProcessDTO 'process'.
@@ -2373,7 +2469,7 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
      * @param processes List of processes
      * @throws DAOException Thrown on database like error
      */
-    public static void downloadToHome(List<Process> processes) throws DAOException {
+    public static void downloadToHome(Iterable<Process> processes) throws DAOException {
         WebDav webDav = new WebDav();
         for (Process processForDownload : processes) {
             downloadToHome(webDav, processForDownload.getId());
@@ -2600,58 +2696,45 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
     }
 
     /**
-     * Create and return HorizontalBarChartModel for given processes.
+     * Create and return HorizontalBarChartModel with the average durations of
+     * the tasks of all processes matching the filter of the process list.
      *
-     * @param processes List of processes
+     * @param filter
+     *            filter of the process list
      * @return HorizontalBarChartModel
      */
-    public HorizontalBarChartModel getBarChartModel(List<Process> processes) {
-        LinkedHashMap<String, LinkedHashMap<String,Integer>> durationOfTasks = new LinkedHashMap<>();
-        for (Process selectedProcess : processes) {
-            LinkedHashMap<String,Integer> taskValues = new LinkedHashMap<>();
-            for (Task task  : selectedProcess.getTasks()) {
-                long durationInDays = ServiceManager.getTaskService().getDurationInDays(task);
-                taskValues.put(task.getTitle(), Math.toIntExact(durationInDays));
-            }
-            durationOfTasks.put(selectedProcess.getTitle(), taskValues);
+    public HorizontalBarChartModel getBarChartModel(String filter) throws DataException {
+        return getBarChartModel(findIdsForFilter(filter));
+    }
+
+    /**
+     * Create and return HorizontalBarChartModel with the average durations of
+     * the tasks of given processes. The durations are aggregated in the index,
+     * so the processes are not loaded.
+     *
+     * @param processIds
+     *            ids of the processes
+     * @return HorizontalBarChartModel
+     */
+    public HorizontalBarChartModel getBarChartModel(List<Integer> processIds) throws DataException {
+        Map<String, Double> durationOfTasks = ServiceManager.getTaskService().getAverageDurationsInDays(processIds);
+        HorizontalBarChartDataSet barDataSet = new HorizontalBarChartDataSet();
+        barDataSet.setLabel(Helper.getTranslation("durationOfTasks"));
+        barDataSet.setData(new ArrayList<>(durationOfTasks.values()));
+        List<String> backgroundColors = new ArrayList<>();
+        for (int i = 0; i < durationOfTasks.size(); i++) {
+            backgroundColors.add(BG_COLORS.get(i % BG_COLORS.size()));
         }
+        barDataSet.setBackgroundColor(backgroundColors);
+
         ChartData data = new ChartData();
-        boolean isTask;
-        int i = 0;
-        while (true) {
-            isTask = false;
-            HorizontalBarChartDataSet barDataSet = new HorizontalBarChartDataSet();
-            List<Number> taskDurations = new ArrayList<>();
-            for (String processTitle : durationOfTasks.keySet()) {
-                LinkedHashMap<String, Integer> tasksForProcess = durationOfTasks.get(processTitle);
-                ArrayList<Integer> durations = new ArrayList<>(tasksForProcess.values());
-                Integer taskDuration = 0;
-                if (durations.size() > i) {
-                    barDataSet.setLabel(new ArrayList<>(tasksForProcess.keySet()).get(i));
-                    taskDuration = durations.get(i);
-                    isTask = true;
-                }
-                taskDurations.add(taskDuration);
-            }
-            if (isTask) {
-                barDataSet.setStack("Stack 0");
-                barDataSet.setBackgroundColor(BG_COLORS.get(i % BG_COLORS.size()));
-                barDataSet.setData(taskDurations);
-                data.addChartDataSet(barDataSet);
-                i++;
-            } else {
-                break;
-            }
-        }
-        List<String> labels = new ArrayList<>(durationOfTasks.keySet());
-        data.setLabels(labels);
+        data.addChartDataSet(barDataSet);
+        data.setLabels(new ArrayList<>(durationOfTasks.keySet()));
 
         HorizontalBarChartModel horizontalBarChartModel = new HorizontalBarChartModel();
         horizontalBarChartModel.setData(data);
 
         // Options
-        CartesianLinearAxes linearAxes = new CartesianLinearAxes();
-        linearAxes.setStacked(true);
         BarChartOptions options = new BarChartOptions();
 
         Tooltip tooltip = new Tooltip();
@@ -2664,25 +2747,28 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
     }
 
     /**
-     * Aggregate and return statistical data about task status of given processes.
+     * Aggregate and return statistical data about task status of all processes
+     * matching the filter of the process list.
      *
-     * @param processes List of processes for which statistical data is aggregated.
-     * @return statistical data about tasks status of given processes
+     * @param filter
+     *            filter of the process list
+     * @return numbers of processes by current task title
      */
-    public Map<String, Integer> getProcessTaskStates(List<Process> processes) {
-        Map<String, Integer> processTaskStates = new LinkedHashMap<>();
-        for (Process process : processes) {
-            Task currentTask = ServiceManager.getProcessService().getCurrentTask(process);
-            if (Objects.nonNull(currentTask)) {
-                String currentTaskTitle = currentTask.getTitle();
-                if (processTaskStates.containsKey(currentTaskTitle)) {
-                    processTaskStates.put(currentTaskTitle, Math.addExact(processTaskStates.get(currentTaskTitle), 1));
-                } else {
-                    processTaskStates.put(currentTaskTitle, 1);
-                }
-            }
-        }
-        return processTaskStates;
+    public Map<String, Integer> getProcessTaskStates(String filter) throws DataException {
+        return getProcessTaskStates(findIdsForFilter(filter));
+    }
+
+    /**
+     * Aggregate and return statistical data about task status of given
+     * processes. The tasks are counted in the index, so the processes are not
+     * loaded.
+     *
+     * @param processIds
+     *            ids of the processes for which statistical data is aggregated
+     * @return numbers of processes by current task title
+     */
+    public Map<String, Integer> getProcessTaskStates(List<Integer> processIds) throws DataException {
+        return ServiceManager.getTaskService().countProcessesByCurrentTask(processIds);
     }
 
     /**
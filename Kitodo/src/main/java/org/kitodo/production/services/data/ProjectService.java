@@ -18,6 +18,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.elasticsearch.index.query.BoolQueryBuilder;
@@ -80,6 +81,36 @@ public class ProjectService extends ClientSearchService<Project, ProjectDTO, Pro
         return localReference;
     }
 
+    /**
+     * Remove the processes from the project documents indexed before the
+     * processes were dropped from the documents. The project lists do not need
+     * them anymore, but they make the documents large. Only the projects whose
+     * documents still contain processes are indexed again, so nothing is done
+     * once all documents are migrated. The projects of all clients are
+     * migrated.
+     *
+     * @return the number of project documents indexed again
+     */
+    @SuppressWarnings("unchecked")
+    public int removeProcessesFromIndex() throws DataException {
+        List<Project> projects = new ArrayList<>();
+        try {
+            Set<Integer> projectIds = searcher
+                    .findDocumentIds(QueryBuilders.existsQuery(ProjectTypeField.PROCESSES.getKey()));
+            if (projectIds.isEmpty()) {
+                return 0;
+            }
+            for (Integer projectId : projectIds) {
+                projects.add(getById(projectId));
+            }
+            indexer.performMultipleRequests(projects, type, false);
+        } catch (CustomResponseException | DAOException e) {
+            throw new DataException(e);
+        }
+        clearCache();
+        return projects.size();
+    }
+
     /**
      * Method saves processes and templates related to modified project.
      *
@@ -94,7 +125,8 @@ public class ProjectService extends ClientSearchService<Project, ProjectDTO, Pro
     }
 
     /**
-     * Management of processes for project object.
+     * Management of processes for project object. If the project is saved,
+     * only its fields in the documents of the processes are updated.
      *
      * @param project
      *            object
@@ -106,9 +138,7 @@ public class ProjectService extends ClientSearchService<Project, ProjectDTO, Pro
                 ServiceManager.getProcessService().removeFromIndex(process, false);
             }
         } else {
-            for (Process process : project.getProcesses()) {
-                ServiceManager.getProcessService().saveToIndex(process, false);
-            }
+            ServiceManager.getProcessService().updateProjectOfProcessesInIndex(project);
         }
     }
 
@@ -195,6 +225,33 @@ public class ProjectService extends ClientSearchService<Project, ProjectDTO, Pro
 
     @Override
     public ProjectDTO convertJSONObjectToDTO(Map<String, Object> jsonObject, boolean related) throws DataException {
+        ProjectDTO projectDTO = convertJSONObjectToDTOWithoutProcesses(jsonObject, related);
+        projectDTO.setHasProcesses(!ServiceManager.getProcessService()
+                .findProjectIdsWithProcesses(Collections.singletonList(projectDTO.getId())).isEmpty());
+        return projectDTO;
+    }
+
+    /**
+     * Convert the JSON objects to DTOs. Whether the projects have processes is
+     * found out in one request for all projects.
+     */
+    @Override
+    protected List<ProjectDTO> convertJSONObjectsToDTOs(List<Map<String, Object>> jsonObjects, boolean related)
+            throws DataException {
+        List<ProjectDTO> projectDTOs = new ArrayList<>();
+        for (Map<String, Object> jsonObject : jsonObjects) {
+            projectDTOs.add(convertJSONObjectToDTOWithoutProcesses(jsonObject, related));
+        }
+        Set<Integer> projectIdsWithProcesses = ServiceManager.getProcessService().findProjectIdsWithProcesses(
+            projectDTOs.stream().map(ProjectDTO::getId).collect(Collectors.toList()));
+        for (ProjectDTO projectDTO : projectDTOs) {
+            projectDTO.setHasProcesses(projectIdsWithProcesses.contains(projectDTO.getId()));
+        }
+        return projectDTOs;
+    }
+
+    private ProjectDTO convertJSONObjectToDTOWithoutProcesses(Map<String, Object> jsonObject, boolean related)
+            throws DataException {
         ProjectDTO projectDTO = new ProjectDTO();
         projectDTO.setId(getIdFromJSONObject(jsonObject));
         projectDTO.setTitle(ProjectTypeField.TITLE.getStringValue(jsonObject));
@@ -208,7 +265,6 @@ public class ProjectService extends ClientSearchService<Project, ProjectDTO, Pro
         clientDTO.setId(ProjectTypeField.CLIENT_ID.getIntValue(jsonObject));
         clientDTO.setName(ProjectTypeField.CLIENT_NAME.getStringValue(jsonObject));
         projectDTO.setClient(clientDTO);
-        projectDTO.setHasProcesses(ProjectTypeField.PROCESSES.getSizeOfProperty(jsonObject) > 0);
         if (!related) {
             convertRelatedJSONObjects(jsonObject, projectDTO);
         } else {
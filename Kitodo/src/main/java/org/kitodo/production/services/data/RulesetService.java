@@ -20,6 +20,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.logging.log4j.LogManager;
@@ -46,6 +47,7 @@ import org.kitodo.production.helper.Helper;
 import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyPrefsHelper;
 import org.kitodo.production.services.ServiceManager;
 import org.kitodo.production.services.data.base.ClientSearchService;
+import org.kitodo.production.services.dataeditor.UnmodifiableRulesetManagement;
 import org.primefaces.model.SortOrder;
 
 public class RulesetService extends ClientSearchService<Ruleset, RulesetDTO, RulesetDAO> {
@@ -53,6 +55,22 @@ public class RulesetService extends ClientSearchService<Ruleset, RulesetDTO, Rul
     private static final Logger logger = LogManager.getLogger(RulesetService.class);
     private static volatile RulesetService instance = null;
 
+    /*
+     * Rulesets which have been loaded, by the path of their file. A ruleset is
+     * read again if its file has been modified since it was loaded.
+     */
+    private final Map<String, LoadedRuleset> rulesetCache = new ConcurrentHashMap<>();
+
+    private static class LoadedRuleset {
+        private final long lastModified;
+        private final RulesetManagementInterface rulesetManagement;
+
+        LoadedRuleset(long lastModified, RulesetManagementInterface rulesetManagement) {
+            this.lastModified = lastModified;
+            this.rulesetManagement = rulesetManagement;
+        }
+    }
+
     /**
      * Constructor with Searcher and Indexer assigning.
      */
@@ -85,6 +103,16 @@ public class RulesetService extends ClientSearchService<Ruleset, RulesetDTO, Rul
         return countDatabaseRows("SELECT COUNT(*) FROM Ruleset");
     }
 
+    /**
+     * Saves the ruleset. Its file may have been replaced, therefore the loaded
+     * rulesets are read again when they are opened next time.
+     */
+    @Override
+    public void save(Ruleset ruleset, boolean updateIndexImmediately) throws DataException {
+        super.save(ruleset, updateIndexImmediately);
+        clearRulesetCache();
+    }
+
     @Override
     public Long countNotIndexedDatabaseRows() throws DAOException {
         return countDatabaseRows("SELECT COUNT(*) FROM Ruleset WHERE indexAction = 'INDEX' OR indexAction IS NULL");
@@ -198,20 +226,20 @@ public class RulesetService extends ClientSearchService<Ruleset, RulesetDTO, Rul
     }
 
     /**
-     * Get preferences.
+     * Get preferences. The ruleset is opened with {@link #openRuleset(Ruleset)},
+     * so it is only read if it has not been loaded before.
      *
      * @param ruleset
      *            object
      * @return preferences
      */
     public LegacyPrefsHelper getPreferences(Ruleset ruleset) {
-        LegacyPrefsHelper myPreferences = new LegacyPrefsHelper();
         try {
-            myPreferences.loadPrefs(ConfigCore.getParameter(ParameterCore.DIR_RULESETS) + ruleset.getFile());
-        } catch (IOException e) {
+            return new LegacyPrefsHelper(openRuleset(ruleset));
+        } catch (IOException | RulesetNotFoundException e) {
             logger.error(e.getMessage(), e);
+            return new LegacyPrefsHelper();
         }
-        return myPreferences;
     }
 
     private QueryBuilder getRulesetsForCurrentUserQuery() {
@@ -222,7 +250,10 @@ public class RulesetService extends ClientSearchService<Ruleset, RulesetDTO, Rul
     }
 
     /**
-     * Acquires a ruleset Management and loads a ruleset into it.
+     * Acquires a ruleset Management and loads a ruleset into it. The ruleset
+     * is only read if it has not been loaded before or if its file has been
+     * modified since then, otherwise the loaded one is returned. The returned
+     * ruleset management is shared and therefore unmodifiable.
      *
      * @param ruleset
      *            database object that references the ruleset
@@ -234,18 +265,33 @@ public class RulesetService extends ClientSearchService<Ruleset, RulesetDTO, Rul
 
     private RulesetManagementInterface openRulesetFile(String fileName) throws IOException, RulesetNotFoundException {
         final long begin = System.nanoTime();
-        RulesetManagementInterface ruleset = ServiceManager.getRulesetManagementService().getRulesetManagement();
-        try {
-            ruleset.load(new File(Paths.get(ConfigCore.getParameter(ParameterCore.DIR_RULESETS), fileName).toString()));
-        } catch (FileNotFoundException e) {
-            List<String> param = new ArrayList<>();
-            param.add(fileName);
-            throw new RulesetNotFoundException(Helper.getTranslation("rulesetNotFound", param));
+        File rulesetFile = new File(Paths.get(ConfigCore.getParameter(ParameterCore.DIR_RULESETS), fileName).toString());
+        long lastModified = rulesetFile.lastModified();
+        LoadedRuleset loadedRuleset = rulesetCache.get(rulesetFile.getPath());
+        if (Objects.isNull(loadedRuleset) || loadedRuleset.lastModified != lastModified) {
+            RulesetManagementInterface ruleset = ServiceManager.getRulesetManagementService().getRulesetManagement();
+            try {
+                ruleset.load(rulesetFile);
+            } catch (FileNotFoundException e) {
+                List<String> param = new ArrayList<>();
+                param.add(fileName);
+                throw new RulesetNotFoundException(Helper.getTranslation("rulesetNotFound", param));
+            }
+            loadedRuleset = new LoadedRuleset(lastModified, new UnmodifiableRulesetManagement(ruleset));
+            rulesetCache.put(rulesetFile.getPath(), loadedRuleset);
         }
 
         if (logger.isTraceEnabled()) {
             logger.trace("Reading ruleset took {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
         }
-        return ruleset;
+        return loadedRuleset.rulesetManagement;
+    }
+
+    /**
+     * Remove all loaded rulesets from the cache, so that they are read again
+     * from their files when they are opened next time.
+     */
+    public void clearRulesetCache() {
+        rulesetCache.clear();
     }
 }
@@ -13,13 +13,21 @@ package org.kitodo.production.services.data;
 
 import java.io.IOException;
 import java.text.MessageFormat;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -30,7 +38,15 @@ import org.apache.logging.log4j.Logger;
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.search.aggregations.AggregationBuilders;
+import org.elasticsearch.search.aggregations.bucket.filter.Filter;
+import org.elasticsearch.search.aggregations.bucket.terms.Terms;
+import org.elasticsearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
+import org.elasticsearch.search.aggregations.metrics.min.Min;
+import org.elasticsearch.search.aggregations.metrics.sum.Sum;
 import org.kitodo.api.command.CommandResult;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.Folder;
 import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.beans.Project;
@@ -63,6 +79,7 @@ import org.kitodo.production.helper.tasks.EmptyTask;
 import org.kitodo.production.model.Subfolder;
 import org.kitodo.production.services.ServiceManager;
 import org.kitodo.production.services.command.CommandService;
+import org.kitodo.production.services.data.base.IndexCache;
 import org.kitodo.production.services.data.base.ProjectSearchService;
 import org.kitodo.production.services.file.SubfolderFactoryService;
 import org.kitodo.production.services.image.ImageGenerator;
@@ -77,12 +94,27 @@ import org.primefaces.model.SortOrder;
 public class TaskService extends ProjectSearchService<Task, TaskDTO, TaskDAO> {
 
     private static final Logger logger = LogManager.getLogger(TaskService.class);
+
+    /**
+     * Number of process ids sent in one aggregation request for statistics.
+     */
+    private static final int PROCESS_IDS_PER_AGGREGATION = 10_000;
+    private static final int MAX_TASK_TITLES = 1_000;
+    private static final String TASK_TITLE = "taskTitle";
+    private static final String TASK_TITLE_KEYWORD = TaskTypeField.TITLE.getKey() + ".keyword";
+    private static final String ORDERING = "ordering";
+    private static final String FINISHED = "finished";
+    private static final String RUNNING = "running";
     private static volatile TaskService instance = null;
     private boolean onlyOwnTasks = false;
     private TaskStatus taskStatusRestriction = null;
     private boolean showAutomaticTasks = false;
     private boolean hideCorrectionTasks = false;
 
+    private final IndexCache<Integer, Integer> processIds = new IndexCache<>(
+            ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_ID_CACHE_SIZE),
+            ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_CACHE_TIME_TO_LIVE));
+
     /**
      * Constructor with Searcher and Indexer assigning.
      */
@@ -110,6 +142,34 @@ public class TaskService extends ProjectSearchService<Task, TaskDTO, TaskDAO> {
         return localReference;
     }
 
+    /**
+     * Find the id of the process of the task with the given id. Only this field
+     * is read from the index and the result is cached, so the method is cheap
+     * enough for the authority checks while rendering a page.
+     *
+     * @param taskId
+     *            id of task
+     * @return id of process, null if the task is not in the index
+     */
+    public Integer findProcessIdById(Integer taskId) throws DataException {
+        return processIds.get(taskId, () -> {
+            Map<String, Object> jsonObject = findDocument(taskId, TaskTypeField.PROCESS_ID.getKey());
+            return jsonObject.isEmpty() ? null : TaskTypeField.PROCESS_ID.getIntValue(jsonObject);
+        });
+    }
+
+    @Override
+    protected void removeFromCache(Integer id) {
+        super.removeFromCache(id);
+        processIds.invalidate(id);
+    }
+
+    @Override
+    protected void clearCache() {
+        super.clearCache();
+        processIds.invalidateAll();
+    }
+
     /**
      * Creates and returns a query to retrieve tasks for which the currently
      * logged in user is eligible.
@@ -430,7 +490,10 @@ public class TaskService extends ProjectSearchService<Task, TaskDTO, TaskDAO> {
     }
 
     /**
-     * Execute script for task.
+     * Execute script for task. The script is run by the command module in the
+     * background, so the number of scripts running at the same time is limited
+     * and the configured timeout applies. This method waits for the script to
+     * finish.
      *
      * @param task
      *            object
@@ -465,9 +528,14 @@ public class TaskService extends ProjectSearchService<Task, TaskDTO, TaskDAO> {
             logger.info("Calling the shell: {}", script);
 
             CommandService commandService = ServiceManager.getCommandService();
-            CommandResult commandResult = commandService.runCommand(script);
+            CommandResult commandResult = commandService.runCommandAsync(script).get();
             executedSuccessful = commandResult.isSuccessful();
             finishOrReturnAutomaticTask(task, automatic, commandResult.isSuccessful());
+        } catch (ExecutionException e) {
+            Helper.setErrorMessage(e.getCause().getLocalizedMessage(), logger, e);
+        } catch (InterruptedException e) {
+            logger.warn("Interrupted while waiting for the script of task {}", task.getId());
+            Thread.currentThread().interrupt();
         } catch (IOException | DAOException e) {
             Helper.setErrorMessage(e.getLocalizedMessage(), logger, e);
         }
@@ -835,6 +903,106 @@ public class TaskService extends ProjectSearchService<Task, TaskDTO, TaskDAO> {
         return differenceTime / (1000 * 60 * 60 * 24);
     }
 
+    /**
+     * Count the processes by their open or in work tasks, using an aggregation
+     * in the index, so the processes and their tasks are not loaded. A process
+     * with several concurrent tasks open or in work is counted for each of
+     * them.
+     *
+     * @param processIds
+     *            ids of the processes to count
+     * @return numbers of processes by task title, in the order of the tasks
+     */
+    public Map<String, Integer> countProcessesByCurrentTask(List<Integer> processIds) throws DataException {
+        Map<String, Integer> counts = new HashMap<>();
+        Map<String, Double> orderings = new HashMap<>();
+        for (int start = 0; start < processIds.size(); start += PROCESS_IDS_PER_AGGREGATION) {
+            BoolQueryBuilder query = new BoolQueryBuilder()
+                    .filter(QueryBuilders.termsQuery(TaskTypeField.PROCESS_ID.getKey(),
+                        processIds.subList(start, Math.min(start + PROCESS_IDS_PER_AGGREGATION, processIds.size()))))
+                    .filter(QueryBuilders.termsQuery(TaskTypeField.PROCESSING_STATUS.getKey(),
+                        Arrays.asList(TaskStatus.OPEN.getValue(), TaskStatus.INWORK.getValue())));
+            for (Terms.Bucket bucket : aggregateByTaskTitle(query, AggregationBuilders.terms(TASK_TITLE)
+                    .field(TASK_TITLE_KEYWORD).size(MAX_TASK_TITLES))) {
+                counts.merge(bucket.getKeyAsString(), Math.toIntExact(bucket.getDocCount()), Integer::sum);
+                orderings.merge(bucket.getKeyAsString(), ((Min) bucket.getAggregations().get(ORDERING)).getValue(),
+                    Math::min);
+            }
+        }
+        return sortByOrdering(counts, orderings);
+    }
+
+    /**
+     * Get the average durations of the tasks of processes in days, using an
+     * aggregation in the index, so the processes and their tasks are not
+     * loaded. As in {@link #getDurationInDays(Task)}, a task which is not
+     * finished lasts until now, a task which is not begun has no duration.
+     *
+     * @param processIds
+     *            ids of the processes whose tasks are evaluated
+     * @return average durations in days by task title, in the order of the
+     *         tasks
+     */
+    public Map<String, Double> getAverageDurationsInDays(List<Integer> processIds) throws DataException {
+        Map<String, Long> counts = new HashMap<>();
+        Map<String, Double> durations = new HashMap<>();
+        Map<String, Double> orderings = new HashMap<>();
+        // the dates are indexed in local time without a time zone, which the index reads as UTC
+        double now = LocalDateTime.now().toInstant(ZoneOffset.UTC).toEpochMilli();
+        String begin = TaskTypeField.PROCESSING_BEGIN.getKey();
+        String end = TaskTypeField.PROCESSING_END.getKey();
+        for (int start = 0; start < processIds.size(); start += PROCESS_IDS_PER_AGGREGATION) {
+            QueryBuilder query = QueryBuilders.termsQuery(TaskTypeField.PROCESS_ID.getKey(),
+                processIds.subList(start, Math.min(start + PROCESS_IDS_PER_AGGREGATION, processIds.size())));
+            TermsAggregationBuilder aggregation = AggregationBuilders.terms(TASK_TITLE).field(TASK_TITLE_KEYWORD)
+                    .size(MAX_TASK_TITLES)
+                    .subAggregation(AggregationBuilders
+                            .filter(FINISHED, new BoolQueryBuilder().filter(QueryBuilders.existsQuery(begin))
+                                    .filter(QueryBuilders.existsQuery(end)))
+                            .subAggregation(AggregationBuilders.sum(begin).field(begin))
+                            .subAggregation(AggregationBuilders.sum(end).field(end)))
+                    .subAggregation(AggregationBuilders
+                            .filter(RUNNING, new BoolQueryBuilder().filter(QueryBuilders.existsQuery(begin))
+                                    .mustNot(QueryBuilders.existsQuery(end)))
+                            .subAggregation(AggregationBuilders.sum(begin).field(begin)));
+            for (Terms.Bucket bucket : aggregateByTaskTitle(query, aggregation)) {
+                Filter finished = bucket.getAggregations().get(FINISHED);
+                Filter running = bucket.getAggregations().get(RUNNING);
+                double duration = ((Sum) finished.getAggregations().get(end)).getValue()
+                        - ((Sum) finished.getAggregations().get(begin)).getValue()
+                        + running.getDocCount() * now - ((Sum) running.getAggregations().get(begin)).getValue();
+                counts.merge(bucket.getKeyAsString(), bucket.getDocCount(), Long::sum);
+                durations.merge(bucket.getKeyAsString(), duration, Double::sum);
+                orderings.merge(bucket.getKeyAsString(), ((Min) bucket.getAggregations().get(ORDERING)).getValue(),
+                    Math::min);
+            }
+        }
+        Map<String, Double> averageDurations = new HashMap<>();
+        for (Map.Entry<String, Long> count : counts.entrySet()) {
+            averageDurations.put(count.getKey(),
+                durations.get(count.getKey()) / count.getValue() / TimeUnit.DAYS.toMillis(1));
+        }
+        return sortByOrdering(averageDurations, orderings);
+    }
+
+    private List<? extends Terms.Bucket> aggregateByTaskTitle(QueryBuilder query,
+            TermsAggregationBuilder aggregation) throws DataException {
+        aggregation.subAggregation(AggregationBuilders.min(ORDERING).field(TaskTypeField.ORDERING.getKey()));
+        try {
+            Terms terms = searcher.aggregateDocuments(query, aggregation).get(TASK_TITLE);
+            return terms.getBuckets();
+        } catch (CustomResponseException e) {
+            throw new DataException(e);
+        }
+    }
+
+    private static <V> Map<String, V> sortByOrdering(Map<String, V> values, Map<String, Double> orderings) {
+        Map<String, V> sortedValues = new LinkedHashMap<>();
+        values.keySet().stream().sorted(Comparator.comparing(orderings::get))
+                .forEachOrdered(title -> sortedValues.put(title, values.get(title)));
+        return sortedValues;
+    }
+
     /**
      * Compute and return list of tasks that are open or in work in the given Process 'process' and are concurrent but
      * not equal not the to given Task 'task', if 'task' is not null.
@@ -17,6 +17,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.query.Operator;
@@ -138,6 +139,16 @@ public abstract class ClientSearchService<T extends BaseIndexedBean, S extends B
         return super.findByQuery(queryForClient(query), sort, offset, size, related);
     }
 
+    @Override
+    public List<Integer> findIds(QueryBuilder query, SortBuilder sort) throws DataException {
+        return super.findIds(queryForClient(query), sort);
+    }
+
+    @Override
+    public Stream<Map<String, Object>> streamDocuments(QueryBuilder query, SortBuilder sort) throws DataException {
+        return super.streamDocuments(queryForClient(query), sort);
+    }
+
     @Override
     public Long countDocuments(QueryBuilder query) throws DataException {
         return super.countDocuments(queryForClient(query));
@@ -0,0 +1,187 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.data.base;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.kitodo.data.exceptions.DataException;
+
+/**
+ * Size bounded cache for values read from the index. If the cache is full,
+ * the least recently used entry is dropped, and entries expire after a fixed
+ * time, so values changed without passing the service which owns the cache
+ * are out of date for a limited time only. A maximum size of 0 disables the
+ * cache.
+ *
+ * @param <K>
+ *            type of the keys
+ * @param <V>
+ *            type of the cached values
+ */
+public class IndexCache<K, V> {
+
+    private final int maximumSize;
+    private final long timeToLive;
+    private final LongSupplier clock;
+    private final Map<K, Entry<V>> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /*
+     * Counts the invalidations, so that a value loaded while the cache was
+     * invalidated is not stored.
+     */
+    private long invalidations = 0;
+
+    /**
+     * Loads a value which is not in the cache.
+     *
+     * @param <V>
+     *            type of the loaded value
+     */
+    @FunctionalInterface
+    public interface Loader<V> {
+        /**
+         * Load the value.
+         *
+         * @return the value, null if there is none
+         */
+        V load() throws DataException;
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final long expires;
+
+        Entry(V value, long expires) {
+            this.value = value;
+            this.expires = expires;
+        }
+    }
+
+    /**
+     * Constructor initializing an IndexCache.
+     *
+     * @param maximumSize
+     *            maximum number of entries, 0 disables the cache
+     * @param timeToLive
+     *            time in seconds after which an entry expires
+     */
+    public IndexCache(int maximumSize, int timeToLive) {
+        this(maximumSize, TimeUnit.SECONDS.toMillis(timeToLive), System::currentTimeMillis);
+    }
+
+    IndexCache(int maximumSize, long timeToLive, LongSupplier clock) {
+        this.maximumSize = Math.max(0, maximumSize);
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > IndexCache.this.maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Get the value for the given key from the cache or load and cache it, if
+     * it is not cached or expired. Null values are not cached.
+     *
+     * @param key
+     *            of the value
+     * @param loader
+     *            loads the value if it is not in the cache
+     * @return the value
+     */
+    public V get(K key, Loader<V> loader) throws DataException {
+        if (maximumSize == 0) {
+            return loader.load();
+        }
+        long now = clock.getAsLong();
+        long invalidationsBeforeLoad;
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (Objects.nonNull(entry) && entry.expires > now) {
+                hits.incrementAndGet();
+                return entry.value;
+            }
+            invalidationsBeforeLoad = invalidations;
+        }
+        misses.incrementAndGet();
+        V value = loader.load();
+        if (Objects.nonNull(value)) {
+            synchronized (entries) {
+                if (invalidations == invalidationsBeforeLoad) {
+                    entries.put(key, new Entry<>(value, now + timeToLive));
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Remove the value for the given key from the cache.
+     *
+     * @param key
+     *            of the value
+     */
+    public void invalidate(K key) {
+        synchronized (entries) {
+            invalidations++;
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * Remove all values from the cache.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            invalidations++;
+            entries.clear();
+        }
+    }
+
+    /**
+     * Get the number of entries in the cache, expired entries included.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Get the number of requests answered from the cache.
+     *
+     * @return the number of hits
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Get the number of requests for which the value had to be loaded.
+     *
+     * @return the number of misses
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+}
@@ -12,7 +12,9 @@
 package org.kitodo.production.services.data.base;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.query.QueryBuilder;
@@ -88,6 +90,16 @@ public abstract class ProjectSearchService<T extends BaseIndexedBean, S extends
         return super.findByQuery(queryForProjects(query), sort, offset, size, related);
     }
 
+    @Override
+    public List<Integer> findIds(QueryBuilder query, SortBuilder sort) throws DataException {
+        return super.findIds(queryForProjects(query), sort);
+    }
+
+    @Override
+    public Stream<Map<String, Object>> streamDocuments(QueryBuilder query, SortBuilder sort) throws DataException {
+        return super.streamDocuments(queryForProjects(query), sort);
+    }
+
     @Override
     public Long countDocuments(QueryBuilder query) throws DataException {
         return super.countDocuments(queryForProjects(query));
@@ -11,10 +11,14 @@
 
 package org.kitodo.production.services.data.base;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.kitodo.data.database.beans.BaseBean;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.database.persistence.BaseDAO;
@@ -23,6 +27,8 @@ import org.primefaces.model.SortOrder;
 
 public abstract class SearchDatabaseService<T extends BaseBean, S extends BaseDAO<T>> {
 
+    private static final Logger logger = LogManager.getLogger(SearchDatabaseService.class);
+
     protected S dao;
 
     /**
@@ -140,6 +146,46 @@ public abstract class SearchDatabaseService<T extends BaseBean, S extends BaseDA
         return dao.getById(id);
     }
 
+    /**
+     * Get the objects with the given ids, e.g. to execute an action for all
+     * objects found in the index. Each object is loaded from the database when
+     * the iteration reaches it, so only the ids are held in memory. Objects
+     * which were deleted in the meantime are skipped.
+     *
+     * @param ids
+     *            of the objects
+     * @return iterable over the objects
+     */
+    public Iterable<T> getByIdsLazily(List<Integer> ids) {
+        return () -> new Iterator<T>() {
+            private final Iterator<Integer> idIterator = ids.iterator();
+            private T next;
+
+            @Override
+            public boolean hasNext() {
+                while (Objects.isNull(next) && idIterator.hasNext()) {
+                    Integer id = idIterator.next();
+                    try {
+                        next = getById(id);
+                    } catch (DAOException e) {
+                        logger.warn("Object with id " + id + " was skipped: " + e.getMessage());
+                    }
+                }
+                return Objects.nonNull(next);
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T current = next;
+                next = null;
+                return current;
+            }
+        };
+    }
+
     /**
      * Method necessary for conversion of JSON objects to exact bean objects called
      * from database.
@@ -187,6 +233,21 @@ public abstract class SearchDatabaseService<T extends BaseBean, S extends BaseDA
         return dao.getAll(offset, size);
     }
 
+    /**
+     * Get list of objects from database with an id greater than the given one,
+     * ordered by id.
+     *
+     * @param lastId
+     *            id of the last object of the previous batch, 0 to start from
+     *            the beginning
+     * @param size
+     *            amount of results
+     * @return list of objects from database ordered by id
+     */
+    public List<T> getAfterId(Integer lastId, int size) throws DAOException {
+        return dao.getAfterId(lastId, size);
+    }
+
     /**
      * Evict given bean object.
      *
@@ -18,16 +18,22 @@ import static org.elasticsearch.index.query.QueryBuilders.rangeQuery;
 import static org.elasticsearch.index.query.QueryBuilders.termsQuery;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.json.JsonObject;
-import javax.ws.rs.HttpMethod;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -41,6 +47,9 @@ import org.elasticsearch.search.aggregations.bucket.terms.Terms;
 import org.elasticsearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
 import org.elasticsearch.search.sort.SortBuilder;
 import org.elasticsearch.search.sort.SortBuilders;
+import org.hibernate.Hibernate;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.BaseBean;
 import org.kitodo.data.database.beans.BaseIndexedBean;
 import org.kitodo.data.database.enums.IndexAction;
@@ -55,6 +64,7 @@ import org.kitodo.data.exceptions.DataException;
 import org.kitodo.production.dto.BaseDTO;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.services.data.ProjectService;
+import org.kitodo.production.services.index.IndexingQueue;
 import org.primefaces.model.SortOrder;
 
 /**
@@ -68,7 +78,17 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
     protected Searcher searcher;
     protected Indexer indexer;
     protected BaseType type;
+    private final IndexCache<Integer, S> dtoCache;
     protected static final String WILDCARD = "*";
+    private static final int MAX_IDS_PER_QUERY = 1000;
+
+    /**
+     * Objects collected on the current thread while the indexing queue
+     * updates the index, by service and id. A {@code null} value means that
+     * the document is to be removed. See {@link #indexQueuedObjects(Map)}.
+     */
+    private static final ThreadLocal<Map<SearchService<?, ?, ?>, Map<Integer, BaseIndexedBean>>> collectedObjects
+            = new ThreadLocal<>();
 
     /**
      * Constructor necessary to use searcher in child classes.
@@ -87,6 +107,9 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
         this.searcher = searcher;
         this.indexer = indexer;
         this.type = type;
+        this.dtoCache = new IndexCache<>(
+                ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_DTO_CACHE_SIZE),
+                ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_CACHE_TIME_TO_LIVE));
     }
 
     /**
@@ -131,6 +154,22 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
         return dao.getAllNotIndexed(offset, size);
     }
 
+    /**
+     * Get not indexed objects from database with an id greater than the given
+     * one, ordered by id. Not indexed means that row has index action INDEX or
+     * NULL.
+     *
+     * @param lastId
+     *            id of the last object of the previous batch, 0 to start from
+     *            the beginning
+     * @param size
+     *            amount of results
+     * @return list of not indexed objects from database ordered by id
+     */
+    public List<T> getAllNotIndexedAfterId(Integer lastId, int size) throws DAOException {
+        return dao.getAllNotIndexedAfterId(lastId, size);
+    }
+
     /**
      * Get all DTO objects from index an convert them for frontend with all
      * relations.
@@ -156,11 +195,11 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
      * @return List of ids
      */
     public List<Integer> findAllIDs() throws DataException {
-        List<Integer> allIds = new ArrayList<>();
-        for (Map<String, Object> document : findAllDocuments()) {
-            allIds.add(Integer.parseInt((String) document.get("id")));
+        try {
+            return searcher.findDocumentIds(matchAllQuery(), null);
+        } catch (CustomResponseException e) {
+            throw new DataException(e);
         }
-        return allIds;
     }
 
     /**
@@ -190,9 +229,12 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
     public void saveToIndex(T baseIndexedBean, boolean forceRefresh)
             throws CustomResponseException, DataException, IOException {
 
-        indexer.setMethod(HttpMethod.PUT);
+        if (Objects.nonNull(baseIndexedBean) && collect(baseIndexedBean.getId(), baseIndexedBean)) {
+            return;
+        }
         if (Objects.nonNull(baseIndexedBean)) {
             indexer.performSingleRequest(baseIndexedBean, type, forceRefresh);
+            removeFromCache(baseIndexedBean.getId());
         }
     }
 
@@ -204,9 +246,37 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
      */
     @SuppressWarnings("unchecked")
     public void addAllObjectsToIndex(List<T> baseIndexedBeans) throws CustomResponseException, DAOException {
-        indexer.setMethod(HttpMethod.PUT);
         if (!baseIndexedBeans.isEmpty()) {
             indexer.performMultipleRequests(baseIndexedBeans, type, true);
+            clearCache();
+        }
+    }
+
+    /**
+     * Create the index documents for the given objects without sending them to
+     * Elastic Search.
+     *
+     * @param baseIndexedBeans
+     *            List of BaseIndexedBean objects
+     * @return documents mapped by the ids of the objects
+     */
+    @SuppressWarnings("unchecked")
+    public Map<Integer, Map<String, Object>> createDocuments(List<T> baseIndexedBeans) {
+        return type.createDocuments(baseIndexedBeans);
+    }
+
+    /**
+     * Method adds already created documents to Elastic Search index in one bulk
+     * request while the whole index is built. If a new version of the index is
+     * built, they are only added to the new version.
+     *
+     * @param documents
+     *            documents mapped by the ids of their objects
+     */
+    public void addDocumentsToIndex(Map<Integer, Map<String, Object>> documents) throws CustomResponseException {
+        if (!documents.isEmpty()) {
+            indexer.performBulkLoadRequest(documents);
+            clearCache();
         }
     }
 
@@ -222,9 +292,12 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
     @SuppressWarnings("unchecked")
     public void removeFromIndex(T baseIndexedBean, boolean forceRefresh)
             throws CustomResponseException, DataException, IOException {
-        indexer.setMethod(HttpMethod.DELETE);
+        if (Objects.nonNull(baseIndexedBean) && collect(baseIndexedBean.getId(), null)) {
+            return;
+        }
         if (Objects.nonNull(baseIndexedBean)) {
-            indexer.performSingleRequest(baseIndexedBean, type, forceRefresh);
+            indexer.performDeleteRequest(baseIndexedBean.getId(), forceRefresh);
+            removeFromCache(baseIndexedBean.getId());
         }
     }
 
@@ -238,8 +311,40 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
      *            object is right after that available for display
      */
     public void removeFromIndex(Integer id, boolean forceRefresh) throws CustomResponseException, DataException {
-        indexer.setMethod(HttpMethod.DELETE);
-        indexer.performSingleRequest(id, forceRefresh);
+        if (collect(id, null)) {
+            return;
+        }
+        indexer.performDeleteRequest(id, forceRefresh);
+        removeFromCache(id);
+    }
+
+    /**
+     * Remove the object with the given id from the caches of this service.
+     * Called after the object was saved to or removed from the index.
+     *
+     * @param id
+     *            of object
+     */
+    protected void removeFromCache(Integer id) {
+        dtoCache.invalidate(id);
+    }
+
+    /**
+     * Remove all objects from the caches of this service. Called after objects
+     * were indexed in bulk.
+     */
+    protected void clearCache() {
+        dtoCache.invalidateAll();
+    }
+
+    /**
+     * Get the cache of objects found by id, e.g. to read its hit and miss
+     * counts.
+     *
+     * @return the cache of DTO objects
+     */
+    public IndexCache<Integer, S> getDTOCache() {
+        return dtoCache;
     }
 
     /**
@@ -269,10 +374,43 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
      * fails and in that case, even if index is up to date, in some point of the
      * future it will be reindexed by administrator.
      *
+     * <p>
+     * If indexing in the background is configured, only the first step is
+     * done here. The object is then handed over to the indexing queue, which
+     * updates the index and the dependencies later and sets the flag.
+     *
      * @param baseIndexedBean
      *            object
      */
     public void save(T baseIndexedBean) throws DataException {
+        save(baseIndexedBean, !ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_ASYNC_INDEXING));
+    }
+
+    /**
+     * Method saves object to database and document to the index of Elastic
+     * Search, either immediately or in the background.
+     *
+     * @param baseIndexedBean
+     *            object
+     * @param updateIndexImmediately
+     *            if true, the index is updated before the method returns, so
+     *            that the object can be found in the index right afterwards;
+     *            if false, the object is indexed in the background by the
+     *            indexing queue
+     */
+    public void save(T baseIndexedBean, boolean updateIndexImmediately) throws DataException {
+        if (!updateIndexImmediately) {
+            try {
+                baseIndexedBean.setIndexAction(IndexAction.INDEX);
+                saveToDatabase(baseIndexedBean);
+                removeFromCache(baseIndexedBean.getId());
+                IndexingQueue.getInstance().add(this, baseIndexedBean.getId());
+            } catch (DAOException e) {
+                logger.debug(e);
+                throw new DataException(e);
+            }
+            return;
+        }
         try {
             baseIndexedBean.setIndexAction(IndexAction.INDEX);
             saveToDatabase(baseIndexedBean);
@@ -363,6 +501,120 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
         }
     }
 
+    /**
+     * Update the index for objects queued by the indexing queue. The objects
+     * are read from the database again, so that the index gets their latest
+     * state, and their dependencies are updated as in save(). Every
+     * object is indexed only once, even if it is queued itself and several
+     * other queued objects depend on it, and the documents of each type are
+     * sent in one bulk request. Afterwards the index action of the queued
+     * objects is set to DONE. Objects which cannot be read keep the index
+     * action INDEX.
+     *
+     * @param queuedIds
+     *            ids of the queued objects by service
+     */
+    public static void indexQueuedObjects(Map<SearchService<?, ?, ?>, Set<Integer>> queuedIds)
+            throws DataException {
+        Map<SearchService<?, ?, ?>, Map<Integer, BaseIndexedBean>> collected = new LinkedHashMap<>();
+        Map<SearchService<?, ?, ?>, List<? extends BaseIndexedBean>> readObjects = new LinkedHashMap<>();
+        collectedObjects.set(collected);
+        try {
+            for (Map.Entry<SearchService<?, ?, ?>, Set<Integer>> queued : queuedIds.entrySet()) {
+                readObjects.put(queued.getKey(), queued.getKey().collectQueuedObjects(queued.getValue()));
+            }
+        } finally {
+            collectedObjects.remove();
+        }
+        try {
+            for (Map.Entry<SearchService<?, ?, ?>, Map<Integer, BaseIndexedBean>> objects : collected.entrySet()) {
+                objects.getKey().indexCollectedObjects(objects.getValue());
+            }
+            for (Map.Entry<SearchService<?, ?, ?>, List<? extends BaseIndexedBean>> indexed : readObjects
+                    .entrySet()) {
+                indexed.getKey().setIndexActionDone(indexed.getValue());
+            }
+        } catch (CustomResponseException | DAOException e) {
+            throw new DataException(e);
+        }
+    }
+
+    /**
+     * Check whether objects saved to or removed from the index on the current
+     * thread are only collected by the indexing queue.
+     *
+     * @return whether objects are collected
+     */
+    protected static boolean isCollectingObjects() {
+        return Objects.nonNull(collectedObjects.get());
+    }
+
+    /**
+     * Collect an object for the indexing queue instead of sending it to the
+     * index, if the indexing queue is running on the current thread. A later
+     * call for the same id replaces the earlier one.
+     *
+     * @param id
+     *            of object
+     * @param baseIndexedBean
+     *            object to index, null to remove the document
+     * @return whether the object was collected
+     */
+    private boolean collect(Integer id, BaseIndexedBean baseIndexedBean) {
+        Map<SearchService<?, ?, ?>, Map<Integer, BaseIndexedBean>> collected = collectedObjects.get();
+        if (Objects.isNull(collected)) {
+            return false;
+        }
+        collected.computeIfAbsent(this, service -> new LinkedHashMap<>()).put(id, baseIndexedBean);
+        return true;
+    }
+
+    private List<T> collectQueuedObjects(Collection<Integer> ids) {
+        List<T> readObjects = new ArrayList<>();
+        for (Integer id : ids) {
+            try {
+                T baseIndexedBean = getById(id);
+                saveToIndex(baseIndexedBean, false);
+                manageDependenciesForIndex(baseIndexedBean);
+                readObjects.add(baseIndexedBean);
+            } catch (CustomResponseException | DAOException | DataException | IOException | RuntimeException e) {
+                logger.error("Object " + id + " could not be indexed: " + e.getMessage(), e);
+            }
+        }
+        return readObjects;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void indexCollectedObjects(Map<Integer, BaseIndexedBean> objects)
+            throws CustomResponseException, DataException {
+        List<T> baseIndexedBeans = new ArrayList<>();
+        for (Map.Entry<Integer, BaseIndexedBean> object : objects.entrySet()) {
+            if (Objects.isNull(object.getValue())) {
+                indexer.performDeleteRequest(object.getKey());
+            } else {
+                baseIndexedBeans.add((T) object.getValue());
+            }
+            removeFromCache(object.getKey());
+        }
+        if (!baseIndexedBeans.isEmpty()) {
+            indexer.performBulkRequest(createDocuments(baseIndexedBeans));
+        }
+    }
+
+    private void setIndexActionDone(List<? extends BaseIndexedBean> baseIndexedBeans) throws DAOException {
+        if (baseIndexedBeans.isEmpty()) {
+            return;
+        }
+        List<Integer> ids = new ArrayList<>();
+        for (BaseIndexedBean baseIndexedBean : baseIndexedBeans) {
+            ids.add(baseIndexedBean.getId());
+        }
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("ids", ids);
+        dao.executeUpdate("UPDATE " + Hibernate.getClass(baseIndexedBeans.get(0)).getSimpleName()
+                + " SET indexAction = 'DONE' WHERE indexAction = 'INDEX' AND id IN (:ids)", parameters);
+    }
+
     /**
      * Count all objects in index.
      *
@@ -393,10 +645,9 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
      * @return list of all documents
      */
     public List<Map<String, Object>> findAllDocuments() throws DataException {
-        QueryBuilder queryBuilder = matchAllQuery();
-        try {
-            return searcher.findDocuments(queryBuilder, null, null, Math.toIntExact(count()));
-        } catch (CustomResponseException e) {
+        try (Stream<Map<String, Object>> documents = searcher.streamDocuments(matchAllQuery(), null)) {
+            return documents.collect(Collectors.toList());
+        } catch (CustomResponseException | UncheckedIOException e) {
             throw new DataException(e);
         }
     }
@@ -437,11 +688,10 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
      * @return related DTO object
      */
     public S findById(Integer id, boolean related) throws DataException {
-        try {
-            return convertJSONObjectToDTO(searcher.findDocument(id), related);
-        } catch (CustomResponseException e) {
-            throw new DataException(e);
+        if (!related) {
+            return dtoCache.get(id, () -> convertJSONObjectToDTO(findDocument(id), false));
         }
+        return convertJSONObjectToDTO(findDocument(id), true);
     }
 
     /**
@@ -508,6 +758,58 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
         }
     }
 
+    /**
+     * Find the ids of all objects matching the query, e.g. to use them in
+     * another query. No DTO objects are created and the number of results is
+     * not limited.
+     *
+     * @param query
+     *            as QueryBuilder object
+     * @return set of ids
+     */
+    public Set<Integer> findIds(QueryBuilder query) throws DataException {
+        return new LinkedHashSet<>(findIds(query, null));
+    }
+
+    /**
+     * Find the ids of all objects matching the query in the order of the sort
+     * condition, e.g. to load the objects one after another for an action on
+     * all of them. The number of results is not limited.
+     *
+     * @param query
+     *            as QueryBuilder object
+     * @param sort
+     *            as SortBuilder object, null for index order
+     * @return list of ids
+     */
+    public List<Integer> findIds(QueryBuilder query, SortBuilder sort) throws DataException {
+        try {
+            return searcher.findDocumentIds(query, sort);
+        } catch (CustomResponseException e) {
+            throw new DataException(e);
+        }
+    }
+
+    /**
+     * Stream all documents matching the query in the order of the sort
+     * condition. The documents are read from the index page by page while the
+     * stream is consumed, so the number of results is not limited. The stream
+     * must be closed after use.
+     *
+     * @param query
+     *            as QueryBuilder object
+     * @param sort
+     *            as SortBuilder object, null for index order
+     * @return stream of documents
+     */
+    public Stream<Map<String, Object>> streamDocuments(QueryBuilder query, SortBuilder sort) throws DataException {
+        try {
+            return searcher.streamDocuments(query, sort);
+        } catch (CustomResponseException e) {
+            throw new DataException(e);
+        }
+    }
+
     /**
      * Convert list of JSONObject object to list of DTO objects.
      *
@@ -553,6 +855,76 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
         return service.findByQuery(createSetQueryForIds(ids), true);
     }
 
+    /**
+     * Find related objects of all given JSONObject objects with one query and
+     * convert them to DTO objects. Used to convert a page of search results
+     * without querying the related objects for every single result.
+     *
+     * @param jsonObjects
+     *            results from ElasticSearch
+     * @param key
+     *            name of related property
+     * @param service
+     *            service of the related objects
+     * @return related DTO objects mapped by their ids
+     */
+    protected <O extends BaseDTO> Map<Integer, O> findRelatedDTOs(List<Map<String, Object>> jsonObjects, String key,
+            SearchService<?, O, ?> service) throws DataException {
+        Set<Integer> ids = new LinkedHashSet<>();
+        for (Map<String, Object> jsonObject : jsonObjects) {
+            ids.addAll(getRelatedPropertyForDTO(jsonObject, key));
+        }
+        return service.findByIds(ids, true);
+    }
+
+    /**
+     * Get the related DTO objects of a JSONObject object from the objects found
+     * before by {@link #findRelatedDTOs(List, String, SearchService)}.
+     *
+     * @param jsonObject
+     *            result from ElasticSearch
+     * @param key
+     *            name of related property
+     * @param relatedDTOs
+     *            related DTO objects mapped by their ids
+     * @return list of related DTO objects
+     */
+    protected <O extends BaseDTO> List<O> getRelatedDTOs(Map<String, Object> jsonObject, String key,
+            Map<Integer, O> relatedDTOs) {
+        List<O> dtos = new ArrayList<>();
+        for (Integer id : getRelatedPropertyForDTO(jsonObject, key)) {
+            O dto = relatedDTOs.get(id);
+            if (Objects.nonNull(dto)) {
+                dtos.add(dto);
+            }
+        }
+        return dtos;
+    }
+
+    /**
+     * Find DTO objects by their ids. The objects are fetched with one terms
+     * query per {@value #MAX_IDS_PER_QUERY} ids.
+     *
+     * @param ids
+     *            ids of the searched objects
+     * @param related
+     *            determines if converted object is related to some other object (if
+     *            so, objects related to it are not included in conversion)
+     * @return found DTO objects mapped by their ids, ids which were not found
+     *         are missing
+     */
+    public Map<Integer, S> findByIds(Collection<Integer> ids, boolean related) throws DataException {
+        Map<Integer, S> dtos = new HashMap<>();
+        List<Integer> idList = new ArrayList<>(ids);
+        for (int from = 0; from < idList.size(); from += MAX_IDS_PER_QUERY) {
+            List<Integer> chunk = idList.subList(from, Math.min(from + MAX_IDS_PER_QUERY, idList.size()));
+            for (S dto : findByQuery(createSetQueryForIds(chunk), null, 0, chunk.size(), related)) {
+                dtos.put(dto.getId(), dto);
+            }
+        }
+        return dtos;
+    }
+
     private QueryBuilder createSetQueryForIds(List<Integer> ids) {
         return termsQuery("_id", ids);
     }
@@ -852,6 +1224,51 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
         }
     }
 
+    /**
+     * Find the distinct values of a numeric field, e.g. the ids of related
+     * objects, in the documents matching the query.
+     *
+     * @param query
+     *            for searched values to aggregation
+     * @param field
+     *            numeric field for which distinct values are searched
+     * @param size
+     *            maximum amount of distinct values
+     * @return set of distinct values
+     */
+    protected Set<Integer> findDistinctIntegerValues(QueryBuilder query, String field, int size)
+            throws DataException {
+        Set<Integer> distinctValues = new HashSet<>();
+        try {
+            TermsAggregationBuilder termsAggregation = AggregationBuilders.terms(field).field(field).size(size);
+            Aggregations jsonObject = searcher.aggregateDocuments(query, termsAggregation);
+            Terms terms = jsonObject.get(field);
+            for (Terms.Bucket bucket : terms.getBuckets()) {
+                distinctValues.add(bucket.getKeyAsNumber().intValue());
+            }
+            return distinctValues;
+        } catch (CustomResponseException e) {
+            throw new DataException(e);
+        }
+    }
+
+    /**
+     * Find document in ES by id.
+     *
+     * @param id
+     *            object id
+     * @param fields
+     *            fields of the document to return, all if none are given
+     * @return JSON object, empty if the document was not found
+     */
+    protected Map<String, Object> findDocument(Integer id, String... fields) throws DataException {
+        try {
+            return fields.length == 0 ? searcher.findDocument(id) : searcher.findDocument(id, fields);
+        } catch (CustomResponseException e) {
+            throw new DataException(e);
+        }
+    }
+
     protected Map<String, Object> findDocument(QueryBuilder query) throws DataException {
         try {
             return searcher.findDocument(query);
@@ -0,0 +1,101 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.dataeditor;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale.LanguageRange;
+import java.util.Map;
+import java.util.Optional;
+
+import org.kitodo.api.dataeditor.rulesetmanagement.ComplexMetadataViewInterface;
+import org.kitodo.api.dataeditor.rulesetmanagement.FunctionalDivision;
+import org.kitodo.api.dataeditor.rulesetmanagement.FunctionalMetadata;
+import org.kitodo.api.dataeditor.rulesetmanagement.RulesetManagementInterface;
+import org.kitodo.api.dataeditor.rulesetmanagement.StructuralElementViewInterface;
+
+/**
+ * Read-only view of a loaded ruleset management. A ruleset management wrapped
+ * in this view can be shared between users and threads, because another
+ * ruleset cannot be loaded into it and the returned collections cannot be
+ * modified.
+ */
+public class UnmodifiableRulesetManagement implements RulesetManagementInterface {
+
+    private final RulesetManagementInterface rulesetManagement;
+
+    /**
+     * Constructor with the wrapped ruleset management.
+     *
+     * @param rulesetManagement
+     *            ruleset management in which the ruleset has been loaded
+     */
+    public UnmodifiableRulesetManagement(RulesetManagementInterface rulesetManagement) {
+        this.rulesetManagement = rulesetManagement;
+    }
+
+    @Override
+    public Collection<String> getAcquisitionStages() {
+        return Collections.unmodifiableCollection(rulesetManagement.getAcquisitionStages());
+    }
+
+    @Override
+    public Collection<String> getFunctionalKeys(FunctionalMetadata functionalMetadata) {
+        return Collections.unmodifiableCollection(rulesetManagement.getFunctionalKeys(functionalMetadata));
+    }
+
+    @Override
+    public Collection<String> getFunctionalDivisions(FunctionalDivision functionalDivision) {
+        return Collections.unmodifiableCollection(rulesetManagement.getFunctionalDivisions(functionalDivision));
+    }
+
+    @Override
+    public Collection<String> getDivisionsWithNoWorkflow() {
+        return Collections.unmodifiableCollection(rulesetManagement.getDivisionsWithNoWorkflow());
+    }
+
+    @Override
+    public Map<String, String> getStructuralElements(List<LanguageRange> priorityList) {
+        return Collections.unmodifiableMap(rulesetManagement.getStructuralElements(priorityList));
+    }
+
+    @Override
+    public StructuralElementViewInterface getStructuralElementView(String structuralElement,
+            String acquisitionStage, List<LanguageRange> priorityList) {
+        return rulesetManagement.getStructuralElementView(structuralElement, acquisitionStage, priorityList);
+    }
+
+    @Override
+    public ComplexMetadataViewInterface getMetadataView(String metadata, String acquisitionStage,
+            List<LanguageRange> priorityList) {
+        return rulesetManagement.getMetadataView(metadata, acquisitionStage, priorityList);
+    }
+
+    @Override
+    public Optional<String> getTranslationForKey(String key, List<LanguageRange> priorityList) {
+        return rulesetManagement.getTranslationForKey(key, priorityList);
+    }
+
+    /**
+     * Another ruleset cannot be loaded into an unmodifiable ruleset
+     * management.
+     *
+     * @throws UnsupportedOperationException
+     *             always
+     */
+    @Override
+    public void load(File rulesetFile) {
+        throw new UnsupportedOperationException("The ruleset management is unmodifiable");
+    }
+}
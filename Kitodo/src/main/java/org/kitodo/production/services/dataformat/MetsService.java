@@ -32,6 +32,7 @@ import org.kitodo.api.MetadataEntry;
 import org.kitodo.api.dataformat.IncludedStructuralElement;
 import org.kitodo.api.dataformat.Workpiece;
 import org.kitodo.api.dataformat.mets.MetsXmlElementAccessInterface;
+import org.kitodo.data.database.beans.Process;
 import org.kitodo.production.services.ServiceManager;
 import org.kitodo.serviceloader.KitodoServiceLoader;
 import org.w3c.dom.Document;
@@ -78,8 +79,12 @@ public class MetsService {
      *             not found)
      */
     public String getBaseType(URI uri) throws IOException {
-        IncludedStructuralElement includedStructuralElement = loadWorkpiece(uri).getRootElement();
+        IncludedStructuralElement includedStructuralElement = loadRootElement(uri);
         String type = includedStructuralElement.getType();
+        if (Objects.nonNull(type)) {
+            return type;
+        }
+        includedStructuralElement = loadLogicalStructure(uri, Integer.MAX_VALUE).getRootElement();
         while (Objects.isNull(type) && !includedStructuralElement.getChildren().isEmpty()) {
             includedStructuralElement = includedStructuralElement.getChildren().get(0);
             type = includedStructuralElement.getType();
@@ -122,6 +127,43 @@ public class MetsService {
         return metsXmlElementAccess.read(inputStream);
     }
 
+    /**
+     * Loads the root element of the logical structure from a METS file, with
+     * its metadata, but without its children and views. This is much cheaper
+     * than loading the whole workpiece. The root element must not be saved
+     * back to the file.
+     *
+     * @param uri
+     *            address of the file to be loaded
+     * @return the root element of the logical structure
+     * @throws IOException
+     *             if reading is not working (disk broken, ...)
+     */
+    public IncludedStructuralElement loadRootElement(URI uri) throws IOException {
+        return loadLogicalStructure(uri, 1).getRootElement();
+    }
+
+    /**
+     * Loads the header and the upper levels of the logical structure from a
+     * METS file. The media units and views are not loaded. The workpiece must
+     * not be saved back to the file.
+     *
+     * @param uri
+     *            address of the file to be loaded
+     * @param depth
+     *            number of levels of the logical structure to load, 1 loads
+     *            only the root element
+     * @return a workpiece with the upper levels of the logical structure
+     * @throws IOException
+     *             if reading is not working (disk broken, ...)
+     */
+    public Workpiece loadLogicalStructure(URI uri, int depth) throws IOException {
+        try (InputStream inputStream = ServiceManager.getFileService().read(uri)) {
+            logger.debug("Reading logical structure of {}", uri);
+            return metsXmlElementAccess.readLogicalStructure(inputStream, depth);
+        }
+    }
+
     /**
      * Function for writing METS files to URI. (URI target must allow writing
      * operation.)
@@ -141,6 +183,24 @@ public class MetsService {
         }
     }
 
+    /**
+     * Function for writing the METS file of a process. The statistics of the
+     * workpiece are updated on the process, they are persisted with the next
+     * save of the process.
+     *
+     * @param workpiece
+     *            data to be written
+     * @param process
+     *            process whose METS file is written
+     * @throws IOException
+     *             if writing does not work (partition full, or is generally not
+     *             supported, ...)
+     */
+    public void saveWorkpiece(Workpiece workpiece, Process process) throws IOException {
+        saveWorkpiece(workpiece, ServiceManager.getProcessService().getMetadataFileUri(process));
+        ServiceManager.getProcessService().updateStatistics(process, workpiece);
+    }
+
     public void save(Workpiece workpiece, OutputStream outputStream) throws IOException {
         metsXmlElementAccess.save(workpiece, outputStream);
     }
@@ -396,6 +396,38 @@ public class FileService {
         return fileManagementModule.getSizeOfDirectory(directory);
     }
 
+    /**
+     * Get the total size of the media files referenced in a workpiece. Media
+     * files which cannot be found are not counted.
+     *
+     * @param process
+     *            process of the workpiece
+     * @param workpiece
+     *            workpiece whose media files are measured
+     * @return size in bytes
+     */
+    public long getSizeOfMediaFiles(Process process, Workpiece workpiece) {
+        URI processBaseUri = asDirectory(getProcessBaseUriForExistingProcess(process));
+        long size = 0;
+        for (MediaUnit mediaUnit : workpiece.getAllMediaUnits()) {
+            for (URI mediaFile : mediaUnit.getMediaFiles().values()) {
+                URI mediaFileUri = mediaFile.isAbsolute() ? mediaFile : processBaseUri.resolve(mediaFile);
+                try {
+                    if (fileManagementModule.isFile(mediaFileUri)) {
+                        size += fileManagementModule.getFile(mediaFileUri).length();
+                    } else {
+                        logger.warn("Media file {} of process {} not found, its size is not counted", mediaFileUri,
+                            process.getId());
+                    }
+                } catch (IllegalArgumentException e) {
+                    logger.warn("Size of media file {} of process {} not available: {}", mediaFileUri,
+                        process.getId(), e.getMessage());
+                }
+            }
+        }
+        return size;
+    }
+
     /**
      * Copy directory.
      *
@@ -26,6 +26,12 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -36,6 +42,9 @@ import javax.imageio.ImageIO;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.kitodo.api.imagemanagement.ImageFileFormat;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.config.xml.fileformats.FileFormat;
 import org.kitodo.data.database.beans.Folder;
 import org.kitodo.production.enums.GenerationMode;
@@ -99,6 +108,17 @@ public class ImageGenerator implements Runnable {
      */
     private final GenerationMode mode;
 
+    /**
+     * Number of threads generating the images concurrently.
+     */
+    private int threads = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.IMAGE_GENERATOR_THREADS);
+
+    /**
+     * Images which could not be generated, by the canonical part of their file
+     * name.
+     */
+    private final Map<String, Exception> failures = new ConcurrentHashMap<>();
+
     /**
      * Creates a new image generator.
      *
@@ -188,6 +208,56 @@ public class ImageGenerator implements Runnable {
         }
     }
 
+    /**
+     * Generates a derived image and lets the image management interface write
+     * it to the destination directly in the requested format. Other than
+     * {@link #createImageWithImageIO(URI, Folder, FileFormat, URI)}, the image
+     * is neither stored in a temporary file nor decoded and encoded once more
+     * in Java. Which method of the interface is called and its parameters are
+     * determined in the configuration of the folder. If the image cannot be
+     * written, the incomplete destination file is deleted, so that it is not
+     * taken for an existing image later.
+     *
+     * @param sourceImage
+     *            reference to the image that serves as a template for the
+     *            reproduction process
+     * @param imageProperties
+     *            folder settings define what an image is created
+     * @param imageFileFormat
+     *            the format in which the image should be saved
+     * @param destinationImage
+     *            specifies the location where the image should be written
+     * @throws IOException
+     *             if an underlying disk operation fails
+     */
+    private void writeImageFromImageManagement(URI sourceImage, Folder imageProperties,
+            ImageFileFormat imageFileFormat, URI destinationImage) throws IOException {
+
+        Optional<Integer> optionalDpi = imageProperties.getDpi();
+        Optional<Double> optionalImageScale = imageProperties.getImageScale();
+        Optional<Integer> optionalImageSize = imageProperties.getImageSize();
+        try (OutputStream outputStream = fileService.write(destinationImage)) {
+            if (optionalDpi.isPresent()) {
+                imageService.writeDpiChangedImage(sourceImage, optionalDpi.get(), imageFileFormat, outputStream);
+            } else if (optionalImageScale.isPresent()) {
+                imageService.writeScaledWebImage(sourceImage, optionalImageScale.get(), imageFileFormat,
+                    outputStream);
+            } else if (optionalImageSize.isPresent()) {
+                imageService.writeSizedWebImage(sourceImage, optionalImageSize.get(), imageFileFormat, outputStream);
+            } else {
+                throw new IllegalArgumentException(
+                        imageProperties + " does not give any method to create an image");
+            }
+        } catch (IOException | RuntimeException e) {
+            try {
+                fileService.delete(destinationImage);
+            } catch (IOException deletionFailure) {
+                e.addSuppressed(deletionFailure);
+            }
+            throw e;
+        }
+    }
+
     /**
      * Determines the folders in which a derivative must be created. Because the
      * ModuleLoader does not work when invoked from a parallelStream(), we use a
@@ -244,8 +314,14 @@ public class ImageGenerator implements Runnable {
             imageService.createDerivative(sourceImage, optionalDerivative.get(), destinationImage.getUri(canonical),
                 destinationImage.getFileFormat().getImageFileFormat().orElseThrow(IllegalStateException::new));
         } else if (isChangingDpi || isGettingSizedWebImage) {
-            createImageWithImageIO(sourceImage, imageProperties, destinationImage.getFileFormat(),
-                destinationImage.getUri(canonical));
+            Optional<ImageFileFormat> optionalImageFileFormat = destinationImage.getFileFormat().getImageFileFormat();
+            if (optionalImageFileFormat.isPresent()) {
+                writeImageFromImageManagement(sourceImage, imageProperties, optionalImageFileFormat.get(),
+                    destinationImage.getUri(canonical));
+            } else {
+                createImageWithImageIO(sourceImage, imageProperties, destinationImage.getFileFormat(),
+                    destinationImage.getUri(canonical));
+            }
         }
     }
 
@@ -346,6 +422,10 @@ public class ImageGenerator implements Runnable {
     @Override
     public void run() {
         do {
+            if (state.equals(ImageGeneratorStep.GENERATE_IMAGES) && threads > 1) {
+                generateImagesConcurrently();
+                return;
+            }
             state.accept(this);
             if (state.equals(ImageGeneratorStep.DETERMINE_WHICH_IMAGES_NEED_TO_BE_GENERATED) && position == -1
                     && sources.isEmpty()) {
@@ -365,6 +445,96 @@ public class ImageGenerator implements Runnable {
         logger.info("Completed");
     }
 
+    /**
+     * Generates all images to be generated by a pool of threads. Each thread
+     * generates all derivatives of one image at a time. If an image cannot be
+     * generated, the other images are generated nevertheless, and the failures
+     * are reported together at the end. If the supervisor is interrupted, the
+     * images not yet started are not generated any more.
+     */
+    private void generateImagesConcurrently() {
+        if (contentToBeGenerated.isEmpty()) {
+            letTheSupervisorDo(emptyTask -> {
+                emptyTask.setProgress(100);
+                emptyTask.setWorkDetail(Helper.getTranslation("noImagesToGenerate"));
+            });
+            logger.info("Completed");
+            return;
+        }
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, contentToBeGenerated.size()),
+            runnable -> {
+                Thread thread = new Thread(runnable,
+                        ImageGenerator.class.getSimpleName() + '-' + threadNumber.incrementAndGet());
+                // the modules are found by the context class loader
+                thread.setContextClassLoader(contextClassLoader);
+                return thread;
+            });
+        for (ContentToBeGenerated instruction : contentToBeGenerated) {
+            executor.execute(() -> generateImage(instruction));
+        }
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                if (Objects.nonNull(supervisor) && supervisor.isInterrupted()) {
+                    executor.shutdownNow();
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (!failures.isEmpty()) {
+            IOException exception = new IOException(
+                    "Images could not be generated: " + String.join(", ", new TreeSet<>(failures.keySet())));
+            failures.values().forEach(exception::addSuppressed);
+            throw new UndeclaredThrowableException(exception);
+        }
+        letTheSupervisorDo(emptyTask -> emptyTask.setProgress(100));
+        logger.info("Completed");
+    }
+
+    /**
+     * Generates the derivatives of one image on a thread of the pool and
+     * reports the progress.
+     *
+     * @param instruction
+     *            image and folders to generate
+     */
+    private void generateImage(ContentToBeGenerated instruction) {
+        if (Thread.currentThread().isInterrupted()) {
+            return;
+        }
+        logger.info("Generating ".concat(instruction.toString()));
+        try {
+            createDerivatives(instruction);
+        } catch (RuntimeException e) {
+            Throwable cause = e instanceof UndeclaredThrowableException ? e.getCause() : e;
+            logger.error("Generating {} failed: {}", instruction.getCanonical(), cause.getMessage(), cause);
+            failures.put(instruction.getCanonical(),
+                cause instanceof Exception ? (Exception) cause : new IOException(cause.getMessage(), cause));
+        }
+        synchronized (this) {
+            position++;
+            setProgress();
+            letTheSupervisorDo(emptyTask -> emptyTask.setWorkDetail(
+                Helper.getTranslation("generateImages", Collections.singletonList(instruction.getCanonical()))));
+        }
+    }
+
+    /**
+     * Returns the images which could not be generated concurrently, by the
+     * canonical part of their file name.
+     *
+     * @return the images which could not be generated
+     */
+    public Map<String, Exception> getFailures() {
+        return Collections.unmodifiableMap(failures);
+    }
+
     /**
      * Sets the current position in the list.
      *
@@ -401,6 +571,17 @@ public class ImageGenerator implements Runnable {
         this.state = state;
     }
 
+    /**
+     * Sets the number of threads generating the images concurrently. With one
+     * thread, the images are generated one after the other.
+     *
+     * @param threads
+     *            number of threads
+     */
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
     /**
      * Set a supervisor for this activity. If a supervisor is set, the progress
      * is reported back to him, and he responds to his interrupt requests.
@@ -13,6 +13,7 @@ package org.kitodo.production.services.image;
 
 import java.awt.Image;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
 import java.util.Objects;
 
@@ -103,6 +104,68 @@ public class ImageService {
         return imageManagement.getSizedWebImage(imageFileUri, pixelWidth);
     }
 
+    /**
+     * Changes the DPI of an image at a given URI and writes it to an output
+     * stream.
+     *
+     * @param imageFileUri
+     *            the URI of the image
+     * @param dpi
+     *            the new DPI
+     * @param resultFileFormat
+     *            the format to write the image in
+     * @param outputStream
+     *            the stream to write the image to
+     * @throws IOException
+     *             if the plug-in is configured incorrectly, the image is
+     *             missing or corrupted, etc.
+     */
+    void writeDpiChangedImage(URI imageFileUri, int dpi, ImageFileFormat resultFileFormat,
+            OutputStream outputStream) throws IOException {
+        imageManagement.writeDpiChangedImage(imageFileUri, dpi, resultFileFormat, outputStream);
+    }
+
+    /**
+     * Scales an image at a given path and writes it to an output stream.
+     *
+     * @param imageFileUri
+     *            the URI to the image which should be scaled
+     * @param percent
+     *            the percentage for scaling
+     * @param resultFileFormat
+     *            the format to write the image in
+     * @param outputStream
+     *            the stream to write the image to
+     * @throws IOException
+     *             if the plug-in is configured incorrectly, the image is
+     *             missing or corrupted, etc.
+     */
+    void writeScaledWebImage(URI imageFileUri, double percent, ImageFileFormat resultFileFormat,
+            OutputStream outputStream) throws IOException {
+        imageManagement.writeScaledWebImage(imageFileUri, percent, resultFileFormat, outputStream);
+    }
+
+    /**
+     * Changes the size (in pixel) of the image and writes it to an output
+     * stream.
+     *
+     * @param imageFileUri
+     *            the URI of the image to size
+     * @param pixelWidth
+     *            the new width in pixels
+     * @param resultFileFormat
+     *            the format to write the image in
+     * @param outputStream
+     *            the stream to write the image to
+     * @throws IOException
+     *             if the plug-in is configured incorrectly, the image is
+     *             missing or corrupted, etc.
+     */
+    void writeSizedWebImage(URI imageFileUri, int pixelWidth, ImageFileFormat resultFileFormat,
+            OutputStream outputStream) throws IOException {
+        imageManagement.writeSizedWebImage(imageFileUri, pixelWidth, resultFileFormat, outputStream);
+    }
+
     /**
      * Return singleton variable of type ImageService.
      *
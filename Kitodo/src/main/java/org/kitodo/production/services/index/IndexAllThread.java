@@ -22,21 +22,25 @@ public class IndexAllThread extends Thread {
 
     private final PushContext context;
     private final IndexingService indexingService;
+    private final boolean rebuild;
 
-    IndexAllThread(PushContext pushContext, IndexingService service) {
+    IndexAllThread(PushContext pushContext, IndexingService service, boolean rebuild) {
         context = pushContext;
         indexingService = service;
+        this.rebuild = rebuild;
     }
 
     @Override
     public void run() {
         indexingService.setIndexingAll(true);
 
+        boolean successful = true;
         for (ObjectType objectType : ObjectType.getIndexableObjectTypes()) {
             try {
                 indexingService.startIndexing(objectType, context);
             } catch (DataException | CustomResponseException e) {
                 Helper.setErrorMessage(e.getLocalizedMessage(), IndexingService.getLogger(), e);
+                successful = false;
                 Thread.currentThread().interrupt();
             }
         }
@@ -46,6 +50,9 @@ public class IndexAllThread extends Thread {
             Helper.setErrorMessage(e.getLocalizedMessage(), IndexingService.getLogger(), e);
             Thread.currentThread().interrupt();
         }
+        if (rebuild) {
+            indexingService.finishIndexRebuild(successful);
+        }
 
         indexingService.resetCurrentIndexState();
         indexingService.setIndexingAll(false);
@@ -0,0 +1,55 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.index;
+
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+import javax.servlet.annotation.WebListener;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.kitodo.data.exceptions.DataException;
+import org.kitodo.production.services.ServiceManager;
+
+/**
+ * Takes care of the index when the servlet container starts and shuts down.
+ */
+@WebListener
+public class IndexListener implements ServletContextListener {
+
+    private static final Logger logger = LogManager.getLogger(IndexListener.class);
+
+    /**
+     * Indexes the objects remaining in the indexing queue.
+     */
+    @Override
+    public void contextDestroyed(ServletContextEvent event) {
+        IndexingQueue.shutdown();
+    }
+
+    /**
+     * Migrates the documents indexed by former versions. Once they are
+     * migrated, this only takes one search request. The indexing queue is
+     * started when the first object is queued.
+     */
+    @Override
+    public void contextInitialized(ServletContextEvent event) {
+        try {
+            int migrated = ServiceManager.getProjectService().removeProcessesFromIndex();
+            if (migrated > 0) {
+                logger.info("Removed processes from {} project documents", migrated);
+            }
+        } catch (DataException | RuntimeException e) {
+            logger.warn("Processes could not be removed from the project documents: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.index;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.exceptions.DataException;
+import org.kitodo.production.services.data.base.SearchService;
+
+/**
+ * Updates the index in the background for objects which were saved to the
+ * database with the index action INDEX. The first object added starts a time
+ * window in which further objects are collected. An object saved several times
+ * within the window is indexed only once, and the documents are sent in one
+ * bulk request per type. If indexing fails, the objects are queued again a few
+ * times. As the index action of an object stays INDEX in the database until it
+ * has been indexed, objects which are lost from the queue, for example by a
+ * restart, are indexed by "index remaining objects" on the indexing page.
+ */
+public class IndexingQueue {
+
+    private static final Logger logger = LogManager.getLogger(IndexingQueue.class);
+
+    private static volatile IndexingQueue instance = null;
+
+    private static final int MAX_TRIES = 5;
+
+    private final long delay;
+    private final QueueIndexer queueIndexer;
+    private final ScheduledExecutorService executor;
+    private Map<SearchService<?, ?, ?>, Set<Integer>> queuedIds = new LinkedHashMap<>();
+    private boolean runScheduled = false;
+    private int failedRuns = 0;
+
+    /**
+     * Indexes the objects taken from the queue.
+     */
+    @FunctionalInterface
+    interface QueueIndexer {
+        /**
+         * Index the given objects.
+         *
+         * @param queuedIds
+         *            ids of the objects by service
+         * @throws DataException
+         *             if indexing fails
+         */
+        void index(Map<SearchService<?, ?, ?>, Set<Integer>> queuedIds) throws DataException;
+    }
+
+    /**
+     * Return singleton variable of type IndexingQueue.
+     *
+     * @return unique instance of IndexingQueue
+     */
+    public static IndexingQueue getInstance() {
+        IndexingQueue localReference = instance;
+        if (Objects.isNull(localReference)) {
+            synchronized (IndexingQueue.class) {
+                localReference = instance;
+                if (Objects.isNull(localReference)) {
+                    localReference = new IndexingQueue(
+                            ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_INDEX_DELAY),
+                            SearchService::indexQueuedObjects);
+                    instance = localReference;
+                }
+            }
+        }
+        return localReference;
+    }
+
+    /**
+     * Constructor with the time window and the indexing of the queued objects.
+     *
+     * @param delay
+     *            time in milliseconds in which objects are collected
+     * @param queueIndexer
+     *            indexes the objects taken from the queue
+     */
+    IndexingQueue(long delay, QueueIndexer queueIndexer) {
+        this.delay = Math.max(0, delay);
+        this.queueIndexer = queueIndexer;
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "IndexingQueue");
+            thread.setDaemon(true);
+            thread.setContextClassLoader(contextClassLoader);
+            return thread;
+        });
+    }
+
+    /**
+     * Add an object to the queue. It is indexed at the end of the current time
+     * window.
+     *
+     * @param searchService
+     *            service of the object
+     * @param id
+     *            id of the object
+     */
+    public void add(SearchService<?, ?, ?> searchService, Integer id) {
+        synchronized (this) {
+            queuedIds.computeIfAbsent(searchService, service -> new LinkedHashSet<>()).add(id);
+            if (runScheduled) {
+                return;
+            }
+            runScheduled = true;
+        }
+        executor.schedule(this::indexQueuedObjects, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Get the number of objects waiting to be indexed.
+     *
+     * @return the number of queued objects
+     */
+    public synchronized int size() {
+        int size = 0;
+        for (Set<Integer> ids : queuedIds.values()) {
+            size += ids.size();
+        }
+        return size;
+    }
+
+    /**
+     * Index the queued objects now and wait until they are indexed, for
+     * example before the index is read for a report.
+     *
+     * @throws InterruptedException
+     *             if the current thread is interrupted while waiting
+     */
+    public void flush() throws InterruptedException {
+        try {
+            executor.submit(this::indexQueuedObjects).get();
+        } catch (ExecutionException e) {
+            logger.error(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Index the objects which are still queued and stop the background
+     * thread. Called on shutdown of the application.
+     */
+    public static void shutdown() {
+        IndexingQueue localReference = instance;
+        if (Objects.nonNull(localReference)) {
+            try {
+                localReference.flush();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            localReference.executor.shutdownNow();
+        }
+    }
+
+    private void indexQueuedObjects() {
+        Map<SearchService<?, ?, ?>, Set<Integer>> ids;
+        synchronized (this) {
+            runScheduled = false;
+            if (queuedIds.isEmpty()) {
+                return;
+            }
+            ids = queuedIds;
+            queuedIds = new LinkedHashMap<>();
+        }
+        try {
+            queueIndexer.index(ids);
+            failedRuns = 0;
+        } catch (DataException | RuntimeException e) {
+            if (++failedRuns < MAX_TRIES) {
+                logger.warn("Indexing queued objects failed, trying again: " + e.getMessage(), e);
+                for (Map.Entry<SearchService<?, ?, ?>, Set<Integer>> queued : ids.entrySet()) {
+                    for (Integer id : queued.getValue()) {
+                        add(queued.getKey(), id);
+                    }
+                }
+            } else {
+                logger.error("Indexing queued objects failed " + MAX_TRIES
+                        + " times, they remain marked for indexing: " + e.getMessage(), e);
+                failedRuns = 0;
+            }
+        }
+    }
+}
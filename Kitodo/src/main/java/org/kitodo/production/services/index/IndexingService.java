@@ -18,6 +18,7 @@ import java.io.InputStream;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
@@ -32,7 +33,6 @@ import org.apache.commons.io.IOUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.config.ConfigCore;
-import org.kitodo.config.ConfigMain;
 import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
@@ -79,6 +79,14 @@ public class IndexingService {
 
     private Thread indexerThread = null;
 
+    /**
+     * Whether a new version of the index is built, while the current version
+     * stays in use.
+     */
+    private volatile boolean rebuildingIndex = false;
+    private final Map<ObjectType, Integer> rebuiltObjects = Collections.synchronizedMap(
+        new EnumMap<>(ObjectType.class));
+
     private static final IndexRestClient indexRestClient = IndexRestClient.getInstance();
 
     /**
@@ -108,7 +116,6 @@ public class IndexingService {
             searchServices.put(objectType, getService(objectType));
             objectIndexingStates.put(objectType, IndexStates.NO_STATE);
         }
-        indexRestClient.setIndex(ConfigMain.getParameter("elasticsearch.index", "kitodo"));
         try {
             prepareIndexWorker();
             countDatabaseObjects();
@@ -208,6 +215,14 @@ public class IndexingService {
      * @return number of indexed objects
      */
     public long getNumberOfIndexedObjects(ObjectType objectType) throws DataException {
+        if (rebuildingIndex) {
+            // the new version of the index is not refreshed while it is built
+            IndexWorker worker = currentIndexWorker;
+            if (Objects.equals(currentIndexState, objectType) && Objects.nonNull(worker)) {
+                rebuiltObjects.put(objectType, worker.getIndexedObjects());
+            }
+            return rebuiltObjects.getOrDefault(objectType, 0);
+        }
         return searchServices.get(objectType).count();
     }
 
@@ -251,20 +266,21 @@ public class IndexingService {
      */
     public void startIndexing(ObjectType type, PushContext pushContext) throws DataException, CustomResponseException {
         SearchService searchService = searchServices.get(type);
-        int indexLimit = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_INDEXLIMIT);
         if (countDatabaseObjects.get(type) > 0) {
             List<IndexWorker> indexWorkerList = indexWorkers.get(type);
-            Long amountInIndex = searchService.count();
-            long indexBatches = 0L;
-
-            while (indexBatches < amountInIndex) {
-                searchService.removeLooseIndexData(searchService.findAllIDs(indexBatches, indexLimit));
-                indexBatches += indexLimit;
+            if (!rebuildingIndex) {
+                searchService.removeLooseIndexData(searchService.findAllIDs());
             }
 
+            Integer lastId = null;
             for (IndexWorker worker : indexWorkerList) {
+                worker.setStartAfterId(lastId);
                 currentIndexWorker = worker;
                 runIndexing(currentIndexWorker, type, pushContext);
+                lastId = worker.getLastId();
+                if (rebuildingIndex) {
+                    rebuiltObjects.put(type, worker.getIndexedObjects());
+                }
             }
         }
     }
@@ -294,10 +310,13 @@ public class IndexingService {
     public void startIndexingRemaining(ObjectType type, PushContext context) {
         if (countDatabaseObjects.get(type) > 0) {
             List<IndexWorker> indexWorkerList = indexWorkers.get(type);
+            Integer lastId = null;
             for (IndexWorker worker : indexWorkerList) {
                 worker.setIndexAllObjects(false);
+                worker.setStartAfterId(lastId);
                 currentIndexWorker = worker;
                 runIndexing(currentIndexWorker, type, context);
+                lastId = worker.getLastId();
             }
         }
     }
@@ -387,6 +406,51 @@ public class IndexingService {
         }
     }
 
+    /**
+     * Build a new version of the whole index in a separate thread. Until it
+     * is finished, the current version stays in use, so searches are complete
+     * during the rebuild. Changed objects are written to both versions. The
+     * new version is loaded without replicas and refreshes, then the index
+     * name is switched to it in one step.
+     */
+    public void startIndexRebuild(PushContext context) throws IOException, CustomResponseException {
+        String mapping = readMapping();
+        String newVersion = indexRestClient.startNewIndexVersion("".equals(mapping) ? null : mapping);
+        logger.info("Building new version {} of the index", newVersion);
+        rebuiltObjects.clear();
+        rebuildingIndex = true;
+        IndexAllThread indexAllThread = new IndexAllThread(context, this, true);
+        indexAllThread.setName("IndexAllThread");
+        indexAllThread.start();
+    }
+
+    /**
+     * Switch to the new version of the index if it was built successfully,
+     * otherwise delete it.
+     *
+     * @param successful
+     *            whether all objects were indexed
+     */
+    void finishIndexRebuild(boolean successful) {
+        try {
+            if (successful) {
+                indexRestClient.finishNewIndexVersion();
+            } else {
+                indexRestClient.cancelNewIndexVersion();
+            }
+        } catch (IOException | CustomResponseException e) {
+            Helper.setErrorMessage(e.getLocalizedMessage(), logger, e);
+            try {
+                indexRestClient.cancelNewIndexVersion();
+            } catch (IOException cancelException) {
+                logger.error(cancelException.getMessage(), cancelException);
+            }
+        } finally {
+            rebuildingIndex = false;
+            rebuiltObjects.clear();
+        }
+    }
+
     /**
      * Delete whole Elastic Search index.
      */
@@ -497,8 +561,9 @@ public class IndexingService {
         try (JsonReader mappingExpectedReader = Json.createReader(new StringReader(mapping));
              JsonReader mappingCurrentReader = Json.createReader(new StringReader(indexRestClient.getMapping()))) {
             JsonObject mappingExpected = mappingExpectedReader.readObject();
-            JsonObject mappingCurrent = mappingCurrentReader.readObject().getJsonObject(indexRestClient.getIndex());
-            return mappingExpected.equals(mappingCurrent);
+            // the mapping is returned by the name of the index the alias points to
+            JsonObject mappings = mappingCurrentReader.readObject();
+            return mappings.size() == 1 && mappingExpected.equals(mappings.values().iterator().next());
         } catch (IOException e) {
             return false;
         }
@@ -527,7 +592,7 @@ public class IndexingService {
      * Start indexing of all database objects in separate thread.
      */
     public void startAllIndexing(PushContext context) {
-        IndexAllThread indexAllThread = new IndexAllThread(context, this);
+        IndexAllThread indexAllThread = new IndexAllThread(context, this, false);
         indexAllThread.setName("IndexAllThread");
         indexAllThread.start();
     }
@@ -296,7 +296,7 @@ public class SchemaService {
 
     private void copyLabelAndOrderlabel(Process source, IncludedStructuralElement destination) throws IOException {
         URI sourceMetadataUri = processService.getMetadataFileUri(source);
-        IncludedStructuralElement sourceRoot = metsService.loadWorkpiece(sourceMetadataUri).getRootElement();
+        IncludedStructuralElement sourceRoot = metsService.loadRootElement(sourceMetadataUri);
         if (Objects.isNull(destination.getLabel())) {
             destination.setLabel(sourceRoot.getLabel());
         }
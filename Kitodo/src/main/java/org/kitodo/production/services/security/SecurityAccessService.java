@@ -889,14 +889,14 @@ public class SecurityAccessService extends SecurityAccess {
 
 
     private boolean hasAuthorityForTask(int taskId) throws DataException {
-        Integer processId = ServiceManager.getTaskService().findById(taskId).getProcess().getId();
-        return hasAuthorityForProcess(processId);
+        Integer processId = ServiceManager.getTaskService().findProcessIdById(taskId);
+        return Objects.nonNull(processId) && hasAuthorityForProcess(processId);
     }
 
     private boolean hasAuthorityForProcess(int processId) throws DataException {
-        Integer projectId = processId == 0 ? 0
-                : ServiceManager.getProcessService().findById(processId).getProject().getId();
-        return hasAuthorityForProject(projectId);
+        Integer projectId = processId == 0 ? Integer.valueOf(0)
+                : ServiceManager.getProcessService().findProjectIdById(processId);
+        return Objects.nonNull(projectId) && hasAuthorityForProject(projectId);
     }
 
     private boolean hasAuthorityForProject(Integer projectId) {
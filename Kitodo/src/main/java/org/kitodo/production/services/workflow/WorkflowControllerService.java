@@ -11,11 +11,9 @@
 
 package org.kitodo.production.services.workflow;
 
-import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
@@ -50,6 +48,7 @@ import org.kitodo.data.database.enums.TaskStatus;
 import org.kitodo.data.database.enums.WorkflowConditionType;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.exceptions.DataException;
+import org.kitodo.exceptions.RulesetNotFoundException;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.helper.VariableReplacer;
 import org.kitodo.production.helper.WebDav;
@@ -185,10 +184,12 @@ public class WorkflowControllerService {
     private boolean validateMetadata(Task task) throws IOException, DAOException {
         URI metadataFileUri = ServiceManager.getProcessService().getMetadataFileUri(task.getProcess());
         Workpiece workpiece = ServiceManager.getMetsService().loadWorkpiece(metadataFileUri);
-        RulesetManagementInterface ruleset = ServiceManager.getRulesetManagementService().getRulesetManagement();
-        ruleset.load(new File(Paths.get(
-                ConfigCore.getParameter(ParameterCore.DIR_RULESETS),
-                task.getProcess().getRuleset().getFile()).toString()));
+        RulesetManagementInterface ruleset;
+        try {
+            ruleset = ServiceManager.getRulesetService().openRuleset(task.getProcess().getRuleset());
+        } catch (RulesetNotFoundException e) {
+            throw new IOException(e.getMessage(), e);
+        }
         ValidationResult validationResult = ServiceManager.getMetadataValidationService().validate(workpiece, ruleset);
         if (State.ERROR.equals(validationResult.getState())) {
             Helper.setErrorMessage(Helper.getTranslation("dataEditor.validation.state.error"));
@@ -440,16 +441,8 @@ public class WorkflowControllerService {
         }
 
         process = ServiceManager.getProcessService().getById(process.getId());
-
-        URI imagesOrigDirectory = ServiceManager.getProcessService().getImagesOriginDirectory(true, process);
-        Integer numberOfFiles = ServiceManager.getFileService().getNumberOfFiles(imagesOrigDirectory);
-        if (!process.getSortHelperImages().equals(numberOfFiles)) {
-            process.setSortHelperImages(numberOfFiles);
-            ServiceManager.getProcessService().save(process);
-        }
-
+        updateStatistics(process);
         ServiceManager.getProcessService().save(process);
-        process = ServiceManager.getProcessService().getById(process.getId());
 
         for (Task automaticTask : automaticTasks) {
             automaticTask.setProcessingBegin(new Date());
@@ -463,6 +456,33 @@ public class WorkflowControllerService {
         closeParent(process);
     }
 
+    /**
+     * Updates the statistics of the process of a closed task, as images may
+     * have been added in the task. They are determined from the workpiece. If
+     * the workpiece does not list any pages yet, because the images were
+     * scanned but not yet paginated, the number of images is the number of
+     * files in the images folder.
+     *
+     * @param process
+     *            process whose statistics are updated
+     */
+    private void updateStatistics(Process process) {
+        URI metadataFileUri = ServiceManager.getProcessService().getMetadataFileUri(process);
+        try {
+            if (ServiceManager.getFileService().fileExist(metadataFileUri)) {
+                Workpiece workpiece = ServiceManager.getMetsService().loadWorkpiece(metadataFileUri);
+                ServiceManager.getProcessService().updateStatistics(process, workpiece);
+            }
+        } catch (IOException e) {
+            logger.warn("Statistics of process {} could not be determined from {}: {}", process.getId(),
+                metadataFileUri, e.getMessage());
+        }
+        if (Objects.isNull(process.getSortHelperImages()) || process.getSortHelperImages() == 0) {
+            URI imagesOrigDirectory = ServiceManager.getProcessService().getImagesOriginDirectory(true, process);
+            process.setSortHelperImages(ServiceManager.getFileService().getNumberOfFiles(imagesOrigDirectory));
+        }
+    }
+
     private void closeParent(Process process) throws DataException {
         if (Objects.nonNull(process.getParent()) && allChildrenClosed(process.getParent())) {
             process.getParent().setSortHelperStatus("100000000");
@@ -738,7 +758,7 @@ public class WorkflowControllerService {
     /**
      * Set up processing status for given list of processes.
      */
-    public void setTaskStatusUpForProcesses(List<Process> processes) {
+    public void setTaskStatusUpForProcesses(Iterable<Process> processes) {
         for (Process processForStatus : processes) {
             try {
                 setTasksStatusUp(processForStatus);
@@ -752,7 +772,7 @@ public class WorkflowControllerService {
     /**
      * Set down processing status for given list of processes.
      */
-    public void setTaskStatusDownForProcesses(List<Process> processes) {
+    public void setTaskStatusDownForProcesses(Iterable<Process> processes) {
         for (Process processForStatus : processes) {
             try {
                 setTasksStatusDown(processForStatus);
@@ -214,9 +214,7 @@ public class MockDatabase {
     }
 
     private static IndexRestClient initializeIndexRestClient() {
-        IndexRestClient restClient = IndexRestClient.getInstance();
-        restClient.setIndex(testIndexName);
-        return restClient;
+        return IndexRestClient.getInstance(testIndexName);
     }
 
     private static String readMapping() {
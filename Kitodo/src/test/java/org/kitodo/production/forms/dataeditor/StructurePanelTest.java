@@ -14,11 +14,14 @@ package org.kitodo.production.forms.dataeditor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.net.URI;
+import java.util.Collections;
+import java.util.Map;
 
 import org.junit.Assert;
 import org.junit.Test;
 import org.kitodo.DummyRulesetManagement;
 import org.kitodo.api.dataformat.IncludedStructuralElement;
+import org.kitodo.api.dataformat.MediaUnit;
 import org.kitodo.api.dataformat.mets.LinkedMetsResource;
 import org.kitodo.data.database.beans.Process;
 import org.primefaces.model.DefaultTreeNode;
@@ -49,4 +52,72 @@ public class StructurePanelTest {
 
         Assert.assertTrue(((StructureTreeNode) result.getChildren().get(0).getData()).isLinked());
     }
+
+    @Test
+    public void testLogicalTreeNodeExpansionStatesOfEqualElements() throws Exception {
+        final StructurePanel underTest = new StructurePanel(new DataEditorForm());
+
+        IncludedStructuralElement root = new IncludedStructuralElement();
+        IncludedStructuralElement first = new IncludedStructuralElement();
+        IncludedStructuralElement second = new IncludedStructuralElement();
+        root.getChildren().add(first);
+        root.getChildren().add(second);
+        DefaultTreeNode tree = new DefaultTreeNode();
+        DefaultTreeNode rootNode = new DefaultTreeNode(new StructureTreeNode("root", false, false, root), tree);
+        new DefaultTreeNode(new StructureTreeNode("first", false, false, first), rootNode).setExpanded(true);
+        new DefaultTreeNode(new StructureTreeNode("second", false, false, second), rootNode).setExpanded(false);
+
+        Method getLogicalTreeNodeExpansionStates = StructurePanel.class
+                .getDeclaredMethod("getLogicalTreeNodeExpansionStates", DefaultTreeNode.class);
+        getLogicalTreeNodeExpansionStates.setAccessible(true);
+        Map<?, ?> expansionStates = (Map<?, ?>) getLogicalTreeNodeExpansionStates.invoke(underTest, tree);
+
+        Assert.assertEquals("Equal elements share an expansion state!", 3, expansionStates.size());
+        Assert.assertEquals(Boolean.TRUE, expansionStates.get(first));
+        Assert.assertEquals(Boolean.FALSE, expansionStates.get(second));
+    }
+
+    @Test
+    public void testUpdateMediaTreeChildren() throws Exception {
+        DataEditorForm dummyDataEditorForm = new DataEditorForm();
+        Field ruleset = DataEditorForm.class.getDeclaredField("ruleset");
+        ruleset.setAccessible(true);
+        ruleset.set(dummyDataEditorForm, new DummyRulesetManagement());
+        final StructurePanel underTest = new StructurePanel(dummyDataEditorForm);
+
+        MediaUnit mediaRoot = new MediaUnit();
+        MediaUnit firstPage = new MediaUnit();
+        firstPage.setType(MediaUnit.TYPE_PAGE);
+        MediaUnit secondPage = new MediaUnit();
+        secondPage.setType(MediaUnit.TYPE_PAGE);
+        mediaRoot.getChildren().add(firstPage);
+        mediaRoot.getChildren().add(secondPage);
+
+        Method buildMediaTree = StructurePanel.class.getDeclaredMethod("buildMediaTree", MediaUnit.class);
+        buildMediaTree.setAccessible(true);
+        DefaultTreeNode tree = (DefaultTreeNode) buildMediaTree.invoke(underTest, mediaRoot);
+        TreeNode rootNode = tree.getChildren().get(0);
+        TreeNode firstPageNode = rootNode.getChildren().get(0);
+        TreeNode secondPageNode = rootNode.getChildren().get(1);
+        secondPageNode.setExpanded(false);
+
+        MediaUnit thirdPage = new MediaUnit();
+        thirdPage.setType(MediaUnit.TYPE_PAGE);
+        mediaRoot.getChildren().remove(firstPage);
+        mediaRoot.getChildren().add(thirdPage);
+        Collections.swap(mediaRoot.getChildren(), 0, 1);
+
+        Method updateMediaTreeChildren = StructurePanel.class.getDeclaredMethod("updateMediaTreeChildren",
+            TreeNode.class);
+        updateMediaTreeChildren.setAccessible(true);
+        updateMediaTreeChildren.invoke(underTest, rootNode);
+
+        Assert.assertEquals("Wrong number of child nodes!", 2, rootNode.getChildCount());
+        Assert.assertSame("New page was not added in order!", thirdPage,
+            ((StructureTreeNode) rootNode.getChildren().get(0).getData()).getDataObject());
+        Assert.assertSame("Node of kept page was built anew!", secondPageNode, rootNode.getChildren().get(1));
+        Assert.assertFalse("Expansion state of kept page was lost!", secondPageNode.isExpanded());
+        Assert.assertSame("Parent of kept page is wrong!", rootNode, secondPageNode.getParent());
+        Assert.assertNotSame("Node of removed page was kept!", firstPageNode, rootNode.getChildren().get(0));
+    }
 }
@@ -0,0 +1,89 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
+import org.kitodo.data.exceptions.DataException;
+import org.kitodo.production.services.data.ProcessService;
+
+public class IndexPipelineTest {
+
+    private static final int BATCH_SIZE = 25;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldIndexAllBatches() throws Exception {
+        ProcessService processService = mock(ProcessService.class);
+        when(processService.createDocuments(any(List.class))).thenAnswer(invocation -> {
+            Map<Integer, Map<String, Object>> documents = new HashMap<>();
+            for (Process process : (List<Process>) invocation.getArguments()[0]) {
+                documents.put(process.getId(), Collections.emptyMap());
+            }
+            return documents;
+        });
+        Set<Integer> indexedIds = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> {
+            indexedIds.addAll(((Map<Integer, Map<String, Object>>) invocation.getArguments()[0]).keySet());
+            return null;
+        }).when(processService).addDocumentsToIndex(any(Map.class));
+
+        AtomicInteger nextId = new AtomicInteger(1);
+        AtomicInteger progress = new AtomicInteger();
+        IndexPipeline<Process> indexPipeline = new IndexPipeline<>(processService, 3, 2, 2);
+        indexPipeline.run(() -> nextId.get() > 250 ? Collections.emptyList() : createBatch(nextId),
+            progress::addAndGet);
+
+        assertEquals("Not all objects were indexed!", 250, indexedIds.size());
+        assertEquals("Progress was reported incorrectly!", 250, progress.get());
+    }
+
+    @Test(expected = DataException.class)
+    @SuppressWarnings("unchecked")
+    public void shouldStopWhenIndexingFails() throws Exception {
+        ProcessService processService = mock(ProcessService.class);
+        when(processService.createDocuments(any(List.class))).thenReturn(Collections.singletonMap(1, null));
+        doThrow(new CustomResponseException("Server error")).when(processService)
+                .addDocumentsToIndex(any(Map.class));
+
+        AtomicInteger nextId = new AtomicInteger(1);
+        IndexPipeline<Process> indexPipeline = new IndexPipeline<>(processService, 2, 1, 1);
+        indexPipeline.run(() -> createBatch(nextId), written -> { });
+    }
+
+    private static List<Process> createBatch(AtomicInteger nextId) {
+        List<Process> batch = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            Process process = new Process();
+            process.setId(nextId.getAndIncrement());
+            batch.add(process);
+        }
+        return batch;
+    }
+}
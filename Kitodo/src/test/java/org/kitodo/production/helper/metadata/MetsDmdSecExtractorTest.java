@@ -0,0 +1,87 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.metadata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class MetsDmdSecExtractorTest {
+
+    @Test
+    public void shouldExtractDmdSecs() throws Exception {
+        List<Map<String, Object>> dmdSecs;
+        try (InputStream inputStream = Files.newInputStream(Paths.get("src/test/resources/metadata/testmeta.xml"))) {
+            dmdSecs = MetsDmdSecExtractor.extract(inputStream);
+        }
+
+        assertEquals("Incorrect amount of dmdSec elements!", 3, dmdSecs.size());
+        Map<String, Object> dmdSec = dmdSecs.get(0);
+        assertEquals("Incorrect ID of dmdSec element!", "DMDLOG_0000", dmdSec.get("ID"));
+
+        Map<String, Object> kitodo = getMap(getMap(getMap(dmdSec, "mdWrap"), "xmlData"), "kitodo");
+        assertFalse("Attribute with non-integer number should be dropped!", kitodo.containsKey("version"));
+        List<Map<String, Object>> metadata = getList(kitodo, "metadata");
+        assertEquals("Incorrect amount of metadata!", 4, metadata.size());
+        assertEquals("Incorrect metadata name!", "TitleDocMain", metadata.get(0).get("name"));
+        assertEquals("Incorrect metadata content!", "Otsar ha-kavod", metadata.get(0).get("content"));
+
+        List<Map<String, Object>> group = getList(metadata.get(2), "metadata");
+        assertEquals("Incorrect amount of grouped metadata!", 3, group.size());
+        assertEquals("Incorrect grouped metadata content!", "10457187X", group.get(1).get("content"));
+    }
+
+    @Test
+    public void shouldSkipOtherSections() throws Exception {
+        String mets = "<mets:mets xmlns:mets=\"http://www.loc.gov/METS/\">"
+                + "<mets:metsHdr CREATEDATE=\"2018-02-14T10:01:44\"/>"
+                + "<mets:dmdSec ID=\"DMDLOG_0000\"><mets:note>1</mets:note></mets:dmdSec>"
+                + "<mets:structMap TYPE=\"LOGICAL\"><mets:div ID=\"LOG_0000\"><mets:dmdSec ID=\"NESTED\"/></mets:div>"
+                + "</mets:structMap></mets:mets>";
+
+        List<Map<String, Object>> dmdSecs = MetsDmdSecExtractor
+                .extract(new ByteArrayInputStream(mets.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("Incorrect amount of dmdSec elements!", 1, dmdSecs.size());
+        assertEquals("Integer content should be kept!", 1, dmdSecs.get(0).get("note"));
+    }
+
+    @Test
+    public void shouldReturnEmptyListForOtherDocuments() throws Exception {
+        String xml = "<kitodo:kitodo xmlns:kitodo=\"http://meta.kitodo.org/v1/\"><kitodo:dmdSec/></kitodo:kitodo>";
+
+        List<Map<String, Object>> dmdSecs = MetsDmdSecExtractor
+                .extract(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+
+        assertTrue("No dmdSec elements should be found!", dmdSecs.isEmpty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> getMap(Map<String, Object> object, String key) {
+        return (Map<String, Object>) object.get(key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> getList(Map<String, Object> object, String key) {
+        return (List<Map<String, Object>>) object.get(key);
+    }
+}
@@ -135,6 +135,51 @@ public class NewspaperProcessesGeneratorIT {
         cleanUp();
     }
 
+    /**
+     * Tests the bulk generation. Starting the generation again must reuse the
+     * processes generated before, so that an interrupted generation can be
+     * continued.
+     */
+    @Test
+    public void shouldGenerateNewspaperProcessesInBulk() throws Exception {
+        // create backup of meta data file as this file is modified inside test
+        File metaFile = new File("src/test/resources/metadata/10/meta.xml");
+        File backupFile = new File("src/test/resources/metadata/10/meta.xml.1");
+        FileUtils.copyFile(metaFile, backupFile);
+
+        Process completeEdition = ServiceManager.getProcessService().getById(10);
+        Course course = NewspaperCourse.getCourse();
+        course.splitInto(Granularity.DAYS);
+        NewspaperProcessesGenerator underTest = new NewspaperProcessesGenerator(completeEdition, course, true);
+        while (underTest.getProgress() < underTest.getNumberOfSteps()) {
+            underTest.nextStep();
+        }
+        Assert.assertEquals("Process title missing in year's meta.xml", "NewspaperOverallProcess_1703",
+            readProcessTitleFromMetadata(11, false));
+        Assert.assertEquals("Process title missing in issue's meta.xml", "NewspaperOverallProcess_17050127",
+            readProcessTitleFromMetadata(28, true));
+        Assert.assertFalse("Temporary metadata file was left behind",
+            new File("src/test/resources/metadata/28/meta.xml.tmp").exists());
+        Assert.assertEquals("Issue process was not indexed!", 1,
+            processService.findByTitle("NewspaperOverallProcess_17050127").size());
+        int numberOfProcesses = processService.getAll().size();
+
+        NewspaperProcessesGenerator again = new NewspaperProcessesGenerator(
+                ServiceManager.getProcessService().getById(10), course, true);
+        while (again.getProgress() < again.getNumberOfSteps()) {
+            again.nextStep();
+        }
+        Assert.assertEquals("Generating again created new processes!", numberOfProcesses,
+            processService.getAll().size());
+        Assert.assertEquals("Process title missing in issue's meta.xml", "NewspaperOverallProcess_17050127",
+            readProcessTitleFromMetadata(28, true));
+
+        // restore backuped meta data file
+        FileUtils.deleteQuietly(metaFile);
+        FileUtils.moveFile(backupFile, metaFile);
+        cleanUp();
+    }
+
     /*
      * @param issue
      *            In the overall process and in the annual processes (both
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang.SystemUtils;
 import org.junit.AfterClass;
@@ -140,6 +141,16 @@ public class CommandServiceTest {
         assertEquals("path to scripts are not identical", result.getCommand(), commandString);
     }
 
+    @Test
+    public void runScriptAsyncAndWaitForResult() throws Exception {
+        String commandString = scriptPath + "working_script" + scriptExtension;
+        CommandService service = new CommandService();
+        CommandResult result = service.runCommandAsync(commandString).get(10, TimeUnit.SECONDS);
+        assertNotNull("There were no results!", result);
+        assertEquals("path to scripts are not identical", commandString, result.getCommand());
+        assertTrue("successful booleans are not matching", result.isSuccessful());
+    }
+
     @Test
     public void runLongScriptAsync() throws InterruptedException {
         String commandString2s = scriptPath + "long_working_script_2s" + scriptExtension;
@@ -235,6 +235,20 @@ public class KitodoScriptServiceIT {
         thumbsJpg.delete();
     }
 
+    @Test
+    public void shouldUpdateStatistics() throws Exception {
+        List<Process> processes = new ArrayList<>();
+        processes.add(ServiceManager.getProcessService().getById(2));
+        KitodoScriptService kitodoScript = new KitodoScriptService();
+        kitodoScript.execute(processes, "action:updateStatistics");
+
+        Process process = ServiceManager.getProcessService().getById(2);
+        assertEquals("Number of images was not updated!", Integer.valueOf(0), process.getSortHelperImages());
+        assertEquals("Number of structural elements was not updated!", Integer.valueOf(1),
+            process.getSortHelperDocstructs());
+        assertEquals("Number of metadata was not updated!", Integer.valueOf(4), process.getSortHelperMetadata());
+    }
+
     @Test
     public void shouldAddDataWithValue() throws Exception {
         Process process = ServiceManager.getProcessService().getById(2);
@@ -30,10 +30,12 @@ import org.kitodo.MockDatabase;
 import org.kitodo.SecurityTestUtils;
 import org.kitodo.data.database.beans.Docket;
 import org.kitodo.data.database.beans.User;
+import org.kitodo.data.database.enums.IndexAction;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.elasticsearch.index.type.enums.DocketTypeField;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.production.services.ServiceManager;
+import org.kitodo.production.services.index.IndexingQueue;
 
 /**
  * Tests for DocketService class.
@@ -166,6 +168,25 @@ public class DocketServiceIT {
         assertEquals("Not all dockets were found in index!", 4, docketService.findAllDocuments().size());
     }
 
+    @Test
+    public void shouldSaveDocketInBackground() throws Exception {
+        Docket docket = docketService.getById(3);
+        docket.setTitle("queued");
+        docketService.save(docket, false);
+        docket.setTitle("queued again");
+        docketService.save(docket, false);
+        assertEquals("Docket was not marked for indexing!", IndexAction.INDEX,
+            docketService.getById(3).getIndexAction());
+
+        IndexingQueue.getInstance().flush();
+        assertEquals(docketNotFound, "queued again", docketService.findById(3).getTitle());
+        assertEquals("Docket was not marked as indexed!", IndexAction.DONE,
+            docketService.getById(3).getIndexAction());
+
+        docket.setTitle("third");
+        docketService.save(docket);
+    }
+
     @Test
     public void shouldRemoveDocket() throws Exception {
         Docket docket = new Docket();
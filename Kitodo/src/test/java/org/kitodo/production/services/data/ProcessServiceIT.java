@@ -26,6 +26,7 @@ import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 import org.apache.commons.lang.SystemUtils;
 import org.elasticsearch.index.query.Operator;
@@ -195,6 +196,27 @@ public class ProcessServiceIT {
         assertEquals(processNotFound, expected, processService.findById(1).getId());
     }
 
+    @Test
+    public void shouldConvertRelatedObjectsOfAllProcessesAtOnce() throws DataException {
+        List<ProcessDTO> processes = processService.findAll(false);
+        assertTrue("Not enough processes were found!", processes.size() > 1);
+        for (ProcessDTO process : processes) {
+            ProcessDTO expected = processService.findById(process.getId());
+            assertEquals("Project was not converted correctly!", Objects.isNull(expected.getProject()),
+                Objects.isNull(process.getProject()));
+            if (Objects.nonNull(expected.getProject())) {
+                assertEquals("Project was not converted correctly!", expected.getProject().getTitle(),
+                    process.getProject().getTitle());
+            }
+            assertEquals("Tasks were not converted correctly!", expected.getTasks().size(),
+                process.getTasks().size());
+            assertEquals("Progress was not calculated correctly!", expected.getProgressClosed(),
+                process.getProgressClosed());
+            assertEquals("Progress was not calculated correctly!", expected.getProgressOpen(),
+                process.getProgressOpen());
+        }
+    }
+
     @Test
     public void shouldFindByTitle() throws DataException {
         assertEquals(processNotFound, 1, processService.findByTitle(firstProcess, true).size());
@@ -12,13 +12,22 @@
 package org.kitodo.production.services.data;
 
 import static org.awaitility.Awaitility.await;
+import static org.elasticsearch.index.query.QueryBuilders.existsQuery;
 import static org.elasticsearch.index.query.QueryBuilders.matchQuery;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.apache.http.HttpHost;
+import org.apache.http.entity.ContentType;
+import org.apache.http.nio.entity.NStringEntity;
+import org.elasticsearch.client.RestClient;
 import org.elasticsearch.index.query.Operator;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.junit.AfterClass;
@@ -28,9 +37,11 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.kitodo.MockDatabase;
 import org.kitodo.SecurityTestUtils;
+import org.kitodo.config.ConfigMain;
 import org.kitodo.data.database.beans.Project;
 import org.kitodo.data.database.beans.User;
 import org.kitodo.data.database.exceptions.DAOException;
+import org.kitodo.data.elasticsearch.index.type.enums.ProjectTypeField;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.production.dto.ProjectDTO;
 import org.kitodo.production.services.ServiceManager;
@@ -98,6 +109,44 @@ public class ProjectServiceIT {
         assertEquals("Not all projects were found in index!", 3, projectService.findAll().size());
     }
 
+    @Test
+    public void shouldFindWhetherProjectsHaveProcesses() throws DataException {
+        assertTrue("Project has no processes!", projectService.findById(1).hasProcesses());
+        assertFalse("Project has processes!", projectService.findById(3).hasProcesses());
+
+        for (ProjectDTO project : projectService.findAll()) {
+            assertEquals("Incorrect processes information for project " + project.getId() + "!",
+                project.getId() != 3, project.hasProcesses());
+        }
+    }
+
+    @Test
+    public void shouldRemoveProcessesFromIndex() throws Exception {
+        // project documents indexed by former versions contain the processes
+        addProcessesToProjectMapping();
+        Map<String, Object> document = projectService
+                .createDocuments(Collections.singletonList(projectService.getById(1))).get(1);
+        Map<String, Object> process = new HashMap<>();
+        process.put("id", 1);
+        process.put("title", "First process");
+        document.put(ProjectTypeField.PROCESSES.getKey(), Collections.singletonList(process));
+        projectService.addDocumentsToIndex(Collections.singletonMap(1, document));
+        User userOne = ServiceManager.getUserService().getById(1);
+        QueryBuilder query = existsQuery(ProjectTypeField.PROCESSES.getKey());
+        await().until(() -> {
+            SecurityTestUtils.addUserDataToSecurityContext(userOne, 1);
+            return projectService.count(query) == 1;
+        });
+
+        assertEquals("Incorrect number of migrated projects!", 1, projectService.removeProcessesFromIndex());
+        await().until(() -> {
+            SecurityTestUtils.addUserDataToSecurityContext(userOne, 1);
+            return projectService.count(query) == 0;
+        });
+        assertEquals("Project was migrated again!", 0, projectService.removeProcessesFromIndex());
+        assertEquals("Project was not indexed again!", firstProject, projectService.findById(1).getTitle());
+    }
+
     @Test
     public void shouldGetProject() throws Exception {
         Project project = projectService.getById(1);
@@ -174,4 +223,17 @@ public class ProjectServiceIT {
         List<ProjectDTO> byQuery = projectService.findByQuery(projectsForCurrentUserQuery, true);
         assertEquals("Wrong amount of projects found",2,byQuery.size());
     }
+
+    private static void addProcessesToProjectMapping() throws IOException {
+        String mapping = "{\"properties\": {\"processes\": {\"properties\": {\"id\": {\"type\": \"long\"},"
+                + " \"title\": {\"type\": \"text\", \"fields\": {\"keyword\": {\"type\": \"keyword\","
+                + " \"ignore_above\": 256}}}}}}}";
+        HttpHost host = new HttpHost(ConfigMain.getParameter("elasticsearch.host", "localhost"),
+                Integer.parseInt(ConfigMain.getParameter("elasticsearch.port", "9205")));
+        try (RestClient client = RestClient.builder(host).build()) {
+            client.performRequest("PUT", "/" + ConfigMain.getParameter("elasticsearch.index", "testindex") + "/_mapping/project",
+                Collections.singletonMap("update_all_types", "true"),
+                new NStringEntity(mapping, ContentType.APPLICATION_JSON));
+        }
+    }
 }
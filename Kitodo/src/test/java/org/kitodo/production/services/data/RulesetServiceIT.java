@@ -14,9 +14,14 @@ package org.kitodo.production.services.data;
 import static org.awaitility.Awaitility.await;
 import static org.elasticsearch.index.query.QueryBuilders.matchQuery;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.elasticsearch.index.query.Operator;
 import org.elasticsearch.index.query.QueryBuilder;
@@ -27,11 +32,13 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.kitodo.MockDatabase;
 import org.kitodo.SecurityTestUtils;
+import org.kitodo.api.dataeditor.rulesetmanagement.RulesetManagementInterface;
 import org.kitodo.data.database.beans.Ruleset;
 import org.kitodo.data.database.beans.User;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.elasticsearch.index.type.enums.RulesetTypeField;
 import org.kitodo.data.exceptions.DataException;
+import org.kitodo.production.dto.RulesetDTO;
 import org.kitodo.production.services.ServiceManager;
 
 /**
@@ -108,6 +115,14 @@ public class RulesetServiceIT {
         assertEquals(rulesetNotFound, slubDD, rulesetService.findById(1).getTitle());
     }
 
+    @Test
+    public void shouldFindByIds() throws DataException {
+        Map<Integer, RulesetDTO> rulesets = rulesetService.findByIds(Arrays.asList(1, 2, 99), false);
+        assertEquals("Not all rulesets were found in index!", 2, rulesets.size());
+        assertEquals(rulesetNotFound, slubDD, rulesets.get(1).getTitle());
+        assertFalse("Not existing ruleset was found!", rulesets.containsKey(99));
+    }
+
     @Test
     public void shouldFindByTitle() throws DataException {
         assertEquals(rulesetNotFound, 1, rulesetService.findByTitle(slubDD, true).size());
@@ -136,6 +151,16 @@ public class RulesetServiceIT {
         assertEquals("Ruleset was found in index!", 0, rulesetService.findByClientId(3).size());
     }
 
+    @Test
+    public void shouldReadRulesetAgainAfterSaving() throws Exception {
+        Ruleset ruleset = rulesetService.getById(1);
+        RulesetManagementInterface loaded = rulesetService.openRuleset(ruleset);
+        assertSame("Ruleset was read again!", loaded, rulesetService.openRuleset(ruleset));
+
+        rulesetService.save(ruleset);
+        assertNotSame("Ruleset was not read again!", loaded, rulesetService.openRuleset(ruleset));
+    }
+
     @Test
     public void shouldFindByTitleAndFile() throws DataException {
         Integer expected = 2;
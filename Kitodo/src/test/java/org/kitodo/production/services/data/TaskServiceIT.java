@@ -15,7 +15,11 @@ import static org.awaitility.Awaitility.await;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -77,6 +81,44 @@ public class TaskServiceIT {
             () -> assertEquals("Not all tasks were found in index!", AMOUNT_TASKS, taskService.findAll().size()));
     }
 
+    @Test
+    public void shouldCountProcessesByCurrentTask() {
+        await().untilAsserted(() -> {
+            Map<String, Integer> counts = taskService.countProcessesByCurrentTask(Collections.singletonList(2));
+            assertEquals("Incorrect amount of current tasks!", 2, counts.size());
+            assertEquals("Process was not counted for task in work!", Integer.valueOf(1),
+                counts.get("Processed and Some"));
+            assertEquals("Process was not counted for open task!", Integer.valueOf(1), counts.get("Next Open"));
+        });
+    }
+
+    @Test
+    public void shouldGetAverageDurationsInDays() {
+        await().untilAsserted(() -> {
+            Map<String, Double> durations = taskService.getAverageDurationsInDays(Collections.singletonList(2));
+            assertTrue("Duration of finished task was not aggregated!", durations.containsKey("Additional"));
+            assertTrue("Duration of task in work was not aggregated!", durations.get("Processed and Some") >= 0);
+        });
+    }
+
+    @Test
+    public void shouldGetAverageDurationsInDaysInAnyTimeZone() throws Exception {
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+        Task task = taskService.getByQuery("FROM Task WHERE title = 'Processed and Some'").get(0);
+        try {
+            // far away from UTC, the duration is wrong by more than half a day if the time zone is not considered
+            TimeZone.setDefault(TimeZone.getTimeZone("Pacific/Kiritimati"));
+            taskService.save(task, true);
+            double duration = (double) (System.currentTimeMillis() - task.getProcessingBegin().getTime())
+                    / TimeUnit.DAYS.toMillis(1);
+            await().untilAsserted(() -> assertEquals("Incorrect duration of task in work!", duration,
+                taskService.getAverageDurationsInDays(Collections.singletonList(2)).get("Processed and Some"), 0.01));
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+            taskService.save(task, true);
+        }
+    }
+
     @Test
     public void shouldGetTask() throws Exception {
         Task task = taskService.getById(1);
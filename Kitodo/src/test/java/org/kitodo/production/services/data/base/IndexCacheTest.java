@@ -0,0 +1,109 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.data.base;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+import org.kitodo.data.exceptions.DataException;
+
+public class IndexCacheTest {
+
+    private final AtomicLong time = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    public void shouldCacheValues() throws DataException {
+        IndexCache<Integer, String> cache = new IndexCache<>(10, 1000, time::get);
+
+        assertEquals("Incorrect value!", "1", cache.get(1, () -> load(1)));
+        assertEquals("Incorrect value!", "1", cache.get(1, () -> load(1)));
+
+        assertEquals("Value was loaded again!", 1, loads.get());
+        assertEquals("Incorrect amount of hits!", 1, cache.getHits());
+        assertEquals("Incorrect amount of misses!", 1, cache.getMisses());
+    }
+
+    @Test
+    public void shouldExpireValues() throws DataException {
+        IndexCache<Integer, String> cache = new IndexCache<>(10, 1000, time::get);
+
+        cache.get(1, () -> load(1));
+        time.set(999);
+        cache.get(1, () -> load(1));
+        time.set(1000);
+        cache.get(1, () -> load(1));
+
+        assertEquals("Expired value was not loaded again!", 2, loads.get());
+    }
+
+    @Test
+    public void shouldDropLeastRecentlyUsedValue() throws DataException {
+        IndexCache<Integer, String> cache = new IndexCache<>(2, 1000, time::get);
+
+        cache.get(1, () -> load(1));
+        cache.get(2, () -> load(2));
+        cache.get(1, () -> load(1));
+        cache.get(3, () -> load(3));
+        cache.get(1, () -> load(1));
+        cache.get(2, () -> load(2));
+
+        assertEquals("Incorrect amount of entries!", 2, cache.size());
+        assertEquals("Wrong value was dropped!", 4, loads.get());
+    }
+
+    @Test
+    public void shouldInvalidateValues() throws DataException {
+        IndexCache<Integer, String> cache = new IndexCache<>(10, 1000, time::get);
+
+        cache.get(1, () -> load(1));
+        cache.get(2, () -> load(2));
+        cache.invalidate(1);
+        cache.get(1, () -> load(1));
+        cache.get(2, () -> load(2));
+        assertEquals("Invalidated value was not loaded again!", 3, loads.get());
+
+        cache.invalidateAll();
+        assertEquals("Values were not removed!", 0, cache.size());
+    }
+
+    @Test
+    public void shouldNotStoreValueLoadedDuringInvalidation() throws DataException {
+        IndexCache<Integer, String> cache = new IndexCache<>(10, 1000, time::get);
+
+        cache.get(1, () -> {
+            cache.invalidate(1);
+            return load(1);
+        });
+
+        assertEquals("Outdated value was stored!", 0, cache.size());
+    }
+
+    @Test
+    public void shouldNotCacheIfDisabled() throws DataException {
+        IndexCache<Integer, String> cache = new IndexCache<>(0, 1000, time::get);
+
+        cache.get(1, () -> load(1));
+        cache.get(1, () -> load(1));
+
+        assertEquals("Value was cached!", 2, loads.get());
+        assertEquals("Disabled cache counted requests!", 0, cache.getMisses());
+    }
+
+    private String load(int id) {
+        loads.incrementAndGet();
+        return String.valueOf(id);
+    }
+}
@@ -12,6 +12,7 @@
 package org.kitodo.production.services.dataformat;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.net.URI;
@@ -19,6 +20,7 @@ import java.util.Arrays;
 import java.util.stream.Collectors;
 
 import org.junit.Test;
+import org.kitodo.api.dataformat.IncludedStructuralElement;
 import org.kitodo.api.dataformat.MediaUnit;
 import org.kitodo.api.dataformat.Workpiece;
 import org.kitodo.production.services.ServiceManager;
@@ -68,4 +70,18 @@ public class MetsServiceIT {
                 "131", "132", "133", "134", "uncounted", "uncounted", "uncounted"),
             workpiece.getMediaUnit().getChildren().stream().map(MediaUnit::getOrderlabel).collect(Collectors.toList()));
     }
+
+    /**
+     * Tests loading only the root element from a METS file.
+     */
+    @Test
+    public void testLoadRootElement() throws Exception {
+        URI uri = new File("../Kitodo-DataFormat/src/test/resources/meta.xml").toURI();
+        IncludedStructuralElement rootElement = ServiceManager.getMetsService().loadRootElement(uri);
+
+        assertEquals("Monograph", rootElement.getType());
+        assertEquals(11, rootElement.getMetadata().size());
+        assertTrue(rootElement.getChildren().isEmpty());
+        assertEquals("Monograph", ServiceManager.getMetsService().getBaseType(uri));
+    }
 }
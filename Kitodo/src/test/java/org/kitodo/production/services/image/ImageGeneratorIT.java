@@ -13,11 +13,14 @@ package org.kitodo.production.services.image;
 
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.fail;
 
 import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -225,6 +228,136 @@ public class ImageGeneratorIT {
             lastModifiedTime(resultFileThree));
     }
 
+    /**
+     * This test generates all images of the default scenario with three
+     * threads at the same time. The timestamps of all files have to change,
+     * and no image may fail.
+     *
+     * @throws Exception
+     *             if it does not work
+     */
+    @Test
+    public void testTheConcurrentGenerationOfAllImagesOrFilesInDifferentFolders() throws Exception {
+        Process process = new Process();
+        process.setId(processId);
+        process.setTitle(processTitle);
+        Folder source = new Folder();
+        source.setPath(tiffFolder);
+        source.setMimeType(tiffType);
+        Subfolder sourceFolder = new Subfolder(process, source);
+        VariableReplacer variableReplacer = new MockVariableReplacer(processTitle);
+        setField(sourceFolder, "variableReplacer", variableReplacer);
+        Folder output = new Folder();
+        output.setPath(jpgsMaxFolder);
+        output.setMimeType(jpegType);
+        output.setDerivative(1.0);
+        Subfolder outputFolder = new Subfolder(process, output);
+        setField(outputFolder, "variableReplacer", variableReplacer);
+        Collection<Subfolder> outputs = Collections.singletonList(outputFolder);
+        ImageGenerator imageGenerator = new ImageGenerator(sourceFolder, GenerationMode.ALL, outputs);
+        imageGenerator.setThreads(3);
+
+        Optional<FileTime> resultFileOneBefore = lastModifiedTime(resultFileOne);
+        Optional<FileTime> resultFileTwoBefore = lastModifiedTime(resultFileTwo);
+        final Optional<FileTime> resultFileThreeBefore = lastModifiedTime(resultFileThree);
+
+        imageGenerator.run();
+
+        assertEquals("Images failed to generate!", Collections.emptyMap(), imageGenerator.getFailures());
+        assertEquals("Not all images were generated!", 3, imageGenerator.getPosition());
+        assertNotEquals(resultFileOne + MESSAGE_NOT_CHANGED, resultFileOneBefore,
+            lastModifiedTime(resultFileOne));
+        assertNotEquals(resultFileTwo + MESSAGE_NOT_CHANGED, resultFileTwoBefore,
+            lastModifiedTime(resultFileTwo));
+        assertNotEquals(resultFileThree + MESSAGE_NOT_CHANGED, resultFileThreeBefore,
+            lastModifiedTime(resultFileThree));
+    }
+
+    /**
+     * This test generates the missing images of the default scenario with
+     * three threads at the same time, after all derivatives have been created
+     * before. Nothing is to be generated then, and no file may change.
+     *
+     * @throws Exception
+     *             if it does not work
+     */
+    @Test
+    public void testTheConcurrentGenerationIfNoImagesAreMissing() throws Exception {
+        Files.copy(jpg, resultFileTwo, REPLACE_EXISTING);
+        Files.copy(jpg, resultFileThree, REPLACE_EXISTING);
+
+        Process process = new Process();
+        process.setId(processId);
+        process.setTitle(processTitle);
+        Folder source = new Folder();
+        source.setPath(tiffFolder);
+        source.setMimeType(tiffType);
+        Subfolder sourceFolder = new Subfolder(process, source);
+        VariableReplacer variableReplacer = new MockVariableReplacer(processTitle);
+        setField(sourceFolder, "variableReplacer", variableReplacer);
+        Folder output = new Folder();
+        output.setPath(jpgsMaxFolder);
+        output.setMimeType(jpegType);
+        output.setDerivative(1.0);
+        Subfolder outputFolder = new Subfolder(process, output);
+        setField(outputFolder, "variableReplacer", variableReplacer);
+        Collection<Subfolder> outputs = Collections.singletonList(outputFolder);
+        ImageGenerator imageGenerator = new ImageGenerator(sourceFolder, GenerationMode.MISSING, outputs);
+        imageGenerator.setThreads(3);
+
+        Optional<FileTime> resultFileOneBefore = lastModifiedTime(resultFileOne);
+        Optional<FileTime> resultFileTwoBefore = lastModifiedTime(resultFileTwo);
+        final Optional<FileTime> resultFileThreeBefore = lastModifiedTime(resultFileThree);
+
+        imageGenerator.run();
+
+        assertEquals("Images were to be generated!", Collections.emptyList(),
+            imageGenerator.getContentToBeGenerated());
+        assertEquals("Images failed to generate!", Collections.emptyMap(), imageGenerator.getFailures());
+        assertEquals(resultFileOne + MESSAGE_CHANGED, resultFileOneBefore, lastModifiedTime(resultFileOne));
+        assertEquals(resultFileTwo + MESSAGE_CHANGED, resultFileTwoBefore, lastModifiedTime(resultFileTwo));
+        assertEquals(resultFileThree + MESSAGE_CHANGED, resultFileThreeBefore, lastModifiedTime(resultFileThree));
+    }
+
+    /**
+     * This test generates a missing image with a changed resolution from a
+     * source image which is broken. Generating the image must fail, and no
+     * incomplete image may be left, as it would be taken for an existing image
+     * afterwards.
+     *
+     * @throws Exception
+     *             if it does not work
+     */
+    @Test
+    public void testThatNoImageIsLeftIfTheGenerationFails() throws Exception {
+        Files.write(inputFileThree, Collections.singletonList("No, this is not a TIFF file."));
+
+        Process process = new Process();
+        process.setId(processId);
+        process.setTitle(processTitle);
+        Folder source = new Folder();
+        source.setPath(tiffFolder);
+        source.setMimeType(tiffType);
+        Subfolder sourceFolder = new Subfolder(process, source);
+        VariableReplacer variableReplacer = new MockVariableReplacer(processTitle);
+        setField(sourceFolder, "variableReplacer", variableReplacer);
+        Folder output = new Folder();
+        output.setPath(jpgsMaxFolder);
+        output.setMimeType(jpegType);
+        output.setDpi(72);
+        Subfolder outputFolder = new Subfolder(process, output);
+        setField(outputFolder, "variableReplacer", variableReplacer);
+        Collection<Subfolder> outputs = Collections.singletonList(outputFolder);
+        ImageGenerator imageGenerator = new ImageGenerator(sourceFolder, GenerationMode.MISSING, outputs);
+
+        try {
+            imageGenerator.run();
+            fail("Generating an image from a broken source image should have failed");
+        } catch (UndeclaredThrowableException e) {
+            assertFalse(resultFileThree + " was left over", resultFileThree.toFile().exists());
+        }
+    }
+
     /**
      * This test simulates the default scenario in which the source files and
      * derivatives reside in different task folders. In the test, only missing
@@ -0,0 +1,86 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.index;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.kitodo.data.exceptions.DataException;
+import org.kitodo.production.services.data.ProcessService;
+import org.kitodo.production.services.data.TaskService;
+import org.kitodo.production.services.data.base.SearchService;
+
+public class IndexingQueueTest {
+
+    private final ProcessService processService = mock(ProcessService.class);
+    private final TaskService taskService = mock(TaskService.class);
+
+    @Test
+    public void shouldIndexObjectSavedSeveralTimesOnce() throws InterruptedException {
+        List<Map<SearchService<?, ?, ?>, Set<Integer>>> runs = Collections.synchronizedList(new ArrayList<>());
+        IndexingQueue indexingQueue = new IndexingQueue(60_000, runs::add);
+
+        indexingQueue.add(taskService, 1);
+        indexingQueue.add(processService, 5);
+        indexingQueue.add(taskService, 2);
+        indexingQueue.add(taskService, 1);
+        assertEquals("Incorrect amount of queued objects!", 3, indexingQueue.size());
+
+        indexingQueue.flush();
+        assertEquals("Queued objects were not indexed in one run!", 1, runs.size());
+        assertEquals("Incorrect tasks were indexed!", new HashSet<>(Arrays.asList(1, 2)),
+            runs.get(0).get(taskService));
+        assertEquals("Incorrect processes were indexed!", Collections.singleton(5), runs.get(0).get(processService));
+        assertEquals("Objects remained in the queue!", 0, indexingQueue.size());
+    }
+
+    @Test
+    public void shouldIndexObjectsAfterDelay() {
+        List<Map<SearchService<?, ?, ?>, Set<Integer>>> runs = Collections.synchronizedList(new ArrayList<>());
+        IndexingQueue indexingQueue = new IndexingQueue(10, runs::add);
+
+        indexingQueue.add(taskService, 1);
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(
+            () -> assertEquals("Queued object was not indexed after the delay!", 1, runs.size()));
+    }
+
+    @Test
+    public void shouldQueueObjectsAgainIfIndexingFails() throws InterruptedException {
+        List<Map<SearchService<?, ?, ?>, Set<Integer>>> runs = Collections.synchronizedList(new ArrayList<>());
+        IndexingQueue indexingQueue = new IndexingQueue(60_000, queuedIds -> {
+            runs.add(queuedIds);
+            if (runs.size() == 1) {
+                throw new DataException("Index is not available");
+            }
+        });
+
+        indexingQueue.add(taskService, 1);
+        indexingQueue.flush();
+        assertEquals("Object was not queued again!", 1, indexingQueue.size());
+
+        indexingQueue.flush();
+        assertEquals("Object was not indexed again!", 2, runs.size());
+        assertEquals("Incorrect task was indexed again!", Collections.singleton(1), runs.get(1).get(taskService));
+        assertEquals("Object remained in the queue!", 0, indexingQueue.size());
+    }
+}